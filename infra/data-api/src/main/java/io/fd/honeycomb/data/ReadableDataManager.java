@@ -18,10 +18,15 @@ package io.fd.honeycomb.data;
 
 import com.google.common.annotations.Beta;
 import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
 
 /**
  * Facade over data tree that allows reading tree nodes.
@@ -37,4 +42,28 @@ public interface ReadableDataManager {
      * @return a CheckFuture containing the result of the read.
      */
     FluentFuture<Optional<NormalizedNode<?, ?>>> read(@Nonnull final YangInstanceIdentifier path);
+
+    /**
+     * Reads a particular node from the data tree and emits it as NormalizedNode events into provided writer.
+     * Implementations are free to emit the node in parts, releasing each part as soon as it was written.
+     * Default implementation reads the whole node and writes it afterwards.
+     *
+     * @param path Path of the node
+     * @param writer Writer receiving the node. Writer is not flushed nor closed
+     * @return a future completed with true if the node was present and written, false otherwise
+     */
+    default FluentFuture<Boolean> read(@Nonnull final YangInstanceIdentifier path,
+                                       @Nonnull final NormalizedNodeStreamWriter writer) {
+        return read(path).transform(node -> {
+            if (!node.isPresent()) {
+                return false;
+            }
+            try {
+                NormalizedNodeWriter.forStreamWriter(writer).write(node.get());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to write node " + path, e);
+            }
+            return true;
+        }, MoreExecutors.directExecutor());
+    }
 }
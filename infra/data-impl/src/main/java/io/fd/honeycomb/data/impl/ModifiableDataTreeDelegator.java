@@ -30,7 +30,9 @@ import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.TranslationException;
 import io.fd.honeycomb.translate.ValidationFailedException;
 import io.fd.honeycomb.translate.util.RWUtils;
+import io.fd.honeycomb.translate.util.MappingContextIndex;
 import io.fd.honeycomb.translate.util.TransactionMappingContext;
+import io.fd.honeycomb.translate.util.read.cache.SharedDumpCache;
 import io.fd.honeycomb.translate.util.write.TransactionWriteContext;
 import io.fd.honeycomb.translate.write.DataObjectUpdate;
 import io.fd.honeycomb.translate.write.WriteContext;
@@ -75,6 +77,9 @@ public final class ModifiableDataTreeDelegator extends ModifiableDataTreeManager
     private final DataBroker contextBroker;
     private final BindingNormalizedNodeSerializer serializer;
     private final SchemaContext schema;
+    private final SharedDumpCache dumpCache;
+    @Nullable
+    private final MappingContextIndex contextIndex;
 
     /**
      * Creates configuration data tree instance.
@@ -89,11 +94,43 @@ public final class ModifiableDataTreeDelegator extends ModifiableDataTreeManager
                                        @Nonnull final SchemaContext schema,
                                        @Nonnull final WriterRegistry writerRegistry,
                                        @Nonnull final DataBroker contextBroker) {
+        this(serializer, dataTree, schema, writerRegistry, contextBroker, null);
+    }
+
+    /**
+     * Creates configuration data tree instance, invalidating dumps in provided shared cache on each commit.
+     *
+     * @param dumpCache dump cache shared across transactions, that has to be invalidated when config data change
+     */
+    public ModifiableDataTreeDelegator(@Nonnull final BindingNormalizedNodeSerializer serializer,
+                                       @Nonnull final DataTree dataTree,
+                                       @Nonnull final SchemaContext schema,
+                                       @Nonnull final WriterRegistry writerRegistry,
+                                       @Nonnull final DataBroker contextBroker,
+                                       @Nullable final SharedDumpCache dumpCache) {
+        this(serializer, dataTree, schema, writerRegistry, contextBroker, dumpCache, null);
+    }
+
+    /**
+     * Creates configuration data tree instance, with mapping context lookups served from index shared with other
+     * contexts of the same context data.
+     *
+     * @param contextIndex index of committed context data, null if lookups should be indexed per transaction only
+     */
+    public ModifiableDataTreeDelegator(@Nonnull final BindingNormalizedNodeSerializer serializer,
+                                       @Nonnull final DataTree dataTree,
+                                       @Nonnull final SchemaContext schema,
+                                       @Nonnull final WriterRegistry writerRegistry,
+                                       @Nonnull final DataBroker contextBroker,
+                                       @Nullable final SharedDumpCache dumpCache,
+                                       @Nullable final MappingContextIndex contextIndex) {
         super(dataTree, new DataTreeWriteContextFactory());
         this.contextBroker = checkNotNull(contextBroker, "contextBroker should not be null");
         this.serializer = checkNotNull(serializer, "serializer should not be null");
         this.writerRegistry = checkNotNull(writerRegistry, "writerRegistry should not be null");
         this.schema = checkNotNull(schema, "schema should not be null");
+        this.dumpCache = dumpCache;
+        this.contextIndex = contextIndex;
     }
 
     @Override
@@ -204,6 +241,10 @@ public final class ModifiableDataTreeDelegator extends ModifiableDataTreeManager
                 // block. The context is needed there, but try-with-resources closes the resource before handling ex.
                 LOG.debug("Closing write context {}", ctx);
                 ctx.close();
+                // even failed or reverted changes might have modified the device
+                if (dumpCache != null) {
+                    dumpCache.invalidate(baUpdates.getTypeIntersection());
+                }
             }
         }
 
@@ -237,7 +278,7 @@ public final class ModifiableDataTreeDelegator extends ModifiableDataTreeManager
             // After Tx must use current modification
             final DOMDataTreeReadTransaction afterTx = ReadOnlyTransaction.create(this, EMPTY_OPERATIONAL);
             final TransactionMappingContext mappingContext = new TransactionMappingContext(
-                contextBroker.newReadWriteTransaction());
+                contextBroker.newReadWriteTransaction(), contextIndex);
             return new TransactionWriteContext(serializer, beforeTx, afterTx, mappingContext);
         }
 
@@ -23,20 +23,24 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Collections2;
-import com.google.common.collect.Multimap;
 import com.google.common.util.concurrent.FluentFuture;
 import io.fd.honeycomb.data.ReadableDataManager;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.ModificationCacheBudget;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.read.registry.ReaderRegistry;
+import io.fd.honeycomb.translate.util.MappingContextIndex;
 import io.fd.honeycomb.translate.util.TransactionMappingContext;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.mdsal.binding.dom.codec.api.BindingNormalizedNodeSerializer;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.yangtools.util.concurrent.FluentFutures;
@@ -50,6 +54,8 @@ import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListEntryNode;
 import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
 import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
 import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.CollectionNodeBuilder;
 import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.DataContainerNodeAttrBuilder;
@@ -69,6 +75,9 @@ public final class ReadableDataTreeDelegator implements ReadableDataManager {
     private final ReaderRegistry readerRegistry;
     private final SchemaContext globalContext;
     private final org.opendaylight.mdsal.binding.api.DataBroker contextBroker;
+    private final ModificationCacheBudget cacheBudget;
+    @Nullable
+    private final MappingContextIndex contextIndex;
 
     /**
      * Creates operational data tree instance.
@@ -82,26 +91,78 @@ public final class ReadableDataTreeDelegator implements ReadableDataManager {
                                      @Nonnull final SchemaContext globalContext,
                                      @Nonnull final ReaderRegistry readerRegistry,
                                      @Nonnull final org.opendaylight.mdsal.binding.api.DataBroker contextBroker) {
+        this(serializer, globalContext, readerRegistry, contextBroker, ModificationCacheBudget.UNBOUNDED);
+    }
+
+    /**
+     * Creates operational data tree instance, with modification caches of read transactions limited by provided
+     * budget.
+     *
+     * @param cacheBudget limits of modification cache used by each read transaction
+     */
+    public ReadableDataTreeDelegator(@Nonnull BindingNormalizedNodeSerializer serializer,
+                                     @Nonnull final SchemaContext globalContext,
+                                     @Nonnull final ReaderRegistry readerRegistry,
+                                     @Nonnull final org.opendaylight.mdsal.binding.api.DataBroker contextBroker,
+                                     @Nonnull final ModificationCacheBudget cacheBudget) {
+        this(serializer, globalContext, readerRegistry, contextBroker, cacheBudget, null);
+    }
+
+    /**
+     * Creates operational data tree instance, with mapping context lookups served from index shared with other
+     * contexts of the same context data.
+     *
+     * @param contextIndex index of committed context data, null if lookups should be indexed per transaction only
+     */
+    public ReadableDataTreeDelegator(@Nonnull BindingNormalizedNodeSerializer serializer,
+                                     @Nonnull final SchemaContext globalContext,
+                                     @Nonnull final ReaderRegistry readerRegistry,
+                                     @Nonnull final org.opendaylight.mdsal.binding.api.DataBroker contextBroker,
+                                     @Nonnull final ModificationCacheBudget cacheBudget,
+                                     @Nullable final MappingContextIndex contextIndex) {
         this.contextBroker = checkNotNull(contextBroker, "contextBroker should not be null");
+        this.cacheBudget = checkNotNull(cacheBudget, "cacheBudget should not be null");
         this.globalContext = checkNotNull(globalContext, "globalContext should not be null");
         this.serializer = checkNotNull(serializer, "serializer should not be null");
         this.readerRegistry = checkNotNull(readerRegistry, "reader should not be null");
+        this.contextIndex = contextIndex;
     }
 
     @Override
     public FluentFuture<Optional<NormalizedNode<?, ?>>> read(
             @Nonnull final YangInstanceIdentifier yangInstanceIdentifier) {
+        return readInContext(ctx -> {
+            if (checkNotNull(yangInstanceIdentifier).equals(YangInstanceIdentifier.EMPTY)) {
+                return readRoot(ctx);
+            } else {
+                return readNode(yangInstanceIdentifier, ctx);
+            }
+        });
+    }
 
-        try (TransactionMappingContext mappingContext = new TransactionMappingContext(
-                contextBroker.newReadWriteTransaction());
-             ReadContext ctx = new ReadContextImpl(mappingContext)) {
-
-            final Optional<NormalizedNode<?, ?>> value;
+    @Override
+    public FluentFuture<Boolean> read(@Nonnull final YangInstanceIdentifier yangInstanceIdentifier,
+                                      @Nonnull final NormalizedNodeStreamWriter writer) {
+        return readInContext(ctx -> {
             if (checkNotNull(yangInstanceIdentifier).equals(YangInstanceIdentifier.EMPTY)) {
-                value = readRoot(ctx);
+                streamRoot(ctx, writer);
+                return true;
             } else {
-                value = readNode(yangInstanceIdentifier, ctx);
+                final Optional<NormalizedNode<?, ?>> value = readNode(yangInstanceIdentifier, ctx);
+                if (value.isPresent()) {
+                    NormalizedNodeWriter.forStreamWriter(writer).write(value.get());
+                }
+                return value.isPresent();
             }
+        });
+    }
+
+    private <T> FluentFuture<T> readInContext(final ContextRead<T> read) {
+        try (TransactionMappingContext mappingContext = new TransactionMappingContext(
+                contextBroker.newReadWriteTransaction(), contextIndex);
+             ReadContext ctx = new ReadContextImpl(mappingContext, cacheBudget)) {
+
+            final T value = read.read(ctx);
 
             // Submit context mapping updates
             final FluentFuture<? extends CommitInfo> contextUpdateResult =
@@ -111,7 +172,7 @@ public final class ReadableDataTreeDelegator implements ReadableDataManager {
 
             return FluentFutures.immediateFluentFuture(value);
 
-        } catch (InterruptedException | ExecutionException | ReadFailedException ex) {
+        } catch (InterruptedException | ExecutionException | ReadFailedException | IOException ex) {
             return FluentFutures.immediateFailedFluentFuture(
                     new org.opendaylight.controller.md.sal.common.api.data.ReadFailedException("Failed to read data",
                             ex));
@@ -145,20 +206,47 @@ public final class ReadableDataTreeDelegator implements ReadableDataManager {
                 Builders.containerBuilder()
                         .withNodeIdentifier(new YangInstanceIdentifier.NodeIdentifier(SchemaContext.NAME));
 
-        final Multimap<InstanceIdentifier<? extends DataObject>, ? extends DataObject> dataObjects =
-                readerRegistry.readAll(ctx);
+        // Each root subtree is converted as soon as it is read, so that the DataObjects of already converted root
+        // readers can be released before the next root reader is invoked.
+        readerRegistry.readAll(ctx, (instanceIdentifier, dataObjects) ->
+                dataNodeBuilder.withChild((DataContainerChild<?, ?>) wrapDataObjects(instanceIdentifier, dataObjects)));
 
         // Modification cache should not be used after DOs are read, so we can clear it now to reduce peak footprint.
         // Even greater reduction can be achieved with HONEYCOMB-361.
         ctx.getModificationCache().close();
+        return Optional.<NormalizedNode<?, ?>>of(dataNodeBuilder.build());
+    }
 
-        for (final InstanceIdentifier<? extends DataObject> instanceIdentifier : dataObjects.keySet()) {
-            final YangInstanceIdentifier rootElementId = serializer.toYangInstanceIdentifier(instanceIdentifier);
-            final NormalizedNode<?, ?> node =
-                    wrapDataObjects(rootElementId, instanceIdentifier, dataObjects.get(instanceIdentifier));
-            dataNodeBuilder.withChild((DataContainerChild<?, ?>) node);
+    private void streamRoot(final ReadContext ctx, final NormalizedNodeStreamWriter writer)
+            throws ReadFailedException, IOException {
+        LOG.debug("OperationalDataTree.streamRoot()");
+
+        final NormalizedNodeWriter nodeWriter = NormalizedNodeWriter.forStreamWriter(writer);
+        writer.startContainerNode(new YangInstanceIdentifier.NodeIdentifier(SchemaContext.NAME),
+                NormalizedNodeStreamWriter.UNKNOWN_SIZE);
+        try {
+            // Root subtrees are written one by one, none of them is retained after being written
+            readerRegistry.readAll(ctx, (instanceIdentifier, dataObjects) -> {
+                try {
+                    nodeWriter.write(wrapDataObjects(instanceIdentifier, dataObjects));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                // Streamed root subtrees are not retained, so entries cached while reading them are dropped as well
+                // to keep the footprint of streaming flat. Statistics are reported once, when the cache is closed.
+                ctx.getModificationCache().clear();
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
-        return Optional.<NormalizedNode<?, ?>>of(dataNodeBuilder.build());
+        ctx.getModificationCache().close();
+        writer.endNode();
+    }
+
+    private NormalizedNode<?, ?> wrapDataObjects(final InstanceIdentifier<? extends DataObject> instanceIdentifier,
+                                                 final Collection<? extends DataObject> dataObjects) {
+        return wrapDataObjects(serializer.toYangInstanceIdentifier(instanceIdentifier), instanceIdentifier,
+                dataObjects);
     }
 
     private NormalizedNode<?, ?> wrapDataObjects(final YangInstanceIdentifier yangInstanceIdentifier,
@@ -217,13 +305,19 @@ public final class ReadableDataTreeDelegator implements ReadableDataManager {
         };
     }
 
+    @FunctionalInterface
+    private interface ContextRead<T> {
+        T read(@Nonnull ReadContext ctx) throws ReadFailedException, IOException;
+    }
+
     private static final class ReadContextImpl implements ReadContext {
 
-        private final ModificationCache ctx = new ModificationCache();
+        private final ModificationCache ctx;
         private final MappingContext mappingContext;
 
-        private ReadContextImpl(final MappingContext mappingContext) {
+        private ReadContextImpl(final MappingContext mappingContext, final ModificationCacheBudget cacheBudget) {
             this.mappingContext = mappingContext;
+            this.ctx = new ModificationCache(cacheBudget);
         }
 
         @Nonnull
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import io.fd.honeycomb.translate.util.read.cache.SharedDumpCache;
 import io.fd.honeycomb.translate.write.DataObjectUpdate;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.registry.WriterRegistry;
@@ -64,6 +65,7 @@ abstract class ModifiableDataTreeDelegatorBaseTest extends ModificationBaseTest
     final DataObject DEFAULT_DATA_OBJECT = mockDataObject("serialized", DataObject.class);
 
     DataTree dataTree;
+    SharedDumpCache dumpCache;
     ModifiableDataTreeManager configDataTree;
     DataObjectUpdate update = DataObjectUpdate.create(DEFAULT_ID, null, DEFAULT_DATA_OBJECT);
 
@@ -81,7 +83,9 @@ abstract class ModifiableDataTreeDelegatorBaseTest extends ModificationBaseTest
         when(serializer.fromNormalizedNode(any(YangInstanceIdentifier.class), any(NormalizedNode.class)))
                 .thenReturn(parsed);
 
-        configDataTree = new ModifiableDataTreeDelegator(serializer, dataTree, getSchemaCtx(), writer, contextBroker);
+        dumpCache = new SharedDumpCache(10);
+        configDataTree = new ModifiableDataTreeDelegator(serializer, dataTree, getSchemaCtx(), writer, contextBroker,
+                dumpCache);
 
         additionalSetup();
     }
@@ -36,6 +36,7 @@ import io.fd.honeycomb.data.DataModification;
 import io.fd.honeycomb.translate.write.DataObjectUpdate;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.registry.WriterRegistry;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -98,6 +99,18 @@ public class ModifiableDataTreeDelegatorTest extends ModifiableDataTreeDelegator
         assertEquals(nestedList, dataTree.takeSnapshot().readNode(NESTED_LIST_ID).get());
     }
 
+    @Test
+    public void testCommitInvalidatesDumpCache() throws Exception {
+        dumpCache.get("dump", Long.MAX_VALUE, Collections.emptySet(), () -> "before");
+
+        final DataModification dataModification = configDataTree.newModification();
+        dataModification.write(NESTED_LIST_ID, getNestedList("listEntry", "listValue"));
+        dataModification.validate();
+        dataModification.commit();
+
+        assertEquals("after", dumpCache.get("dump", Long.MAX_VALUE, Collections.emptySet(), () -> "after"));
+    }
+
     @Test
     public void testToBindingAware() throws Exception {
         when(serializer.fromNormalizedNode(any(YangInstanceIdentifier.class), eq(null))).thenReturn(null);
@@ -22,18 +22,22 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 
 import com.google.common.collect.Iterables;
-import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Multimap;
 import com.google.common.util.concurrent.FluentFuture;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.registry.ReaderRegistry;
@@ -45,6 +49,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
 import org.opendaylight.mdsal.binding.api.DataBroker;
@@ -61,6 +66,7 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
@@ -150,7 +156,8 @@ public class ReadableDataTreeDelegatorTest {
 
     @Test
     public void testReadFailed() throws Exception {
-        doThrow(io.fd.honeycomb.translate.read.ReadFailedException.class).when(reader).readAll(any(ReadContext.class));
+        doThrow(io.fd.honeycomb.translate.read.ReadFailedException.class).when(reader)
+                .readAll(any(ReadContext.class), any(ReaderRegistry.RootDataConsumer.class));
 
         final FluentFuture<Optional<NormalizedNode<?, ?>>> future = operationalData.read(YangInstanceIdentifier.EMPTY);
 
@@ -168,9 +175,7 @@ public class ReadableDataTreeDelegatorTest {
         // Prepare data
         final InstanceIdentifier<DataObject> vppStateII = InstanceIdentifier.create(DataObject.class);
         final DataObject vppState = mock(DataObject.class);
-        Multimap<InstanceIdentifier<?>, DataObject> dataObjects = LinkedListMultimap.create();
-        dataObjects.put(vppStateII, vppState);
-        doReturn(dataObjects).when(reader).readAll(any(ReadContext.class));
+        mockReadAll(vppStateII, vppState);
 
         // Init serializer
         final YangInstanceIdentifier vppYangId = YangInstanceIdentifier.builder().node(QName.create("n", "d")).build();
@@ -184,7 +189,7 @@ public class ReadableDataTreeDelegatorTest {
         final FluentFuture<Optional<NormalizedNode<?, ?>>> future =
                 operationalData.read(YangInstanceIdentifier.EMPTY);
 
-        verify(reader).readAll(any(ReadContext.class));
+        verify(reader).readAll(any(ReadContext.class), any(ReaderRegistry.RootDataConsumer.class));
         verify(serializer).toYangInstanceIdentifier(vppStateII);
         verify(serializer).toNormalizedNode(vppStateII, vppState);
 
@@ -197,6 +202,80 @@ public class ReadableDataTreeDelegatorTest {
         assertEquals(vppStateContainer, Iterables.getOnlyElement(rootNode.getValue()));
     }
 
+    @Test
+    public void testStreamRoot() throws Exception {
+        final InstanceIdentifier<DataObject> vppStateII = InstanceIdentifier.create(DataObject.class);
+        final DataObject vppState = mock(DataObject.class);
+        mockReadAll(vppStateII, vppState);
+
+        final QName vppStateQName = QName.create("n", "d");
+        final YangInstanceIdentifier vppYangId = YangInstanceIdentifier.builder().node(vppStateQName).build();
+        when(serializer.toYangInstanceIdentifier(vppStateII)).thenReturn(vppYangId);
+        when(serializer.toNormalizedNode(vppStateII, vppState)).thenReturn(entry);
+        doReturn(ImmutableNodes.containerNode(vppStateQName)).when(entry).getValue();
+
+        final NormalizedNodeStreamWriter writer = mock(NormalizedNodeStreamWriter.class);
+        assertTrue(operationalData.read(YangInstanceIdentifier.EMPTY, writer).get());
+
+        final InOrder inOrder = inOrder(writer);
+        inOrder.verify(writer).startContainerNode(eq(new YangInstanceIdentifier.NodeIdentifier(SchemaContext.NAME)),
+                anyInt());
+        inOrder.verify(writer).startContainerNode(eq(new YangInstanceIdentifier.NodeIdentifier(vppStateQName)),
+                anyInt());
+        inOrder.verify(writer, times(2)).endNode();
+    }
+
+    @Test
+    public void testModificationCacheClearedPerRootOnlyWhenStreaming() throws Exception {
+        final InstanceIdentifier<DataObject> vppStateII = InstanceIdentifier.create(DataObject.class);
+        final DataObject vppState = mock(DataObject.class);
+        final QName vppStateQName = QName.create("n", "d");
+        when(serializer.toYangInstanceIdentifier(vppStateII))
+                .thenReturn(YangInstanceIdentifier.builder().node(vppStateQName).build());
+        when(serializer.toNormalizedNode(vppStateII, vppState)).thenReturn(entry);
+        doReturn(ImmutableNodes.containerNode(vppStateQName)).when(entry).getValue();
+
+        final List<Boolean> cachedAfterRoot = Lists.newArrayList();
+        doAnswer(invocation -> {
+            final ReadContext ctx = (ReadContext) invocation.getArguments()[0];
+            final ReaderRegistry.RootDataConsumer consumer =
+                    (ReaderRegistry.RootDataConsumer) invocation.getArguments()[1];
+            for (int i = 0; i < 2; i++) {
+                ctx.getModificationCache().put("dump", vppState);
+                consumer.accept(vppStateII, Collections.singletonList(vppState));
+                cachedAfterRoot.add(ctx.getModificationCache().containsKey("dump"));
+            }
+            return null;
+        }).when(reader).readAll(any(ReadContext.class), any(ReaderRegistry.RootDataConsumer.class));
+
+        // dumps can be shared across roots of one read
+        assertTrue(operationalData.read(YangInstanceIdentifier.EMPTY).get().isPresent());
+        assertEquals(Lists.newArrayList(true, true), cachedAfterRoot);
+
+        cachedAfterRoot.clear();
+        assertTrue(operationalData.read(YangInstanceIdentifier.EMPTY, mock(NormalizedNodeStreamWriter.class)).get());
+        assertEquals(Lists.newArrayList(false, false), cachedAfterRoot);
+    }
+
+    @Test
+    public void testStreamNonExistingNode() throws Exception {
+        final YangInstanceIdentifier yangId = mock(YangInstanceIdentifier.class);
+        doReturn(id).when(serializer).fromYangInstanceIdentifier(yangId);
+        doReturn(Optional.empty()).when(reader).read(same(id), any(ReadContext.class));
+        final NormalizedNodeStreamWriter writer = mock(NormalizedNodeStreamWriter.class);
+
+        assertFalse(operationalData.read(yangId, writer).get());
+        verifyZeroInteractions(writer);
+    }
+
+    private void mockReadAll(final InstanceIdentifier<DataObject> rootId, final DataObject root)
+            throws io.fd.honeycomb.translate.read.ReadFailedException {
+        doAnswer(invocation -> {
+            ((ReaderRegistry.RootDataConsumer) invocation.getArguments()[1])
+                    .accept(rootId, Collections.singletonList(root));
+            return null;
+        }).when(reader).readAll(any(ReadContext.class), any(ReaderRegistry.RootDataConsumer.class));
+    }
 
     @Test
     public void testWrapMixin() throws Exception {
@@ -193,6 +193,10 @@ public class HoneycombReadInfraTest extends AbstractInfraTest {
         verify(reader, atLeastOnce()).getManagedDataObjectType();
         // Just mark all the isPresent calls as verified
         verify(reader, atMost(100)).isPresent(any(InstanceIdentifier.class), any(), any());
+        if (reader instanceof ListReader) {
+            // Bulk read capability is checked before each list read
+            verify((ListReader<?, ?, ?>) reader, atMost(100)).isBulkReadSupported();
+        }
         verifyNoMoreInteractions(reader);
     }
 
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.infra.distro;
+
+import io.fd.honeycomb.data.init.ShutdownHandler;
+import java.lang.management.ManagementFactory;
+import javax.annotation.Nonnull;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registers management beans of Honeycomb components in the platform MBean server.
+ */
+public final class JmxRegistration {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JmxRegistration.class);
+
+    private JmxRegistration() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated.");
+    }
+
+    /**
+     * Registers bean under provided object name and unregisters it on shutdown. Beans expose statistics only, so
+     * registration failures are just logged.
+     *
+     * @param bean            management bean
+     * @param objectName      object name of the bean
+     * @param shutdownHandler handler unregistering the bean on shutdown
+     */
+    public static void register(@Nonnull final Object bean, @Nonnull final String objectName,
+                                @Nonnull final ShutdownHandler shutdownHandler) {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name;
+        try {
+            name = new ObjectName(objectName);
+            server.registerMBean(bean, name);
+        } catch (JMException e) {
+            LOG.warn("Unable to register {}, its statistics will not be available", objectName, e);
+            return;
+        }
+        shutdownHandler.register(objectName, () -> server.unregisterMBean(name));
+    }
+}
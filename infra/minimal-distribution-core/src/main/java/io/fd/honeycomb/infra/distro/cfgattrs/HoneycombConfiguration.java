@@ -45,6 +45,42 @@ public class HoneycombConfiguration {
     public String persistedConfigRestorationType;
     @InjectConfig("notification-service-queue-depth")
     public int notificationServiceQueueDepth;
+    @InjectConfig("dump-cache-max-size")
+    public Optional<Integer> dumpCacheMaxSize = Optional.of(1000);
+    @InjectConfig("read-cache-max-entries")
+    public Optional<Integer> readCacheMaxEntries = Optional.of(0);
+    @InjectConfig("read-cache-max-weight")
+    public Optional<Integer> readCacheMaxWeight = Optional.of(0);
+    @InjectConfig("read-cache-overflow-policy")
+    public Optional<String> readCacheOverflowPolicy = Optional.of("EVICT_OLDEST");
+    @InjectConfig("initializer-context-batch-size")
+    public Optional<Integer> initializerContextBatchSize = Optional.of(1000);
+    @InjectConfig("context-batch-size")
+    public Optional<Integer> contextBatchSize = Optional.of(0);
+    @InjectConfig("context-batch-max-age-ms")
+    public Optional<Integer> contextBatchMaxAgeMs = Optional.of(1000);
+    @InjectConfig("context-index-max-entries")
+    public Optional<Integer> contextIndexMaxEntries = Optional.of(10000);
+    @InjectConfig("initializer-parallelism")
+    public Optional<Integer> initializerParallelism = Optional.of(1);
+    @InjectConfig("notification-queue-capacity")
+    public Optional<Integer> notificationQueueCapacity = Optional.of(1000);
+    @InjectConfig("notification-queue-overflow-policy")
+    public Optional<String> notificationQueueOverflowPolicy = Optional.of("BLOCK");
+    @InjectConfig("notification-batch-size")
+    public Optional<Integer> notificationBatchSize = Optional.of(100);
+    @InjectConfig("notification-rate-limit")
+    public Optional<Integer> notificationRateLimit = Optional.of(0);
+    @InjectConfig("notification-coalescing-window-ms")
+    public Optional<Integer> notificationCoalescingWindowMs = Optional.of(0);
+    @InjectConfig("rpc-executor-threads")
+    public Optional<Integer> rpcExecutorThreads = Optional.of(16);
+    @InjectConfig("rpc-max-concurrent-invocations")
+    public Optional<Integer> rpcMaxConcurrentInvocations = Optional.of(0);
+    @InjectConfig("rpc-max-queued-invocations")
+    public Optional<Integer> rpcMaxQueuedInvocations = Optional.of(64);
+    @InjectConfig("rpc-timeout-ms")
+    public Optional<Integer> rpcTimeoutMs = Optional.of(60000);
 
     public boolean isConfigPersistenceEnabled() {
         return persistConfig.isPresent() && Boolean.valueOf(persistConfig.get());
@@ -62,6 +98,24 @@ public class HoneycombConfiguration {
             .add("peristConfigPath", peristConfigPath)
             .add("persistedConfigRestorationType", persistedConfigRestorationType)
             .add("notificationServiceQueueDepth", notificationServiceQueueDepth)
+            .add("dumpCacheMaxSize", dumpCacheMaxSize)
+            .add("readCacheMaxEntries", readCacheMaxEntries)
+            .add("readCacheMaxWeight", readCacheMaxWeight)
+            .add("readCacheOverflowPolicy", readCacheOverflowPolicy)
+            .add("initializerContextBatchSize", initializerContextBatchSize)
+            .add("contextBatchSize", contextBatchSize)
+            .add("contextBatchMaxAgeMs", contextBatchMaxAgeMs)
+            .add("contextIndexMaxEntries", contextIndexMaxEntries)
+            .add("initializerParallelism", initializerParallelism)
+            .add("notificationQueueCapacity", notificationQueueCapacity)
+            .add("notificationQueueOverflowPolicy", notificationQueueOverflowPolicy)
+            .add("notificationBatchSize", notificationBatchSize)
+            .add("notificationRateLimit", notificationRateLimit)
+            .add("notificationCoalescingWindowMs", notificationCoalescingWindowMs)
+            .add("rpcExecutorThreads", rpcExecutorThreads)
+            .add("rpcMaxConcurrentInvocations", rpcMaxConcurrentInvocations)
+            .add("rpcMaxQueuedInvocations", rpcMaxQueuedInvocations)
+            .add("rpcTimeoutMs", rpcTimeoutMs)
             .toString();
     }
 }
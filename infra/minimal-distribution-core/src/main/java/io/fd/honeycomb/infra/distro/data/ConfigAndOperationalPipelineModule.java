@@ -25,11 +25,14 @@ import io.fd.honeycomb.data.init.DataTreeInitializer;
 import io.fd.honeycomb.data.init.ShutdownHandler;
 import io.fd.honeycomb.impl.EmptyDomMountService;
 import io.fd.honeycomb.infra.distro.data.config.WriterRegistryProvider;
+import io.fd.honeycomb.infra.distro.data.oper.ModificationCacheBudgetProvider;
 import io.fd.honeycomb.infra.distro.data.oper.ReadableDTDelegProvider;
 import io.fd.honeycomb.infra.distro.data.oper.ReaderRegistryProvider;
 import io.fd.honeycomb.rpc.RpcRegistry;
 import io.fd.honeycomb.rpc.RpcRegistryBuilder;
+import io.fd.honeycomb.translate.ModificationCacheBudget;
 import io.fd.honeycomb.translate.read.registry.ReaderRegistry;
+import io.fd.honeycomb.translate.util.read.cache.SharedDumpCache;
 import io.fd.honeycomb.translate.write.registry.WriterRegistry;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.dom.api.DOMDataBroker;
@@ -67,8 +70,14 @@ public class ConfigAndOperationalPipelineModule extends PrivateModule {
                 .toProvider(PersistingDataTreeProvider.ConfigPersistingDataTreeProvider.class).in(Singleton.class);
         expose(DataTree.class).annotatedWith(Names.named(HONEYCOMB_CONFIG));
 
+        // Dump cache shared across transactions, invalidated by config data tree manager
+        bind(SharedDumpCache.class).toProvider(SharedDumpCacheProvider.class).in(Singleton.class);
+        expose(SharedDumpCache.class);
+
         // Config Data Tree manager working on top of config data tree + writer registry
         bind(ModifiableDataManager.class).toProvider(ModifiableDTDelegProvider.class).in(Singleton.class);
+        // Limits and statistics of modification caches used by operational reads
+        bind(ModificationCacheBudget.class).toProvider(ModificationCacheBudgetProvider.class).in(Singleton.class);
         // Operational Data Tree manager working on top of reader registry
         bind(ReadableDataManager.class).toProvider(ReadableDTDelegProvider.class).in(Singleton.class);
         expose(ReadableDataManager.class);
@@ -19,13 +19,20 @@ package io.fd.honeycomb.infra.distro.data;
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import io.fd.honeycomb.binding.init.ProviderTrait;
+import io.fd.honeycomb.data.init.ShutdownHandler;
+import io.fd.honeycomb.infra.distro.JmxRegistration;
+import io.fd.honeycomb.infra.distro.cfgattrs.HoneycombConfiguration;
 import io.fd.honeycomb.notification.ManagedNotificationProducer;
+import io.fd.honeycomb.notification.NotificationCoalescingRule;
 import io.fd.honeycomb.notification.NotificationCollector;
 import io.fd.honeycomb.notification.impl.HoneycombNotificationCollector;
+import io.fd.honeycomb.notification.impl.NotificationCoalescer;
+import io.fd.honeycomb.notification.impl.NotificationPipeline;
 import io.fd.honeycomb.notification.impl.NotificationProducerRegistry;
 import io.fd.honeycomb.notification.impl.NotificationProducerTracker;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import org.opendaylight.mdsal.binding.dom.adapter.BindingDOMNotificationPublishServiceAdapter;
 import org.opendaylight.mdsal.binding.dom.adapter.BindingToNormalizedNodeCodec;
 import org.opendaylight.mdsal.dom.broker.DOMNotificationRouter;
@@ -36,8 +43,14 @@ public final class HoneycombNotificationManagerProvider extends ProviderTrait<No
     private DOMNotificationRouter notificationRouter;
     @Inject(optional = true)
     private Set<ManagedNotificationProducer> notificationProducers = new HashSet<>();
+    @Inject(optional = true)
+    private Set<NotificationCoalescingRule> coalescingRules = new HashSet<>();
     @Inject
     private BindingToNormalizedNodeCodec codec;
+    @Inject
+    private HoneycombConfiguration cfg;
+    @Inject
+    private ShutdownHandler shutdownHandler;
 
     private NotificationProducerTracker notificationProducerTracker;
 
@@ -51,10 +64,31 @@ public final class HoneycombNotificationManagerProvider extends ProviderTrait<No
         BindingDOMNotificationPublishServiceAdapter bindingDOMNotificationPublishServiceAdapter =
                 new BindingDOMNotificationPublishServiceAdapter(notificationRouter, codec);
 
+        // Decouple producers from subscribers, so that notification storms do not block southbound
+        final NotificationPipeline.NotificationPipelineBuilder pipelineBuilder =
+                new NotificationPipeline.NotificationPipelineBuilder()
+                        .withCapacity(cfg.notificationQueueCapacity.get())
+                        .withOverflowPolicy(
+                                NotificationPipeline.OverflowPolicy.valueOf(cfg.notificationQueueOverflowPolicy.get()))
+                        .withBatchSize(cfg.notificationBatchSize.get())
+                        .withRateLimit(cfg.notificationRateLimit.get());
+        if (cfg.notificationCoalescingWindowMs.get() > 0 && !coalescingRules.isEmpty()) {
+            // Collapse redundant notifications according to plugin rules, e.g. repeated interface state
+            // notifications during interface flapping
+            final NotificationCoalescer.NotificationCoalescerBuilder coalescerBuilder =
+                    new NotificationCoalescer.NotificationCoalescerBuilder();
+            for (NotificationCoalescingRule<?> rule : coalescingRules) {
+                coalescerBuilder.withRule(rule, cfg.notificationCoalescingWindowMs.get(), TimeUnit.MILLISECONDS);
+            }
+            pipelineBuilder.withCoalescing(coalescerBuilder);
+        }
+        final NotificationPipeline pipeline = pipelineBuilder.build(bindingDOMNotificationPublishServiceAdapter);
+        JmxRegistration.register(pipeline, NotificationPipeline.OBJECT_NAME, shutdownHandler);
+
         // Create Collector on top of BA notification service and registry
         HoneycombNotificationCollector honeycombNotificationCollector =
                 new HoneycombNotificationCollector(bindingDOMNotificationPublishServiceAdapter,
-                        notificationProducerRegistry);
+                        notificationProducerRegistry, pipeline);
 
         // Create tracker, responsible for starting and stopping registered notification producers whenever necessary
         notificationProducerTracker =
@@ -22,6 +22,8 @@ import io.fd.honeycomb.binding.init.ProviderTrait;
 import io.fd.honeycomb.data.ModifiableDataManager;
 import io.fd.honeycomb.data.impl.ModifiableDataTreeDelegator;
 import io.fd.honeycomb.infra.distro.data.context.ContextPipelineModule;
+import io.fd.honeycomb.translate.util.MappingContextIndex;
+import io.fd.honeycomb.translate.util.read.cache.SharedDumpCache;
 import io.fd.honeycomb.translate.write.registry.WriterRegistry;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.dom.adapter.BindingToNormalizedNodeCodec;
@@ -42,10 +44,15 @@ public final class ModifiableDTDelegProvider extends ProviderTrait<ModifiableDat
     @Inject
     @Named(ContextPipelineModule.HONEYCOMB_CONTEXT)
     private DataBroker contextBroker;
+    @Inject
+    private SharedDumpCache dumpCache;
+    @Inject
+    @Named(ContextPipelineModule.HONEYCOMB_CONTEXT)
+    private MappingContextIndex contextIndex;
 
     @Override
     protected ModifiableDataTreeDelegator create() {
         return new ModifiableDataTreeDelegator(serializer, dataTree, schemaService.getGlobalContext(),
-            registry, contextBroker);
+            registry, contextBroker, dumpCache, contextIndex);
     }
 }
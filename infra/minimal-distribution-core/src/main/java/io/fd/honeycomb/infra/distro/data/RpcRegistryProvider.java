@@ -18,17 +18,44 @@ package io.fd.honeycomb.infra.distro.data;
 
 import com.google.inject.Inject;
 import io.fd.honeycomb.binding.init.ProviderTrait;
+import io.fd.honeycomb.data.init.ShutdownHandler;
+import io.fd.honeycomb.infra.distro.JmxRegistration;
+import io.fd.honeycomb.infra.distro.cfgattrs.HoneycombConfiguration;
+import io.fd.honeycomb.rpc.BulkheadRpcRegistry;
 import io.fd.honeycomb.rpc.RpcRegistry;
 import io.fd.honeycomb.rpc.RpcRegistryBuilder;
+import java.util.concurrent.TimeUnit;
 
 public final class RpcRegistryProvider extends ProviderTrait<RpcRegistry> {
 
     @Inject
     private RpcRegistryBuilder builder;
+    @Inject
+    private HoneycombConfiguration cfg;
+    @Inject
+    private ShutdownHandler shutdownHandler;
 
     @Override
     protected RpcRegistry create() {
-        return builder.build();
+        final RpcRegistry registry = builder.build();
+        if (cfg.rpcMaxConcurrentInvocations.get() <= 0) {
+            // Disabled by default, RPCs are invoked synchronously by the caller without limits or timeouts
+            return registry;
+        }
+
+        // Isolate RPCs from each other, so that slow RPCs do not exhaust northbound threads
+        final BulkheadRpcRegistry.BulkheadRpcRegistryBuilder bulkheadBuilder =
+                new BulkheadRpcRegistry.BulkheadRpcRegistryBuilder()
+                        .withThreads(cfg.rpcExecutorThreads.get())
+                        .withMaxConcurrentInvocations(cfg.rpcMaxConcurrentInvocations.get())
+                        .withMaxQueuedInvocations(cfg.rpcMaxQueuedInvocations.get());
+        if (cfg.rpcTimeoutMs.get() > 0) {
+            bulkheadBuilder.withTimeout(cfg.rpcTimeoutMs.get(), TimeUnit.MILLISECONDS);
+        }
+        final BulkheadRpcRegistry bulkheadRegistry = bulkheadBuilder.build(registry);
+        shutdownHandler.register(BulkheadRpcRegistry.class.getCanonicalName(), bulkheadRegistry);
+        JmxRegistration.register(bulkheadRegistry, BulkheadRpcRegistry.OBJECT_NAME, shutdownHandler);
+        return bulkheadRegistry;
     }
 
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.infra.distro.data.context;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import io.fd.honeycomb.binding.init.ProviderTrait;
+import io.fd.honeycomb.data.init.ShutdownHandler;
+import io.fd.honeycomb.infra.distro.cfgattrs.HoneycombConfiguration;
+import io.fd.honeycomb.translate.MappingContext;
+import io.fd.honeycomb.translate.util.BatchingMappingContext;
+import io.fd.honeycomb.translate.util.MappingContextIndex;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class BatchingMappingContextProvider extends ProviderTrait<MappingContext> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchingMappingContextProvider.class);
+
+    @Inject
+    @Named(ContextPipelineModule.HONEYCOMB_CONTEXT)
+    private DataBroker contextDataBroker;
+    @Inject
+    @Named(ContextPipelineModule.HONEYCOMB_CONTEXT)
+    private MappingContextIndex contextIndex;
+    @Inject
+    private HoneycombConfiguration cfg;
+    @Inject
+    private ShutdownHandler shutdownHandler;
+
+    @Override
+    protected BatchingMappingContext create() {
+        final int maxBatchAgeMs = cfg.contextBatchMaxAgeMs.get();
+        final BatchingMappingContext mappingContext = new BatchingMappingContext(contextDataBroker, contextIndex,
+                cfg.contextBatchSize.get(), maxBatchAgeMs, TimeUnit.MILLISECONDS);
+
+        // Batch age is checked on access, commit also batches of contexts that are no longer accessed
+        final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("honeycomb-context-flush-%d").setDaemon(true).build());
+        flushExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                mappingContext.flushIfExpired();
+            } catch (RuntimeException e) {
+                LOG.warn("Unable to commit mapping context batch", e);
+            }
+        }, maxBatchAgeMs, maxBatchAgeMs, TimeUnit.MILLISECONDS);
+
+        shutdownHandler.register(BatchingMappingContext.class.getCanonicalName(), () -> {
+            flushExecutor.shutdownNow();
+            mappingContext.close();
+        });
+        return mappingContext;
+    }
+}
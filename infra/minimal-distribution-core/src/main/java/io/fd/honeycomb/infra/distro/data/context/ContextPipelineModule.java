@@ -25,6 +25,7 @@ import io.fd.honeycomb.infra.distro.data.BindingDataBrokerProvider;
 import io.fd.honeycomb.infra.distro.data.DataTreeProvider;
 import io.fd.honeycomb.infra.distro.data.PersistingDataTreeProvider;
 import io.fd.honeycomb.translate.MappingContext;
+import io.fd.honeycomb.translate.util.MappingContextIndex;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.dom.api.DOMDataBroker;
 import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTree;
@@ -65,9 +66,15 @@ public class ContextPipelineModule extends PrivateModule {
                 .in(Singleton.class);
         expose(DataTreeInitializer.class).annotatedWith(Names.named(HONEYCOMB_CONTEXT));
 
+        // Index of committed context data, shared by all mapping contexts on top of context data broker
+        bind(MappingContextIndex.class).annotatedWith(Names.named(HONEYCOMB_CONTEXT))
+                .toProvider(MappingContextIndexProvider.class).in(Singleton.class);
+        expose(MappingContextIndex.class).annotatedWith(Names.named(HONEYCOMB_CONTEXT));
+
         // Mapping context is just a small adapter on top of BA data broker to simplify CRUD of context data
+        // Modifications are committed right away unless batching is enabled, lookups are served from the shared index
         bind(MappingContext.class).annotatedWith(Names.named(HONEYCOMB_CONTEXT))
-                .toProvider(RealtimeMappingContextProvider.class).in(Singleton.class);
+                .toProvider(MappingContextProvider.class).in(Singleton.class);
         expose(MappingContext.class).annotatedWith(Names.named(HONEYCOMB_CONTEXT));
     }
 }
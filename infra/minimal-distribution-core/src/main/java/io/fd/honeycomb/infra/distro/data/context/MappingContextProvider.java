@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.infra.distro.data.context;
+
+import com.google.inject.Inject;
+import io.fd.honeycomb.binding.init.ProviderTrait;
+import io.fd.honeycomb.infra.distro.cfgattrs.HoneycombConfiguration;
+import io.fd.honeycomb.translate.MappingContext;
+
+/**
+ * Provides {@link io.fd.honeycomb.translate.util.RealtimeMappingContext} by default. Batching of context modifications
+ * is enabled by positive context-batch-size.
+ */
+public final class MappingContextProvider extends ProviderTrait<MappingContext> {
+
+    @Inject
+    private HoneycombConfiguration cfg;
+    @Inject
+    private RealtimeMappingContextProvider realtimeProvider;
+    @Inject
+    private BatchingMappingContextProvider batchingProvider;
+
+    @Override
+    protected MappingContext create() {
+        return cfg.contextBatchSize.get() > 0
+                ? batchingProvider.get()
+                : realtimeProvider.get();
+    }
+}
@@ -20,6 +20,7 @@ import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import io.fd.honeycomb.binding.init.ProviderTrait;
 import io.fd.honeycomb.translate.MappingContext;
+import io.fd.honeycomb.translate.util.MappingContextIndex;
 import io.fd.honeycomb.translate.util.RealtimeMappingContext;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 
@@ -28,10 +29,13 @@ public final class RealtimeMappingContextProvider extends ProviderTrait<MappingC
     @Inject
     @Named(ContextPipelineModule.HONEYCOMB_CONTEXT)
     private DataBroker contextDataBroker;
+    @Inject
+    @Named(ContextPipelineModule.HONEYCOMB_CONTEXT)
+    private MappingContextIndex contextIndex;
 
     @Override
     public RealtimeMappingContext create() {
-        return new RealtimeMappingContext(contextDataBroker);
+        return new RealtimeMappingContext(contextDataBroker, contextIndex);
     }
 
 }
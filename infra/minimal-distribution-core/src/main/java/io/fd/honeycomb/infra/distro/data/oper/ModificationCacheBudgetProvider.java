@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.infra.distro.data.oper;
+
+import com.google.inject.Inject;
+import io.fd.honeycomb.binding.init.ProviderTrait;
+import io.fd.honeycomb.data.init.ShutdownHandler;
+import io.fd.honeycomb.infra.distro.JmxRegistration;
+import io.fd.honeycomb.infra.distro.cfgattrs.HoneycombConfiguration;
+import io.fd.honeycomb.translate.ModificationCacheBudget;
+import io.fd.honeycomb.translate.util.ModificationCacheMonitor;
+
+public final class ModificationCacheBudgetProvider extends ProviderTrait<ModificationCacheBudget> {
+
+    @Inject
+    private HoneycombConfiguration cfg;
+    @Inject
+    private ShutdownHandler shutdownHandler;
+
+    @Override
+    protected ModificationCacheBudget create() {
+        final ModificationCacheMonitor monitor = new ModificationCacheMonitor();
+        JmxRegistration.register(monitor, ModificationCacheMonitor.OBJECT_NAME, shutdownHandler);
+
+        final ModificationCacheBudget.ModificationCacheBudgetBuilder builder =
+            new ModificationCacheBudget.ModificationCacheBudgetBuilder()
+                .withOverflowPolicy(ModificationCacheBudget.OverflowPolicy.valueOf(cfg.readCacheOverflowPolicy.get()))
+                .withStatisticsConsumer(monitor);
+        // non-positive limits keep the cache unbounded
+        if (cfg.readCacheMaxEntries.get() > 0) {
+            builder.withMaxEntries(cfg.readCacheMaxEntries.get());
+        }
+        if (cfg.readCacheMaxWeight.get() > 0) {
+            builder.withMaxWeight(cfg.readCacheMaxWeight.get());
+        }
+        return builder.build();
+    }
+}
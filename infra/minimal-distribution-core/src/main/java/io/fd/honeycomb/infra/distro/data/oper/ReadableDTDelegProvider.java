@@ -22,7 +22,9 @@ import io.fd.honeycomb.binding.init.ProviderTrait;
 import io.fd.honeycomb.data.ReadableDataManager;
 import io.fd.honeycomb.data.impl.ReadableDataTreeDelegator;
 import io.fd.honeycomb.infra.distro.data.context.ContextPipelineModule;
+import io.fd.honeycomb.translate.ModificationCacheBudget;
 import io.fd.honeycomb.translate.read.registry.ReaderRegistry;
+import io.fd.honeycomb.translate.util.MappingContextIndex;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.dom.adapter.BindingToNormalizedNodeCodec;
 import org.opendaylight.mdsal.dom.api.DOMSchemaService;
@@ -38,9 +40,15 @@ public final class ReadableDTDelegProvider extends ProviderTrait<ReadableDataMan
     @Inject
     @Named(ContextPipelineModule.HONEYCOMB_CONTEXT)
     private DataBroker contextBroker;
+    @Inject
+    private ModificationCacheBudget cacheBudget;
+    @Inject
+    @Named(ContextPipelineModule.HONEYCOMB_CONTEXT)
+    private MappingContextIndex contextIndex;
 
     @Override
     protected ReadableDataTreeDelegator create() {
-        return new ReadableDataTreeDelegator(serializer, schemaService.getGlobalContext(), registry, contextBroker);
+        return new ReadableDataTreeDelegator(serializer, schemaService.getGlobalContext(), registry, contextBroker,
+            cacheBudget, contextIndex);
     }
 }
@@ -16,26 +16,49 @@
 
 package io.fd.honeycomb.infra.distro.data.oper;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import io.fd.honeycomb.binding.init.ProviderTrait;
+import io.fd.honeycomb.infra.distro.cfgattrs.HoneycombConfiguration;
 import io.fd.honeycomb.translate.impl.read.registry.CompositeReaderRegistryBuilder;
 import io.fd.honeycomb.translate.read.ReaderFactory;
 import io.fd.honeycomb.translate.read.registry.ReaderRegistry;
 import io.fd.honeycomb.translate.util.YangDAG;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 public final class ReaderRegistryProvider extends ProviderTrait<ReaderRegistry> {
 
+    private static final long INIT_THREAD_KEEP_ALIVE_SECONDS = 30;
+
     @Inject(optional = true)
     private Set<ReaderFactory> readerFactories = new HashSet<>();
+    @Inject
+    private HoneycombConfiguration cfg;
 
     @Override
     protected ReaderRegistry create() {
-        final CompositeReaderRegistryBuilder builder = new CompositeReaderRegistryBuilder(new YangDAG());
+        final int initParallelism = cfg.initializerParallelism.get();
+        final CompositeReaderRegistryBuilder builder = initParallelism > 1
+                ? new CompositeReaderRegistryBuilder(new YangDAG(), initExecutor(initParallelism), initParallelism)
+                : new CompositeReaderRegistryBuilder(new YangDAG());
         readerFactories.stream()
             .forEach(it -> it.init(builder));
         return builder.build();
     }
 
+    /**
+     * Initialization runs only at startup, so the threads are allowed to time out afterwards.
+     */
+    private static ThreadPoolExecutor initExecutor(final int parallelism) {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(parallelism, parallelism,
+                INIT_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("honeycomb-init-%d").setDaemon(true).build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
 }
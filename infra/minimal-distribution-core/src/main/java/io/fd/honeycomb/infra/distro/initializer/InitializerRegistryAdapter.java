@@ -22,6 +22,9 @@ import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.registry.InitRegistry;
+import io.fd.honeycomb.translate.util.BatchingMappingContext;
+import io.fd.honeycomb.translate.util.MappingContextIndex;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.slf4j.Logger;
@@ -30,23 +33,31 @@ import org.slf4j.LoggerFactory;
 final class InitializerRegistryAdapter implements InitializerRegistry {
 
     private static final Logger LOG = LoggerFactory.getLogger(InitializerRegistryAdapter.class);
+    // each root is committed separately, age limit only bounds roots with long running initialization
+    private static final long CONTEXT_BATCH_MAX_AGE_SECONDS = 60;
 
     private final DataTreeInitializer configInitializer;
     private final DataTreeInitializer contextInitializer;
     private final InitRegistry initRegistry;
     private final DataBroker dataBroker;
-    private final MappingContext realtimeMappingContext;
+    private final DataBroker contextDataBroker;
+    private final MappingContextIndex contextIndex;
+    private final int contextBatchSize;
 
     InitializerRegistryAdapter(final DataTreeInitializer configInitializer,
                                final DataTreeInitializer contextInitializer,
                                final InitRegistry initRegistry,
                                final DataBroker noopConfigDataBroker,
-                               final MappingContext realtimeMappingContext) {
+                               final DataBroker contextDataBroker,
+                               final MappingContextIndex contextIndex,
+                               final int contextBatchSize) {
         this.configInitializer = configInitializer;
         this.contextInitializer = contextInitializer;
         this.initRegistry = initRegistry;
         this.dataBroker = noopConfigDataBroker;
-        this.realtimeMappingContext = realtimeMappingContext;
+        this.contextDataBroker = contextDataBroker;
+        this.contextIndex = contextIndex;
+        this.contextBatchSize = contextBatchSize;
     }
 
     @Override
@@ -58,8 +69,10 @@ final class InitializerRegistryAdapter implements InitializerRegistry {
             // configuration to what is already in VPP
             contextInitializer.initialize();
             LOG.info("Persisted context restored successfully");
-            // Initialize all registered initializers
-            initRegistry.initAll(dataBroker, new InitReadContext(realtimeMappingContext));
+            // Initialize all registered initializers, each root with its own context. Mappings are committed once
+            // per root or per batch size
+            initRegistry.initAll(dataBroker, () -> new InitReadContext(new BatchingMappingContext(contextDataBroker,
+                    contextIndex, contextBatchSize, CONTEXT_BATCH_MAX_AGE_SECONDS, TimeUnit.SECONDS)));
             LOG.info("Configuration initialized successfully");
             // Initialize stored configuration on top
             configInitializer.initialize();
@@ -74,11 +87,11 @@ final class InitializerRegistryAdapter implements InitializerRegistry {
     private static final class InitReadContext implements ReadContext {
 
         private final ModificationCache modificationCache;
-        private final MappingContext realtimeMappingContext;
+        private final BatchingMappingContext mappingContext;
 
-        InitReadContext(final MappingContext realtimeMappingContext) {
+        InitReadContext(final BatchingMappingContext mappingContext) {
             modificationCache = new ModificationCache();
-            this.realtimeMappingContext = realtimeMappingContext;
+            this.mappingContext = mappingContext;
         }
 
         @Nonnull
@@ -90,12 +103,14 @@ final class InitializerRegistryAdapter implements InitializerRegistry {
         @Nonnull
         @Override
         public MappingContext getMappingContext() {
-            return realtimeMappingContext;
+            return mappingContext;
         }
 
         @Override
         public void close() {
             modificationCache.close();
+            // commit also mappings of partially initialized root, as if they were written right away
+            mappingContext.close();
         }
     }
 }
@@ -25,8 +25,9 @@ import com.google.inject.name.Named;
 import io.fd.honeycomb.binding.init.ProviderTrait;
 import io.fd.honeycomb.data.init.DataTreeInitializer;
 import io.fd.honeycomb.data.init.InitializerRegistry;
-import io.fd.honeycomb.translate.MappingContext;
+import io.fd.honeycomb.infra.distro.cfgattrs.HoneycombConfiguration;
 import io.fd.honeycomb.translate.read.registry.ReaderRegistry;
+import io.fd.honeycomb.translate.util.MappingContextIndex;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 
 public final class InitializerRegistryAdapterProvider extends ProviderTrait<InitializerRegistry> {
@@ -44,11 +45,16 @@ public final class InitializerRegistryAdapterProvider extends ProviderTrait<Init
     private DataBroker noopConfigDataBroker;
     @Inject
     @Named(HONEYCOMB_CONTEXT)
-    private MappingContext realtimeMappingContext;
+    private DataBroker contextDataBroker;
+    @Inject
+    @Named(HONEYCOMB_CONTEXT)
+    private MappingContextIndex contextIndex;
+    @Inject
+    private HoneycombConfiguration cfg;
 
     @Override
     protected InitializerRegistryAdapter create() {
         return new InitializerRegistryAdapter(configInitializer, contextInitializer, initRegistry,
-                noopConfigDataBroker, realtimeMappingContext);
+                noopConfigDataBroker, contextDataBroker, contextIndex, cfg.initializerContextBatchSize.get());
     }
 }
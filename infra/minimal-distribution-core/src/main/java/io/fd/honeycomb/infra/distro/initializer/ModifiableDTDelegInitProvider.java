@@ -23,6 +23,7 @@ import io.fd.honeycomb.data.ModifiableDataManager;
 import io.fd.honeycomb.data.impl.ModifiableDataTreeDelegator;
 import io.fd.honeycomb.infra.distro.data.ConfigAndOperationalPipelineModule;
 import io.fd.honeycomb.infra.distro.data.context.ContextPipelineModule;
+import io.fd.honeycomb.translate.util.MappingContextIndex;
 import io.fd.honeycomb.translate.util.write.NoopWriterRegistry;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.dom.adapter.BindingToNormalizedNodeCodec;
@@ -41,10 +42,13 @@ public final class ModifiableDTDelegInitProvider extends ProviderTrait<Modifiabl
     private DataBroker contextBroker;
     @Inject
     private DOMSchemaService schemaService;
+    @Inject
+    @Named(ContextPipelineModule.HONEYCOMB_CONTEXT)
+    private MappingContextIndex contextIndex;
 
     @Override
     public ModifiableDataTreeDelegator create() {
         return new ModifiableDataTreeDelegator(serializer, dataTree, schemaService.getGlobalContext(),
-                new NoopWriterRegistry(), contextBroker);
+                new NoopWriterRegistry(), contextBroker, null, contextIndex);
     }
 }
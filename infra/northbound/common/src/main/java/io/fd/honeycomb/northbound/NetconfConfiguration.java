@@ -40,6 +40,12 @@ public class NetconfConfiguration {
     public Optional<Integer> netconfSshBindingPort;
     @InjectConfig("netconf-notification-stream-name")
     public Optional<String> netconfNotificationStreamName = Optional.of("honeycomb");
+    @InjectConfig("netconf-notification-replay-max-entries")
+    public Optional<Integer> netconfNotificationReplayMaxEntries = Optional.of(0);
+    @InjectConfig("netconf-notification-replay-max-bytes")
+    public Optional<Integer> netconfNotificationReplayMaxBytes = Optional.of(10485760);
+    @InjectConfig("netconf-notification-replay-max-age-seconds")
+    public Optional<Integer> netconfNotificationReplayMaxAgeSeconds = Optional.of(3600);
 
     public boolean isNetconfTcpEnabled() {
         return Boolean.valueOf(netconfTcp);
@@ -49,6 +55,10 @@ public class NetconfConfiguration {
         return Boolean.valueOf(netconfSsh);
     }
 
+    public boolean isNetconfNotificationReplayEnabled() {
+        return netconfNotificationReplayMaxEntries.isPresent() && netconfNotificationReplayMaxEntries.get() > 0;
+    }
+
     public boolean isNetconfEnabled() {
         return isNetconfTcpEnabled() || isNetconfSshEnabled();
     }
@@ -64,6 +74,9 @@ public class NetconfConfiguration {
             + ", netconfSshBindingAddress=" + netconfSshBindingAddress
             + ", netconfSshBindingPort=" + netconfSshBindingPort
             + ", netconfNotificationStreamName=" + netconfNotificationStreamName
+            + ", netconfNotificationReplayMaxEntries=" + netconfNotificationReplayMaxEntries
+            + ", netconfNotificationReplayMaxBytes=" + netconfNotificationReplayMaxBytes
+            + ", netconfNotificationReplayMaxAgeSeconds=" + netconfNotificationReplayMaxAgeSeconds
             + '}';
     }
 }
@@ -20,20 +20,26 @@ import com.google.inject.Inject;
 import io.fd.honeycomb.binding.init.ProviderTrait;
 import io.fd.honeycomb.northbound.NetconfConfiguration;
 import io.fd.honeycomb.notification.NotificationCollector;
+import io.fd.honeycomb.notification.impl.NotificationEncoder;
 import io.fd.honeycomb.notification.impl.NotificationProducerRegistry;
-import io.fd.honeycomb.notification.impl.TranslationUtil;
+import io.fd.honeycomb.notification.impl.NotificationReplayBuffer;
+import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.mdsal.dom.api.DOMNotification;
 import org.opendaylight.mdsal.dom.api.DOMNotificationListener;
 import org.opendaylight.mdsal.dom.api.DOMSchemaService;
 import org.opendaylight.mdsal.dom.broker.DOMNotificationRouter;
+import org.opendaylight.netconf.notifications.NetconfNotification;
 import org.opendaylight.netconf.notifications.NetconfNotificationCollector;
 import org.opendaylight.netconf.notifications.NotificationPublisherRegistration;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714.StreamNameType;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.netconf.streams.StreamBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.DateAndTime;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.yang.model.api.SchemaContextListener;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,19 +59,33 @@ public final class HoneycombNotification2NetconfProvider
     private NotificationCollector hcNotificationCollector;
     @Inject
     private NetconfNotificationCollector netconfNotificationCollector;
+    @Inject
+    private NotificationReplayBuffer replayBuffer;
 
     @Override
     protected HoneycombNotification2Netconf create() {
         final StreamNameType streamType = new StreamNameType(cfgAttributes.netconfNotificationStreamName.get());
 
         // Register as HONEYCOMB_NETCONF notification publisher under configured name
-        final NotificationPublisherRegistration netconfNotifReg = netconfNotificationCollector
-                .registerNotificationPublisher(new StreamBuilder().setName(streamType).setReplaySupport(false)
-                        .setDescription(cfgAttributes.netconfNotificationStreamName.get()).build());
+        final boolean replayEnabled = cfgAttributes.isNetconfNotificationReplayEnabled();
+        final StreamBuilder streamBuilder = new StreamBuilder().setName(streamType).setReplaySupport(replayEnabled)
+                .setDescription(cfgAttributes.netconfNotificationStreamName.get());
+        if (replayEnabled) {
+            streamBuilder.setReplayLogCreationTime(new DateAndTime(
+                    NetconfNotification.RFC3339_DATE_FORMATTER.apply(Date.from(replayBuffer.getCreationTime()))));
+        }
+        final NotificationPublisherRegistration netconfNotifReg =
+                netconfNotificationCollector.registerNotificationPublisher(streamBuilder.build());
+
+        // Encoder keeps schema context up to date, instead of looking it up per notification
+        final NotificationEncoder encoder = new NotificationEncoder(schemaService.getGlobalContext());
+        final ListenerRegistration<SchemaContextListener> schemaListenerReg =
+                schemaService.registerSchemaContextListener(encoder);
 
         // Notification Translator, get notification from HC producers and put into HONEYCOMB_NETCONF notification collector
         final DOMNotificationListener domNotificationListener =
-                new TranslatingNotificationListener(netconfNotifReg, streamType, schemaService);
+                new TranslatingNotificationListener(netconfNotifReg, streamType, encoder,
+                        replayEnabled ? replayBuffer : null);
 
         // NotificationManager is used to provide list of available notifications (which are all of the notifications registered)
         // TODO HONEYCOMB-165 make available notifications configurable here so that any number of notification streams for netconf
@@ -84,17 +104,20 @@ public final class HoneycombNotification2NetconfProvider
                 .registerNotificationListener(domNotificationListener, currentNotificationSchemaPaths);
 
         LOG.info("Exposing HONEYCOMB_NETCONF notification stream: {}", streamType.getValue());
-        return new HoneycombNotification2Netconf(domNotifListenerReg, netconfNotifReg);
+        return new HoneycombNotification2Netconf(domNotifListenerReg, netconfNotifReg, schemaListenerReg);
     }
 
     public static final class HoneycombNotification2Netconf {
         private final ListenerRegistration<DOMNotificationListener> domNotifListenerReg;
         private final NotificationPublisherRegistration netconfNotifReg;
+        private final ListenerRegistration<SchemaContextListener> schemaListenerReg;
 
         public HoneycombNotification2Netconf(final ListenerRegistration<DOMNotificationListener> domNotifListenerReg,
-                                             final NotificationPublisherRegistration netconfNotifReg) {
+                                             final NotificationPublisherRegistration netconfNotifReg,
+                                             final ListenerRegistration<SchemaContextListener> schemaListenerReg) {
             this.domNotifListenerReg = domNotifListenerReg;
             this.netconfNotifReg = netconfNotifReg;
+            this.schemaListenerReg = schemaListenerReg;
         }
 
         public ListenerRegistration<DOMNotificationListener> getDomNotifListenerReg() {
@@ -104,6 +127,10 @@ public final class HoneycombNotification2NetconfProvider
         public NotificationPublisherRegistration getNetconfNotifReg() {
             return netconfNotifReg;
         }
+
+        public ListenerRegistration<SchemaContextListener> getSchemaListenerReg() {
+            return schemaListenerReg;
+        }
     }
 
     private static final class TranslatingNotificationListener implements DOMNotificationListener {
@@ -112,19 +139,29 @@ public final class HoneycombNotification2NetconfProvider
 
         private final NotificationPublisherRegistration netconfNotifReg;
         private final StreamNameType streamType;
-        private final DOMSchemaService schemaService;
+        private final NotificationEncoder encoder;
+        @Nullable
+        private final NotificationReplayBuffer replayBuffer;
 
         TranslatingNotificationListener(final NotificationPublisherRegistration netconfNotifReg,
-                                               final StreamNameType streamType, final DOMSchemaService schemaService) {
+                                               final StreamNameType streamType, final NotificationEncoder encoder,
+                                               @Nullable final NotificationReplayBuffer replayBuffer) {
             this.netconfNotifReg = netconfNotifReg;
             this.streamType = streamType;
-            this.schemaService = schemaService;
+            this.encoder = encoder;
+            this.replayBuffer = replayBuffer;
         }
 
         @Override
         public void onNotification(@Nonnull final DOMNotification notif) {
             LOG.debug("Propagating notification: {} into HONEYCOMB_NETCONF", notif.getType());
-            netconfNotifReg.onNotification(streamType, TranslationUtil.notificationToXml(notif, schemaService.getGlobalContext()));
+            final NetconfNotification netconfNotification = encoder.encode(notif);
+            if (replayBuffer != null) {
+                // Log for replay, subscribers registered while publishing skip notifications already replayed to them
+                replayBuffer.publish(netconfNotification, n -> netconfNotifReg.onNotification(streamType, n));
+            } else {
+                netconfNotifReg.onNotification(streamType, netconfNotification);
+            }
         }
     }
 }
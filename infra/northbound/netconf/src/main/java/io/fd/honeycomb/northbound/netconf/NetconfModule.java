@@ -26,6 +26,7 @@ import io.fd.honeycomb.infra.distro.data.InmemoryDOMDataBrokerProvider;
 import io.fd.honeycomb.northbound.NetconfConfiguration;
 import io.fd.honeycomb.northbound.NorthboundPrivateModule;
 import io.fd.honeycomb.notification.NotificationCollector;
+import io.fd.honeycomb.notification.impl.NotificationReplayBuffer;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.HashedWheelTimer;
 import io.netty.util.Timer;
@@ -103,6 +104,9 @@ public class NetconfModule extends NorthboundPrivateModule<NetconfConfiguration>
         bind(NetconfNotificationRegistry.class).toInstance(manager);
         bind(NetconfNotificationListener.class).toInstance(manager);
 
+        // Replay log of Honeycomb notification stream
+        bind(NotificationReplayBuffer.class).toProvider(NotificationReplayBufferProvider.class).in(Singleton.class);
+
         // Netconf notification service factory
         bind(NetconfOperationServiceFactory.class).annotatedWith(Names.named(HONEYCOMB_NETCONF_MAPPER_NOTIF))
                 .toProvider(NetconfNotificationMapperProvider.class).asEagerSingleton();
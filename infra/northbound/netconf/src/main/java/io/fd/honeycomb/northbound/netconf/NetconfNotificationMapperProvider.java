@@ -16,10 +16,13 @@
 
 package io.fd.honeycomb.northbound.netconf;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import io.fd.honeycomb.binding.init.ProviderTrait;
 import io.fd.honeycomb.data.init.ShutdownHandler;
+import io.fd.honeycomb.northbound.NetconfConfiguration;
+import io.fd.honeycomb.notification.impl.NotificationReplayBuffer;
 import org.opendaylight.controller.sal.binding.api.BindingAwareBroker;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.netconf.mapping.api.NetconfOperationServiceFactory;
@@ -29,6 +32,7 @@ import org.opendaylight.netconf.mdsal.notification.impl.NetconfNotificationOpera
 import org.opendaylight.netconf.mdsal.notification.impl.NotificationToMdsalWriter;
 import org.opendaylight.netconf.notifications.NetconfNotificationCollector;
 import org.opendaylight.netconf.notifications.NetconfNotificationRegistry;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714.StreamNameType;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.NetconfState;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.Capabilities;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
@@ -56,11 +60,15 @@ public class NetconfNotificationMapperProvider extends ProviderTrait<NetconfOper
     private NetconfOperationServiceFactoryListener aggregator;
     @Inject
     private ShutdownHandler shutdownHandler;
+    @Inject
+    private NetconfConfiguration cfgAttributes;
+    @Inject
+    private NotificationReplayBuffer replayBuffer;
 
     private CapabilityChangeNotificationProducer capabilityChangeNotificationProducer;
 
     @Override
-    protected NetconfNotificationOperationServiceFactory create() {
+    protected NetconfOperationServiceFactory create() {
         LOG.trace("Initializing NotificationToMdsalWriter");
         final NotificationToMdsalWriter writer = new NotificationToMdsalWriter(notificationCollector, dataBroker);
         writer.start();
@@ -69,11 +77,24 @@ public class NetconfNotificationMapperProvider extends ProviderTrait<NetconfOper
         capabilityChangeNotificationProducer =
                 new CapabilityChangeNotificationProducer(notificationCollector, dataBroker);
 
-        LOG.trace("Providing NetconfNotificationOperationServiceFactory");
-        final NetconfNotificationOperationServiceFactory netconfNotificationOperationServiceFactory =
-            new NetconfNotificationOperationServiceFactory(notificationRegistry, aggregator);
+        final NetconfOperationServiceFactory netconfNotificationOperationServiceFactory;
+        if (cfgAttributes.isNetconfNotificationReplayEnabled()) {
+            // create-subscription with replay support for Honeycomb notification stream
+            LOG.trace("Providing ReplayingNotificationOperationServiceFactory");
+            final ReplayingNotificationOperationServiceFactory replayingFactory =
+                new ReplayingNotificationOperationServiceFactory(notificationRegistry, aggregator,
+                    ImmutableMap.of(new StreamNameType(cfgAttributes.netconfNotificationStreamName.get()),
+                        replayBuffer));
+            shutdownHandler.register("netconf-notification-service-factory", replayingFactory);
+            netconfNotificationOperationServiceFactory = replayingFactory;
+        } else {
+            LOG.trace("Providing NetconfNotificationOperationServiceFactory");
+            final NetconfNotificationOperationServiceFactory factory =
+                new NetconfNotificationOperationServiceFactory(notificationRegistry, aggregator);
+            shutdownHandler.register("netconf-notification-service-factory", factory);
+            netconfNotificationOperationServiceFactory = factory;
+        }
 
-        shutdownHandler.register("netconf-notification-service-factory", netconfNotificationOperationServiceFactory);
         shutdownHandler.register("capability-change-notification-producer", capabilityChangeNotificationProducer);
         shutdownHandler.register("notification-to-mdsal-writer", writer);
         return netconfNotificationOperationServiceFactory;
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.northbound.netconf;
+
+import com.google.inject.Inject;
+import io.fd.honeycomb.binding.init.ProviderTrait;
+import io.fd.honeycomb.northbound.NetconfConfiguration;
+import io.fd.honeycomb.notification.impl.NotificationReplayBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provides replay log of HONEYCOMB_NETCONF notification stream. The log is used only if replay is enabled.
+ */
+public final class NotificationReplayBufferProvider extends ProviderTrait<NotificationReplayBuffer> {
+
+    @Inject
+    private NetconfConfiguration cfgAttributes;
+
+    @Override
+    protected NotificationReplayBuffer create() {
+        final NotificationReplayBuffer.NotificationReplayBufferBuilder builder =
+                new NotificationReplayBuffer.NotificationReplayBufferBuilder();
+        if (cfgAttributes.isNetconfNotificationReplayEnabled()) {
+            builder.withMaxEntries(cfgAttributes.netconfNotificationReplayMaxEntries.get())
+                    .withMaxBytes(cfgAttributes.netconfNotificationReplayMaxBytes.get())
+                    .withMaxAge(cfgAttributes.netconfNotificationReplayMaxAgeSeconds.get(), TimeUnit.SECONDS);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.northbound.netconf;
+
+import io.fd.honeycomb.notification.impl.NotificationReplayBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+import org.opendaylight.netconf.api.DocumentedException;
+import org.opendaylight.netconf.api.NetconfMessage;
+import org.opendaylight.netconf.api.NetconfSession;
+import org.opendaylight.netconf.api.xml.XmlElement;
+import org.opendaylight.netconf.api.xml.XmlNetconfConstants;
+import org.opendaylight.netconf.api.xml.XmlUtil;
+import org.opendaylight.netconf.mapping.api.SessionAwareNetconfOperation;
+import org.opendaylight.netconf.mdsal.notification.impl.NetconfNotificationManager;
+import org.opendaylight.netconf.notifications.NetconfNotification;
+import org.opendaylight.netconf.notifications.NetconfNotificationListener;
+import org.opendaylight.netconf.notifications.NetconfNotificationRegistry;
+import org.opendaylight.netconf.notifications.NotificationListenerRegistration;
+import org.opendaylight.netconf.util.mapping.AbstractSingletonNetconfOperation;
+import org.opendaylight.netconf.util.messages.SubtreeFilter;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714.CreateSubscriptionInput;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714.StreamNameType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Create-subscription operation supporting RFC 5277 replay (startTime and stopTime) for streams with a
+ * {@link NotificationReplayBuffer}. Subscriptions without startTime behave the same as in ODL's notification
+ * operation.
+ */
+final class ReplayingCreateSubscription extends AbstractSingletonNetconfOperation
+        implements SessionAwareNetconfOperation, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReplayingCreateSubscription.class);
+
+    static final String CREATE_SUBSCRIPTION = "create-subscription";
+    private static final String START_TIME = "startTime";
+    private static final String STOP_TIME = "stopTime";
+    private static final String NETMOD_NOTIFICATION_NAMESPACE = "urn:ietf:params:xml:ns:netmod:notification";
+    private static final String REPLAY_COMPLETE = "replayComplete";
+    private static final String NOTIFICATION_COMPLETE = "notificationComplete";
+
+    private final NetconfNotificationRegistry notifications;
+    private final Map<StreamNameType, NotificationReplayBuffer> replayBuffers;
+    private final ScheduledExecutorService stopScheduler;
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    private NetconfSession netconfSession;
+
+    ReplayingCreateSubscription(final String netconfSessionIdForReporting,
+                                final NetconfNotificationRegistry notifications,
+                                final Map<StreamNameType, NotificationReplayBuffer> replayBuffers,
+                                final ScheduledExecutorService stopScheduler) {
+        super(netconfSessionIdForReporting);
+        this.notifications = notifications;
+        this.replayBuffers = replayBuffers;
+        this.stopScheduler = stopScheduler;
+    }
+
+    @Override
+    protected Element handleWithNoSubsequentOperations(final Document document, final XmlElement operationElement)
+            throws DocumentedException {
+        operationElement.checkName(CREATE_SUBSCRIPTION);
+        operationElement.checkNamespace(CreateSubscriptionInput.QNAME.getNamespace().toString());
+
+        final Optional<XmlElement> filter = operationElement.getOnlyChildElementWithSameNamespaceOptionally("filter");
+        final StreamNameType streamNameType = parseStreamIfPresent(operationElement);
+        final Optional<Instant> startTime = parseTimeIfPresent(operationElement, START_TIME);
+        final Optional<Instant> stopTime = parseTimeIfPresent(operationElement, STOP_TIME);
+        final NotificationReplayBuffer replayBuffer = replayBuffers.get(streamNameType);
+
+        if (stopTime.isPresent() && !startTime.isPresent()) {
+            throw badElement("stopTime cannot be used without startTime", STOP_TIME);
+        }
+        if (startTime.isPresent()) {
+            if (replayBuffer == null) {
+                throw badElement("Replay is not supported by stream " + streamNameType.getValue(), START_TIME);
+            }
+            if (startTime.get().isAfter(Instant.now())) {
+                throw badElement("startTime cannot be later than current time", START_TIME);
+            }
+            if (stopTime.isPresent() && stopTime.get().isBefore(startTime.get())) {
+                throw badElement("stopTime cannot be earlier than startTime", STOP_TIME);
+            }
+        }
+
+        if (!notifications.isStreamAvailable(streamNameType)) {
+            LOG.warn("Registering premature stream {}. No publisher available yet for session {}", streamNameType,
+                    getNetconfSessionIdForReporting());
+        }
+
+        final Subscription subscription =
+                new Subscription(netconfSession, filter, stopTime.orElse(null));
+        if (startTime.isPresent()) {
+            // Registration happens atomically with taking the snapshot of replay log, live notifications are held back
+            // until replayed ones are sent
+            final List<NetconfMessage> replayed = replayBuffer.replay(startTime.get(), stopTime.orElse(null),
+                    alreadyReplayed -> {
+                        if (!subscription.isComplete()) {
+                            subscription.startReplay(alreadyReplayed);
+                            subscription.register(
+                                    notifications.registerNotificationListener(streamNameType, subscription));
+                        }
+                    });
+            subscription.finishReplay(replayed);
+            if (stopTime.isPresent()) {
+                subscription.scheduleStop(stopScheduler);
+            }
+        } else {
+            subscription.register(notifications.registerNotificationListener(streamNameType, subscription));
+        }
+        subscriptions.add(subscription);
+        return document.createElement(XmlNetconfConstants.OK);
+    }
+
+    private static StreamNameType parseStreamIfPresent(final XmlElement operationElement) throws DocumentedException {
+        final Optional<XmlElement> stream = operationElement.getOnlyChildElementWithSameNamespaceOptionally("stream");
+        return stream.isPresent()
+                ? new StreamNameType(stream.get().getTextContent())
+                : NetconfNotificationManager.BASE_STREAM_NAME;
+    }
+
+    private static Optional<Instant> parseTimeIfPresent(final XmlElement operationElement, final String name)
+            throws DocumentedException {
+        final Optional<XmlElement> time = operationElement.getOnlyChildElementWithSameNamespaceOptionally(name);
+        if (!time.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(NetconfNotification.RFC3339_DATE_PARSER.apply(time.get().getTextContent()).toInstant());
+        } catch (RuntimeException e) {
+            throw badElement("Invalid " + name + ": " + e.getMessage(), name);
+        }
+    }
+
+    private static DocumentedException badElement(final String message, final String element) {
+        return new DocumentedException(message, DocumentedException.ErrorType.PROTOCOL,
+                DocumentedException.ErrorTag.BAD_ELEMENT, DocumentedException.ErrorSeverity.ERROR,
+                Collections.singletonMap("bad-element", element));
+    }
+
+    @Override
+    protected String getOperationName() {
+        return CREATE_SUBSCRIPTION;
+    }
+
+    @Override
+    protected String getOperationNamespace() {
+        return CreateSubscriptionInput.QNAME.getNamespace().toString();
+    }
+
+    @Override
+    public void setSession(final NetconfSession session) {
+        this.netconfSession = session;
+    }
+
+    @Override
+    public void close() {
+        for (Subscription subscription : subscriptions) {
+            subscription.close();
+        }
+    }
+
+    private static final class Subscription implements NetconfNotificationListener, AutoCloseable {
+        private final NetconfSession currentSession;
+        private final Optional<XmlElement> filter;
+        @Nullable
+        private final Instant stopTime;
+        private NotificationListenerRegistration registration;
+        private boolean complete;
+        /**
+         * Matches notifications included in the replay, that might still be delivered as live notifications.
+         */
+        @Nullable
+        private Predicate<NetconfNotification> alreadyReplayed;
+        /**
+         * Live notifications received while replay is in progress.
+         */
+        @Nullable
+        private List<NetconfNotification> pending;
+        @Nullable
+        private ScheduledFuture<?> stopTask;
+
+        Subscription(final NetconfSession currentSession, final Optional<XmlElement> filter,
+                     @Nullable final Instant stopTime) {
+            this.currentSession = currentSession;
+            this.filter = filter;
+            this.stopTime = stopTime;
+            // subscription with stop time in the past completes right after replay
+            this.complete = stopTime != null && !stopTime.isAfter(Instant.now());
+        }
+
+        synchronized void register(final NotificationListenerRegistration registration) {
+            this.registration = registration;
+        }
+
+        synchronized boolean isComplete() {
+            return complete;
+        }
+
+        synchronized void startReplay(final Predicate<NetconfNotification> alreadyReplayed) {
+            this.alreadyReplayed = alreadyReplayed;
+            this.pending = new ArrayList<>();
+        }
+
+        /**
+         * Sends replayed notifications followed by replayComplete, and then live notifications received meanwhile.
+         */
+        void finishReplay(final List<NetconfMessage> replayed) {
+            replayed.forEach(this::sendReplayed);
+            synchronized (this) {
+                sendComplete(REPLAY_COMPLETE);
+                if (complete) {
+                    sendComplete(NOTIFICATION_COMPLETE);
+                    return;
+                }
+                final List<NetconfNotification> live = pending;
+                pending = null;
+                live.forEach(this::deliver);
+            }
+        }
+
+        /**
+         * Completes the subscription at its stop time, even if no further notification is published.
+         */
+        synchronized void scheduleStop(final ScheduledExecutorService scheduler) {
+            if (!complete) {
+                stopTask = scheduler.schedule(this::stop,
+                        Math.max(0, stopTime.toEpochMilli() - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void stop() {
+            synchronized (this) {
+                if (!complete) {
+                    complete = true;
+                    sendComplete(NOTIFICATION_COMPLETE);
+                }
+            }
+            closeRegistration();
+        }
+
+        @Override
+        public synchronized void onNotification(final StreamNameType stream, final NetconfNotification notification) {
+            if (complete || (alreadyReplayed != null && alreadyReplayed.test(notification))) {
+                return;
+            }
+            if (pending != null) {
+                pending.add(notification);
+                return;
+            }
+            deliver(notification);
+        }
+
+        private void deliver(final NetconfNotification notification) {
+            if (stopTime != null && notification.getEventTime().toInstant().isAfter(stopTime)) {
+                // registration is closed by the stop task or with the operation, not from within notification delivery
+                complete = true;
+                sendComplete(NOTIFICATION_COMPLETE);
+                return;
+            }
+            send(notification, notification.getEventTime());
+        }
+
+        void sendReplayed(final NetconfMessage message) {
+            if (!filter.isPresent()) {
+                currentSession.sendMessage(message);
+                return;
+            }
+            final Element eventTime = (Element) message.getDocument().getDocumentElement()
+                    .getElementsByTagNameNS(NetconfNotification.NOTIFICATION_NAMESPACE, NetconfNotification.EVENT_TIME)
+                    .item(0);
+            send(message, NetconfNotification.RFC3339_DATE_PARSER.apply(eventTime.getTextContent()));
+        }
+
+        private void send(final NetconfMessage notification, final Date eventTime) {
+            try {
+                if (filter.isPresent()) {
+                    final Optional<Document> filtered =
+                            SubtreeFilter.applySubtreeNotificationFilter(filter.get(), notification.getDocument());
+                    if (filtered.isPresent()) {
+                        currentSession.sendMessage(new NetconfNotification(filtered.get(), eventTime));
+                    }
+                } else {
+                    currentSession.sendMessage(notification);
+                }
+            } catch (DocumentedException e) {
+                LOG.warn("Failed to process notification {}", notification, e);
+                currentSession.sendMessage(notification);
+            }
+        }
+
+        void sendComplete(final String name) {
+            final Document document = XmlUtil.newDocument();
+            document.appendChild(document.createElementNS(NETMOD_NOTIFICATION_NAMESPACE, name));
+            currentSession.sendMessage(new NetconfNotification(document));
+        }
+
+        /**
+         * Registration is closed outside of subscription's lock, since notification delivery holds registry's lock
+         * while calling {@link #onNotification(StreamNameType, NetconfNotification)}.
+         */
+        private void closeRegistration() {
+            final NotificationListenerRegistration toClose;
+            synchronized (this) {
+                toClose = registration;
+                registration = null;
+            }
+            if (toClose != null) {
+                toClose.close();
+            }
+        }
+
+        @Override
+        public void close() {
+            synchronized (this) {
+                complete = true;
+                if (stopTask != null) {
+                    stopTask.cancel(false);
+                }
+            }
+            closeRegistration();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.northbound.netconf;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.fd.honeycomb.notification.impl.NotificationReplayBuffer;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.opendaylight.netconf.api.capability.Capability;
+import org.opendaylight.netconf.api.monitoring.CapabilityListener;
+import org.opendaylight.netconf.mapping.api.NetconfOperation;
+import org.opendaylight.netconf.mapping.api.NetconfOperationService;
+import org.opendaylight.netconf.mapping.api.NetconfOperationServiceFactory;
+import org.opendaylight.netconf.mapping.api.NetconfOperationServiceFactoryListener;
+import org.opendaylight.netconf.notifications.NetconfNotificationRegistry;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714.StreamNameType;
+
+/**
+ * Replacement of ODL's notification operation service factory, providing create-subscription with replay support
+ * for streams backed by {@link NotificationReplayBuffer}.
+ */
+final class ReplayingNotificationOperationServiceFactory implements NetconfOperationServiceFactory, AutoCloseable {
+
+    private final NetconfNotificationRegistry netconfNotificationRegistry;
+    private final NetconfOperationServiceFactoryListener netconfOperationServiceFactoryListener;
+    private final Map<StreamNameType, NotificationReplayBuffer> replayBuffers;
+    private final ScheduledExecutorService stopScheduler = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("netconf-subscription-stop-%d").setDaemon(true).build());
+
+    ReplayingNotificationOperationServiceFactory(
+            final NetconfNotificationRegistry netconfNotificationRegistry,
+            final NetconfOperationServiceFactoryListener netconfOperationServiceFactoryListener,
+            final Map<StreamNameType, NotificationReplayBuffer> replayBuffers) {
+        this.netconfNotificationRegistry = netconfNotificationRegistry;
+        this.netconfOperationServiceFactoryListener = netconfOperationServiceFactoryListener;
+        this.replayBuffers = ImmutableMap.copyOf(replayBuffers);
+        this.netconfOperationServiceFactoryListener.onAddNetconfOperationServiceFactory(this);
+    }
+
+    @Override
+    public Set<Capability> getCapabilities() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public NetconfOperationService createService(final String netconfSessionIdForReporting) {
+        final ReplayingCreateSubscription createSubscription =
+                new ReplayingCreateSubscription(netconfSessionIdForReporting, netconfNotificationRegistry,
+                        replayBuffers, stopScheduler);
+        return new NetconfOperationService() {
+            @Override
+            public Set<NetconfOperation> getNetconfOperations() {
+                return Collections.singleton(createSubscription);
+            }
+
+            @Override
+            public void close() {
+                createSubscription.close();
+            }
+        };
+    }
+
+    @Override
+    public AutoCloseable registerCapabilityListener(final CapabilityListener listener) {
+        return () -> {
+        };
+    }
+
+    @Override
+    public void close() {
+        netconfOperationServiceFactoryListener.onRemoveNetconfOperationServiceFactory(this);
+        stopScheduler.shutdownNow();
+    }
+}
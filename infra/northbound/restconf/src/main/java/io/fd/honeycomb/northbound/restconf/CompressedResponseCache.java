@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.northbound.restconf;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTree;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches gzip compressed responses of RESTCONF config data GETs, so that repeated reads of unchanged config are
+ * compressed only once.
+ *
+ * <p>Entries are valid for a single revision of config data. Config data tree is immutable, every commit replaces
+ * its root node, so identity of the root node identifies the revision. All entries are dropped once the revision
+ * changes.
+ *
+ * <p>Only successful responses to requests accepting gzip encoding with non-zero quality are cached. Responses are
+ * keyed by request path, query and accepted media types.
+ */
+@ThreadSafe
+final class CompressedResponseCache implements Filter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CompressedResponseCache.class);
+
+    private static final String GET = "GET";
+    private static final String CONFIG_PATH = "/config";
+    private static final String GZIP = "gzip";
+    private static final String WILDCARD = "*";
+    private static final String QUALITY = "q=";
+    private static final String ACCEPT = "Accept";
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final String CONTENT_LENGTH = "Content-Length";
+    private static final String VARY = "Vary";
+
+    private final DataTree configDataTree;
+    private final int compressionLevel;
+    private final int minSize;
+    private final Cache<String, CachedResponse> responses;
+
+    @GuardedBy("this")
+    private WeakReference<Object> revisionRoot = new WeakReference<>(null);
+    @GuardedBy("this")
+    private long revision;
+
+    /**
+     * @param compressionLevel deflater compression level
+     * @param minSize          minimal size of response to be compressed
+     * @param maxBytes         maximal total size of compressed responses in the cache
+     */
+    CompressedResponseCache(final DataTree configDataTree, final int compressionLevel, final int minSize,
+                            final long maxBytes) {
+        this.configDataTree = configDataTree;
+        this.compressionLevel = compressionLevel;
+        this.minSize = minSize;
+        this.responses = CacheBuilder.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedResponse response) -> response.body.length)
+                .build();
+    }
+
+    @Override
+    public void init(final FilterConfig filterConfig) {
+        // NOOP
+    }
+
+    @Override
+    public void doFilter(final ServletRequest request, final ServletResponse response, final FilterChain chain)
+            throws IOException, ServletException {
+        if (!isCacheable(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        final HttpServletRequest httpRequest = (HttpServletRequest) request;
+        final HttpServletResponse httpResponse = (HttpServletResponse) response;
+        final String key = getKey(httpRequest);
+        // Revision is taken before the read, response read after a commit is at worst cached as stale revision
+        final long currentRevision = getRevision();
+
+        final CachedResponse cached = responses.getIfPresent(key);
+        if (cached != null && cached.revision == currentRevision) {
+            LOG.debug("Serving compressed response of {} from cache", key);
+            httpResponse.setStatus(HttpServletResponse.SC_OK);
+            httpResponse.setContentType(cached.contentType);
+            writeCompressed(httpResponse, cached.body);
+            return;
+        }
+
+        final BufferingResponse buffered = new BufferingResponse(httpResponse);
+        chain.doFilter(request, buffered);
+        if (httpResponse.isCommitted()) {
+            // error already sent
+            return;
+        }
+        final byte[] body = buffered.getBody();
+        if (buffered.getStatus() != HttpServletResponse.SC_OK || body.length < minSize) {
+            httpResponse.setContentLength(body.length);
+            httpResponse.getOutputStream().write(body);
+            return;
+        }
+        final byte[] compressed = compress(body);
+        responses.put(key, new CachedResponse(currentRevision, httpResponse.getContentType(), compressed));
+        LOG.debug("Caching compressed response of {}, {} bytes compressed to {}", key, body.length,
+                compressed.length);
+        writeCompressed(httpResponse, compressed);
+    }
+
+    private static boolean isCacheable(final ServletRequest request) {
+        if (!(request instanceof HttpServletRequest)) {
+            return false;
+        }
+        final HttpServletRequest httpRequest = (HttpServletRequest) request;
+        final String path = getPath(httpRequest);
+        return GET.equals(httpRequest.getMethod())
+                && acceptsGzip(Collections.list(httpRequest.getHeaders(ACCEPT_ENCODING)))
+                && (path.equals(CONFIG_PATH) || path.startsWith(CONFIG_PATH + "/"));
+    }
+
+    /**
+     * Checks whether Accept-Encoding header values accept gzip, i.e. whether gzip or a wildcard is listed with
+     * non-zero quality. Explicitly listed gzip takes precedence over the wildcard.
+     */
+    @VisibleForTesting
+    static boolean acceptsGzip(@Nonnull final List<String> acceptEncodings) {
+        double gzipQuality = -1;
+        double wildcardQuality = -1;
+        for (String acceptEncoding : acceptEncodings) {
+            for (String coding : acceptEncoding.split(",")) {
+                final String[] params = coding.split(";");
+                final String name = params[0].trim().toLowerCase(Locale.ROOT);
+                if (GZIP.equals(name)) {
+                    gzipQuality = Math.max(gzipQuality, getQuality(params));
+                } else if (WILDCARD.equals(name)) {
+                    wildcardQuality = Math.max(wildcardQuality, getQuality(params));
+                }
+            }
+        }
+        return gzipQuality >= 0
+                ? gzipQuality > 0
+                : wildcardQuality > 0;
+    }
+
+    private static double getQuality(final String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            final String param = params[i].trim().toLowerCase(Locale.ROOT);
+            if (param.startsWith(QUALITY)) {
+                try {
+                    final double quality = Double.parseDouble(param.substring(QUALITY.length()).trim());
+                    return quality >= 0 && quality <= 1
+                            ? quality
+                            : 0;
+                } catch (NumberFormatException e) {
+                    // invalid quality value makes the coding unacceptable
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static String getPath(final HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static String getKey(final HttpServletRequest request) {
+        return getPath(request) + '?' + request.getQueryString() + ' ' + request.getHeader(ACCEPT);
+    }
+
+    private synchronized long getRevision() {
+        final Object root = configDataTree.takeSnapshot().readNode(YangInstanceIdentifier.EMPTY).orElse(null);
+        if (root != revisionRoot.get()) {
+            // root is referenced weakly, not to retain old config data. Collected root just causes a cache miss.
+            revisionRoot = new WeakReference<>(root);
+            revision++;
+            responses.invalidateAll();
+        }
+        return revision;
+    }
+
+    private byte[] compress(final byte[] body) throws IOException {
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new LeveledGzipOutputStream(compressed, compressionLevel)) {
+            gzip.write(body);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static void writeCompressed(final HttpServletResponse response, final byte[] compressed)
+            throws IOException {
+        response.setHeader(CONTENT_ENCODING, GZIP);
+        response.addHeader(VARY, ACCEPT_ENCODING);
+        response.setContentLength(compressed.length);
+        response.getOutputStream().write(compressed);
+    }
+
+    @Override
+    public void destroy() {
+        responses.invalidateAll();
+    }
+
+    private static final class CachedResponse {
+        private final long revision;
+        private final String contentType;
+        private final byte[] body;
+
+        private CachedResponse(final long revision, final String contentType, final byte[] body) {
+            this.revision = revision;
+            this.contentType = contentType;
+            this.body = body;
+        }
+    }
+
+    private static final class LeveledGzipOutputStream extends GZIPOutputStream {
+        private LeveledGzipOutputStream(final ByteArrayOutputStream out, final int level) throws IOException {
+            super(out);
+            def.setLevel(level);
+        }
+    }
+
+    /**
+     * Collects response body, so that it can be compressed and cached once complete.
+     */
+    private static final class BufferingResponse extends HttpServletResponseWrapper {
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private ServletOutputStream stream;
+        private PrintWriter writer;
+
+        private BufferingResponse(final HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if (writer != null) {
+                throw new IllegalStateException("Writer already obtained");
+            }
+            if (stream == null) {
+                stream = new ServletOutputStream() {
+                    @Override
+                    public void write(final int value) {
+                        body.write(value);
+                    }
+
+                    @Override
+                    public void write(final byte[] buffer, final int offset, final int length) {
+                        body.write(buffer, offset, length);
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setWriteListener(final WriteListener writeListener) {
+                        throw new UnsupportedOperationException("Asynchronous writes are not supported");
+                    }
+                };
+            }
+            return stream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (stream != null) {
+                throw new IllegalStateException("Output stream already obtained");
+            }
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(body, getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        // Length of the body is set once it is compressed
+
+        @Override
+        public void setContentLength(final int length) {
+            // NOOP
+        }
+
+        @Override
+        public void setContentLengthLong(final long length) {
+            // NOOP
+        }
+
+        @Override
+        public void setHeader(final String name, final String value) {
+            if (!CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(final String name, final String value) {
+            if (!CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public void setIntHeader(final String name, final int value) {
+            if (!CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                super.setIntHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addIntHeader(final String name, final int value) {
+            if (!CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                super.addIntHeader(name, value);
+            }
+        }
+
+        @Override
+        public void flushBuffer() {
+            // Flushing would commit the response before it is compressed
+        }
+
+        @Override
+        public void resetBuffer() {
+            body.reset();
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            body.reset();
+        }
+
+        byte[] getBody() {
+            if (writer != null) {
+                writer.flush();
+            }
+            return body.toByteArray();
+        }
+    }
+}
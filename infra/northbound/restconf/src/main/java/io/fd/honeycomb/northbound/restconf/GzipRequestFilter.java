@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.northbound.restconf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Inflates request bodies sent with gzip content encoding, so that clients can compress large configuration
+ * payloads. Jetty's GzipHandler of the version in use compresses responses only.
+ *
+ * <p>Body is inflated before the request is passed on, up to configured number of bytes. Requests inflating to more
+ * bytes are rejected with 413 (Payload Too Large), malformed gzip bodies with 400 (Bad Request).
+ */
+final class GzipRequestFilter implements Filter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GzipRequestFilter.class);
+
+    private static final String GZIP = "gzip";
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final String CONTENT_LENGTH = "Content-Length";
+    private static final int BUFFER_SIZE = 8192;
+
+    private final long maxInflatedBytes;
+
+    /**
+     * @param maxInflatedBytes maximal size of inflated request body
+     */
+    GzipRequestFilter(final long maxInflatedBytes) {
+        this.maxInflatedBytes = maxInflatedBytes;
+    }
+
+    @Override
+    public void init(final FilterConfig filterConfig) {
+        // NOOP
+    }
+
+    @Override
+    public void doFilter(final ServletRequest request, final ServletResponse response, final FilterChain chain)
+            throws IOException, ServletException {
+        if (!(request instanceof HttpServletRequest)
+                || !GZIP.equalsIgnoreCase(((HttpServletRequest) request).getHeader(CONTENT_ENCODING))) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        final HttpServletResponse httpResponse = (HttpServletResponse) response;
+        final byte[] inflated;
+        try {
+            inflated = inflate(request.getInputStream());
+        } catch (ZipException e) {
+            LOG.debug("Rejecting request with malformed gzip body", e);
+            httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "Malformed gzip request body");
+            return;
+        }
+        if (inflated == null) {
+            LOG.debug("Rejecting request with body inflated to more than {} bytes", maxInflatedBytes);
+            httpResponse.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE,
+                    "Inflated request body exceeds " + maxInflatedBytes + " bytes");
+            return;
+        }
+        chain.doFilter(new InflatedRequest((HttpServletRequest) request, inflated), response);
+    }
+
+    /**
+     * Returns inflated body, or null if it exceeds the limit.
+     */
+    private byte[] inflate(final InputStream compressed) throws IOException {
+        final ByteArrayOutputStream inflated = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream gzip = new GZIPInputStream(compressed)) {
+            int read;
+            while ((read = gzip.read(buffer)) != -1) {
+                if (inflated.size() + (long) read > maxInflatedBytes) {
+                    return null;
+                }
+                inflated.write(buffer, 0, read);
+            }
+        }
+        return inflated.toByteArray();
+    }
+
+    @Override
+    public void destroy() {
+        // NOOP
+    }
+
+    /**
+     * Request with inflated body. Content encoding and length of the compressed body are replaced by length of the
+     * inflated body.
+     */
+    private static final class InflatedRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+        private ServletInputStream stream;
+
+        private InflatedRequest(final HttpServletRequest request, final byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            if (stream == null) {
+                stream = new InflatedInputStream(body);
+            }
+            return stream;
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+
+        @Override
+        public String getHeader(final String name) {
+            if (CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                return String.valueOf(body.length);
+            }
+            return CONTENT_ENCODING.equalsIgnoreCase(name)
+                    ? null
+                    : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(final String name) {
+            if (CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                return Collections.enumeration(Collections.singletonList(String.valueOf(body.length)));
+            }
+            return CONTENT_ENCODING.equalsIgnoreCase(name)
+                    ? Collections.emptyEnumeration()
+                    : super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            final List<String> names = Collections.list(super.getHeaderNames());
+            names.removeIf(CONTENT_ENCODING::equalsIgnoreCase);
+            return Collections.enumeration(names);
+        }
+    }
+
+    private static final class InflatedInputStream extends ServletInputStream {
+        private final ByteArrayInputStream inflated;
+
+        private InflatedInputStream(final byte[] body) {
+            this.inflated = new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public int read() {
+            return inflated.read();
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) {
+            return inflated.read(buffer, offset, length);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return inflated.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setReadListener(final ReadListener readListener) {
+            throw new UnsupportedOperationException("Asynchronous reads of inflated request body are not supported");
+        }
+    }
+}
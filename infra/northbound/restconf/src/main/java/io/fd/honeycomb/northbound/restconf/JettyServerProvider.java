@@ -17,20 +17,26 @@
 package io.fd.honeycomb.northbound.restconf;
 
 import com.google.inject.Inject;
+import com.google.inject.name.Named;
 import io.fd.honeycomb.binding.init.ProviderTrait;
+import io.fd.honeycomb.data.init.ShutdownHandler;
+import io.fd.honeycomb.infra.distro.JmxRegistration;
+import io.fd.honeycomb.infra.distro.data.ConfigAndOperationalPipelineModule;
 import io.fd.honeycomb.northbound.CredentialsConfiguration;
 import java.net.URL;
 import java.util.Collections;
+import java.util.EnumSet;
+import javax.servlet.DispatcherType;
 import org.eclipse.jetty.security.ConstraintMapping;
 import org.eclipse.jetty.security.ConstraintSecurityHandler;
 import org.eclipse.jetty.security.HashLoginService;
 import org.eclipse.jetty.security.authentication.BasicAuthenticator;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.handler.gzip.GzipHandler;
+import org.eclipse.jetty.servlet.FilterHolder;
 import org.eclipse.jetty.servlet.ServletHolder;
 import org.eclipse.jetty.util.security.Constraint;
 import org.eclipse.jetty.util.security.Password;
-import org.eclipse.jetty.util.thread.QueuedThreadPool;
 import org.eclipse.jetty.webapp.WebAppContext;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.servlet.ServletContainer;
@@ -42,6 +48,7 @@ import org.opendaylight.netconf.sal.rest.impl.RestconfDocumentedExceptionMapper;
 import org.opendaylight.netconf.sal.rest.impl.XmlNormalizedNodeBodyReader;
 import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
 import org.opendaylight.netconf.sal.restconf.impl.RestconfImpl;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTree;
 
 final class JettyServerProvider extends ProviderTrait<Server> {
 
@@ -69,9 +76,22 @@ final class JettyServerProvider extends ProviderTrait<Server> {
     @Inject
     private ControllerContext controllerContext;
 
+    @Inject
+    private RestconfRpcBatchService rpcBatchService;
+
+    @Inject
+    private RestconfStreamingReadService streamingReadService;
+
+    @Inject
+    @Named(ConfigAndOperationalPipelineModule.HONEYCOMB_CONFIG)
+    private DataTree configDataTree;
+
+    @Inject
+    private ShutdownHandler shutdownHandler;
+
     @Override
     protected Server create() {
-        Server server = new Server(new QueuedThreadPool(cfg.restPoolMaxSize.get(), cfg.restPoolMinSize.get()));
+        Server server = new Server(getThreadPool());
 
         // Load Realm for basic auth
         HashLoginService service = new HashLoginService(REALM);
@@ -89,7 +109,8 @@ final class JettyServerProvider extends ProviderTrait<Server> {
         resourceConfig = resourceConfig.registerInstances(restconf, new NormalizedNodeJsonBodyWriter(),
                 new NormalizedNodeXmlBodyWriter(), new XmlNormalizedNodeBodyReader(controllerContext),
                 new JsonNormalizedNodeBodyReader(controllerContext),
-                new RestconfDocumentedExceptionMapper(controllerContext));
+                new RestconfDocumentedExceptionMapper(controllerContext), rpcBatchService,
+                streamingReadService);
         // register Restconf Application classes
         resourceConfig.registerClasses(restconfApplication.getClasses());
 
@@ -101,14 +122,34 @@ final class JettyServerProvider extends ProviderTrait<Server> {
         // set service handler
         server.setHandler(getGzip(service, webapp));
 
+        // add filters, in order of processing
+        if (cfg.isGzipRequestInflationEnabled()) {
+            webapp.addFilter(new FilterHolder(new GzipRequestFilter(cfg.gzipMaxInflatedBytes.get())), "/*",
+                    EnumSet.of(DispatcherType.REQUEST));
+        }
+        if (cfg.gzipResponseCacheSize.get() > 0) {
+            webapp.addFilter(new FilterHolder(new CompressedResponseCache(configDataTree,
+                    cfg.gzipCompressionLevel.get(), cfg.gzipMinSize.get(), cfg.gzipResponseCacheSize.get())),
+                    "/*", EnumSet.of(DispatcherType.REQUEST));
+        }
+
         //add servlet with "/*" mapping
         webapp.addServlet(servletHolder, "/*");
         return server;
     }
 
+    private RestconfThreadPool getThreadPool() {
+        final RestconfThreadPool threadPool = new RestconfThreadPool(cfg.restPoolMaxSize.get(),
+                cfg.restPoolMinSize.get(), cfg.restPoolIdleTimeout.get(), cfg.restPoolQueueSize.get());
+        JmxRegistration.register(threadPool, RestconfThreadPool.OBJECT_NAME, shutdownHandler);
+        return threadPool;
+    }
+
     private GzipHandler getGzip(final HashLoginService service, final WebAppContext webapp) {
         final GzipHandler gzipHandler = new GzipHandler();
         gzipHandler.setIncludedMimeTypes(GZIP_MIME_TYPES);
+        gzipHandler.setCompressionLevel(cfg.gzipCompressionLevel.get());
+        gzipHandler.setMinGzipSize(cfg.gzipMinSize.get());
         gzipHandler.setHandler(getBaseAuth(service, webapp));
         return gzipHandler;
     }
@@ -65,6 +65,16 @@ public class RestconfConfiguration {
     public Optional<Integer> restPoolMaxSize = Optional.of(10);
     @InjectConfig("restconf-pool-min-size")
     public Optional<Integer> restPoolMinSize = Optional.of(1);
+    /**
+     * Time after which idle threads above minimum pool size are released
+     */
+    @InjectConfig("restconf-pool-idle-timeout-ms")
+    public Optional<Integer> restPoolIdleTimeout = Optional.of(60000);
+    /**
+     * Maximum number of requests waiting for a thread, unlimited if not positive
+     */
+    @InjectConfig("restconf-pool-queue-size")
+    public Optional<Integer> restPoolQueueSize = Optional.of(0);
     @InjectConfig("restconf-acceptors-size")
     public Optional<Integer> acceptorsSize = Optional.of(1);
     @InjectConfig("restconf-selectors-size")
@@ -73,6 +83,39 @@ public class RestconfConfiguration {
     public Optional<Integer> httpsAcceptorsSize = Optional.of(1);
     @InjectConfig("restconf-https-selectors-size")
     public Optional<Integer> httpsSelectorsSize = Optional.of(1);
+    /**
+     * Deflater compression level of gzip compressed responses, -1 for default level
+     */
+    @InjectConfig("restconf-gzip-compression-level")
+    public Optional<Integer> gzipCompressionLevel = Optional.of(-1);
+    /**
+     * Minimal size of response in bytes to be compressed
+     */
+    @InjectConfig("restconf-gzip-min-size")
+    public Optional<Integer> gzipMinSize = Optional.of(16);
+    /**
+     * Whether request bodies with gzip content encoding should be inflated
+     */
+    @InjectConfig("restconf-gzip-inflate-requests")
+    public Optional<String> gzipInflateRequests = Optional.of("false");
+    /**
+     * Maximal size in bytes of inflated request body, larger requests are rejected with 413 (Payload Too Large)
+     */
+    @InjectConfig("restconf-gzip-max-inflated-bytes")
+    public Optional<Integer> gzipMaxInflatedBytes = Optional.of(10485760);
+    /**
+     * Maximal total size in bytes of compressed config GET responses cached until config data changes,
+     * 0 disables the cache
+     */
+    @InjectConfig("restconf-gzip-response-cache-size")
+    public Optional<Integer> gzipResponseCacheSize = Optional.of(0);
+    /**
+     * Maximum number of RPCs of a single batch invoked at the same time
+     */
+    @InjectConfig("restconf-rpc-batch-parallelism")
+    public Optional<Integer> rpcBatchParallelism = Optional.of(8);
+    @InjectConfig("restconf-rpc-batch-max-size")
+    public Optional<Integer> rpcBatchMaxSize = Optional.of(1000);
 
     public boolean isRestconfHttpEnabled() {
         return Boolean.valueOf(restconfHttp);
@@ -82,6 +125,10 @@ public class RestconfConfiguration {
         return Boolean.valueOf(restconfHttps);
     }
 
+    public boolean isGzipRequestInflationEnabled() {
+        return gzipInflateRequests.isPresent() && Boolean.valueOf(gzipInflateRequests.get());
+    }
+
     public boolean isRestconfEnabled() {
         return isRestconfHttpEnabled() || isRestconfHttpsEnabled();
     }
@@ -105,10 +152,19 @@ public class RestconfConfiguration {
             ", restconfRootPath=" + restconfRootPath +
             ", restPoolMaxSize=" + restPoolMaxSize +
             ", restPoolMinSize=" + restPoolMinSize +
+            ", restPoolIdleTimeout=" + restPoolIdleTimeout +
+            ", restPoolQueueSize=" + restPoolQueueSize +
             ", acceptorsSize=" + acceptorsSize +
             ", selectorsSize=" + selectorsSize +
             ", httpsAcceptorsSize=" + httpsAcceptorsSize +
             ", httpsSelectorsSize=" + httpsSelectorsSize +
+            ", gzipCompressionLevel=" + gzipCompressionLevel +
+            ", gzipMinSize=" + gzipMinSize +
+            ", gzipInflateRequests=" + gzipInflateRequests +
+            ", gzipMaxInflatedBytes=" + gzipMaxInflatedBytes +
+            ", gzipResponseCacheSize=" + gzipResponseCacheSize +
+            ", rpcBatchParallelism=" + rpcBatchParallelism +
+            ", rpcBatchMaxSize=" + rpcBatchMaxSize +
             '}';
     }
 }
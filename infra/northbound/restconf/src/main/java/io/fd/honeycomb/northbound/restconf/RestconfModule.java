@@ -58,6 +58,9 @@ public class RestconfModule extends NorthboundAbstractModule<RestconfConfigurati
         bind(StatisticsRestconfServiceWrapper.class)
                 .toProvider(StatisticsRestconfServiceWrapperProvider.class).in(Singleton.class);
         bind(RestconfApplication.class).toProvider(RestconfApplicationProvider.class).in(Singleton.class);
+        bind(RestconfRpcBatchService.class).toProvider(RestconfRpcBatchServiceProvider.class).in(Singleton.class);
+        bind(RestconfStreamingReadService.class).toProvider(RestconfStreamingReadServiceProvider.class)
+                .in(Singleton.class);
         bind(Server.class).toProvider(JettyServerProvider.class).in(Singleton.class);
         bind(ServerConnector.class).annotatedWith(Names.named(RESTCONF_HTTP))
                 .toProvider(HttpConnectorProvider.class)
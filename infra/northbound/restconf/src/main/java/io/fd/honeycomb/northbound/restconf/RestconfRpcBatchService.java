@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.honeycomb.northbound.restconf;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.internal.bind.JsonTreeReader;
+import com.google.gson.stream.JsonWriter;
+import io.fd.honeycomb.rpc.RpcBatchInvoker;
+import io.fd.honeycomb.rpc.RpcBatchInvoker.RpcBatchResult;
+import io.fd.honeycomb.rpc.RpcBatchInvoker.RpcInvocation;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.InternalServerErrorException;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.ServiceUnavailableException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import org.opendaylight.mdsal.dom.api.DOMRpcResult;
+import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
+import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
+import org.opendaylight.restconf.common.errors.RestconfDocumentedException;
+import org.opendaylight.restconf.common.errors.RestconfError;
+import org.opendaylight.yangtools.yang.common.RpcError;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JsonParserStream;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.NormalizedNodeResult;
+import org.opendaylight.yangtools.yang.model.api.RpcDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * RESTCONF extension invoking multiple RPCs in a single request, to save per request HTTP overhead for clients
+ * invoking many small RPCs. RPCs are invoked using {@link RpcBatchInvoker}, results are returned in the order
+ * of invocations. Failure of an invocation is reported in its result and does not fail the whole request.
+ *
+ * <p>Request (input is optional, same as input of the RPC invoked over RESTCONF):
+ * <pre>
+ * {"invocations": [{"rpc": "module:rpc-name", "input": {...}}, ...]}
+ * </pre>
+ *
+ * <p>Response (output is present only if the RPC has output):
+ * <pre>
+ * {"results": [{"rpc": "module:rpc-name", "output": {...}}, {"rpc": "module:rpc-name", "error": "..."}, ...]}
+ * </pre>
+ *
+ * <p>Inputs are parsed from the request JSON tree and outputs are written directly to the response, without
+ * intermediate serialization. Since the response is streamed, failure to serialize an output aborts the response.
+ */
+@Path("/operations-batch")
+public final class RestconfRpcBatchService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RestconfRpcBatchService.class);
+
+    private static final String INVOCATIONS = "invocations";
+    private static final String RESULTS = "results";
+    private static final String RPC = "rpc";
+    private static final String INPUT = "input";
+    private static final String OUTPUT = "output";
+    private static final String ERROR = "error";
+
+    private final ControllerContext controllerContext;
+    private final RpcBatchInvoker invoker;
+    private final int maxSize;
+
+    RestconfRpcBatchService(final ControllerContext controllerContext, final RpcBatchInvoker invoker,
+                            final int maxSize) {
+        this.controllerContext = controllerContext;
+        this.invoker = invoker;
+        this.maxSize = maxSize;
+    }
+
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    public StreamingOutput invokeRpcs(final String body) {
+        final JsonArray invocations = parseInvocations(body);
+        LOG.debug("Invoking batch of {} RPCs", invocations.size());
+
+        // Invocations which cannot be parsed are reported in place, the rest is invoked
+        final List<BatchEntry> entries = new ArrayList<>(invocations.size());
+        final List<RpcInvocation> parsed = new ArrayList<>(invocations.size());
+        for (JsonElement invocation : invocations) {
+            final BatchEntry entry = parseInvocation(invocation);
+            if (entry.error == null) {
+                parsed.add(new RpcInvocation(entry.rpc.getPath(), entry.input));
+            }
+            entries.add(entry);
+        }
+
+        final List<RpcBatchResult> results = invoke(parsed);
+        return output -> writeResults(entries, results, output);
+    }
+
+    private JsonArray parseInvocations(final String body) {
+        final JsonElement invocations;
+        try {
+            final JsonElement root = new JsonParser().parse(body);
+            invocations = root.isJsonObject()
+                    ? root.getAsJsonObject().get(INVOCATIONS)
+                    : null;
+        } catch (JsonParseException e) {
+            throw badRequest("Invalid RPC batch: " + e.getMessage());
+        }
+        if (invocations == null || !invocations.isJsonArray()) {
+            throw badRequest("RPC batch has to contain " + INVOCATIONS + " array");
+        }
+        if (invocations.getAsJsonArray().size() > maxSize) {
+            throw badRequest("RPC batch cannot contain more than " + maxSize + " invocations");
+        }
+        return invocations.getAsJsonArray();
+    }
+
+    private BatchEntry parseInvocation(final JsonElement invocation) {
+        if (!invocation.isJsonObject()) {
+            return new BatchEntry(null, "Invocation has to be an object");
+        }
+        final JsonElement rpc = invocation.getAsJsonObject().get(RPC);
+        if (rpc == null || !rpc.isJsonPrimitive() || !rpc.getAsJsonPrimitive().isString()) {
+            return new BatchEntry(null, "Invocation has to contain " + RPC + " name");
+        }
+        final String name = rpc.getAsString();
+        try {
+            final InstanceIdentifierContext<?> context = controllerContext.toInstanceIdentifier(name);
+            if (!(context.getSchemaNode() instanceof RpcDefinition)) {
+                return new BatchEntry(name, name + " is not an RPC");
+            }
+            if (context.getMountPoint() != null) {
+                return new BatchEntry(name, "RPCs of mount points cannot be batched");
+            }
+            final RpcDefinition rpcDefinition = (RpcDefinition) context.getSchemaNode();
+            final JsonElement input = invocation.getAsJsonObject().get(INPUT);
+            return new BatchEntry(name, rpcDefinition, context,
+                    input == null ? null : readInput(context, rpcDefinition, input));
+        } catch (RuntimeException e) {
+            LOG.debug("Unable to parse invocation of RPC {}", name, e);
+            return new BatchEntry(name, errorMessage(e));
+        }
+    }
+
+    private static NormalizedNode<?, ?> readInput(final InstanceIdentifierContext<?> context,
+                                                  final RpcDefinition rpc, final JsonElement input) {
+        // Parse input the same way as RESTCONF parses RPC input, but from the already parsed JSON tree
+        final JsonObject payload = new JsonObject();
+        payload.add(INPUT, input);
+        final NormalizedNodeResult result = new NormalizedNodeResult();
+        final NormalizedNodeStreamWriter writer = ImmutableNormalizedNodeStreamWriter.from(result);
+        JsonParserStream.create(writer, getCodecFactory(context), rpc).parse(new JsonTreeReader(payload));
+        return result.getResult();
+    }
+
+    private List<RpcBatchResult> invoke(final List<RpcInvocation> invocations) {
+        try {
+            return invoker.invokeAll(invocations).toCompletableFuture().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while invoking RPC batch");
+        } catch (ExecutionException e) {
+            // Not expected, failures of individual RPCs are part of the results
+            LOG.warn("RPC batch failed", e);
+            throw new InternalServerErrorException("RPC batch failed", e);
+        }
+    }
+
+    private static void writeResults(final List<BatchEntry> entries, final List<RpcBatchResult> results,
+                                     final OutputStream output) throws IOException {
+        final JsonWriter writer = new JsonWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        writer.beginObject();
+        writer.name(RESULTS);
+        writer.beginArray();
+        int resultIndex = 0;
+        for (BatchEntry entry : entries) {
+            if (entry.error == null) {
+                writeResult(writer, entry, results.get(resultIndex++));
+            } else {
+                writeError(writer, entry.name, entry.error);
+            }
+        }
+        writer.endArray();
+        writer.endObject();
+        writer.flush();
+    }
+
+    private static void writeResult(final JsonWriter writer, final BatchEntry entry, final RpcBatchResult result)
+            throws IOException {
+        if (!result.isSuccessful()) {
+            writeError(writer, entry.name, errorMessage(result.getError()));
+            return;
+        }
+        final DOMRpcResult rpcResult = result.getResult();
+        if (rpcResult != null && !rpcResult.getErrors().isEmpty()) {
+            writeError(writer, entry.name, rpcResult.getErrors().stream()
+                    .map(RpcError::getMessage)
+                    .collect(Collectors.joining(", ")));
+            return;
+        }
+        writer.beginObject();
+        writer.name(RPC).value(entry.name);
+        if (rpcResult != null && rpcResult.getResult() != null) {
+            writer.name(OUTPUT);
+            writeOutput(writer, entry, rpcResult.getResult());
+        }
+        writer.endObject();
+    }
+
+    private static void writeOutput(final JsonWriter writer, final BatchEntry entry,
+                                    final NormalizedNode<?, ?> output) throws IOException {
+        // Serialize output the same way as RESTCONF serializes RPC output. Output container itself is unwrapped,
+        // to keep results symmetric with invocation inputs
+        final NormalizedNodeStreamWriter streamWriter = JSONNormalizedNodeStreamWriter.createNestedWriter(
+                getCodecFactory(entry.context), entry.rpc.getOutput().getPath(), entry.rpc.getQName().getNamespace(),
+                writer);
+        final NormalizedNodeWriter nodeWriter = NormalizedNodeWriter.forStreamWriter(streamWriter);
+        writer.beginObject();
+        try {
+            for (DataContainerChild<?, ?> child : ((ContainerNode) output).getValue()) {
+                nodeWriter.write(child);
+            }
+            nodeWriter.flush();
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Unable to serialize output of RPC {}", entry.name, e);
+            throw new IOException("Unable to serialize output of RPC " + entry.name, e);
+        }
+        writer.endObject();
+    }
+
+    private static void writeError(final JsonWriter writer, final String name, final String error)
+            throws IOException {
+        writer.beginObject();
+        if (name != null) {
+            writer.name(RPC).value(name);
+        }
+        writer.name(ERROR).value(error);
+        writer.endObject();
+    }
+
+    private static JSONCodecFactory getCodecFactory(final InstanceIdentifierContext<?> context) {
+        return JSONCodecFactorySupplier.DRAFT_LHOTKA_NETMOD_YANG_JSON_02.getShared(context.getSchemaContext());
+    }
+
+    private static String errorMessage(final Throwable error) {
+        if (error instanceof RestconfDocumentedException
+                && !((RestconfDocumentedException) error).getErrors().isEmpty()) {
+            final RestconfError restconfError = ((RestconfDocumentedException) error).getErrors().get(0);
+            return restconfError.getErrorMessage();
+        }
+        return error.getMessage() != null
+                ? error.getMessage()
+                : error.toString();
+    }
+
+    private static BadRequestException badRequest(final String message) {
+        return new BadRequestException(Response.status(Response.Status.BAD_REQUEST)
+                .type(MediaType.TEXT_PLAIN_TYPE)
+                .entity(message)
+                .build());
+    }
+
+    private static final class BatchEntry {
+        private final String name;
+        private final RpcDefinition rpc;
+        private final InstanceIdentifierContext<?> context;
+        private final NormalizedNode<?, ?> input;
+        private final String error;
+
+        private BatchEntry(final String name, final RpcDefinition rpc, final InstanceIdentifierContext<?> context,
+                           final NormalizedNode<?, ?> input) {
+            this.name = name;
+            this.rpc = rpc;
+            this.context = context;
+            this.input = input;
+            this.error = null;
+        }
+
+        private BatchEntry(final String name, final String error) {
+            this.name = name;
+            this.rpc = null;
+            this.context = null;
+            this.input = null;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.northbound.restconf;
+
+import com.google.gson.stream.JsonWriter;
+import io.fd.honeycomb.data.ReadableDataManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import javax.annotation.Nullable;
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.GET;
+import javax.ws.rs.InternalServerErrorException;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.ServiceUnavailableException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker;
+import org.opendaylight.mdsal.dom.api.DOMDataTreeReadTransaction;
+import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
+import org.opendaylight.restconf.common.context.InstanceIdentifierContext;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.AugmentationIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactorySupplier;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JsonWriterFactory;
+import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.api.SchemaNode;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * RESTCONF extension reading data as JSON without building the whole response first. Data is emitted into the
+ * response as it is read, and the response is flushed (sent as a HTTP chunk) whenever a top level subtree is
+ * complete. Operational datastore root is read per root reader (see
+ * {@link ReadableDataManager#read(YangInstanceIdentifier, NormalizedNodeStreamWriter)}), so neither the whole
+ * operational data nor the whole response is held in memory.
+ *
+ * <p>Paths are the same as paths of RESTCONF data resources, response body is the same as RESTCONF JSON response:
+ * <pre>
+ * GET /data-stream/operational
+ * GET /data-stream/config/module:container/list/key
+ * </pre>
+ *
+ * <p>Query parameters (depth, fields, prettyPrint) and mount points are not supported. Once the response is
+ * started, its status cannot change, so a read failing after that aborts the response.
+ */
+@Path("/data-stream")
+public final class RestconfStreamingReadService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RestconfStreamingReadService.class);
+
+    private static final String CONFIG = "config";
+    private static final String OPERATIONAL = "operational";
+
+    private final ControllerContext controllerContext;
+    private final ReadableDataManager configData;
+    private final ReadableDataManager operationalData;
+
+    RestconfStreamingReadService(final ControllerContext controllerContext, final DOMDataBroker dataBroker,
+                                 final ReadableDataManager operationalData) {
+        this.controllerContext = controllerContext;
+        this.operationalData = operationalData;
+        // Config data is read from the data tree snapshot at once, there is nothing to stream from
+        this.configData = path -> {
+            try (DOMDataTreeReadTransaction tx = dataBroker.newReadOnlyTransaction()) {
+                return tx.read(LogicalDatastoreType.CONFIGURATION, path);
+            }
+        };
+    }
+
+    @GET
+    @Path("/{datastore}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response readRoot(@PathParam("datastore") final String datastore) {
+        final SchemaContext schemaContext = controllerContext.getGlobalSchema();
+        return read(datastore,
+                new InstanceIdentifierContext<>(YangInstanceIdentifier.EMPTY, schemaContext, null, schemaContext));
+    }
+
+    @GET
+    @Path("/{datastore}/{identifier:.+}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response read(@PathParam("datastore") final String datastore,
+                         @PathParam("identifier") final String identifier) {
+        final InstanceIdentifierContext<?> context = controllerContext.toInstanceIdentifier(identifier);
+        if (context.getMountPoint() != null) {
+            throw new BadRequestException(textResponse(Response.Status.BAD_REQUEST,
+                    "Data of mount points cannot be streamed"));
+        }
+        return read(datastore, context);
+    }
+
+    private Response read(final String datastore, final InstanceIdentifierContext<?> context) {
+        final ReadableDataManager data = getData(datastore);
+        final YangInstanceIdentifier path = context.getInstanceIdentifier();
+        final StreamingOutput output = stream -> {
+            LOG.debug("Streaming {} data of {}", datastore, path);
+            final StreamingJsonWriter writer = new StreamingJsonWriter(stream, context);
+            final boolean present;
+            try {
+                present = data.read(path, writer).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServiceUnavailableException("Interrupted while reading " + path);
+            } catch (ExecutionException e) {
+                LOG.warn("Unable to read {} data of {}", datastore, path, e);
+                if (writer.isStarted()) {
+                    throw new IOException("Read failed after response was started, aborting response", e);
+                }
+                throw new InternalServerErrorException(textResponse(Response.Status.INTERNAL_SERVER_ERROR,
+                        "Unable to read data: " + e.getCause().getMessage()));
+            }
+            if (!present && !path.isEmpty()) {
+                throw new NotFoundException(textResponse(Response.Status.NOT_FOUND,
+                        "Request could not be completed because the relevant data model content does not exist"));
+            }
+            writer.finish();
+        };
+        return Response.ok(output, MediaType.APPLICATION_JSON_TYPE).build();
+    }
+
+    private ReadableDataManager getData(final String datastore) {
+        switch (datastore) {
+            case CONFIG:
+                return configData;
+            case OPERATIONAL:
+                return operationalData;
+            default:
+                throw new NotFoundException(textResponse(Response.Status.NOT_FOUND,
+                        "Unknown datastore " + datastore));
+        }
+    }
+
+    private static Response textResponse(final Response.Status status, final String message) {
+        return Response.status(status)
+                .type(MediaType.TEXT_PLAIN_TYPE)
+                .entity(message)
+                .build();
+    }
+
+    /**
+     * Writes the node the same way as RESTCONF JSON body writer does, starting the response lazily with the first
+     * written event, so that errors detected before any data is read can still be reported by status code.
+     */
+    private static final class StreamingJsonWriter implements NormalizedNodeStreamWriter {
+        private final OutputStream stream;
+        private final JSONCodecFactory codecs;
+        private final SchemaPath parentPath;
+        @Nullable
+        private final URI initialNamespace;
+        private final boolean root;
+        // list entry is wrapped in a list, same as in RESTCONF response
+        @Nullable
+        private final NodeIdentifier list;
+
+        private JsonWriter json;
+        private NormalizedNodeStreamWriter delegate;
+        private int depth;
+
+        private StreamingJsonWriter(final OutputStream stream, final InstanceIdentifierContext<?> context) {
+            this.stream = stream;
+            this.codecs = JSONCodecFactorySupplier.DRAFT_LHOTKA_NETMOD_YANG_JSON_02.getShared(
+                    context.getSchemaContext());
+            final SchemaNode schemaNode = context.getSchemaNode();
+            this.root = schemaNode instanceof SchemaContext;
+            this.parentPath = root
+                    ? SchemaPath.ROOT
+                    : schemaNode.getPath().getParent();
+            this.initialNamespace = !root && schemaNode instanceof DataSchemaNode
+                    && !((DataSchemaNode) schemaNode).isAugmenting()
+                    ? schemaNode.getQName().getNamespace()
+                    : null;
+            final PathArgument last = context.getInstanceIdentifier().getLastPathArgument();
+            this.list = last instanceof NodeIdentifierWithPredicates
+                    ? new NodeIdentifier(last.getNodeType())
+                    : null;
+        }
+
+        boolean isStarted() {
+            return delegate != null;
+        }
+
+        private NormalizedNodeStreamWriter start() throws IOException {
+            if (delegate == null) {
+                json = JsonWriterFactory.createJsonWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+                json.beginObject();
+                delegate = JSONNormalizedNodeStreamWriter.createNestedWriter(codecs, parentPath, initialNamespace,
+                        json);
+                if (list != null) {
+                    delegate.startMapNode(list, UNKNOWN_SIZE);
+                }
+            }
+            return delegate;
+        }
+
+        private NormalizedNodeStreamWriter startNode() throws IOException {
+            depth++;
+            return start();
+        }
+
+        /**
+         * Sends the data written so far, if a top level subtree was just completed.
+         */
+        private void nodeCompleted() throws IOException {
+            if (depth == (root ? 1 : 0)) {
+                delegate.flush();
+                stream.flush();
+            }
+        }
+
+        void finish() throws IOException {
+            start();
+            if (list != null) {
+                delegate.endNode();
+            }
+            json.endObject();
+            json.flush();
+        }
+
+        @Override
+        public void leafNode(final NodeIdentifier name, final Object value) throws IOException {
+            start().leafNode(name, value);
+            nodeCompleted();
+        }
+
+        @Override
+        public void startLeafSet(final NodeIdentifier name, final int childSizeHint) throws IOException {
+            startNode().startLeafSet(name, childSizeHint);
+        }
+
+        @Override
+        public void startOrderedLeafSet(final NodeIdentifier name, final int childSizeHint) throws IOException {
+            startNode().startOrderedLeafSet(name, childSizeHint);
+        }
+
+        @Override
+        public void leafSetEntryNode(final QName name, final Object value) throws IOException {
+            start().leafSetEntryNode(name, value);
+        }
+
+        @Override
+        public void startContainerNode(final NodeIdentifier name, final int childSizeHint) throws IOException {
+            if (root && depth == 0) {
+                // Children of datastore root are written as members of the response object
+                startNode();
+                return;
+            }
+            startNode().startContainerNode(name, childSizeHint);
+        }
+
+        @Override
+        public void startUnkeyedList(final NodeIdentifier name, final int childSizeHint) throws IOException {
+            startNode().startUnkeyedList(name, childSizeHint);
+        }
+
+        @Override
+        public void startUnkeyedListItem(final NodeIdentifier name, final int childSizeHint) throws IOException {
+            startNode().startUnkeyedListItem(name, childSizeHint);
+        }
+
+        @Override
+        public void startMapNode(final NodeIdentifier name, final int childSizeHint) throws IOException {
+            startNode().startMapNode(name, childSizeHint);
+        }
+
+        @Override
+        public void startMapEntryNode(final NodeIdentifierWithPredicates identifier, final int childSizeHint)
+                throws IOException {
+            startNode().startMapEntryNode(identifier, childSizeHint);
+        }
+
+        @Override
+        public void startOrderedMapNode(final NodeIdentifier name, final int childSizeHint) throws IOException {
+            startNode().startOrderedMapNode(name, childSizeHint);
+        }
+
+        @Override
+        public void startChoiceNode(final NodeIdentifier name, final int childSizeHint) throws IOException {
+            startNode().startChoiceNode(name, childSizeHint);
+        }
+
+        @Override
+        public void startAugmentationNode(final AugmentationIdentifier identifier) throws IOException {
+            startNode().startAugmentationNode(identifier);
+        }
+
+        @Override
+        public void anyxmlNode(final NodeIdentifier name, final Object value) throws IOException {
+            start().anyxmlNode(name, value);
+            nodeCompleted();
+        }
+
+        @Override
+        public void startYangModeledAnyXmlNode(final NodeIdentifier name, final int childSizeHint)
+                throws IOException {
+            startNode().startYangModeledAnyXmlNode(name, childSizeHint);
+        }
+
+        @Override
+        public void endNode() throws IOException {
+            depth--;
+            if (root && depth == 0) {
+                // End of datastore root, response object is closed when finished
+                return;
+            }
+            delegate.endNode();
+            nodeCompleted();
+        }
+
+        @Override
+        public void nextDataSchemaNode(final DataSchemaNode schema) {
+            if (delegate != null) {
+                delegate.nextDataSchemaNode(schema);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (delegate != null) {
+                delegate.flush();
+            }
+        }
+
+        @Override
+        public void close() {
+            // Response stream is closed by the container
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.northbound.restconf;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import io.fd.honeycomb.binding.init.ProviderTrait;
+import io.fd.honeycomb.data.ReadableDataManager;
+import io.fd.honeycomb.infra.distro.data.ConfigAndOperationalPipelineModule;
+import org.opendaylight.mdsal.dom.api.DOMDataBroker;
+import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
+
+final class RestconfStreamingReadServiceProvider extends ProviderTrait<RestconfStreamingReadService> {
+
+    @Inject
+    private ControllerContext controllerContext;
+    @Inject
+    @Named(ConfigAndOperationalPipelineModule.HONEYCOMB_CONFIG)
+    private DOMDataBroker domDataBroker;
+    @Inject
+    private ReadableDataManager operationalData;
+
+    @Override
+    protected RestconfStreamingReadService create() {
+        return new RestconfStreamingReadService(controllerContext, domDataBroker, operationalData);
+    }
+}
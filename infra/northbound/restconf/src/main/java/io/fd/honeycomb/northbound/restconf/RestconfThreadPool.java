@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.northbound.restconf;
+
+import java.util.concurrent.BlockingQueue;
+import javax.annotation.Nullable;
+import org.eclipse.jetty.util.BlockingArrayQueue;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+
+/**
+ * Thread pool of RESTCONF Jetty server, exposing its gauges over JMX.
+ *
+ * <p>RESTCONF requests are processed synchronously, including the blocking data broker calls, so number of
+ * concurrently served requests is limited by maximum size of the pool. Idle threads are released after idle timeout,
+ * so large maximum size costs threads only while there is load.
+ */
+final class RestconfThreadPool extends QueuedThreadPool implements RestconfThreadPoolMXBean {
+
+    static final String OBJECT_NAME = "io.fd.honeycomb:type=RestconfThreadPool";
+
+    private static final String NAME = "restconf";
+
+    /**
+     * @param queueSize maximum number of requests waiting for a thread, unlimited if not positive
+     */
+    RestconfThreadPool(final int maxThreads, final int minThreads, final int idleTimeoutMillis, final int queueSize) {
+        super(maxThreads, minThreads, idleTimeoutMillis, createQueue(queueSize));
+        setName(NAME);
+    }
+
+    @Nullable
+    private static BlockingQueue<Runnable> createQueue(final int queueSize) {
+        // null makes Jetty use its default, unbounded queue
+        return queueSize > 0
+                ? new BlockingArrayQueue<>(queueSize, 0, queueSize)
+                : null;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.northbound.restconf;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * Gauges of the thread pool serving RESTCONF requests.
+ */
+@Beta
+public interface RestconfThreadPoolMXBean {
+
+    int getThreads();
+
+    int getIdleThreads();
+
+    int getBusyThreads();
+
+    /**
+     * @return number of requests waiting for a thread
+     */
+    int getQueueSize();
+
+    int getMinThreads();
+
+    int getMaxThreads();
+
+    boolean isLowOnThreads();
+}
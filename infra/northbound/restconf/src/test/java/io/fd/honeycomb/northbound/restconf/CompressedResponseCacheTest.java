@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.northbound.restconf;
+
+import static io.fd.honeycomb.northbound.restconf.CompressedResponseCache.acceptsGzip;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTree;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTreeSnapshot;
+
+public class CompressedResponseCacheTest {
+
+    private static final byte[] BODY = "{\"interfaces\":{\"interface\":[]}}".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private DataTree configDataTree;
+    @Mock
+    private DataTreeSnapshot snapshot;
+    @Mock
+    private HttpServletRequest request;
+    @Mock
+    private FilterChain chain;
+    private CompressedResponseCache cache;
+
+    @Before
+    public void setUp() throws Exception {
+        MockitoAnnotations.initMocks(this);
+        when(configDataTree.takeSnapshot()).thenReturn(snapshot);
+        setRevisionRoot(mock(NormalizedNode.class));
+        when(request.getMethod()).thenReturn("GET");
+        when(request.getContextPath()).thenReturn("/restconf");
+        when(request.getRequestURI()).thenReturn("/restconf/config/interfaces");
+        when(request.getHeader("Accept")).thenReturn("application/json");
+        acceptEncoding("gzip, deflate");
+        doAnswer(invocation -> {
+            final ServletResponse response = invocation.getArgument(1);
+            response.getOutputStream().write(BODY);
+            return null;
+        }).when(chain).doFilter(any(), any());
+        cache = new CompressedResponseCache(configDataTree, -1, 0, 1024 * 1024);
+    }
+
+    @Test
+    public void testCachedWithinRevision() throws Exception {
+        final ByteArrayOutputStream first = new ByteArrayOutputStream();
+        final ByteArrayOutputStream second = new ByteArrayOutputStream();
+        cache.doFilter(request, response(first), chain);
+        cache.doFilter(request, response(second), chain);
+
+        verify(chain, times(1)).doFilter(any(), any());
+        assertArrayEquals(BODY, inflate(first.toByteArray()));
+        assertArrayEquals(BODY, inflate(second.toByteArray()));
+    }
+
+    @Test
+    public void testInvalidatedOnRevisionChange() throws Exception {
+        cache.doFilter(request, response(new ByteArrayOutputStream()), chain);
+        setRevisionRoot(mock(NormalizedNode.class));
+        final ByteArrayOutputStream afterCommit = new ByteArrayOutputStream();
+        cache.doFilter(request, response(afterCommit), chain);
+
+        verify(chain, times(2)).doFilter(any(), any());
+        assertArrayEquals(BODY, inflate(afterCommit.toByteArray()));
+    }
+
+    @Test
+    public void testGzipNotAcceptable() throws Exception {
+        acceptEncoding("gzip;q=0, deflate");
+        final HttpServletResponse response = response(new ByteArrayOutputStream());
+        cache.doFilter(request, response, chain);
+        cache.doFilter(request, response, chain);
+
+        // passed through without buffering
+        verify(chain, times(2)).doFilter(request, response);
+    }
+
+    @Test
+    public void testAcceptsGzip() {
+        assertTrue(acceptsGzip(Collections.singletonList("gzip")));
+        assertTrue(acceptsGzip(Collections.singletonList("deflate, GZIP;q=0.5")));
+        assertTrue(acceptsGzip(Collections.singletonList("*")));
+        assertTrue(acceptsGzip(Arrays.asList("deflate", "gzip ; Q=1.0")));
+        assertFalse(acceptsGzip(Collections.emptyList()));
+        assertFalse(acceptsGzip(Collections.singletonList("gzip;q=0")));
+        assertFalse(acceptsGzip(Collections.singletonList("gzip;q=0.000, *")));
+        assertFalse(acceptsGzip(Collections.singletonList("*;q=0")));
+        assertFalse(acceptsGzip(Collections.singletonList("x-gzipped, deflate")));
+        assertFalse(acceptsGzip(Collections.singletonList("gzip;q=invalid")));
+    }
+
+    private void setRevisionRoot(final NormalizedNode<?, ?> root) {
+        doReturn(Optional.of(root)).when(snapshot).readNode(YangInstanceIdentifier.EMPTY);
+    }
+
+    private void acceptEncoding(final String value) {
+        when(request.getHeaders("Accept-Encoding"))
+                .thenAnswer(invocation -> Collections.enumeration(Collections.singletonList(value)));
+    }
+
+    private static HttpServletResponse response(final ByteArrayOutputStream body) throws IOException {
+        final HttpServletResponse response = mock(HttpServletResponse.class);
+        when(response.getStatus()).thenReturn(HttpServletResponse.SC_OK);
+        when(response.getContentType()).thenReturn("application/json");
+        when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public void write(final int value) {
+                body.write(value);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(final WriteListener writeListener) {
+                throw new UnsupportedOperationException();
+            }
+        });
+        return response;
+    }
+
+    private static byte[] inflate(final byte[] compressed) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return ByteStreams.toByteArray(gzip);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.northbound.restconf;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class GzipRequestFilterTest {
+
+    private static final byte[] BODY = "{\"data\":\"0123456789\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private HttpServletRequest request;
+    @Mock
+    private HttpServletResponse response;
+    @Mock
+    private FilterChain chain;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        when(request.getHeader("Content-Encoding")).thenReturn("gzip");
+    }
+
+    @Test
+    public void testInflate() throws Exception {
+        when(request.getInputStream()).thenReturn(stream(gzip(BODY)));
+        final byte[] inflated = new byte[BODY.length];
+        doAnswer(invocation -> {
+            final ServletRequest inflatedRequest = invocation.getArgument(0);
+            assertEquals(BODY.length, inflatedRequest.getContentLength());
+            assertEquals(BODY.length, inflatedRequest.getInputStream().read(inflated));
+            assertEquals(-1, inflatedRequest.getInputStream().read());
+            assertNull(((HttpServletRequest) inflatedRequest).getHeader("Content-Encoding"));
+            return null;
+        }).when(chain).doFilter(any(), any());
+
+        new GzipRequestFilter(BODY.length).doFilter(request, response, chain);
+
+        verify(chain).doFilter(any(), eq(response));
+        assertArrayEquals(BODY, inflated);
+        verify(response, never()).sendError(anyInt(), anyString());
+    }
+
+    @Test
+    public void testInflatedSizeExceeded() throws Exception {
+        when(request.getInputStream()).thenReturn(stream(gzip(BODY)));
+
+        new GzipRequestFilter(BODY.length - 1).doFilter(request, response, chain);
+
+        verify(response).sendError(eq(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE), anyString());
+        verify(chain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    public void testMalformedBody() throws Exception {
+        when(request.getInputStream()).thenReturn(stream(BODY));
+
+        new GzipRequestFilter(BODY.length).doFilter(request, response, chain);
+
+        verify(response).sendError(eq(HttpServletResponse.SC_BAD_REQUEST), anyString());
+        verify(chain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    public void testNotCompressed() throws Exception {
+        when(request.getHeader("Content-Encoding")).thenReturn(null);
+
+        new GzipRequestFilter(0).doFilter(request, response, chain);
+
+        final ArgumentCaptor<ServletRequest> passed = ArgumentCaptor.forClass(ServletRequest.class);
+        verify(chain).doFilter(passed.capture(), eq(response));
+        assertEquals(request, passed.getValue());
+    }
+
+    private static byte[] gzip(final byte[] data) throws IOException {
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(data);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static ServletInputStream stream(final byte[] data) {
+        final ByteArrayInputStream input = new ByteArrayInputStream(data);
+        return new ServletInputStream() {
+            @Override
+            public int read() {
+                return input.read();
+            }
+
+            @Override
+            public boolean isFinished() {
+                return input.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(final ReadListener readListener) {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+}
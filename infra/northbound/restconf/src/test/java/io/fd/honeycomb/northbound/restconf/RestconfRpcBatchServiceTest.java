@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.northbound.restconf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableClassToInstanceMap;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.fd.honeycomb.rpc.RpcBatchInvoker;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import javax.ws.rs.BadRequestException;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.mdsal.dom.api.DOMMountPointService;
+import org.opendaylight.mdsal.dom.api.DOMRpcService;
+import org.opendaylight.mdsal.dom.api.DOMSchemaService;
+import org.opendaylight.mdsal.dom.api.DOMYangTextSourceProvider;
+import org.opendaylight.mdsal.dom.spi.DefaultDOMRpcResult;
+import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
+import org.opendaylight.yangtools.util.concurrent.FluentFutures;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+
+public class RestconfRpcBatchServiceTest {
+
+    private static final String NAMESPACE = "urn:opendaylight:params:xml:ns:yang:test:rpc:batch";
+    private static final String REVISION = "2019-06-01";
+    private static final QName ECHO = QName.create(NAMESPACE, REVISION, "echo");
+    private static final QName OUTPUT = QName.create(NAMESPACE, REVISION, "output");
+
+    @Mock
+    private DOMSchemaService schemaService;
+    @Mock
+    private DOMYangTextSourceProvider yangTextSourceProvider;
+    @Mock
+    private DOMMountPointService mountPointService;
+    @Mock
+    private DOMRpcService rpcService;
+    private RestconfRpcBatchService service;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        final SchemaContext schemaContext = YangParserTestUtils.parseYangResource("/rpc-batch-test.yang");
+        when(schemaService.getGlobalContext()).thenReturn(schemaContext);
+        when(schemaService.getExtensions()).thenReturn(
+                ImmutableClassToInstanceMap.of(DOMYangTextSourceProvider.class, yangTextSourceProvider));
+        final ControllerContext controllerContext =
+                ControllerContext.newInstance(schemaService, mountPointService, schemaService);
+        controllerContext.setSchemas(schemaContext);
+        // echo returns its input as output
+        doAnswer(invocation -> {
+            final ContainerNode input = invocation.getArgument(1);
+            return FluentFutures.immediateFluentFuture(new DefaultDOMRpcResult(Builders.containerBuilder()
+                    .withNodeIdentifier(new NodeIdentifier(OUTPUT))
+                    .withValue(input.getValue())
+                    .build()));
+        }).when(rpcService).invokeRpc(eq(SchemaPath.create(true, ECHO)), any());
+        service = new RestconfRpcBatchService(controllerContext, new RpcBatchInvoker(rpcService, 1), 10);
+    }
+
+    @Test
+    public void testInvoke() throws Exception {
+        final JsonArray results = invoke("{\"invocations\": ["
+                + "{\"rpc\": \"rpc-batch-test:echo\", \"input\": {\"value\": \"first\"}},"
+                + "{\"rpc\": \"rpc-batch-test:echo\", \"input\": {\"value\": \"second\"}}]}");
+
+        assertEquals(2, results.size());
+        for (int i = 0; i < 2; i++) {
+            final JsonObject result = results.get(i).getAsJsonObject();
+            assertEquals("rpc-batch-test:echo", result.get("rpc").getAsString());
+            assertFalse(result.has("error"));
+        }
+        assertEquals("first", results.get(0).getAsJsonObject().getAsJsonObject("output").get("value").getAsString());
+        assertEquals("second", results.get(1).getAsJsonObject().getAsJsonObject("output").get("value").getAsString());
+    }
+
+    @Test
+    public void testInvalidInvocationsReportedPerEntry() throws Exception {
+        final JsonArray results = invoke("{\"invocations\": [\"not-an-object\", {}, {\"rpc\": null}, {\"rpc\": 5}, "
+                + "{\"rpc\": {\"name\": \"rpc-batch-test:echo\"}},"
+                + "{\"rpc\": \"rpc-batch-test:unknown\"},"
+                + "{\"rpc\": \"rpc-batch-test:echo\", \"input\": {\"unknown-leaf\": \"value\"}},"
+                + "{\"rpc\": \"rpc-batch-test:echo\", \"input\": {\"value\": \"valid\"}}]}");
+
+        assertEquals(8, results.size());
+        for (int i = 0; i < 5; i++) {
+            final JsonObject result = results.get(i).getAsJsonObject();
+            assertFalse(result.has("rpc"));
+            assertTrue(result.has("error"));
+        }
+        for (int i = 5; i < 7; i++) {
+            final JsonObject result = results.get(i).getAsJsonObject();
+            assertTrue(result.has("rpc"));
+            assertTrue(result.has("error"));
+        }
+        final JsonObject valid = results.get(7).getAsJsonObject();
+        assertEquals("valid", valid.getAsJsonObject("output").get("value").getAsString());
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void testMissingInvocations() {
+        service.invokeRpcs("{\"rpc\": \"rpc-batch-test:echo\"}");
+    }
+
+    @Test(expected = BadRequestException.class)
+    public void testTooManyInvocations() {
+        final JsonArray invocations = new JsonArray();
+        for (int i = 0; i < 11; i++) {
+            invocations.add(new JsonObject());
+        }
+        final JsonObject body = new JsonObject();
+        body.add("invocations", invocations);
+        service.invokeRpcs(body.toString());
+    }
+
+    private JsonArray invoke(final String body) throws Exception {
+        final ByteArrayOutputStream response = new ByteArrayOutputStream();
+        service.invokeRpcs(body).write(response);
+        return new JsonParser().parse(new String(response.toByteArray(), StandardCharsets.UTF_8))
+                .getAsJsonObject().getAsJsonArray("results");
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.notification;
+
+import com.google.common.annotations.Beta;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.yang.binding.Notification;
+
+/**
+ * Rule collapsing redundant notifications of a single type, e.g. repeated state changes of the same interface during
+ * link flapping. Notifications of the same type with equal keys emitted within the coalescing window are redundant,
+ * only the latest one or its summary is passed to subscribers.
+ *
+ * <p>Plugins contribute rules using a multibinding of {@link NotificationCoalescingRule}. Notifications of types
+ * without a rule are never coalesced.
+ *
+ * @param <T> type of coalesced notification
+ */
+@Beta
+public interface NotificationCoalescingRule<T extends Notification> {
+
+    /**
+     * @return type of notifications coalesced by this rule
+     */
+    @Nonnull
+    Class<T> getNotificationType();
+
+    /**
+     * Extract key leaves of notification, identifying the entity the notification is about, e.g. interface name.
+     *
+     * @return key of notification, with proper equals and hashCode
+     */
+    @Nonnull
+    Object getKey(@Nonnull T notification);
+
+    /**
+     * Create notification passed to subscribers when the coalescing window expires.
+     *
+     * @param latest latest notification received for the key within the window
+     * @param count  number of notifications received for the key within the window
+     * @return latest notification by default
+     */
+    @Nonnull
+    default Notification summarize(@Nonnull final T latest, final int count) {
+        return latest;
+    }
+}
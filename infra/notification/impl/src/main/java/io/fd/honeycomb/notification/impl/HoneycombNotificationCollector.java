@@ -19,6 +19,7 @@ package io.fd.honeycomb.notification.impl;
 import io.fd.honeycomb.notification.NotificationCollector;
 import java.util.Collection;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.mdsal.binding.api.NotificationPublishService;
 import org.opendaylight.yangtools.yang.binding.Notification;
 import org.slf4j.Logger;
@@ -26,6 +27,9 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Notification collector based on MD-SAL's {@link NotificationPublishService}.
+ *
+ * <p>When created with a {@link NotificationPipeline}, notifications are published asynchronously
+ * and producers are not blocked by slow subscribers.
  */
 public final class HoneycombNotificationCollector implements NotificationCollector, AutoCloseable {
 
@@ -33,23 +37,40 @@ public final class HoneycombNotificationCollector implements NotificationCollect
 
     private final NotificationPublishService bindingDOMNotificationPublishServiceAdapter;
     private final NotificationProducerRegistry notificationProducerRegistry;
+    @Nullable
+    private final NotificationPipeline pipeline;
 
     public HoneycombNotificationCollector(
         @Nonnull final NotificationPublishService bindingDOMNotificationPublishServiceAdapter,
         @Nonnull final NotificationProducerRegistry notificationProducerRegistry) {
+        this(bindingDOMNotificationPublishServiceAdapter, notificationProducerRegistry, null);
+    }
+
+    public HoneycombNotificationCollector(
+        @Nonnull final NotificationPublishService bindingDOMNotificationPublishServiceAdapter,
+        @Nonnull final NotificationProducerRegistry notificationProducerRegistry,
+        @Nullable final NotificationPipeline pipeline) {
         this.bindingDOMNotificationPublishServiceAdapter = bindingDOMNotificationPublishServiceAdapter;
         this.notificationProducerRegistry = notificationProducerRegistry;
+        this.pipeline = pipeline;
     }
 
     @Override
     public void close() throws Exception {
         LOG.trace("Closing");
+        if (pipeline != null) {
+            pipeline.close();
+        }
     }
 
     @Override
     public void onNotification(@Nonnull final Notification notification) {
         LOG.debug("Notification: {} pushed into collector", notification.getClass().getSimpleName());
         LOG.trace("Notification: {} pushed into collector", notification);
+        if (pipeline != null) {
+            pipeline.offer(notification);
+            return;
+        }
         try {
             bindingDOMNotificationPublishServiceAdapter.putNotification(notification);
         } catch (InterruptedException e) {
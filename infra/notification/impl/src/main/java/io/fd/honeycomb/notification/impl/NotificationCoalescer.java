@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.notification.impl;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.fd.honeycomb.notification.NotificationCoalescingRule;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.yangtools.yang.binding.Notification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalescing stage of {@link NotificationPipeline}. Collapses redundant notifications of the same type and key
+ * (e.g. interface name) emitted within a time window.
+ *
+ * <p>The first notification for a key is passed downstream immediately and opens a window. Notifications for the same
+ * key arriving within the window are held, each one replacing the previous. When the window expires, the latest held
+ * notification (or its summary, see {@link NotificationCoalescingRule#summarize(Notification, int)}) is passed
+ * downstream and a new window is opened. Notifications of types without a coalescing rule pass through unchanged.
+ *
+ * <p>Notifications are passed downstream in arrival order, a held notification taking the position of its latest
+ * arrival. Before any notification is passed downstream, notifications held for other keys that arrived earlier are
+ * passed first, even if their windows did not expire yet. Downstream is invoked under the coalescer lock to keep
+ * that order.
+ */
+@Beta
+@ThreadSafe
+public final class NotificationCoalescer implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationCoalescer.class);
+
+    private final Predicate<Notification> downstream;
+    private final ScheduledExecutorService scheduler;
+    private final Map<Class<? extends Notification>, Rule> rules;
+    private final LongAdder coalesced = new LongAdder();
+
+    @GuardedBy("this")
+    private final Map<Map.Entry<Class<? extends Notification>, Object>, Window> windows = new HashMap<>();
+    @GuardedBy("this")
+    private long arrivals;
+    @GuardedBy("this")
+    private boolean closed;
+
+    private NotificationCoalescer(final NotificationCoalescerBuilder builder,
+                                  final Predicate<Notification> downstream) {
+        this.downstream = downstream;
+        this.scheduler = builder.scheduler != null
+                ? builder.scheduler
+                : Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                        .setNameFormat("honeycomb-notification-coalescer-%d").setDaemon(true).build());
+        this.rules = new HashMap<>(builder.rules);
+    }
+
+    /**
+     * Passes notification downstream or holds it until the window for its key expires.
+     *
+     * @return false if notification was passed downstream and dropped there, true otherwise
+     */
+    boolean offer(@Nonnull final Notification notification) {
+        final Class<? extends Notification> type = NotificationPipeline.notificationType(notification);
+        final Rule rule = rules.get(type);
+        final Map.Entry<Class<? extends Notification>, Object> key = rule == null
+                ? null
+                : new AbstractMap.SimpleImmutableEntry<>(type, rule.keyExtractor.apply(notification));
+
+        synchronized (this) {
+            final long arrival = ++arrivals;
+            if (key != null && !closed) {
+                final Window window = windows.get(key);
+                if (window != null) {
+                    if (window.pending != null) {
+                        coalesced.increment();
+                    }
+                    window.hold(notification, arrival);
+                    LOG.trace("Notification: {} held for key: {}", notification, key);
+                    return true;
+                }
+                windows.put(key, new Window(rule));
+                scheduleExpiry(key, rule);
+            }
+            emitHeldBefore(arrival);
+            return downstream.test(notification);
+        }
+    }
+
+    @GuardedBy("this")
+    private void scheduleExpiry(final Map.Entry<Class<? extends Notification>, Object> key, final Rule rule) {
+        scheduler.schedule(() -> expire(key), rule.windowNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private synchronized void expire(final Map.Entry<Class<? extends Notification>, Object> key) {
+        final Window window = windows.get(key);
+        if (window == null) {
+            return;
+        }
+        if (window.pending == null || closed) {
+            windows.remove(key);
+            return;
+        }
+        emitHeldBefore(window.arrival);
+        downstream.test(window.release());
+        scheduleExpiry(key, window.rule);
+    }
+
+    /**
+     * Passes downstream all held notifications that arrived before provided arrival, in arrival order.
+     */
+    @GuardedBy("this")
+    private void emitHeldBefore(final long arrival) {
+        final List<Window> held = new ArrayList<>();
+        for (Window window : windows.values()) {
+            if (window.pending != null && window.arrival < arrival) {
+                held.add(window);
+            }
+        }
+        if (held.isEmpty()) {
+            return;
+        }
+        held.sort(Comparator.comparingLong(window -> window.arrival));
+        for (Window window : held) {
+            downstream.test(window.release());
+        }
+    }
+
+    /**
+     * @return number of notifications replaced by a later notification for the same key
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    @VisibleForTesting
+    synchronized int getWindowCount() {
+        return windows.size();
+    }
+
+    /**
+     * Passes all held notifications downstream and stops coalescing.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            emitHeldBefore(Long.MAX_VALUE);
+            closed = true;
+            windows.clear();
+        }
+        scheduler.shutdownNow();
+    }
+
+    private static final class Rule {
+        private final Function<Notification, ?> keyExtractor;
+        private final long windowNanos;
+        private final BiFunction<Notification, Integer, Notification> summarizer;
+
+        private Rule(final Function<Notification, ?> keyExtractor, final long windowNanos,
+                     final BiFunction<Notification, Integer, Notification> summarizer) {
+            this.keyExtractor = keyExtractor;
+            this.windowNanos = windowNanos;
+            this.summarizer = summarizer;
+        }
+    }
+
+    private static final class Window {
+        private final Rule rule;
+        private Notification pending;
+        private long arrival;
+        private int count;
+
+        private Window(final Rule rule) {
+            this.rule = rule;
+        }
+
+        private void hold(final Notification notification, final long notificationArrival) {
+            pending = notification;
+            arrival = notificationArrival;
+            count++;
+        }
+
+        /**
+         * @return summary of held notifications, which are no longer held
+         */
+        private Notification release() {
+            final Notification summary = rule.summarizer.apply(pending, count);
+            pending = null;
+            count = 0;
+            return summary;
+        }
+    }
+
+    public static final class NotificationCoalescerBuilder {
+
+        private final Map<Class<? extends Notification>, Rule> rules = new HashMap<>();
+        private ScheduledExecutorService scheduler;
+
+        /**
+         * Coalesces notifications according to provided rule.
+         */
+        public NotificationCoalescerBuilder withRule(@Nonnull final NotificationCoalescingRule<?> rule,
+                                                    final long window, @Nonnull final TimeUnit unit) {
+            checkNotNull(rule, "rule should not be null");
+            return withCapturedRule(rule, window, unit);
+        }
+
+        private <T extends Notification> NotificationCoalescerBuilder withCapturedRule(
+                final NotificationCoalescingRule<T> rule, final long window, final TimeUnit unit) {
+            return withRule(rule.getNotificationType(), rule::getKey, window, unit, rule::summarize);
+        }
+
+        /**
+         * Coalesces notifications of provided type passing through only the latest state per key.
+         *
+         * @param keyExtractor extracts key leaves of notification, notifications with equal keys are coalesced
+         */
+        public <T extends Notification> NotificationCoalescerBuilder withRule(
+                @Nonnull final Class<T> type, @Nonnull final Function<? super T, ?> keyExtractor,
+                final long window, @Nonnull final TimeUnit unit) {
+            return withRule(type, keyExtractor, window, unit, (latest, count) -> latest);
+        }
+
+        /**
+         * Coalesces notifications of provided type passing through a summary per key.
+         *
+         * @param keyExtractor extracts key leaves of notification, notifications with equal keys are coalesced
+         * @param summarizer   creates the notification passed downstream when the window expires, from the latest
+         *                     notification and number of notifications received for the key within the window
+         */
+        public <T extends Notification> NotificationCoalescerBuilder withRule(
+                @Nonnull final Class<T> type, @Nonnull final Function<? super T, ?> keyExtractor,
+                final long window, @Nonnull final TimeUnit unit,
+                @Nonnull final BiFunction<? super T, Integer, ? extends Notification> summarizer) {
+            checkNotNull(type, "type should not be null");
+            checkNotNull(keyExtractor, "keyExtractor should not be null");
+            checkNotNull(summarizer, "summarizer should not be null");
+            checkArgument(window > 0, "Window must be positive, but was %s", window);
+            rules.put(type, new Rule(notification -> keyExtractor.apply(type.cast(notification)),
+                    unit.toNanos(window),
+                    (latest, count) -> summarizer.apply(type.cast(latest), count)));
+            return this;
+        }
+
+        @VisibleForTesting
+        NotificationCoalescerBuilder withScheduler(@Nonnull final ScheduledExecutorService scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        NotificationCoalescer build(@Nonnull final Predicate<Notification> downstream) {
+            return new NotificationCoalescer(this, downstream);
+        }
+    }
+}
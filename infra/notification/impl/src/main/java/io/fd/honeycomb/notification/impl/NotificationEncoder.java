@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.notification.impl;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.mdsal.dom.api.DOMNotification;
+import org.opendaylight.netconf.notifications.NetconfNotification;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.api.SchemaContextListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Transforms {@link DOMNotification}s into {@link NetconfNotification}s, alternative to
+ * {@link TranslationUtil#notificationToXml(DOMNotification, SchemaContext)} suitable for high notification rates.
+ *
+ * <p>Schema context is captured when it changes (register the encoder as {@link SchemaContextListener}) instead of
+ * looking up the global schema context for every notification.
+ */
+@Beta
+@ThreadSafe
+public final class NotificationEncoder implements SchemaContextListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationEncoder.class);
+
+    private volatile SchemaContext context;
+
+    public NotificationEncoder(@Nonnull final SchemaContext schemaContext) {
+        this.context = checkNotNull(schemaContext, "schemaContext should not be null");
+    }
+
+    @Override
+    public void onGlobalContextUpdated(final SchemaContext context) {
+        LOG.debug("Schema context updated");
+        this.context = context;
+    }
+
+    /**
+     * Transforms notification into XML.
+     *
+     * @throws IllegalArgumentException if notification cannot be serialized
+     */
+    @Nonnull
+    public NetconfNotification encode(@Nonnull final DOMNotification notification) {
+        return TranslationUtil.notificationToXml(notification, context);
+    }
+}
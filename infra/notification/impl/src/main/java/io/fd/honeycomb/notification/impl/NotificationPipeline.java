@@ -0,0 +1,458 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.notification.impl;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.mdsal.binding.api.NotificationPublishService;
+import org.opendaylight.yangtools.yang.binding.Notification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Asynchronous notification ingest stage. Notifications are accepted into a bounded ring buffer on producer's thread
+ * and published to {@link NotificationPublishService} by a dedicated dispatcher thread, so that slow subscribers do
+ * not block producers.
+ *
+ * <p>Notifications of each type can be rate limited, notifications exceeding the rate are dropped. When the buffer
+ * is full, the {@link OverflowPolicy} decides whether a notification is dropped or the producer waits. Dispatcher
+ * drains the buffer in batches, publishing all drained notifications without contending with producers.
+ *
+ * <p>Optionally, redundant notifications are collapsed by {@link NotificationCoalescer} before entering the buffer.
+ */
+@Beta
+@ThreadSafe
+public final class NotificationPipeline implements NotificationPipelineMXBean, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationPipeline.class);
+
+    public static final String OBJECT_NAME = "io.fd.honeycomb:type=NotificationPipeline";
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
+    private final NotificationPublishService publishService;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final double defaultRateLimit;
+    private final Map<Class<? extends Notification>, Double> rateLimits;
+    private final Ticker ticker;
+    private final Map<Class<? extends Notification>, TokenBucket> buckets = new ConcurrentHashMap<>();
+    @Nullable
+    private final NotificationCoalescer coalescer;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    @GuardedBy("lock")
+    private final ArrayDeque<Notification> queue;
+    @GuardedBy("lock")
+    private int maxQueueDepth;
+    @GuardedBy("lock")
+    private boolean closed;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder droppedOverflow = new LongAdder();
+    private final LongAdder droppedRateLimited = new LongAdder();
+    private final LongAdder publishFailures = new LongAdder();
+
+    private final ExecutorService dispatcher;
+
+    private NotificationPipeline(final NotificationPipelineBuilder builder,
+                                 final NotificationPublishService publishService) {
+        this.publishService = publishService;
+        this.capacity = builder.capacity;
+        this.overflowPolicy = builder.overflowPolicy;
+        this.batchSize = builder.batchSize;
+        this.defaultRateLimit = builder.defaultRateLimit;
+        this.rateLimits = new HashMap<>(builder.rateLimits);
+        this.ticker = builder.ticker;
+        this.queue = new ArrayDeque<>(capacity);
+        this.coalescer = builder.coalescer != null
+                ? builder.coalescer.build(this::enqueue)
+                : null;
+        this.dispatcher = Executors.newSingleThreadExecutor(
+                new ThreadFactoryBuilder().setNameFormat("honeycomb-notifications-%d").setDaemon(true).build());
+        dispatcher.execute(this::dispatch);
+    }
+
+    /**
+     * Accepts notification for asynchronous publishing. Depending on the overflow policy, this method blocks
+     * while the buffer is full.
+     *
+     * @return true if notification was accepted or held by coalescing stage, false if it was dropped
+     */
+    public boolean offer(@Nonnull final Notification notification) {
+        return coalescer != null
+                ? coalescer.offer(notification)
+                : enqueue(notification);
+    }
+
+    private boolean enqueue(final Notification notification) {
+        if (!tryAcquireRate(notification)) {
+            droppedRateLimited.increment();
+            LOG.debug("Notification: {} dropped, rate limit exceeded", notification.getClass().getSimpleName());
+            return false;
+        }
+
+        lock.lock();
+        try {
+            if (closed) {
+                LOG.debug("Notification: {} dropped, pipeline closed", notification.getClass().getSimpleName());
+                return false;
+            }
+            if (queue.size() >= capacity && !makeRoom(notification)) {
+                return false;
+            }
+            queue.addLast(notification);
+            maxQueueDepth = Math.max(maxQueueDepth, queue.size());
+            accepted.increment();
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @GuardedBy("lock")
+    private boolean makeRoom(final Notification notification) {
+        switch (overflowPolicy) {
+            case DROP_NEWEST:
+                droppedOverflow.increment();
+                LOG.debug("Notification: {} dropped, queue full", notification.getClass().getSimpleName());
+                return false;
+            case DROP_OLDEST:
+                final Notification dropped = queue.pollFirst();
+                droppedOverflow.increment();
+                LOG.debug("Notification: {} dropped, queue full", dropped.getClass().getSimpleName());
+                return true;
+            case BLOCK:
+            default:
+                try {
+                    while (queue.size() >= capacity && !closed) {
+                        notFull.await();
+                    }
+                } catch (InterruptedException e) {
+                    LOG.warn("Interrupted while waiting for queue space, notification: {} dropped",
+                            notification.getClass().getSimpleName(), e);
+                    Thread.currentThread().interrupt();
+                    droppedOverflow.increment();
+                    return false;
+                }
+                return !closed;
+        }
+    }
+
+    private boolean tryAcquireRate(final Notification notification) {
+        final Class<? extends Notification> type = notificationType(notification);
+        final double limit = rateLimits.getOrDefault(type, defaultRateLimit);
+        if (limit <= 0) {
+            return true;
+        }
+        return buckets.computeIfAbsent(type, t -> new TokenBucket(limit, ticker)).tryAcquire();
+    }
+
+    @SuppressWarnings("unchecked")
+    static Class<? extends Notification> notificationType(final Notification notification) {
+        final Class<?> type = notification.getImplementedInterface();
+        return type != null
+                ? (Class<? extends Notification>) type
+                : notification.getClass();
+    }
+
+    private void dispatch() {
+        final List<Notification> batch = new ArrayList<>(batchSize);
+        while (drainBatch(batch)) {
+            for (Notification notification : batch) {
+                try {
+                    publishService.putNotification(notification);
+                    published.increment();
+                } catch (InterruptedException e) {
+                    LOG.warn("Interrupted while publishing notification: {}", notification, e);
+                    publishFailures.increment();
+                    return;
+                } catch (RuntimeException e) {
+                    LOG.warn("Unable to publish notification: {}", notification, e);
+                    publishFailures.increment();
+                }
+            }
+            batch.clear();
+        }
+        LOG.debug("Notification dispatcher stopped");
+    }
+
+    /**
+     * Waits for notifications and moves up to batch size of them into provided list.
+     *
+     * @return false if pipeline was closed and all notifications were dispatched
+     */
+    private boolean drainBatch(final List<Notification> batch) {
+        lock.lock();
+        try {
+            while (queue.isEmpty()) {
+                if (closed) {
+                    return false;
+                }
+                notEmpty.await();
+            }
+            while (batch.size() < batchSize && !queue.isEmpty()) {
+                batch.add(queue.pollFirst());
+            }
+            notFull.signalAll();
+            return true;
+        } catch (InterruptedException e) {
+            LOG.debug("Notification dispatcher interrupted, {} notifications not published", queue.size());
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getQueueDepth() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getMaxQueueDepth() {
+        lock.lock();
+        try {
+            return maxQueueDepth;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public String getOverflowPolicy() {
+        return overflowPolicy.name();
+    }
+
+    @Override
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    @Override
+    public long getPublished() {
+        return published.sum();
+    }
+
+    @Override
+    public long getDroppedOverflow() {
+        return droppedOverflow.sum();
+    }
+
+    @Override
+    public long getDroppedRateLimited() {
+        return droppedRateLimited.sum();
+    }
+
+    @Override
+    public long getPublishFailures() {
+        return publishFailures.sum();
+    }
+
+    @Override
+    public long getCoalesced() {
+        return coalescer != null
+                ? coalescer.getCoalesced()
+                : 0;
+    }
+
+    /**
+     * Stops accepting notifications and waits a limited time for queued notifications to be published.
+     */
+    @Override
+    public void close() {
+        if (coalescer != null) {
+            coalescer.close();
+        }
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        dispatcher.shutdown();
+        try {
+            if (!dispatcher.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOG.warn("Notification dispatcher did not finish in time, {} notifications not published",
+                        getQueueDepth());
+                dispatcher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dispatcher.shutdownNow();
+        }
+    }
+
+    /**
+     * Behaviour of {@link #offer(Notification)} when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Drop the oldest buffered notification to make room for the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * Drop the new notification.
+         */
+        DROP_NEWEST,
+        /**
+         * Block the producer until there is room in the buffer.
+         */
+        BLOCK
+    }
+
+    /**
+     * Token bucket allowing bursts of up to one second worth of permits.
+     */
+    private static final class TokenBucket {
+        private final double permitsPerNano;
+        private final double maxPermits;
+        private final Ticker ticker;
+        @GuardedBy("this")
+        private double permits;
+        @GuardedBy("this")
+        private long lastRefill;
+
+        private TokenBucket(final double permitsPerSecond, final Ticker ticker) {
+            this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.maxPermits = Math.max(1, permitsPerSecond);
+            this.ticker = ticker;
+            this.permits = maxPermits;
+            this.lastRefill = ticker.read();
+        }
+
+        private synchronized boolean tryAcquire() {
+            final long now = ticker.read();
+            permits = Math.min(maxPermits, permits + (now - lastRefill) * permitsPerNano);
+            lastRefill = now;
+            if (permits >= 1) {
+                permits--;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    public static final class NotificationPipelineBuilder {
+
+        private int capacity = 1024;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+        private int batchSize = 64;
+        private double defaultRateLimit;
+        private final Map<Class<? extends Notification>, Double> rateLimits = new HashMap<>();
+        private Ticker ticker = Ticker.systemTicker();
+        private NotificationCoalescer.NotificationCoalescerBuilder coalescer;
+
+        public NotificationPipelineBuilder withCapacity(final int capacity) {
+            checkArgument(capacity > 0, "Capacity must be positive, but was %s", capacity);
+            this.capacity = capacity;
+            return this;
+        }
+
+        public NotificationPipelineBuilder withOverflowPolicy(@Nonnull final OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = checkNotNull(overflowPolicy, "overflowPolicy should not be null");
+            return this;
+        }
+
+        /**
+         * @param batchSize maximum number of notifications drained from the buffer at once
+         */
+        public NotificationPipelineBuilder withBatchSize(final int batchSize) {
+            checkArgument(batchSize > 0, "Batch size must be positive, but was %s", batchSize);
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param permitsPerSecond maximum rate of notifications of any single type, 0 for unlimited
+         */
+        public NotificationPipelineBuilder withRateLimit(final double permitsPerSecond) {
+            checkArgument(permitsPerSecond >= 0, "Rate limit cannot be negative, but was %s", permitsPerSecond);
+            this.defaultRateLimit = permitsPerSecond;
+            return this;
+        }
+
+        /**
+         * @param type             notification type
+         * @param permitsPerSecond maximum rate of notifications of provided type, 0 for unlimited
+         */
+        public NotificationPipelineBuilder withRateLimit(@Nonnull final Class<? extends Notification> type,
+                                                         final double permitsPerSecond) {
+            checkArgument(permitsPerSecond >= 0, "Rate limit cannot be negative, but was %s", permitsPerSecond);
+            this.rateLimits.put(checkNotNull(type, "type should not be null"), permitsPerSecond);
+            return this;
+        }
+
+        /**
+         * @param coalescer configuration of coalescing stage, applied before rate limiting
+         */
+        public NotificationPipelineBuilder withCoalescing(
+                @Nonnull final NotificationCoalescer.NotificationCoalescerBuilder coalescer) {
+            this.coalescer = checkNotNull(coalescer, "coalescer should not be null");
+            return this;
+        }
+
+        @VisibleForTesting
+        NotificationPipelineBuilder withTicker(@Nonnull final Ticker ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public NotificationPipeline build(@Nonnull final NotificationPublishService publishService) {
+            return new NotificationPipeline(this, checkNotNull(publishService, "publishService should not be null"));
+        }
+    }
+}
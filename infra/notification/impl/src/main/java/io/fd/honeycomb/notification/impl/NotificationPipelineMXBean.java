@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.notification.impl;
+
+/**
+ * JMX view of {@link NotificationPipeline} queue and drop statistics.
+ */
+public interface NotificationPipelineMXBean {
+
+    /**
+     * @return number of notifications waiting to be published
+     */
+    int getQueueDepth();
+
+    /**
+     * @return highest number of notifications waiting to be published so far
+     */
+    int getMaxQueueDepth();
+
+    int getCapacity();
+
+    String getOverflowPolicy();
+
+    long getAccepted();
+
+    long getPublished();
+
+    /**
+     * @return number of notifications dropped because the queue was full
+     */
+    long getDroppedOverflow();
+
+    /**
+     * @return number of notifications dropped by rate limiting of their type
+     */
+    long getDroppedRateLimited();
+
+    long getPublishFailures();
+
+    /**
+     * @return number of notifications collapsed into a later notification with the same key
+     */
+    long getCoalesced();
+}
@@ -15,13 +15,20 @@
  */
 package io.fd.honeycomb.notification.impl;
 
-import static com.google.common.base.Preconditions.checkState;
-
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.fd.honeycomb.notification.ManagedNotificationProducer;
 import io.fd.honeycomb.notification.NotificationCollector;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
@@ -36,6 +43,11 @@ import org.slf4j.LoggerFactory;
 /**
  * Starts &amp; stops notification producer dependencies on demand.
  * Uses {@link DOMNotificationSubscriptionListenerRegistry} to receive subscription change notifications.
+ *
+ * <p>Each producer is reference counted by the number of subscribed notification types it produces. It is started
+ * when the first of its notification types is subscribed and stopped when none remain subscribed. Subscription
+ * changes only update the counts, producers are started and stopped asynchronously, so that slow producers do not
+ * stall notification routing.
  */
 @ThreadSafe
 public final class NotificationProducerTracker
@@ -43,67 +55,101 @@ public final class NotificationProducerTracker
 
     private static final Logger LOG = LoggerFactory.getLogger(NotificationProducerTracker.class);
 
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
     private final ListenerRegistration<NotificationProducerTracker> subscriptionListener;
     private final NotificationProducerRegistry registry;
     private final NotificationCollector collector;
+    private final ExecutorService executor;
 
+    private final AtomicReference<Set<QName>> currentSubscriptions = new AtomicReference<>(Collections.emptySet());
+    private final Map<ManagedNotificationProducer, Integer> subscriptionCounts = new ConcurrentHashMap<>();
+    // accessed only from executor
     private final Set<ManagedNotificationProducer> alreadyStartedProducers = new HashSet<>();
 
     public NotificationProducerTracker(@Nonnull final NotificationProducerRegistry registry,
                                        @Nonnull final NotificationCollector collector,
                                        @Nonnull final DOMNotificationSubscriptionListenerRegistry notificationRouter) {
+        this(registry, collector, notificationRouter, Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("honeycomb-notification-producers-%d").setDaemon(true).build()));
+    }
+
+    /**
+     * @param executor executor starting and stopping producers, has to execute tasks one at a time
+     */
+    @VisibleForTesting
+    NotificationProducerTracker(@Nonnull final NotificationProducerRegistry registry,
+                                @Nonnull final NotificationCollector collector,
+                                @Nonnull final DOMNotificationSubscriptionListenerRegistry notificationRouter,
+                                @Nonnull final ExecutorService executor) {
         this.registry = registry;
         this.collector = collector;
+        this.executor = executor;
         this.subscriptionListener = notificationRouter.registerSubscriptionListener(this);
     }
 
     @Override
-    public synchronized void onSubscriptionChanged(final Set<SchemaPath> set) {
+    public void onSubscriptionChanged(final Set<SchemaPath> set) {
         LOG.debug("Subscriptions changed. Current subscriptions: {}", set);
-        final Set<QName> currentSubscriptions = set.stream().map(SchemaPath::getLastComponent).collect(Collectors.toSet());
-        final Set<QName> startedQNames = getStartedQNames(alreadyStartedProducers);
-        final Sets.SetView<QName> newSubscriptions = Sets.difference(currentSubscriptions, startedQNames);
+        final Set<QName> subscriptions = set.stream().map(SchemaPath::getLastComponent).collect(Collectors.toSet());
+        // Each change is diffed against its predecessor, so concurrent changes still produce consistent deltas
+        final Set<QName> previousSubscriptions = currentSubscriptions.getAndSet(subscriptions);
+        final Sets.SetView<QName> newSubscriptions = Sets.difference(subscriptions, previousSubscriptions);
         LOG.debug("Subscriptions changed. New subscriptions: {}", newSubscriptions);
-        final Sets.SetView<QName> deletedSubscriptions = Sets.difference(startedQNames, currentSubscriptions);
+        final Sets.SetView<QName> deletedSubscriptions = Sets.difference(previousSubscriptions, subscriptions);
         LOG.debug("Subscriptions changed. Deleted subscriptions: {}", deletedSubscriptions);
 
-        newSubscriptions.stream().forEach(newSub -> {
-            if(!registry.getNotificationQNameToProducer().containsKey(newSub)) {
-                return;
-            }
-            final ManagedNotificationProducer producer = registry.getNotificationQNameToProducer().get(newSub);
-            if(alreadyStartedProducers.contains(producer)) {
-                return;
-            }
-            LOG.debug("Starting notification producer: {}", producer);
-            producer.start(collector);
-            alreadyStartedProducers.add(producer);
-        });
-
-        deletedSubscriptions.stream().forEach(newSub -> {
-            checkState(registry.getNotificationQNameToProducer().containsKey(newSub));
-            final ManagedNotificationProducer producer = registry.getNotificationQNameToProducer().get(newSub);
-            checkState(alreadyStartedProducers.contains(producer));
-            LOG.debug("Stopping notification producer: {}", producer);
-            producer.stop();
-            alreadyStartedProducers.remove(producer);
-        });
+        newSubscriptions.forEach(qName -> updateSubscriptionCount(qName, 1));
+        deletedSubscriptions.forEach(qName -> updateSubscriptionCount(qName, -1));
+    }
 
+    private void updateSubscriptionCount(final QName qName, final int delta) {
+        final ManagedNotificationProducer producer = registry.getNotificationQNameToProducer().get(qName);
+        if (producer == null) {
+            return;
+        }
+        final Integer count = subscriptionCounts.merge(producer, delta, Integer::sum);
+        // Start or stop on transition between subscribed and unsubscribed
+        if (count == 0 || (count == 1 && delta > 0)) {
+            executor.execute(() -> reconcile(producer));
+        }
     }
 
-    private Set<QName> getStartedQNames(final Set<ManagedNotificationProducer> alreadyStartedProducers) {
-        return alreadyStartedProducers.stream()
-            .flatMap(p -> registry.getNotificationProducerQNames().get(p).stream())
-            .collect(Collectors.toSet());
+    /**
+     * Starts or stops producer according to its current subscription count. Runs in executor only, the outcome does
+     * not depend on order of scheduled reconciliations.
+     */
+    private void reconcile(final ManagedNotificationProducer producer) {
+        final boolean subscribed = subscriptionCounts.getOrDefault(producer, 0) > 0;
+        final boolean started = alreadyStartedProducers.contains(producer);
+        try {
+            if (subscribed && !started) {
+                LOG.debug("Starting notification producer: {}", producer);
+                producer.start(collector);
+                alreadyStartedProducers.add(producer);
+            } else if (!subscribed && started) {
+                LOG.debug("Stopping notification producer: {}", producer);
+                alreadyStartedProducers.remove(producer);
+                producer.stop();
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("Unable to {} notification producer: {}", subscribed ? "start" : "stop", producer, e);
+        }
     }
 
     @Override
-    public synchronized void close() throws Exception {
+    public void close() throws Exception {
         LOG.trace("Closing");
         subscriptionListener.close();
         // Stop all producers
-        LOG.debug("Stopping all producers: {}", alreadyStartedProducers);
-        alreadyStartedProducers.forEach(ManagedNotificationProducer::stop);
-        alreadyStartedProducers.clear();
+        executor.execute(() -> {
+            LOG.debug("Stopping all producers: {}", alreadyStartedProducers);
+            alreadyStartedProducers.forEach(ManagedNotificationProducer::stop);
+            alreadyStartedProducers.clear();
+        });
+        executor.shutdown();
+        if (!executor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            LOG.warn("Notification producers were not stopped in time");
+        }
     }
 }
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.notification.impl;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Sets;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.netconf.api.NetconfMessage;
+import org.opendaylight.netconf.api.xml.XmlUtil;
+import org.opendaylight.netconf.notifications.NetconfNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.SAXException;
+
+/**
+ * Bounded log of published NETCONF notifications, indexed by event time. Serves replay of notifications for
+ * RFC 5277 subscriptions with start time and stop time.
+ *
+ * <p>Notifications are kept serialized, and are dropped (oldest first) once retention limits on number of
+ * notifications, their total size or age are exceeded.
+ */
+@Beta
+@ThreadSafe
+public final class NotificationReplayBuffer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationReplayBuffer.class);
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long maxAgeMillis;
+    private final Clock clock;
+    private final Instant creationTime;
+
+    @GuardedBy("this")
+    private final NavigableMap<ReplayKey, byte[]> log = new TreeMap<>();
+    @GuardedBy("this")
+    private long bytes;
+    @GuardedBy("this")
+    private long sequence;
+    /**
+     * Notifications recorded, but not yet passed to all subscribers.
+     */
+    @GuardedBy("this")
+    private final Set<NetconfNotification> inFlight = Sets.newIdentityHashSet();
+
+    private NotificationReplayBuffer(final NotificationReplayBufferBuilder builder) {
+        this.maxEntries = builder.maxEntries;
+        this.maxBytes = builder.maxBytes;
+        this.maxAgeMillis = builder.maxAgeMillis;
+        this.clock = builder.clock;
+        this.creationTime = clock.instant();
+    }
+
+    /**
+     * Appends notification to the log.
+     */
+    public void record(@Nonnull final NetconfNotification notification) {
+        append(notification, serialize(notification));
+    }
+
+    /**
+     * Appends notification to the log and passes it to the publisher. Publisher runs outside of the log's lock,
+     * notifications that are being published are reported to subscribers registered in
+     * {@link #replay(Instant, Instant, Consumer)} instead, so that they neither miss nor receive duplicate
+     * notifications. Notifications are expected to be published from a single thread.
+     */
+    public void publish(@Nonnull final NetconfNotification notification,
+                        @Nonnull final Consumer<NetconfNotification> publisher) {
+        final byte[] serialized = serialize(notification);
+        synchronized (this) {
+            append(notification, serialized);
+            inFlight.add(notification);
+        }
+        try {
+            publisher.accept(notification);
+        } finally {
+            synchronized (this) {
+                inFlight.remove(notification);
+            }
+        }
+    }
+
+    /**
+     * Returns notifications with event time in provided range (inclusive), ordered by event time, and registers
+     * subscriber for live notifications atomically with taking the snapshot of the log. Notifications are restored
+     * from the log after the lock is released.
+     *
+     * @param stopTime end of the range, unlimited if null
+     * @param register registers subscriber for live notifications, invoked under the lock so it must not block.
+     *                 It is given a predicate matching notifications that are already part of the replay, but are
+     *                 still being published, so they can be delivered to the new subscriber. Subscriber has to skip
+     *                 those.
+     */
+    @Nonnull
+    public List<NetconfMessage> replay(@Nonnull final Instant startTime, @Nullable final Instant stopTime,
+                                       @Nonnull final Consumer<Predicate<NetconfNotification>> register) {
+        final List<byte[]> snapshot;
+        synchronized (this) {
+            prune();
+            final ReplayKey from = new ReplayKey(startTime.toEpochMilli(), Long.MIN_VALUE);
+            final NavigableMap<ReplayKey, byte[]> range = stopTime == null
+                    ? log.tailMap(from, true)
+                    : log.subMap(from, true, new ReplayKey(stopTime.toEpochMilli(), Long.MAX_VALUE), true);
+            snapshot = new ArrayList<>(range.values());
+            final Set<NetconfNotification> replayedInFlight = Sets.newIdentityHashSet();
+            replayedInFlight.addAll(inFlight);
+            register.accept(replayedInFlight::contains);
+        }
+        final List<NetconfMessage> messages = new ArrayList<>(snapshot.size());
+        for (byte[] serialized : snapshot) {
+            try {
+                messages.add(new NetconfMessage(XmlUtil.readXmlToDocument(new ByteArrayInputStream(serialized))));
+            } catch (SAXException | IOException e) {
+                LOG.warn("Unable to restore notification from replay log, skipping", e);
+            }
+        }
+        LOG.debug("Replaying {} notifications from {} to {}", messages.size(), startTime, stopTime);
+        return messages;
+    }
+
+    /**
+     * @return notifications with event time in provided range (inclusive), ordered by event time
+     */
+    @Nonnull
+    public List<NetconfMessage> getNotifications(@Nonnull final Instant startTime, @Nullable final Instant stopTime) {
+        return replay(startTime, stopTime, alreadyReplayed -> {
+        });
+    }
+
+    /**
+     * @return time when the log was created, reported as replay log creation time of the stream
+     */
+    @Nonnull
+    public Instant getCreationTime() {
+        return creationTime;
+    }
+
+    public synchronized int getSize() {
+        return log.size();
+    }
+
+    /**
+     * @return total size of serialized notifications in the log
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    private static byte[] serialize(final NetconfNotification notification) {
+        return XmlUtil.toString(notification.getDocument()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private synchronized void append(final NetconfNotification notification, final byte[] serialized) {
+        log.put(new ReplayKey(notification.getEventTime().getTime(), sequence++), serialized);
+        bytes += serialized.length;
+        prune();
+    }
+
+    @GuardedBy("this")
+    private void prune() {
+        final long oldestAllowed = maxAgeMillis > 0
+                ? clock.millis() - maxAgeMillis
+                : Long.MIN_VALUE;
+        while (!log.isEmpty()
+                && (log.size() > maxEntries || bytes > maxBytes || log.firstKey().eventTime < oldestAllowed)) {
+            final Map.Entry<ReplayKey, byte[]> dropped = log.pollFirstEntry();
+            bytes -= dropped.getValue().length;
+        }
+    }
+
+    private static final class ReplayKey implements Comparable<ReplayKey> {
+        private final long eventTime;
+        private final long sequence;
+
+        private ReplayKey(final long eventTime, final long sequence) {
+            this.eventTime = eventTime;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(final ReplayKey other) {
+            final int byTime = Long.compare(eventTime, other.eventTime);
+            return byTime != 0
+                    ? byTime
+                    : Long.compare(sequence, other.sequence);
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (other == null || getClass() != other.getClass()) {
+                return false;
+            }
+            final ReplayKey that = (ReplayKey) other;
+            return eventTime == that.eventTime && sequence == that.sequence;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(eventTime) * 31 + Long.hashCode(sequence);
+        }
+    }
+
+    public static final class NotificationReplayBufferBuilder {
+
+        private int maxEntries = 1000;
+        private long maxBytes = Long.MAX_VALUE;
+        private long maxAgeMillis;
+        private Clock clock = Clock.systemUTC();
+
+        public NotificationReplayBufferBuilder withMaxEntries(final int maxEntries) {
+            checkArgument(maxEntries > 0, "Max entries must be positive, but was %s", maxEntries);
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * @param maxBytes maximum total size of serialized notifications
+         */
+        public NotificationReplayBufferBuilder withMaxBytes(final long maxBytes) {
+            checkArgument(maxBytes > 0, "Max bytes must be positive, but was %s", maxBytes);
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * @param maxAge maximum age of notification, measured from its event time
+         */
+        public NotificationReplayBufferBuilder withMaxAge(final long maxAge, @Nonnull final TimeUnit unit) {
+            checkArgument(maxAge > 0, "Max age must be positive, but was %s", maxAge);
+            this.maxAgeMillis = unit.toMillis(maxAge);
+            return this;
+        }
+
+        @VisibleForTesting
+        NotificationReplayBufferBuilder withClock(@Nonnull final Clock clock) {
+            this.clock = checkNotNull(clock, "clock should not be null");
+            return this;
+        }
+
+        public NotificationReplayBuffer build() {
+            return new NotificationReplayBuffer(this);
+        }
+    }
+}
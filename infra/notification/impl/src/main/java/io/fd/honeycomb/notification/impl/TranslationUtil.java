@@ -17,10 +17,13 @@
 package io.fd.honeycomb.notification.impl;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.util.Date;
 import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
 import javax.xml.transform.dom.DOMResult;
+import org.opendaylight.mdsal.dom.api.DOMEvent;
 import org.opendaylight.mdsal.dom.api.DOMNotification;
 import org.opendaylight.netconf.api.xml.XmlUtil;
 import org.opendaylight.netconf.notifications.NetconfNotification;
@@ -69,7 +72,13 @@ public final class TranslationUtil {
         }
 
         final Document node = result.getNode().getOwnerDocument();
-        return new NetconfNotification(node);
+        // Preserve time of the event if known, instead of time of transformation
+        final Instant eventTime = domNotification instanceof DOMEvent
+            ? ((DOMEvent) domNotification).getEventInstant()
+            : null;
+        return eventTime != null
+            ? new NetconfNotification(node, Date.from(eventTime))
+            : new NetconfNotification(node);
     }
 
     private static DOMResult prepareDomResultForRpcRequest(final QName notificationQName) {
@@ -16,6 +16,7 @@
 package io.fd.honeycomb.notification.impl;
 
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 import com.google.common.collect.Lists;
@@ -60,4 +61,17 @@ public class HoneycombNotificationCollectorTest {
         honeycombNotificationCollector.onNotification(notif);
         verify(notificationService).putNotification(notif);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCollectAsync() throws Exception {
+        final NotificationPipeline pipeline =
+            new NotificationPipeline.NotificationPipelineBuilder().build(notificationService);
+        final HoneycombNotificationCollector honeycombNotificationCollector =
+            new HoneycombNotificationCollector(notificationService, notificationRegistry, pipeline);
+
+        final NetconfSessionStart notif = new NetconfSessionStartBuilder().build();
+        honeycombNotificationCollector.onNotification(notif);
+        verify(notificationService, timeout(5000)).putNotification(notif);
+        honeycombNotificationCollector.close();
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.notification.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.fd.honeycomb.notification.NotificationCoalescingRule;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.SessionIdOrZeroType;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEndBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionStart;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionStartBuilder;
+import org.opendaylight.yangtools.yang.binding.Notification;
+
+public class NotificationCoalescerTest {
+
+    private final Queue<Runnable> scheduled = new ArrayDeque<>();
+    private final List<Notification> delivered = new ArrayList<>();
+    private ScheduledExecutorService scheduler;
+
+    @Before
+    public void setUp() {
+        scheduler = mock(ScheduledExecutorService.class);
+        when(scheduler.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.NANOSECONDS)))
+                .then(invocation -> {
+                    scheduled.add(invocation.getArgument(0));
+                    return null;
+                });
+    }
+
+    @Test
+    public void testLatestStatePerKey() {
+        final NotificationCoalescer coalescer = new NotificationCoalescer.NotificationCoalescerBuilder()
+                .withRule(NetconfSessionStart.class, NetconfSessionStart::getUsername, 1, TimeUnit.SECONDS)
+                .withScheduler(scheduler)
+                .build(delivered::add);
+
+        final NetconfSessionStart first = start("a", 1L);
+        final NetconfSessionStart second = start("a", 2L);
+        final NetconfSessionStart third = start("a", 3L);
+        final NetconfSessionStart other = start("b", 1L);
+        coalescer.offer(first);
+        coalescer.offer(second);
+        coalescer.offer(third);
+        assertEquals(Collections.singletonList(first), delivered);
+        assertEquals(1, coalescer.getCoalesced());
+
+        runScheduled();
+        assertEquals(Arrays.asList(first, third), delivered);
+        // window with held notification was reopened
+        assertEquals(1, coalescer.getWindowCount());
+        runScheduled();
+        assertEquals(0, coalescer.getWindowCount());
+    }
+
+    @Test
+    public void testArrivalOrderAcrossKeys() {
+        final NotificationCoalescer coalescer = new NotificationCoalescer.NotificationCoalescerBuilder()
+                .withRule(NetconfSessionStart.class, NetconfSessionStart::getUsername, 1, TimeUnit.SECONDS)
+                .withScheduler(scheduler)
+                .build(delivered::add);
+
+        final NetconfSessionStart firstA = start("a", 1L);
+        final NetconfSessionStart secondA = start("a", 2L);
+        final NetconfSessionStart firstB = start("b", 1L);
+        final NetconfSessionStart secondB = start("b", 2L);
+        final NetconfSessionStart thirdA = start("a", 3L);
+        coalescer.offer(firstA);
+        coalescer.offer(secondA);
+        // held notification of other key arrived earlier, it is passed first
+        coalescer.offer(firstB);
+        assertEquals(Arrays.asList(firstA, secondA, firstB), delivered);
+
+        coalescer.offer(secondB);
+        coalescer.offer(thirdA);
+        // expiry of window for key a passes also notification held for key b, which arrived earlier
+        runScheduled();
+        assertEquals(Arrays.asList(firstA, secondA, firstB, secondB, thirdA), delivered);
+    }
+
+    @Test
+    public void testPassThroughKeepsArrivalOrder() {
+        final NotificationCoalescer coalescer = new NotificationCoalescer.NotificationCoalescerBuilder()
+                .withRule(NetconfSessionStart.class, NetconfSessionStart::getUsername, 1, TimeUnit.SECONDS)
+                .withScheduler(scheduler)
+                .build(delivered::add);
+
+        final NetconfSessionStart first = start("a", 1L);
+        final NetconfSessionStart second = start("a", 2L);
+        final NetconfSessionEnd end = new NetconfSessionEndBuilder().setUsername("a").build();
+        coalescer.offer(first);
+        coalescer.offer(second);
+        coalescer.offer(end);
+        assertEquals(Arrays.asList(first, second, end), delivered);
+    }
+
+    @Test
+    public void testSummary() {
+        final NetconfSessionStart summary = start("summary", 0L);
+        final List<Integer> counts = new ArrayList<>();
+        final NotificationCoalescer coalescer = new NotificationCoalescer.NotificationCoalescerBuilder()
+                .withRule(NetconfSessionStart.class, NetconfSessionStart::getUsername, 1, TimeUnit.SECONDS,
+                        (latest, count) -> {
+                            counts.add(count);
+                            return summary;
+                        })
+                .withScheduler(scheduler)
+                .build(delivered::add);
+
+        for (long session = 0; session < 5; session++) {
+            coalescer.offer(start("a", session));
+        }
+        runScheduled();
+        assertEquals(Collections.singletonList(4), counts);
+        assertEquals(summary, delivered.get(1));
+    }
+
+    @Test
+    public void testTypesWithoutRulePassThrough() {
+        final NotificationCoalescer coalescer = new NotificationCoalescer.NotificationCoalescerBuilder()
+                .withRule(NetconfSessionStart.class, NetconfSessionStart::getUsername, 1, TimeUnit.SECONDS)
+                .withScheduler(scheduler)
+                .build(delivered::add);
+
+        final NetconfSessionEnd end = new NetconfSessionEndBuilder().setUsername("a").build();
+        coalescer.offer(end);
+        coalescer.offer(end);
+        assertEquals(Arrays.asList(end, end), delivered);
+        assertEquals(0, coalescer.getWindowCount());
+    }
+
+    @Test
+    public void testPluginRule() {
+        final NotificationCoalescingRule<NetconfSessionStart> rule =
+                new NotificationCoalescingRule<NetconfSessionStart>() {
+                    @Override
+                    public Class<NetconfSessionStart> getNotificationType() {
+                        return NetconfSessionStart.class;
+                    }
+
+                    @Override
+                    public Object getKey(final NetconfSessionStart notification) {
+                        return notification.getUsername();
+                    }
+                };
+        final NotificationCoalescer coalescer = new NotificationCoalescer.NotificationCoalescerBuilder()
+                .withRule(rule, 1, TimeUnit.SECONDS)
+                .withScheduler(scheduler)
+                .build(delivered::add);
+
+        final NetconfSessionStart first = start("a", 1L);
+        final NetconfSessionStart other = start("b", 1L);
+        coalescer.offer(first);
+        coalescer.offer(start("a", 2L));
+        coalescer.offer(start("a", 3L));
+        assertEquals(1, coalescer.getCoalesced());
+        coalescer.offer(other);
+        assertEquals(Arrays.asList(first, start("a", 3L), other), delivered);
+    }
+
+    @Test
+    public void testCloseFlushesHeldNotifications() {
+        final NotificationCoalescer coalescer = new NotificationCoalescer.NotificationCoalescerBuilder()
+                .withRule(NetconfSessionStart.class, NetconfSessionStart::getUsername, 1, TimeUnit.SECONDS)
+                .withScheduler(scheduler)
+                .build(delivered::add);
+
+        final NetconfSessionStart first = start("a", 1L);
+        final NetconfSessionStart second = start("a", 2L);
+        coalescer.offer(first);
+        coalescer.offer(second);
+        coalescer.close();
+        assertEquals(Arrays.asList(first, second), delivered);
+    }
+
+    private void runScheduled() {
+        final List<Runnable> tasks = new ArrayList<>(scheduled);
+        scheduled.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private static NetconfSessionStart start(final String user, final long sessionId) {
+        return new NetconfSessionStartBuilder().setUsername(user).setSessionId(new SessionIdOrZeroType(sessionId)).build();
+    }
+}
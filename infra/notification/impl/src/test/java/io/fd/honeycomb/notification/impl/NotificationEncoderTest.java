@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.notification.impl;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import java.time.Instant;
+import java.util.Date;
+import javax.annotation.Nonnull;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.mdsal.binding.generator.impl.ModuleInfoBackedContext;
+import org.opendaylight.mdsal.dom.api.DOMEvent;
+import org.opendaylight.mdsal.dom.api.DOMNotification;
+import org.opendaylight.netconf.notifications.NetconfNotification;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.$YangModuleInfoImpl;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionStart;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+public class NotificationEncoderTest {
+
+    private SchemaContext schemaContext;
+
+    @Before
+    public void setUp() {
+        final ModuleInfoBackedContext moduleInfoBackedContext = ModuleInfoBackedContext.create();
+        moduleInfoBackedContext.registerModuleInfo($YangModuleInfoImpl.getInstance());
+        schemaContext = moduleInfoBackedContext.getSchemaContext();
+    }
+
+    @Test
+    public void testEncode() {
+        final NotificationEncoder encoder = new NotificationEncoder(schemaContext);
+
+        final NetconfNotification encoded = encoder.encode(new SessionStart("user", null));
+        assertThat(encoded.toString(), containsString("<netconf-session-start"));
+        assertThat(encoded.toString(), containsString("<username>user</username>"));
+    }
+
+    @Test
+    public void testEventTime() {
+        final NotificationEncoder encoder = new NotificationEncoder(schemaContext);
+        final Instant eventTime = Instant.parse("2019-01-01T10:00:00Z");
+
+        final NetconfNotification encoded = encoder.encode(new SessionStart("user", eventTime));
+        assertEquals(Date.from(eventTime), encoded.getEventTime());
+    }
+
+    private static final class SessionStart implements DOMNotification, DOMEvent {
+        private final String username;
+        private final Instant eventTime;
+
+        private SessionStart(final String username, final Instant eventTime) {
+            this.username = username;
+            this.eventTime = eventTime;
+        }
+
+        @Nonnull
+        @Override
+        public SchemaPath getType() {
+            return SchemaPath.create(true, NetconfSessionStart.QNAME);
+        }
+
+        @Nonnull
+        @Override
+        public ContainerNode getBody() {
+            return Builders.containerBuilder()
+                .withNodeIdentifier(new YangInstanceIdentifier.NodeIdentifier(NetconfSessionStart.QNAME))
+                .withChild(ImmutableNodes.leafNode(QName.create(NetconfSessionStart.QNAME, "username"), username))
+                .withChild(ImmutableNodes.leafNode(QName.create(NetconfSessionStart.QNAME, "session-id"), 1))
+                .withChild(
+                    ImmutableNodes.leafNode(QName.create(NetconfSessionStart.QNAME, "source-host"), "127.0.0.1"))
+                .build();
+        }
+
+        @Override
+        public Instant getEventInstant() {
+            return eventTime;
+        }
+    }
+}
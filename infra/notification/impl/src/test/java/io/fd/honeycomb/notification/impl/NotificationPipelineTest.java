@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.notification.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.base.Ticker;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.mdsal.binding.api.NotificationPublishService;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEndBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionStart;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionStartBuilder;
+import org.opendaylight.yangtools.yang.binding.Notification;
+
+public class NotificationPipelineTest {
+
+    @Mock
+    private NotificationPublishService publishService;
+
+    private final CountDownLatch publishing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private NotificationPipeline pipeline;
+
+    @Before
+    public void setUp() throws Exception {
+        MockitoAnnotations.initMocks(this);
+    }
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        if (pipeline != null) {
+            pipeline.close();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testDropNewest() throws Exception {
+        pipeline = blockedPipeline(NotificationPipeline.OverflowPolicy.DROP_NEWEST);
+        final NetconfSessionStart first = start("first");
+        final NetconfSessionStart second = start("second");
+        final NetconfSessionStart third = start("third");
+
+        assertTrue(pipeline.offer(second));
+        assertFalse(pipeline.offer(third));
+        assertEquals(1, pipeline.getQueueDepth());
+        assertEquals(1, pipeline.getDroppedOverflow());
+
+        release.countDown();
+        verify(publishService, timeout(5000)).putNotification(second);
+        verify(publishService, never()).putNotification(third);
+        verify(publishService).putNotification(first);
+    }
+
+    @Test(timeout = 10000)
+    public void testDropOldest() throws Exception {
+        pipeline = blockedPipeline(NotificationPipeline.OverflowPolicy.DROP_OLDEST);
+        final NetconfSessionStart second = start("second");
+        final NetconfSessionStart third = start("third");
+
+        assertTrue(pipeline.offer(second));
+        assertTrue(pipeline.offer(third));
+        assertEquals(1, pipeline.getQueueDepth());
+        assertEquals(1, pipeline.getDroppedOverflow());
+
+        release.countDown();
+        verify(publishService, timeout(5000)).putNotification(third);
+        verify(publishService, never()).putNotification(second);
+    }
+
+    @Test(timeout = 10000)
+    public void testBlock() throws Exception {
+        pipeline = blockedPipeline(NotificationPipeline.OverflowPolicy.BLOCK);
+        final NetconfSessionStart second = start("second");
+        final NetconfSessionStart third = start("third");
+        assertTrue(pipeline.offer(second));
+
+        final Thread producer = new Thread(() -> pipeline.offer(third));
+        producer.start();
+        producer.join(200);
+        // producer waits for free space in the queue
+        assertTrue(producer.isAlive());
+
+        release.countDown();
+        producer.join();
+        verify(publishService, timeout(5000)).putNotification(third);
+        assertEquals(3, pipeline.getAccepted());
+        assertEquals(0, pipeline.getDroppedOverflow());
+        assertEquals(1, pipeline.getMaxQueueDepth());
+    }
+
+    @Test(timeout = 10000)
+    public void testRateLimitPerType() throws Exception {
+        final long[] now = {0};
+        final Ticker ticker = new Ticker() {
+            @Override
+            public long read() {
+                return now[0];
+            }
+        };
+        pipeline = new NotificationPipeline.NotificationPipelineBuilder()
+                .withRateLimit(NetconfSessionStart.class, 2)
+                .withTicker(ticker)
+                .build(publishService);
+
+        assertTrue(pipeline.offer(start("1")));
+        assertTrue(pipeline.offer(start("2")));
+        assertFalse(pipeline.offer(start("3")));
+        // other types are not limited
+        assertTrue(pipeline.offer(end("1")));
+        assertTrue(pipeline.offer(end("2")));
+        assertTrue(pipeline.offer(end("3")));
+
+        now[0] += TimeUnit.MILLISECONDS.toNanos(500);
+        assertTrue(pipeline.offer(start("4")));
+        assertFalse(pipeline.offer(start("5")));
+
+        assertEquals(2, pipeline.getDroppedRateLimited());
+        verify(publishService, timeout(5000).times(6)).putNotification(any(Notification.class));
+        assertEquals(6, pipeline.getPublished());
+    }
+
+    @Test(timeout = 10000)
+    public void testCloseDrainsQueue() throws Exception {
+        pipeline = blockedPipeline(NotificationPipeline.OverflowPolicy.BLOCK);
+        final NetconfSessionStart second = start("second");
+        pipeline.offer(second);
+
+        release.countDown();
+        pipeline.close();
+        verify(publishService).putNotification(second);
+        assertFalse(pipeline.offer(start("third")));
+    }
+
+    @Test(timeout = 10000)
+    public void testCoalescing() throws Exception {
+        pipeline = new NotificationPipeline.NotificationPipelineBuilder()
+                .withCoalescing(new NotificationCoalescer.NotificationCoalescerBuilder()
+                        .withRule(NetconfSessionStart.class, NetconfSessionStart::getUsername, 1, TimeUnit.HOURS))
+                .build(publishService);
+        final NetconfSessionStart first = start("user");
+        pipeline.offer(first);
+        pipeline.offer(start("user"));
+        pipeline.offer(start("user"));
+
+        verify(publishService, timeout(5000)).putNotification(first);
+        assertEquals(1, pipeline.getCoalesced());
+        assertEquals(1, pipeline.getAccepted());
+    }
+
+    /**
+     * Creates pipeline of capacity 1, with dispatcher blocked publishing the first notification.
+     */
+    private NotificationPipeline blockedPipeline(final NotificationPipeline.OverflowPolicy policy) throws Exception {
+        doAnswer(invocation -> {
+            publishing.countDown();
+            release.await();
+            return null;
+        }).when(publishService).putNotification(any(Notification.class));
+        final NotificationPipeline pipeline = new NotificationPipeline.NotificationPipelineBuilder()
+                .withCapacity(1)
+                .withOverflowPolicy(policy)
+                .build(publishService);
+        pipeline.offer(start("first"));
+        publishing.await();
+        return pipeline;
+    }
+
+    private static NetconfSessionStart start(final String user) {
+        return new NetconfSessionStartBuilder().setUsername(user).build();
+    }
+
+    private static NetconfSessionEnd end(final String user) {
+        return new NetconfSessionEndBuilder().setUsername(user).build();
+    }
+}
@@ -15,11 +15,15 @@
  */
 package io.fd.honeycomb.notification.impl;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.MoreExecutors;
 import io.fd.honeycomb.notification.ManagedNotificationProducer;
 import io.fd.honeycomb.notification.NotificationCollector;
 import java.util.Collections;
@@ -29,7 +33,9 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opendaylight.mdsal.dom.spi.DOMNotificationSubscriptionListenerRegistry;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionStart;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 
 public class NotificationProducerTrackerTest {
@@ -41,10 +47,13 @@ public class NotificationProducerTrackerTest {
     private NotificationCollector collector;
     @Mock
     private ManagedNotificationProducer producer;
+    @Mock
+    private ListenerRegistration<NotificationProducerTracker> listenerRegistration;
 
     @Before
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
+        doReturn(listenerRegistration).when(subscriptionRegistry).registerSubscriptionListener(any());
         doReturn(Collections.singleton(NetconfSessionStart.class)).when(producer).getNotificationTypes();
         registry = new NotificationProducerRegistry(Lists.newArrayList(producer));
     }
@@ -59,9 +68,44 @@ public class NotificationProducerTrackerTest {
         subscriptions.add(SchemaPath.create(true, NetconfSessionStart.QNAME));
         notificationProducerTracker.onSubscriptionChanged(subscriptions);
 
+        verify(producer, timeout(1000)).start(collector);
+
+        notificationProducerTracker.onSubscriptionChanged(Sets.newHashSet());
+        verify(producer, timeout(1000)).stop();
+        notificationProducerTracker.close();
+    }
+
+    @Test
+    public void testProducerWithMultipleTypes() throws Exception {
+        doReturn(Sets.newHashSet(NetconfSessionStart.class, NetconfSessionEnd.class))
+            .when(producer).getNotificationTypes();
+        registry = new NotificationProducerRegistry(Lists.newArrayList(producer));
+        final NotificationProducerTracker notificationProducerTracker = new NotificationProducerTracker(registry,
+            collector, subscriptionRegistry, MoreExecutors.newDirectExecutorService());
+
+        final SchemaPath start = SchemaPath.create(true, NetconfSessionStart.QNAME);
+        final SchemaPath end = SchemaPath.create(true, NetconfSessionEnd.QNAME);
+        notificationProducerTracker.onSubscriptionChanged(Sets.newHashSet(start));
+        notificationProducerTracker.onSubscriptionChanged(Sets.newHashSet(start, end));
         verify(producer).start(collector);
 
+        // Producer is still needed for remaining subscription
+        notificationProducerTracker.onSubscriptionChanged(Sets.newHashSet(end));
+        verify(producer, never()).stop();
+
         notificationProducerTracker.onSubscriptionChanged(Sets.newHashSet());
         verify(producer).stop();
     }
+
+    @Test
+    public void testCloseStopsProducers() throws Exception {
+        final NotificationProducerTracker notificationProducerTracker = new NotificationProducerTracker(registry,
+            collector, subscriptionRegistry, MoreExecutors.newDirectExecutorService());
+        notificationProducerTracker.onSubscriptionChanged(
+            Sets.newHashSet(SchemaPath.create(true, NetconfSessionStart.QNAME)));
+        verify(producer).start(collector);
+
+        notificationProducerTracker.close();
+        verify(producer).stop();
+    }
 }
\ No newline at end of file
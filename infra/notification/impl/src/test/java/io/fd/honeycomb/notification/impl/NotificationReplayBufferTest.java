@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.notification.impl;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.util.concurrent.Futures;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.opendaylight.netconf.api.NetconfMessage;
+import org.opendaylight.netconf.api.xml.XmlUtil;
+import org.opendaylight.netconf.notifications.NetconfNotification;
+
+public class NotificationReplayBufferTest {
+
+    private static final Instant T0 = Instant.parse("2019-01-01T10:00:00Z");
+
+    private final MutableClock clock = new MutableClock(T0);
+
+    @Test
+    public void testTimeRange() throws Exception {
+        final NotificationReplayBuffer buffer = new NotificationReplayBuffer.NotificationReplayBufferBuilder()
+                .withClock(clock)
+                .build();
+        for (int i = 0; i < 5; i++) {
+            buffer.record(notification("n" + i, T0.plusSeconds(i)));
+        }
+
+        assertEquals(names("n1", "n2", "n3"), names(buffer.getNotifications(T0.plusSeconds(1), T0.plusSeconds(3))));
+        assertEquals(names("n3", "n4"), names(buffer.getNotifications(T0.plusSeconds(3), null)));
+        assertTrue(buffer.getNotifications(T0.plusSeconds(10), null).isEmpty());
+    }
+
+    @Test
+    public void testOrderedByEventTime() throws Exception {
+        final NotificationReplayBuffer buffer = new NotificationReplayBuffer.NotificationReplayBufferBuilder()
+                .withClock(clock)
+                .build();
+        buffer.record(notification("late", T0.plusSeconds(2)));
+        buffer.record(notification("early", T0.plusSeconds(1)));
+        buffer.record(notification("sameTime", T0.plusSeconds(2)));
+
+        assertEquals(names("early", "late", "sameTime"), names(buffer.getNotifications(T0, null)));
+    }
+
+    @Test
+    public void testMaxEntries() throws Exception {
+        final NotificationReplayBuffer buffer = new NotificationReplayBuffer.NotificationReplayBufferBuilder()
+                .withMaxEntries(2)
+                .withClock(clock)
+                .build();
+        for (int i = 0; i < 5; i++) {
+            buffer.record(notification("n" + i, T0.plusSeconds(i)));
+        }
+
+        assertEquals(names("n3", "n4"), names(buffer.getNotifications(T0, null)));
+    }
+
+    @Test
+    public void testMaxBytes() throws Exception {
+        final NetconfNotification notification = notification("n0", T0);
+        final long size = XmlUtil.toString(notification.getDocument()).length();
+        final NotificationReplayBuffer buffer = new NotificationReplayBuffer.NotificationReplayBufferBuilder()
+                .withMaxBytes(size * 2)
+                .withClock(clock)
+                .build();
+        buffer.record(notification);
+        buffer.record(notification("n1", T0));
+        buffer.record(notification("n2", T0));
+
+        assertEquals(2, buffer.getSize());
+        assertTrue(buffer.getBytes() <= size * 2);
+        assertEquals(names("n1", "n2"), names(buffer.getNotifications(T0, null)));
+    }
+
+    @Test
+    public void testMaxAge() throws Exception {
+        final NotificationReplayBuffer buffer = new NotificationReplayBuffer.NotificationReplayBufferBuilder()
+                .withMaxAge(1, TimeUnit.MINUTES)
+                .withClock(clock)
+                .build();
+        buffer.record(notification("n0", T0));
+        clock.instant = T0.plusSeconds(30);
+        buffer.record(notification("n1", T0.plusSeconds(30)));
+        clock.instant = T0.plusSeconds(61);
+
+        assertEquals(names("n1"), names(buffer.getNotifications(T0, null)));
+        assertEquals(1, buffer.getSize());
+    }
+
+    @Test
+    public void testPublishRecords() throws Exception {
+        final NotificationReplayBuffer buffer = new NotificationReplayBuffer.NotificationReplayBufferBuilder()
+                .withClock(clock)
+                .build();
+        final List<NetconfNotification> published = new ArrayList<>();
+        final NetconfNotification notification = notification("n0", T0);
+        buffer.publish(notification, published::add);
+
+        assertEquals(1, published.size());
+        assertEquals(1, buffer.getSize());
+        final NetconfMessage replayed = buffer.getNotifications(T0, T0).get(0);
+        assertThat(XmlUtil.toString(replayed.getDocument()), containsString("eventTime"));
+    }
+
+    @Test
+    public void testReplayDuringPublish() throws Exception {
+        final NotificationReplayBuffer buffer = new NotificationReplayBuffer.NotificationReplayBufferBuilder()
+                .withClock(clock)
+                .build();
+        final NetconfNotification notification = notification("n0", T0);
+        final List<Predicate<NetconfNotification>> alreadyReplayed = new ArrayList<>();
+        final List<NetconfMessage> replayed = new ArrayList<>();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // replay from other thread must not block on the lock while notification is being published
+            buffer.publish(notification, n -> replayed.addAll(Futures.getUnchecked(executor.submit(
+                    () -> buffer.replay(T0, null, alreadyReplayed::add)))));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(names("n0"), names(replayed));
+        assertTrue(alreadyReplayed.get(0).test(notification));
+        assertFalse(alreadyReplayed.get(0).test(notification("n1", T0)));
+    }
+
+    private static NetconfNotification notification(final String name, final Instant eventTime) throws Exception {
+        return new NetconfNotification(XmlUtil.readXmlToDocument("<" + name + " xmlns=\"urn:test\"/>"),
+                Date.from(eventTime));
+    }
+
+    private static List<String> names(final String... names) {
+        final List<String> result = new ArrayList<>();
+        for (String name : names) {
+            result.add(name);
+        }
+        return result;
+    }
+
+    private static List<String> names(final List<NetconfMessage> messages) {
+        return messages.stream()
+                .map(message -> message.getDocument().getElementsByTagNameNS("urn:test", "*").item(0).getLocalName())
+                .collect(Collectors.toList());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -21,10 +21,20 @@ import java.util.concurrent.CompletionStage;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 
 @Beta
 public interface RpcRegistry {
 
     @Nonnull CompletionStage invoke(@Nonnull final SchemaPath schemaPath, @Nullable final DataObject request);
+
+    /**
+     * Returns schema path of input container of an RPC, used to deserialize RPC input. Implementations may return
+     * paths precomputed for registered RPCs.
+     */
+    @Nonnull
+    default SchemaPath getInputPath(@Nonnull final SchemaPath schemaPath) {
+        return schemaPath.createChild(QName.create(schemaPath.getLastComponent(), "input").intern());
+    }
 }
@@ -0,0 +1,394 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.honeycomb.rpc;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.fd.honeycomb.translate.util.LatencyHistogram;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link RpcRegistry} executing RPCs asynchronously, isolated from each other by per-RPC bulkheads.
+ *
+ * <p>Each RPC (identified by its {@link SchemaPath}) can have limited number of invocations executing at the same
+ * time and limited number of invocations waiting for execution. Invocations above these limits are rejected
+ * immediately, and invocations not completed within timeout fail with {@link RpcException}. This way a slow RPC
+ * cannot exhaust threads of its callers (e.g. RESTCONF) nor threads of the shared executor.
+ *
+ * <p>Executor has to provide more threads than the concurrency limit of a single RPC, otherwise one RPC can still
+ * occupy the whole executor.
+ */
+@Beta
+@ThreadSafe
+public final class BulkheadRpcRegistry implements RpcRegistry, BulkheadRpcRegistryMXBean, AutoCloseable {
+
+    public static final String OBJECT_NAME = "io.fd.honeycomb:type=RpcBulkheads";
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkheadRpcRegistry.class);
+
+    private final RpcRegistry delegate;
+    private final Executor executor;
+    @Nullable
+    private final ExecutorService ownedExecutor;
+    @Nullable
+    private final ScheduledExecutorService timer;
+    private final long timeoutMillis;
+    private final Limits defaultLimits;
+    private final Map<SchemaPath, Limits> limits;
+    private final Map<SchemaPath, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    private BulkheadRpcRegistry(@Nonnull final RpcRegistry delegate,
+                                @Nonnull final BulkheadRpcRegistryBuilder builder) {
+        this.delegate = delegate;
+        if (builder.executor != null) {
+            this.executor = builder.executor;
+            this.ownedExecutor = null;
+        } else {
+            this.ownedExecutor = Executors.newFixedThreadPool(builder.threads,
+                    new ThreadFactoryBuilder().setNameFormat("honeycomb-rpc-%d").setDaemon(true).build());
+            this.executor = ownedExecutor;
+        }
+        this.timeoutMillis = builder.timeoutMillis;
+        if (builder.timer != null) {
+            this.timer = builder.timer;
+        } else if (timeoutMillis > 0) {
+            final ScheduledThreadPoolExecutor timeoutExecutor = new ScheduledThreadPoolExecutor(1,
+                    new ThreadFactoryBuilder().setNameFormat("honeycomb-rpc-timeout-%d").setDaemon(true).build());
+            timeoutExecutor.setRemoveOnCancelPolicy(true);
+            this.timer = timeoutExecutor;
+        } else {
+            this.timer = null;
+        }
+        this.defaultLimits = new Limits(builder.maxConcurrent, builder.maxQueued);
+        this.limits = new HashMap<>(builder.limits);
+    }
+
+    @Override
+    @Nonnull
+    public CompletionStage invoke(@Nonnull final SchemaPath schemaPath, @Nullable final DataObject request) {
+        return bulkheads
+                .computeIfAbsent(schemaPath, path -> new Bulkhead(path, limits.getOrDefault(path, defaultLimits)))
+                .invoke(request);
+    }
+
+    @Override
+    @Nonnull
+    public SchemaPath getInputPath(@Nonnull final SchemaPath schemaPath) {
+        return delegate.getInputPath(schemaPath);
+    }
+
+    /**
+     * @return execution latencies of RPC, or null if the RPC was not invoked yet
+     */
+    @Nullable
+    public LatencyHistogram getLatency(@Nonnull final SchemaPath schemaPath) {
+        final Bulkhead bulkhead = bulkheads.get(schemaPath);
+        return bulkhead == null
+                ? null
+                : bulkhead.latency;
+    }
+
+    @Override
+    public Map<String, Integer> getRunning() {
+        return collect(Bulkhead::getRunning);
+    }
+
+    @Override
+    public Map<String, Integer> getQueued() {
+        return collect(Bulkhead::getQueued);
+    }
+
+    @Override
+    public Map<String, Long> getRejected() {
+        return collect(bulkhead -> bulkhead.rejected.sum());
+    }
+
+    @Override
+    public Map<String, Long> getTimedOut() {
+        return collect(bulkhead -> bulkhead.timedOut.sum());
+    }
+
+    @Override
+    public Map<String, String> getLatencies() {
+        return collect(bulkhead -> bulkhead.latency.toString());
+    }
+
+    private <T> Map<String, T> collect(final Function<Bulkhead, T> statistic) {
+        return bulkheads.values().stream().collect(Collectors.toMap(bulkhead -> bulkhead.name, statistic));
+    }
+
+    @Override
+    public void close() {
+        LOG.debug("Closing RPC bulkheads");
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+        if (timer != null) {
+            timer.shutdown();
+        }
+    }
+
+    private static final class Limits {
+        private final int maxConcurrent;
+        private final int maxQueued;
+
+        private Limits(final int maxConcurrent, final int maxQueued) {
+            checkArgument(maxConcurrent > 0, "Max concurrent invocations must be positive, but was %s",
+                    maxConcurrent);
+            checkArgument(maxQueued >= 0, "Max queued invocations cannot be negative, but was %s", maxQueued);
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueued = maxQueued;
+        }
+    }
+
+    private static final class Invocation {
+        private final DataObject request;
+        private final CompletableFuture<DataObject> result = new CompletableFuture<>();
+
+        private Invocation(@Nullable final DataObject request) {
+            this.request = request;
+        }
+    }
+
+    private final class Bulkhead {
+        private final SchemaPath path;
+        private final String name;
+        private final Limits limits;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder timedOut = new LongAdder();
+
+        @GuardedBy("this")
+        private final Queue<Invocation> pending = new ArrayDeque<>();
+        @GuardedBy("this")
+        private int running;
+
+        private Bulkhead(final SchemaPath path, final Limits limits) {
+            this.path = path;
+            this.name = path.getLastComponent().toString();
+            this.limits = limits;
+        }
+
+        private CompletionStage<DataObject> invoke(@Nullable final DataObject request) {
+            final Invocation invocation = new Invocation(request);
+            final boolean execute;
+            synchronized (this) {
+                if (running < limits.maxConcurrent) {
+                    running++;
+                    execute = true;
+                } else if (pending.size() < limits.maxQueued) {
+                    pending.add(invocation);
+                    execute = false;
+                } else {
+                    rejected.increment();
+                    LOG.debug("Rejecting invocation of RPC {}, {} invocations already pending", name, pending.size());
+                    invocation.result.completeExceptionally(
+                            new RpcException(String.format("Too many pending invocations of RPC %s", name), null));
+                    return invocation.result;
+                }
+            }
+            scheduleTimeout(invocation);
+            if (execute) {
+                dispatch(invocation);
+            }
+            return invocation.result;
+        }
+
+        private void scheduleTimeout(final Invocation invocation) {
+            if (timer == null || timeoutMillis == 0) {
+                return;
+            }
+            final ScheduledFuture<?> timeout;
+            try {
+                timeout = timer.schedule(() -> {
+                    if (invocation.result.completeExceptionally(new RpcException(
+                            String.format("RPC %s did not complete within %d ms", name, timeoutMillis),
+                            new TimeoutException()))) {
+                        timedOut.increment();
+                    }
+                }, timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Unable to schedule timeout of RPC {}, registry is closed", name, e);
+                return;
+            }
+            invocation.result.whenComplete((output, error) -> timeout.cancel(false));
+        }
+
+        private void dispatch(final Invocation invocation) {
+            try {
+                executor.execute(() -> execute(invocation));
+            } catch (RejectedExecutionException e) {
+                invocation.result.completeExceptionally(new RpcException("Unable to execute RPC " + name, e));
+                release();
+            }
+        }
+
+        private void execute(final Invocation invocation) {
+            if (invocation.result.isDone()) {
+                // Timed out while waiting for execution
+                release();
+                return;
+            }
+            final long start = System.nanoTime();
+            CompletionStage<?> stage;
+            try {
+                stage = delegate.invoke(path, invocation.request);
+            } catch (RuntimeException e) {
+                final CompletableFuture<DataObject> failed = new CompletableFuture<>();
+                failed.completeExceptionally(e);
+                stage = failed;
+            }
+            // Bulkhead is occupied until the RPC completes, even if the caller already timed out
+            stage.whenComplete((output, error) -> {
+                latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (error != null) {
+                    invocation.result.completeExceptionally(error);
+                } else {
+                    invocation.result.complete((DataObject) output);
+                }
+                release();
+            });
+        }
+
+        private void release() {
+            final Invocation next;
+            synchronized (this) {
+                next = pending.poll();
+                if (next == null) {
+                    running--;
+                }
+            }
+            if (next != null) {
+                dispatch(next);
+            }
+        }
+
+        private synchronized int getRunning() {
+            return running;
+        }
+
+        private synchronized int getQueued() {
+            return pending.size();
+        }
+    }
+
+    public static final class BulkheadRpcRegistryBuilder {
+
+        private int maxConcurrent = 4;
+        private int maxQueued = 64;
+        private long timeoutMillis;
+        private int threads = 16;
+        private Executor executor;
+        private ScheduledExecutorService timer;
+        private final Map<SchemaPath, Limits> limits = new HashMap<>();
+
+        /**
+         * @param maxConcurrent default number of invocations of a single RPC executing at the same time
+         */
+        public BulkheadRpcRegistryBuilder withMaxConcurrentInvocations(final int maxConcurrent) {
+            checkArgument(maxConcurrent > 0, "Max concurrent invocations must be positive, but was %s",
+                    maxConcurrent);
+            this.maxConcurrent = maxConcurrent;
+            return this;
+        }
+
+        /**
+         * @param maxQueued default number of invocations of a single RPC waiting for execution
+         */
+        public BulkheadRpcRegistryBuilder withMaxQueuedInvocations(final int maxQueued) {
+            checkArgument(maxQueued >= 0, "Max queued invocations cannot be negative, but was %s", maxQueued);
+            this.maxQueued = maxQueued;
+            return this;
+        }
+
+        /**
+         * Overrides default limits for a single RPC.
+         */
+        public BulkheadRpcRegistryBuilder withLimits(@Nonnull final SchemaPath rpc, final int maxConcurrent,
+                                                     final int maxQueued) {
+            limits.put(checkNotNull(rpc, "rpc should not be null"), new Limits(maxConcurrent, maxQueued));
+            return this;
+        }
+
+        /**
+         * @param timeout time in which invocation has to complete, including time spent waiting for execution
+         */
+        public BulkheadRpcRegistryBuilder withTimeout(final long timeout, @Nonnull final TimeUnit unit) {
+            checkArgument(timeout > 0, "Timeout must be positive, but was %s", timeout);
+            this.timeoutMillis = unit.toMillis(timeout);
+            return this;
+        }
+
+        /**
+         * @param executor executor shared by all RPCs, its lifecycle is managed by the caller
+         */
+        public BulkheadRpcRegistryBuilder withExecutor(@Nonnull final Executor executor) {
+            this.executor = checkNotNull(executor, "executor should not be null");
+            return this;
+        }
+
+        /**
+         * @param threads size of the executor shared by all RPCs, if executor is not provided
+         */
+        public BulkheadRpcRegistryBuilder withThreads(final int threads) {
+            checkArgument(threads > 0, "Threads must be positive, but was %s", threads);
+            this.threads = threads;
+            return this;
+        }
+
+        @VisibleForTesting
+        BulkheadRpcRegistryBuilder withTimer(@Nonnull final ScheduledExecutorService timer) {
+            this.timer = checkNotNull(timer, "timer should not be null");
+            return this;
+        }
+
+        public BulkheadRpcRegistry build(@Nonnull final RpcRegistry delegate) {
+            return new BulkheadRpcRegistry(checkNotNull(delegate, "delegate should not be null"), this);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.honeycomb.rpc;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link BulkheadRpcRegistry} statistics, keyed by RPC name.
+ */
+public interface BulkheadRpcRegistryMXBean {
+
+    /**
+     * @return number of invocations currently executing per RPC
+     */
+    Map<String, Integer> getRunning();
+
+    /**
+     * @return number of invocations waiting for execution per RPC
+     */
+    Map<String, Integer> getQueued();
+
+    /**
+     * @return number of invocations rejected because the queue of RPC was full
+     */
+    Map<String, Long> getRejected();
+
+    /**
+     * @return number of invocations which did not complete within timeout
+     */
+    Map<String, Long> getTimedOut();
+
+    /**
+     * @return summary of execution latencies per RPC
+     */
+    Map<String, String> getLatencies();
+}
@@ -54,25 +54,30 @@ public final class HoneycombDOMRpcService implements DOMRpcService {
         DataObject input = null;
         if (normalizedNode != null) {
             // RPC input is optional
-            final SchemaPath nodePatch = schemaPath.createChild(normalizedNode.getNodeType());
-            input = serializer.fromNormalizedNodeRpcData(nodePatch, (ContainerNode) normalizedNode);
+            input = serializer.fromNormalizedNodeRpcData(rpcRegistry.getInputPath(schemaPath),
+                (ContainerNode) normalizedNode);
         }
         final CompletableFuture<DataObject> result = rpcRegistry.invoke(schemaPath, input).toCompletableFuture();
-        final ListenableFuture<DOMRpcResult> output = getDOMRpcResult(toListenableFuture(result));
+        if (result.isDone() && !result.isCompletedExceptionally()) {
+            // Synchronous RPCs are common, skip future conversion for them
+            try {
+                return FluentFuture.from(Futures.immediateFuture(getDOMRpcResult(result.join())));
+            } catch (RuntimeException e) {
+                return FluentFuture.from(Futures.immediateFailedFuture(e));
+            }
+        }
+        final ListenableFuture<DOMRpcResult> output = Futures.transform(toListenableFuture(result),
+            this::getDOMRpcResult, MoreExecutors.directExecutor());
         return FluentFuture.from(output);
     }
 
-    private ListenableFuture<DOMRpcResult> getDOMRpcResult(final ListenableFuture<DataObject> invoke) {
-        return Futures.transform(
-            invoke,
-            output -> {
-                // If result is available convert it to BI form. Otherwise pass null as DOMRpcResult expects.
-                ContainerNode outputNode = null;
-                if (output != null) {
-                    outputNode = serializer.toNormalizedNodeRpcData(output);
-                }
-                return new DefaultDOMRpcResult(outputNode);
-            }, MoreExecutors.directExecutor());
+    private DOMRpcResult getDOMRpcResult(@Nullable final DataObject output) {
+        // If result is available convert it to BI form. Otherwise pass null as DOMRpcResult expects.
+        ContainerNode outputNode = null;
+        if (output != null) {
+            outputNode = serializer.toNormalizedNodeRpcData(output);
+        }
+        return new DefaultDOMRpcResult(outputNode);
     }
 
     @Nonnull
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.honeycomb.rpc;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.mdsal.dom.api.DOMRpcResult;
+import org.opendaylight.mdsal.dom.api.DOMRpcService;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Invokes batches of RPCs with limited parallelism. Invocations are started in order, next one is started as soon as
+ * one of the running invocations completes. Failure of an invocation does not affect the rest of the batch.
+ *
+ * <p>Meant to be used with {@link HoneycombDOMRpcService}, so that each invocation is still subject to limits
+ * of the {@link RpcRegistry}, e.g. {@link BulkheadRpcRegistry}.
+ */
+@Beta
+@ThreadSafe
+public final class RpcBatchInvoker {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RpcBatchInvoker.class);
+
+    private final DOMRpcService rpcService;
+    private final int parallelism;
+
+    /**
+     * @param parallelism maximum number of invocations of a single batch running at the same time
+     */
+    public RpcBatchInvoker(@Nonnull final DOMRpcService rpcService, final int parallelism) {
+        checkArgument(parallelism > 0, "Parallelism must be positive, but was %s", parallelism);
+        this.rpcService = checkNotNull(rpcService, "rpcService should not be null");
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @return results in the order of invocations, completed once all invocations complete
+     */
+    @Nonnull
+    public CompletionStage<List<RpcBatchResult>> invokeAll(@Nonnull final List<RpcInvocation> invocations) {
+        if (invocations.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        LOG.debug("Invoking batch of {} RPCs", invocations.size());
+        final Batch batch = new Batch(invocations);
+        for (int i = 0; i < Math.min(parallelism, invocations.size()); i++) {
+            batch.startNext();
+        }
+        return batch.result;
+    }
+
+    private final class Batch {
+        private final List<RpcInvocation> invocations;
+        private final RpcBatchResult[] results;
+        private final CompletableFuture<List<RpcBatchResult>> result = new CompletableFuture<>();
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger remaining;
+        // Invocations completing synchronously start next ones in a loop instead of recursively
+        private final AtomicInteger pendingStarts = new AtomicInteger();
+
+        private Batch(final List<RpcInvocation> invocations) {
+            this.invocations = invocations;
+            this.results = new RpcBatchResult[invocations.size()];
+            this.remaining = new AtomicInteger(invocations.size());
+        }
+
+        private void startNext() {
+            if (pendingStarts.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                final int index = next.getAndIncrement();
+                if (index < invocations.size()) {
+                    invoke(index);
+                }
+            } while (pendingStarts.decrementAndGet() != 0);
+        }
+
+        private void invoke(final int index) {
+            final RpcInvocation invocation = invocations.get(index);
+            try {
+                Futures.addCallback(rpcService.invokeRpc(invocation.getRpc(), invocation.getInput()),
+                        new FutureCallback<DOMRpcResult>() {
+                            @Override
+                            public void onSuccess(@Nullable final DOMRpcResult output) {
+                                complete(index, new RpcBatchResult(invocation.getRpc(), output, null));
+                            }
+
+                            @Override
+                            public void onFailure(final Throwable error) {
+                                complete(index, new RpcBatchResult(invocation.getRpc(), null, error));
+                            }
+                        }, MoreExecutors.directExecutor());
+            } catch (RuntimeException e) {
+                complete(index, new RpcBatchResult(invocation.getRpc(), null, e));
+            }
+        }
+
+        private void complete(final int index, final RpcBatchResult invocationResult) {
+            results[index] = invocationResult;
+            if (remaining.decrementAndGet() == 0) {
+                result.complete(Arrays.asList(results));
+            } else {
+                startNext();
+            }
+        }
+    }
+
+    /**
+     * Single RPC invocation of a batch.
+     */
+    public static final class RpcInvocation {
+        private final SchemaPath rpc;
+        private final NormalizedNode<?, ?> input;
+
+        public RpcInvocation(@Nonnull final SchemaPath rpc, @Nullable final NormalizedNode<?, ?> input) {
+            this.rpc = checkNotNull(rpc, "rpc should not be null");
+            this.input = input;
+        }
+
+        @Nonnull
+        public SchemaPath getRpc() {
+            return rpc;
+        }
+
+        @Nullable
+        public NormalizedNode<?, ?> getInput() {
+            return input;
+        }
+    }
+
+    /**
+     * Result of a single RPC invocation, either RPC result or failure.
+     */
+    public static final class RpcBatchResult {
+        private final SchemaPath rpc;
+        private final DOMRpcResult result;
+        private final Throwable error;
+
+        private RpcBatchResult(final SchemaPath rpc, @Nullable final DOMRpcResult result,
+                               @Nullable final Throwable error) {
+            this.rpc = rpc;
+            this.result = result;
+            this.error = error;
+        }
+
+        @Nonnull
+        public SchemaPath getRpc() {
+            return rpc;
+        }
+
+        /**
+         * @return RPC result, null if the invocation failed
+         */
+        @Nullable
+        public DOMRpcResult getResult() {
+            return result;
+        }
+
+        /**
+         * @return cause of the invocation failure, null if the invocation succeeded
+         */
+        @Nullable
+        public Throwable getError() {
+            return error;
+        }
+
+        public boolean isSuccessful() {
+            return error == null;
+        }
+    }
+}
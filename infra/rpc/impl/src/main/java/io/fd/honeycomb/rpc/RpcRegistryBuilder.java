@@ -16,6 +16,7 @@
 
 package io.fd.honeycomb.rpc;
 
+import com.google.common.collect.ImmutableMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -44,9 +45,25 @@ public final class RpcRegistryBuilder {
     private static final class RpcRegistryImpl implements RpcRegistry {
         private static final Logger LOG = LoggerFactory.getLogger(RpcRegistryImpl.class);
         private final Map<SchemaPath, RpcService> services;
+        // input paths are computed once, so that codec lookups keyed by them hit the same instances on every call
+        private final Map<SchemaPath, SchemaPath> inputPaths;
 
         private RpcRegistryImpl(@Nonnull final Map<SchemaPath, RpcService> services) {
-            this.services = services;
+            this.services = ImmutableMap.copyOf(services);
+            final ImmutableMap.Builder<SchemaPath, SchemaPath> inputPaths = ImmutableMap.builder();
+            for (SchemaPath schemaPath : this.services.keySet()) {
+                inputPaths.put(schemaPath, RpcRegistry.super.getInputPath(schemaPath));
+            }
+            this.inputPaths = inputPaths.build();
+        }
+
+        @Override
+        @Nonnull
+        public SchemaPath getInputPath(@Nonnull final SchemaPath schemaPath) {
+            final SchemaPath inputPath = inputPaths.get(schemaPath);
+            return inputPath != null
+                ? inputPath
+                : RpcRegistry.super.getInputPath(schemaPath);
         }
 
         @Override
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.honeycomb.rpc;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+public class BulkheadRpcRegistryTest {
+
+    private static final SchemaPath SLOW = SchemaPath.create(true, QName.create(URI.create("urn:foo"), "slow"));
+    private static final SchemaPath FAST = SchemaPath.create(true, QName.create(URI.create("urn:foo"), "fast"));
+
+    @Mock
+    private RpcRegistry delegate;
+    @Mock
+    private DataObject input;
+    @Mock
+    private DataObject output;
+    @Mock
+    private ScheduledExecutorService timer;
+    @Mock
+    private ScheduledFuture timeout;
+
+    private BulkheadRpcRegistry registry;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        doReturn(timeout).when(timer).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        registry = new BulkheadRpcRegistry.BulkheadRpcRegistryBuilder()
+                .withExecutor(MoreExecutors.directExecutor())
+                .withMaxConcurrentInvocations(1)
+                .withMaxQueuedInvocations(1)
+                .build(delegate);
+    }
+
+    @Test
+    public void testInvoke() throws Exception {
+        when(delegate.invoke(FAST, input)).thenReturn(CompletableFuture.completedFuture(output));
+
+        assertEquals(output, registry.invoke(FAST, input).toCompletableFuture().get());
+        assertEquals(1, registry.getLatency(FAST).getCount());
+        assertEquals(0, (int) registry.getRunning().get(FAST.getLastComponent().toString()));
+        assertNull(registry.getLatency(SLOW));
+    }
+
+    @Test
+    public void testQueueAndReject() throws Exception {
+        final CompletableFuture<DataObject> first = new CompletableFuture<>();
+        final CompletableFuture<DataObject> second = new CompletableFuture<>();
+        when(delegate.invoke(SLOW, input)).thenReturn(first, second);
+
+        final CompletableFuture<?> firstResult = registry.invoke(SLOW, input).toCompletableFuture();
+        final CompletableFuture<?> secondResult = registry.invoke(SLOW, input).toCompletableFuture();
+        verify(delegate).invoke(SLOW, input);
+        assertEquals(1, (int) registry.getQueued().get(SLOW.getLastComponent().toString()));
+
+        assertFailed(registry.invoke(SLOW, input).toCompletableFuture(), RpcException.class);
+        assertEquals(1L, (long) registry.getRejected().get(SLOW.getLastComponent().toString()));
+
+        // Completion of the first invocation starts the queued one
+        first.complete(output);
+        assertEquals(output, firstResult.get());
+        verify(delegate, times(2)).invoke(SLOW, input);
+        assertFalse(secondResult.isDone());
+
+        second.complete(output);
+        assertEquals(output, secondResult.get());
+        assertEquals(2, registry.getLatency(SLOW).getCount());
+    }
+
+    @Test
+    public void testRpcsAreIsolated() throws Exception {
+        when(delegate.invoke(SLOW, input)).thenReturn(new CompletableFuture<>());
+        when(delegate.invoke(FAST, input)).thenReturn(CompletableFuture.completedFuture(output));
+
+        registry.invoke(SLOW, input);
+        registry.invoke(SLOW, input);
+        assertFailed(registry.invoke(SLOW, input).toCompletableFuture(), RpcException.class);
+
+        assertEquals(output, registry.invoke(FAST, input).toCompletableFuture().get());
+    }
+
+    @Test
+    public void testPerRpcLimits() throws Exception {
+        registry = new BulkheadRpcRegistry.BulkheadRpcRegistryBuilder()
+                .withExecutor(MoreExecutors.directExecutor())
+                .withMaxConcurrentInvocations(1)
+                .withMaxQueuedInvocations(0)
+                .withLimits(FAST, 2, 0)
+                .build(delegate);
+        when(delegate.invoke(FAST, input)).thenReturn(new CompletableFuture<>());
+
+        registry.invoke(FAST, input);
+        registry.invoke(FAST, input);
+        verify(delegate, times(2)).invoke(FAST, input);
+        assertFailed(registry.invoke(FAST, input).toCompletableFuture(), RpcException.class);
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        registry = new BulkheadRpcRegistry.BulkheadRpcRegistryBuilder()
+                .withExecutor(MoreExecutors.directExecutor())
+                .withMaxConcurrentInvocations(1)
+                .withMaxQueuedInvocations(1)
+                .withTimeout(100, TimeUnit.MILLISECONDS)
+                .withTimer(timer)
+                .build(delegate);
+        final CompletableFuture<DataObject> first = new CompletableFuture<>();
+        when(delegate.invoke(SLOW, input)).thenReturn(first);
+
+        final CompletableFuture<?> firstResult = registry.invoke(SLOW, input).toCompletableFuture();
+        final CompletableFuture<?> queuedResult = registry.invoke(SLOW, input).toCompletableFuture();
+        final ArgumentCaptor<Runnable> timeouts = ArgumentCaptor.forClass(Runnable.class);
+        verify(timer, times(2)).schedule(timeouts.capture(), eq(100L), eq(TimeUnit.MILLISECONDS));
+
+        timeouts.getAllValues().forEach(Runnable::run);
+        assertFailed(firstResult, TimeoutException.class);
+        assertFailed(queuedResult, TimeoutException.class);
+        assertEquals(2L, (long) registry.getTimedOut().get(SLOW.getLastComponent().toString()));
+
+        // Bulkhead is released once the RPC completes, timed out queued invocation is not executed
+        first.complete(output);
+        verify(delegate).invoke(SLOW, input);
+        assertEquals(0, (int) registry.getRunning().get(SLOW.getLastComponent().toString()));
+        assertEquals(0, (int) registry.getQueued().get(SLOW.getLastComponent().toString()));
+    }
+
+    @Test
+    public void testTimeoutCancelledOnCompletion() throws Exception {
+        registry = new BulkheadRpcRegistry.BulkheadRpcRegistryBuilder()
+                .withExecutor(MoreExecutors.directExecutor())
+                .withTimeout(100, TimeUnit.MILLISECONDS)
+                .withTimer(timer)
+                .build(delegate);
+        when(delegate.invoke(FAST, input)).thenReturn(CompletableFuture.completedFuture(output));
+
+        assertEquals(output, registry.invoke(FAST, input).toCompletableFuture().get());
+        verify(timeout).cancel(false);
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        final CompletableFuture<DataObject> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException());
+        when(delegate.invoke(FAST, input)).thenReturn(failed);
+        assertFailed(registry.invoke(FAST, input).toCompletableFuture(), IllegalStateException.class);
+
+        when(delegate.invoke(FAST, input)).thenThrow(new IllegalArgumentException());
+        assertFailed(registry.invoke(FAST, input).toCompletableFuture(), IllegalArgumentException.class);
+        assertEquals(0, (int) registry.getRunning().get(FAST.getLastComponent().toString()));
+    }
+
+    private static void assertFailed(final CompletableFuture<?> result, final Class<? extends Throwable> cause)
+            throws InterruptedException {
+        assertTrue(result.isDone());
+        try {
+            result.get();
+            fail("Invocation should have failed");
+        } catch (ExecutionException e) {
+            Throwable error = e.getCause();
+            while (!cause.isInstance(error) && error.getCause() != null) {
+                error = error.getCause();
+            }
+            assertThat(error, instanceOf(cause));
+        }
+    }
+}
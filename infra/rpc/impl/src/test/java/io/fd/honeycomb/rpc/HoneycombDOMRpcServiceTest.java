@@ -18,17 +18,20 @@ package io.fd.honeycomb.rpc;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.net.URI;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opendaylight.mdsal.binding.dom.codec.api.BindingNormalizedNodeSerializer;
+import org.opendaylight.mdsal.dom.api.DOMRpcResult;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
@@ -43,6 +46,8 @@ public class HoneycombDOMRpcServiceTest {
     @Mock
     private SchemaPath path;
     @Mock
+    private SchemaPath inputPath;
+    @Mock
     private DataObject input;
 
     private ContainerNode node;
@@ -53,6 +58,7 @@ public class HoneycombDOMRpcServiceTest {
         MockitoAnnotations.initMocks(this);
         node = mockContainerNode(QName.create(URI.create("urn:foo"), "a"));
         service = new HoneycombDOMRpcService(serializer, registry);
+        when(registry.getInputPath(path)).thenReturn(inputPath);
         when(serializer.fromNormalizedNodeRpcData(ArgumentMatchers.any(), ArgumentMatchers.any())).thenReturn(input);
     }
 
@@ -64,6 +70,7 @@ public class HoneycombDOMRpcServiceTest {
         when(registry.invoke(path, input)).thenReturn(CompletableFuture.completedFuture(outputBa));
 
         assertEquals(outputBi, service.invokeRpc(path, node).get().getResult());
+        verify(serializer).fromNormalizedNodeRpcData(inputPath, node);
     }
 
     @Test
@@ -84,6 +91,28 @@ public class HoneycombDOMRpcServiceTest {
         service.invokeRpc(path, node).get();
     }
 
+    @Test
+    public void testInvokeRpcAsync() throws Exception {
+        final ContainerNode outputBi = mock(ContainerNode.class);
+        final DataObject outputBa = mock(DataObject.class);
+        final CompletableFuture<DataObject> future = new CompletableFuture<>();
+        when(serializer.toNormalizedNodeRpcData(outputBa)).thenReturn(outputBi);
+        when(registry.invoke(path, input)).thenReturn(future);
+
+        final Future<DOMRpcResult> result = service.invokeRpc(path, node);
+        future.complete(outputBa);
+        assertEquals(outputBi, result.get().getResult());
+    }
+
+    @Test(expected = ExecutionException.class)
+    public void testInvokeRpcOutputSerializationFailed() throws Exception {
+        final DataObject outputBa = mock(DataObject.class);
+        when(serializer.toNormalizedNodeRpcData(outputBa)).thenThrow(new IllegalArgumentException());
+        when(registry.invoke(path, input)).thenReturn(CompletableFuture.completedFuture(outputBa));
+
+        service.invokeRpc(path, node).get();
+    }
+
     private ContainerNode mockContainerNode(final QName nn1) {
         final ContainerNode nn1B = mock(ContainerNode.class);
         when(nn1B.getNodeType()).thenReturn(nn1);
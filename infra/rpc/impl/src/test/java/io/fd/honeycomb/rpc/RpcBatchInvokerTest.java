@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.honeycomb.rpc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.mdsal.dom.api.DOMRpcResult;
+import org.opendaylight.mdsal.dom.api.DOMRpcService;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
+
+public class RpcBatchInvokerTest {
+
+    private static final SchemaPath RPC_A = SchemaPath.create(true, QName.create(URI.create("urn:foo"), "a"));
+    private static final SchemaPath RPC_B = SchemaPath.create(true, QName.create(URI.create("urn:foo"), "b"));
+    private static final SchemaPath RPC_C = SchemaPath.create(true, QName.create(URI.create("urn:foo"), "c"));
+
+    @Mock
+    private DOMRpcService rpcService;
+    @Mock
+    private ContainerNode input;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+    }
+
+    @Test
+    public void testParallelism() throws Exception {
+        final SettableFuture<DOMRpcResult> resultA = SettableFuture.create();
+        final SettableFuture<DOMRpcResult> resultB = SettableFuture.create();
+        final SettableFuture<DOMRpcResult> resultC = SettableFuture.create();
+        when(rpcService.invokeRpc(RPC_A, input)).thenReturn(FluentFuture.from(resultA));
+        when(rpcService.invokeRpc(RPC_B, input)).thenReturn(FluentFuture.from(resultB));
+        when(rpcService.invokeRpc(RPC_C, input)).thenReturn(FluentFuture.from(resultC));
+
+        final CompletableFuture<List<RpcBatchInvoker.RpcBatchResult>> batch = new RpcBatchInvoker(rpcService, 2)
+                .invokeAll(Arrays.asList(invocation(RPC_A), invocation(RPC_B), invocation(RPC_C)))
+                .toCompletableFuture();
+        verify(rpcService).invokeRpc(RPC_A, input);
+        verify(rpcService).invokeRpc(RPC_B, input);
+        verify(rpcService, never()).invokeRpc(RPC_C, input);
+
+        final DOMRpcResult outputB = mock(DOMRpcResult.class);
+        resultB.set(outputB);
+        verify(rpcService).invokeRpc(RPC_C, input);
+        final DOMRpcResult outputC = mock(DOMRpcResult.class);
+        resultC.set(outputC);
+        assertFalse(batch.isDone());
+
+        final DOMRpcResult outputA = mock(DOMRpcResult.class);
+        resultA.set(outputA);
+        final List<RpcBatchInvoker.RpcBatchResult> results = batch.get();
+        assertEquals(3, results.size());
+        assertResult(results.get(0), RPC_A, outputA);
+        assertResult(results.get(1), RPC_B, outputB);
+        assertResult(results.get(2), RPC_C, outputC);
+    }
+
+    @Test
+    public void testFailuresAreIsolated() throws Exception {
+        final DOMRpcResult output = mock(DOMRpcResult.class);
+        final IllegalStateException failure = new IllegalStateException();
+        final IllegalArgumentException thrown = new IllegalArgumentException();
+        when(rpcService.invokeRpc(RPC_A, input)).thenReturn(FluentFuture.from(Futures.immediateFailedFuture(failure)));
+        when(rpcService.invokeRpc(RPC_B, input)).thenThrow(thrown);
+        when(rpcService.invokeRpc(RPC_C, input)).thenReturn(FluentFuture.from(Futures.immediateFuture(output)));
+
+        final List<RpcBatchInvoker.RpcBatchResult> results = new RpcBatchInvoker(rpcService, 1)
+                .invokeAll(Arrays.asList(invocation(RPC_A), invocation(RPC_B), invocation(RPC_C)))
+                .toCompletableFuture().get();
+        assertFalse(results.get(0).isSuccessful());
+        assertSame(failure, results.get(0).getError());
+        assertNull(results.get(0).getResult());
+        assertSame(thrown, results.get(1).getError());
+        assertResult(results.get(2), RPC_C, output);
+    }
+
+    @Test
+    public void testSynchronousCompletion() throws Exception {
+        when(rpcService.invokeRpc(eq(RPC_A), any()))
+                .thenReturn(FluentFuture.from(Futures.immediateFuture(mock(DOMRpcResult.class))));
+        final List<RpcBatchInvoker.RpcInvocation> invocations = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            invocations.add(invocation(RPC_A));
+        }
+
+        final CompletableFuture<List<RpcBatchInvoker.RpcBatchResult>> batch =
+                new RpcBatchInvoker(rpcService, 4).invokeAll(invocations).toCompletableFuture();
+        assertTrue(batch.isDone());
+        assertEquals(invocations.size(), batch.get().size());
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        assertEquals(Collections.emptyList(),
+                new RpcBatchInvoker(rpcService, 1).invokeAll(Collections.emptyList()).toCompletableFuture().get());
+    }
+
+    private RpcBatchInvoker.RpcInvocation invocation(final SchemaPath rpc) {
+        return new RpcBatchInvoker.RpcInvocation(rpc, input);
+    }
+
+    private static void assertResult(final RpcBatchInvoker.RpcBatchResult result, final SchemaPath rpc,
+                                     final DOMRpcResult output) {
+        assertTrue(result.isSuccessful());
+        assertEquals(rpc, result.getRpc());
+        assertSame(output, result.getResult());
+    }
+}
@@ -16,6 +16,8 @@
 
 package io.fd.honeycomb.rpc;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -79,4 +81,19 @@ public class RpcRegistryBuilderTest {
         }
         fail("Exception expected");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testInputPathPrecomputed() {
+        final SchemaPath inputPath = registry.getInputPath(ID1);
+
+        assertEquals(ID1.createChild(QName.create(namespace, "input")), inputPath);
+        assertSame(inputPath, registry.getInputPath(ID1));
+    }
+
+    @Test
+    public void testInputPathOfUnknownService() {
+        final SchemaPath id = SchemaPath.ROOT.createChild(QName.create(namespace, "c"));
+
+        assertEquals(id.createChild(QName.create(namespace, "input")), registry.getInputPath(id));
+    }
+}
@@ -16,25 +16,78 @@
 
 package io.fd.honeycomb.translate;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * Simple context class that provides transient storage during one or more read/write operations.
  * Internally Thread-save.
+ *
+ * <p>Size of the cache can be limited by {@link ModificationCacheBudget}, in which case entries can be evicted or not
+ * stored at all. Statistics of the cache are reported to the budget when the cache is closed. Entries are weighed
+ * only if the budget is bounded, so statistics of unbounded caches do not include weights.
  */
 @ThreadSafe
 public class ModificationCache implements AutoCloseable {
 
     protected final Map<Object, Object> map;
+    private final ModificationCacheBudget budget;
+    // weights of stored entries and insertion order of their keys, used only by bounded caches
+    // for memory accounting and to find entries to be evicted
+    private final Map<Object, Long> weights;
+    private final LinkedHashSet<Object> insertionOrder;
+    private final AtomicLong weight = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder spills = new LongAdder();
+    private final AtomicLong peakEntries = new AtomicLong();
+    private final AtomicLong peakWeight = new AtomicLong();
+    private Object largestEntry;
+    private volatile long largestEntryWeight;
 
     public ModificationCache() {
+        this(ModificationCacheBudget.UNBOUNDED);
+    }
+
+    public ModificationCache(@Nonnull final ModificationCacheBudget budget) {
+        this.budget = checkNotNull(budget, "budget should not be null");
         map = new ConcurrentHashMap<>();
+        if (budget.isBounded()) {
+            weights = new ConcurrentHashMap<>();
+            insertionOrder = new LinkedHashSet<>();
+        } else {
+            weights = null;
+            insertionOrder = null;
+        }
     }
 
     public Object get(final Object o) {
-        return map.get(o);
+        final Object value = map.get(o);
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Typed version of {@link #get(Object)}.
+     */
+    public <T> T get(@Nonnull final Slot<T> slot) {
+        return slot.type.cast(get((Object) slot));
     }
 
     public boolean containsKey(final Object o) {
@@ -42,11 +95,163 @@ public class ModificationCache implements AutoCloseable {
     }
 
     public Object put(final Object o, final Object o2) {
-        return map.put(o, o2);
+        if (insertionOrder == null) {
+            return storeUnbounded(o, o2);
+        }
+        final long entryWeight = budget.weigh(o2);
+        synchronized (this) {
+            return putBounded(o, o2, entryWeight);
+        }
+    }
+
+    /**
+     * Typed version of {@link #put(Object, Object)}.
+     */
+    public <T> T put(@Nonnull final Slot<T> slot, @Nonnull final T value) {
+        return slot.type.cast(put((Object) slot, value));
+    }
+
+    private Object putBounded(final Object key, final Object value, final long entryWeight) {
+        if (!fits(key, entryWeight)) {
+            if (entryWeight <= budget.getMaxWeight()
+                    && budget.getOverflowPolicy() == ModificationCacheBudget.OverflowPolicy.EVICT_OLDEST) {
+                evictUntilFits(key, entryWeight);
+            } else {
+                // previous value is dropped as well, it must not be returned instead of the new one
+                spills.increment();
+                insertionOrder.remove(key);
+                return remove(key);
+            }
+        }
+        // replaced entry becomes the newest one
+        insertionOrder.remove(key);
+        insertionOrder.add(key);
+        return store(key, value, entryWeight);
+    }
+
+    private boolean fits(final Object key, final long entryWeight) {
+        final Long previousWeight = weights.get(key);
+        final long entries = previousWeight == null ? map.size() + 1 : map.size();
+        final long totalWeight = weight.get() + entryWeight - (previousWeight == null ? 0 : previousWeight);
+        return entries <= budget.getMaxEntries() && totalWeight <= budget.getMaxWeight();
+    }
+
+    private void evictUntilFits(final Object key, final long entryWeight) {
+        final Iterator<Object> oldest = insertionOrder.iterator();
+        while (!fits(key, entryWeight) && oldest.hasNext()) {
+            final Object candidate = oldest.next();
+            if (candidate.equals(key)) {
+                // replaced entry is not evicted, it will be stored as the newest one
+                continue;
+            }
+            oldest.remove();
+            if (remove(candidate) != null) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private Object storeUnbounded(final Object key, final Object value) {
+        puts.increment();
+        final Object previous = map.put(key, value);
+        peakEntries.accumulateAndGet(map.size(), Math::max);
+        return previous;
+    }
+
+    private Object store(final Object key, final Object value, final long entryWeight) {
+        puts.increment();
+        final Object previous = map.put(key, value);
+        final Long previousWeight = weights.put(key, entryWeight);
+        final long totalWeight = weight.addAndGet(entryWeight - (previousWeight == null ? 0 : previousWeight));
+        peakEntries.accumulateAndGet(map.size(), Math::max);
+        peakWeight.accumulateAndGet(totalWeight, Math::max);
+        if (entryWeight > largestEntryWeight) {
+            updateLargestEntry(key, entryWeight);
+        }
+        return previous;
+    }
+
+    private synchronized void updateLargestEntry(final Object key, final long entryWeight) {
+        if (entryWeight > largestEntryWeight) {
+            largestEntry = key;
+            largestEntryWeight = entryWeight;
+        }
+    }
+
+    private Object remove(final Object key) {
+        final Object previous = map.remove(key);
+        final Long previousWeight = weights.remove(key);
+        if (previousWeight != null) {
+            weight.addAndGet(-previousWeight);
+        }
+        return previous;
+    }
+
+    /**
+     * Drops all entries to release memory, but keeps the cache open. Statistics are reported once the cache is closed.
+     */
+    public void clear() {
+        map.clear();
+        if (insertionOrder != null) {
+            synchronized (this) {
+                weights.clear();
+                weight.set(0);
+                insertionOrder.clear();
+            }
+        }
     }
 
     @Override
     public void close() {
-        map.clear();
+        clear();
+        reportStatistics();
+    }
+
+    private synchronized void reportStatistics() {
+        final long putCount = puts.sumThenReset();
+        final long hitCount = hits.sumThenReset();
+        final long missCount = misses.sumThenReset();
+        if (putCount == 0 && hitCount == 0 && missCount == 0) {
+            // nothing happened since last close
+            return;
+        }
+        budget.report(new ModificationCacheStatistics(hitCount, missCount, putCount, evictions.sumThenReset(),
+                spills.sumThenReset(), peakEntries.getAndSet(0), peakWeight.getAndSet(0),
+                largestEntry == null ? null : largestEntry.toString(),
+                largestEntryWeight));
+        largestEntry = null;
+        largestEntryWeight = 0;
+    }
+
+    /**
+     * Typed key of {@link ModificationCache}. Slots are compared by identity, so they should be kept as constants.
+     *
+     * @param <T> type of values stored under this slot
+     */
+    @Beta
+    public static final class Slot<T> {
+
+        private final String name;
+        private final Class<T> type;
+
+        private Slot(final String name, final Class<T> type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        public static <T> Slot<T> create(@Nonnull final String name, @Nonnull final Class<T> type) {
+            return new Slot<>(checkNotNull(name, "name should not be null"),
+                    checkNotNull(type, "type should not be null"));
+        }
+
+        @Nonnull
+        public Class<T> getType() {
+            return type;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
     }
 }
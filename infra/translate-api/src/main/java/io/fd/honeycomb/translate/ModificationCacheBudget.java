@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.translate;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Limits of {@link ModificationCache} and consumer of its statistics. Shared by caches of all transactions.
+ *
+ * <p>Entries exceeding the budget are handled according to {@link OverflowPolicy}. Weight of entries is computed
+ * by provided weigher, default weigher counts elements of collections and maps, 1 for other values.
+ */
+@Beta
+@Immutable
+public final class ModificationCacheBudget {
+
+    private static final ToLongFunction<Object> DEFAULT_WEIGHER = value -> {
+        if (value instanceof Collection) {
+            return Math.max(1, ((Collection<?>) value).size());
+        } else if (value instanceof Map) {
+            return Math.max(1, ((Map<?, ?>) value).size());
+        }
+        return 1;
+    };
+
+    /**
+     * Budget without any limits, statistics are dropped.
+     */
+    public static final ModificationCacheBudget UNBOUNDED = new ModificationCacheBudgetBuilder().build();
+
+    /**
+     * Handling of entries that do not fit into the budget.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Oldest entries are evicted to make room for the new one.
+         */
+        EVICT_OLDEST,
+        /**
+         * New entry is not stored, its consumers have to obtain it again from the source (e.g. dump it again).
+         */
+        SPILL
+    }
+
+    private final long maxEntries;
+    private final long maxWeight;
+    private final OverflowPolicy overflowPolicy;
+    private final ToLongFunction<Object> weigher;
+    private final Consumer<ModificationCacheStatistics> statisticsConsumer;
+
+    private ModificationCacheBudget(final ModificationCacheBudgetBuilder builder) {
+        this.maxEntries = builder.maxEntries;
+        this.maxWeight = builder.maxWeight;
+        this.overflowPolicy = builder.overflowPolicy;
+        this.weigher = builder.weigher;
+        this.statisticsConsumer = builder.statisticsConsumer;
+    }
+
+    public long getMaxEntries() {
+        return maxEntries;
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public boolean isBounded() {
+        return maxEntries != Long.MAX_VALUE || maxWeight != Long.MAX_VALUE;
+    }
+
+    @Nonnull
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    long weigh(final Object value) {
+        return weigher.applyAsLong(value);
+    }
+
+    void report(final ModificationCacheStatistics statistics) {
+        statisticsConsumer.accept(statistics);
+    }
+
+    public static final class ModificationCacheBudgetBuilder {
+
+        private long maxEntries = Long.MAX_VALUE;
+        private long maxWeight = Long.MAX_VALUE;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.EVICT_OLDEST;
+        private ToLongFunction<Object> weigher = DEFAULT_WEIGHER;
+        private Consumer<ModificationCacheStatistics> statisticsConsumer = statistics -> { };
+
+        public ModificationCacheBudgetBuilder withMaxEntries(final long maxEntries) {
+            checkArgument(maxEntries > 0, "Max entries must be positive, but was %s", maxEntries);
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Limit total weight of cached entries, as computed by weigher.
+         */
+        public ModificationCacheBudgetBuilder withMaxWeight(final long maxWeight) {
+            checkArgument(maxWeight > 0, "Max weight must be positive, but was %s", maxWeight);
+            this.maxWeight = maxWeight;
+            return this;
+        }
+
+        public ModificationCacheBudgetBuilder withOverflowPolicy(@Nonnull final OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = checkNotNull(overflowPolicy, "overflowPolicy should not be null");
+            return this;
+        }
+
+        /**
+         * Weigher estimating size of cached values, e.g. in bytes.
+         */
+        public ModificationCacheBudgetBuilder withWeigher(@Nonnull final ToLongFunction<Object> weigher) {
+            this.weigher = checkNotNull(weigher, "weigher should not be null");
+            return this;
+        }
+
+        /**
+         * Consumer of statistics reported by each cache when closed.
+         */
+        public ModificationCacheBudgetBuilder withStatisticsConsumer(
+                @Nonnull final Consumer<ModificationCacheStatistics> statisticsConsumer) {
+            this.statisticsConsumer = checkNotNull(statisticsConsumer, "statisticsConsumer should not be null");
+            return this;
+        }
+
+        public ModificationCacheBudget build() {
+            return new ModificationCacheBudget(this);
+        }
+    }
+}
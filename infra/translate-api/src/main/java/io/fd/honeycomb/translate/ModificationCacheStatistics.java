@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.translate;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Statistics of single {@link ModificationCache}, reported when the cache is closed.
+ */
+@Beta
+@Immutable
+public final class ModificationCacheStatistics {
+
+    private final long hits;
+    private final long misses;
+    private final long puts;
+    private final long evictions;
+    private final long spills;
+    private final long peakEntries;
+    private final long peakWeight;
+    private final String largestEntry;
+    private final long largestEntryWeight;
+
+    ModificationCacheStatistics(final long hits, final long misses, final long puts, final long evictions,
+                                final long spills, final long peakEntries, final long peakWeight,
+                                @Nullable final String largestEntry, final long largestEntryWeight) {
+        this.hits = hits;
+        this.misses = misses;
+        this.puts = puts;
+        this.evictions = evictions;
+        this.spills = spills;
+        this.peakEntries = peakEntries;
+        this.peakWeight = peakWeight;
+        this.largestEntry = largestEntry;
+        this.largestEntryWeight = largestEntryWeight;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getPuts() {
+        return puts;
+    }
+
+    /**
+     * @return number of entries evicted to fit into the budget
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return number of entries not stored, because they did not fit into the budget
+     */
+    public long getSpills() {
+        return spills;
+    }
+
+    public long getPeakEntries() {
+        return peakEntries;
+    }
+
+    public long getPeakWeight() {
+        return peakWeight;
+    }
+
+    /**
+     * @return key of the heaviest entry stored in the cache, null if nothing was stored
+     */
+    @Nullable
+    public String getLargestEntry() {
+        return largestEntry;
+    }
+
+    public long getLargestEntryWeight() {
+        return largestEntryWeight;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("hits", hits)
+                .add("misses", misses)
+                .add("puts", puts)
+                .add("evictions", evictions)
+                .add("spills", spills)
+                .add("peakEntries", peakEntries)
+                .add("peakWeight", peakWeight)
+                .add("largestEntry", largestEntry)
+                .add("largestEntryWeight", largestEntryWeight)
+                .toString();
+    }
+}
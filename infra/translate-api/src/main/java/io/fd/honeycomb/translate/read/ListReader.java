@@ -17,8 +17,12 @@
 package io.fd.honeycomb.translate.read;
 
 import com.google.common.annotations.Beta;
+import com.google.common.collect.Iterables;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
 import org.opendaylight.yangtools.concepts.Builder;
 import org.opendaylight.yangtools.yang.binding.DataObject;
@@ -54,6 +58,68 @@ public interface ListReader
     List<K> getAllIds(@Nonnull InstanceIdentifier<D> id, @Nonnull ReadContext ctx)
             throws ReadFailedException;
 
+    /**
+     * Check whether this reader is able to read all entries of the list in a single call.
+     *
+     * @return true if {@link #readAllCurrentAttributes(InstanceIdentifier, ReadContext)} and
+     * {@link #readCurrentAttributes(InstanceIdentifier, Collection, ReadContext)} read entries in a single call,
+     * false if they read entries one by one
+     */
+    default boolean isBulkReadSupported() {
+        return false;
+    }
+
+    /**
+     * Fill in attributes of all entries in this list in a single call.
+     *
+     * @param id Wildcarded identifier of list managed by this reader
+     * @param ctx Read context
+     *
+     * Default implementation reads entries one by one, see
+     * {@link #readCurrentAttributes(InstanceIdentifier, Collection, ReadContext)}.
+     *
+     * @return Builders with current attributes, mapped by list entry key
+     * @throws ReadFailedException if read was unsuccessful
+     */
+    @Nonnull
+    default Map<K, B> readAllCurrentAttributes(@Nonnull final InstanceIdentifier<D> id,
+                                               @Nonnull final ReadContext ctx) throws ReadFailedException {
+        return readCurrentAttributes(id, getAllIds(id, ctx), ctx);
+    }
+
+    /**
+     * Fill in attributes of selected entries in this list in a single call.
+     *
+     * @param id Wildcarded identifier of list managed by this reader
+     * @param keys Keys of entries to be read
+     * @param ctx Read context
+     *
+     * Default implementation reads entries one by one, same as readers not supporting bulk reads do, so callers do
+     * not have to check {@link #isBulkReadSupported()} first.
+     *
+     * @return Builders with current attributes, mapped by list entry key. Keys without data are omitted
+     * @throws ReadFailedException if read was unsuccessful
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    default Map<K, B> readCurrentAttributes(@Nonnull final InstanceIdentifier<D> id,
+                                            @Nonnull final Collection<K> keys,
+                                            @Nonnull final ReadContext ctx) throws ReadFailedException {
+        final Iterable<InstanceIdentifier.PathArgument> parentPath =
+                Iterables.limit(id.getPathArguments(), Iterables.size(id.getPathArguments()) - 1);
+        final Map<K, B> builders = new LinkedHashMap<>(keys.size());
+        for (K key : keys) {
+            final InstanceIdentifier<D> keyedId = (InstanceIdentifier<D>) InstanceIdentifier.create(Iterables.concat(
+                    parentPath, Collections.singleton(InstanceIdentifier.IdentifiableItem.of(id.getTargetType(), key))));
+            final B builder = getBuilder(keyedId);
+            readCurrentAttributes(keyedId, builder, ctx);
+            if (isPresent(keyedId, builder.build(), ctx)) {
+                builders.put(key, builder);
+            }
+        }
+        return builders;
+    }
+
     /**
      * Merge read data into provided parent builder.
      */
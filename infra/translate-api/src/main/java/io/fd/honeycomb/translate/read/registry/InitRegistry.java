@@ -19,6 +19,7 @@ package io.fd.honeycomb.translate.read.registry;
 
 import io.fd.honeycomb.translate.read.InitFailedException;
 import io.fd.honeycomb.translate.read.ReadContext;
+import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 
@@ -31,4 +32,18 @@ public interface InitRegistry {
      * Perform initialization on top of the data root.
      */
     void initAll(@Nonnull DataBroker broker, @Nonnull ReadContext ctx) throws InitFailedException;
+
+    /**
+     * Perform initialization on top of the data root, using a separate context for each root initializer. Context is
+     * closed once its root is initialized. Allows the caller to e.g. commit data collected in the context once per
+     * root.
+     *
+     * <p>Default implementation initializes all roots with a single context.
+     */
+    default void initAll(@Nonnull final DataBroker broker,
+                         @Nonnull final Supplier<? extends ReadContext> contextFactory) throws InitFailedException {
+        try (ReadContext ctx = contextFactory.get()) {
+            initAll(broker, ctx);
+        }
+    }
 }
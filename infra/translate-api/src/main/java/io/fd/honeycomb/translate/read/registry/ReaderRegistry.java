@@ -20,6 +20,7 @@ import com.google.common.annotations.Beta;
 import com.google.common.collect.Multimap;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
+import java.util.Collection;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 import org.opendaylight.yangtools.yang.binding.DataObject;
@@ -44,6 +45,25 @@ public interface ReaderRegistry extends InitRegistry {
     Multimap<InstanceIdentifier<? extends DataObject>, ? extends DataObject> readAll(@Nonnull final ReadContext ctx)
             throws ReadFailedException;
 
+    /**
+     * Performs read on all registered root readers, handing over results of each root reader to the consumer as soon
+     * as the root reader finishes. Unlike {@link #readAll(ReadContext)}, results are not retained by the registry, so
+     * the consumer can release each root subtree before the next one is read.
+     *
+     * @param ctx Read context
+     * @param consumer Consumer of root DataObjects, invoked once per root reader with non-empty results, in the same
+     *                 order as {@link #readAll(ReadContext)} iterates
+     *
+     * @throws ReadFailedException if read was unsuccessful
+     */
+    default void readAll(@Nonnull final ReadContext ctx, @Nonnull final RootDataConsumer consumer)
+            throws ReadFailedException {
+        final Multimap<InstanceIdentifier<? extends DataObject>, ? extends DataObject> objects = readAll(ctx);
+        for (InstanceIdentifier<? extends DataObject> id : objects.keySet()) {
+            consumer.accept(id, objects.get(id));
+        }
+    }
+
     /**
      * Reads data identified by id.
      *
@@ -58,4 +78,18 @@ public interface ReaderRegistry extends InitRegistry {
     @Nonnull
     Optional<? extends DataObject> read(@Nonnull InstanceIdentifier<? extends DataObject> id, @Nonnull ReadContext ctx)
             throws ReadFailedException;
+
+    /**
+     * Consumer of data read by a single root reader.
+     */
+    @FunctionalInterface
+    interface RootDataConsumer {
+
+        /**
+         * @param id Identifier of root DataObjects as managed by the root reader
+         * @param data DataObjects read by the root reader. Contains a single element unless the root is a list
+         */
+        void accept(@Nonnull InstanceIdentifier<? extends DataObject> id,
+                    @Nonnull Collection<? extends DataObject> data);
+    }
 }
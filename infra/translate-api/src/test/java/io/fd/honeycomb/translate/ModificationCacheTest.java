@@ -21,6 +21,10 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -49,4 +53,108 @@ public class ModificationCacheTest {
         assertFalse(cache.containsKey(o));
     }
 
+    @Test
+    public void getTyped() throws Exception {
+        final ModificationCache.Slot<String> slot = ModificationCache.Slot.create("slot", String.class);
+        assertNull(cache.get(slot));
+        assertNull(cache.put(slot, "value"));
+        assertEquals("value", cache.get(slot));
+        assertFalse(cache.containsKey("slot"));
+    }
+
+    @Test
+    public void evictOldest() throws Exception {
+        final List<ModificationCacheStatistics> reported = new ArrayList<>();
+        cache = new ModificationCache(new ModificationCacheBudget.ModificationCacheBudgetBuilder()
+                .withMaxEntries(2)
+                .withStatisticsConsumer(reported::add)
+                .build());
+        cache.put("first", 1);
+        cache.put("second", 2);
+        // replacing existing entry does not evict anything
+        cache.put("first", 11);
+        cache.put("third", 3);
+
+        assertFalse(cache.containsKey("second"));
+        assertEquals(11, cache.get("first"));
+        assertEquals(3, cache.get("third"));
+
+        cache.close();
+        assertEquals(1, reported.size());
+        assertEquals(4, reported.get(0).getPuts());
+        assertEquals(1, reported.get(0).getEvictions());
+        assertEquals(2, reported.get(0).getPeakEntries());
+        assertEquals(2, reported.get(0).getHits());
+    }
+
+    @Test
+    public void spill() throws Exception {
+        final List<ModificationCacheStatistics> reported = new ArrayList<>();
+        cache = new ModificationCache(new ModificationCacheBudget.ModificationCacheBudgetBuilder()
+                .withMaxWeight(3)
+                .withOverflowPolicy(ModificationCacheBudget.OverflowPolicy.SPILL)
+                .withStatisticsConsumer(reported::add)
+                .build());
+        cache.put("small", Collections.singletonList(1));
+        cache.put("large", Arrays.asList(1, 2, 3));
+
+        assertTrue(cache.containsKey("small"));
+        assertFalse(cache.containsKey("large"));
+
+        cache.close();
+        assertEquals(1, reported.get(0).getSpills());
+        assertEquals("small", reported.get(0).getLargestEntry());
+        assertEquals(1, reported.get(0).getPeakWeight());
+    }
+
+    @Test
+    public void unboundedNotWeighed() throws Exception {
+        final List<ModificationCacheStatistics> reported = new ArrayList<>();
+        cache = new ModificationCache(new ModificationCacheBudget.ModificationCacheBudgetBuilder()
+                .withWeigher(value -> {
+                    throw new AssertionError("Entries of unbounded cache should not be weighed");
+                })
+                .withStatisticsConsumer(reported::add)
+                .build());
+        cache.put("first", Arrays.asList(1, 2, 3));
+        cache.put("second", "value");
+
+        assertTrue(cache.containsKey("first"));
+        assertTrue(cache.containsKey("second"));
+
+        cache.close();
+        assertEquals(2, reported.get(0).getPuts());
+        assertEquals(2, reported.get(0).getPeakEntries());
+        assertEquals(0, reported.get(0).getPeakWeight());
+    }
+
+    @Test
+    public void closeWithoutActivityNotReported() throws Exception {
+        final List<ModificationCacheStatistics> reported = new ArrayList<>();
+        cache = new ModificationCache(new ModificationCacheBudget.ModificationCacheBudgetBuilder()
+                .withStatisticsConsumer(reported::add)
+                .build());
+        cache.put("key", "value");
+        cache.close();
+        cache.close();
+        assertEquals(1, reported.size());
+    }
+
+    @Test
+    public void clearNotReported() throws Exception {
+        final List<ModificationCacheStatistics> reported = new ArrayList<>();
+        cache = new ModificationCache(new ModificationCacheBudget.ModificationCacheBudgetBuilder()
+                .withStatisticsConsumer(reported::add)
+                .build());
+        cache.put("first", "value");
+        cache.clear();
+        assertFalse(cache.containsKey("first"));
+        assertTrue(reported.isEmpty());
+
+        cache.put("second", "value");
+        cache.close();
+        assertEquals(1, reported.size());
+        assertEquals(2, reported.get(0).getPuts());
+    }
+
 }
\ No newline at end of file
@@ -23,11 +23,14 @@ import io.fd.honeycomb.translate.read.ListReader;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.read.Reader;
+import io.fd.honeycomb.translate.spi.read.BulkListReaderCustomizer;
 import io.fd.honeycomb.translate.spi.read.ListReaderCustomizer;
 import io.fd.honeycomb.translate.util.RWUtils;
 import io.fd.honeycomb.translate.util.read.ReflexiveListReaderCustomizer;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
@@ -45,6 +48,8 @@ import org.slf4j.LoggerFactory;
  *
  * This reader checks if the IDs are wildcarded in which case it performs read of all list entries. In case the ID has a
  * key, it reads only the specified value.
+ *
+ * If the customizer is a {@link BulkListReaderCustomizer}, all list entries are read in a single call.
  */
 @Beta
 @ThreadSafe
@@ -68,6 +73,10 @@ public class GenericListReader<C extends DataObject & Identifiable<K>, K extends
     @Nonnull
     public List<C> readList(@Nonnull final InstanceIdentifier<C> id,
                             @Nonnull final ReadContext ctx) throws ReadFailedException {
+        if (isBulkReadSupported()) {
+            return readListInBulk(id, ctx);
+        }
+
         LOG.trace("{}: Reading all list entries", this);
         final List<K> allIds = getAllIds(id, ctx);
         LOG.debug("{}: Reading list entries for: {}", this, allIds);
@@ -86,6 +95,62 @@ public class GenericListReader<C extends DataObject & Identifiable<K>, K extends
         return allEntries;
     }
 
+    private List<C> readListInBulk(@Nonnull final InstanceIdentifier<C> id,
+                                   @Nonnull final ReadContext ctx) throws ReadFailedException {
+        LOG.trace("{}: Reading all list entries in bulk", this);
+        final Map<K, B> allEntryBuilders = readAllCurrentAttributes(id, ctx);
+        LOG.debug("{}: Read list entries for: {}", this, allEntryBuilders.keySet());
+
+        final ArrayList<C> allEntries = new ArrayList<>(allEntryBuilders.size());
+        for (Map.Entry<K, B> entry : allEntryBuilders.entrySet()) {
+            final InstanceIdentifier<C> keyedId =
+                    RWUtils.replaceLastInId(id, RWUtils.getCurrentIdItem(id, entry.getKey()));
+            final C built = entry.getValue().build();
+            if (isPresent(keyedId, built, ctx)) {
+                allEntries.add(built);
+            }
+        }
+        return allEntries;
+    }
+
+    @Override
+    public boolean isBulkReadSupported() {
+        return customizer instanceof BulkListReaderCustomizer;
+    }
+
+    @Nonnull
+    @Override
+    public Map<K, B> readAllCurrentAttributes(@Nonnull final InstanceIdentifier<C> id,
+                                              @Nonnull final ReadContext ctx) throws ReadFailedException {
+        if (!isBulkReadSupported()) {
+            return ListReader.super.readAllCurrentAttributes(id, ctx);
+        }
+        try {
+            return getBulkCustomizer().readAllCurrentAttributes(id, ctx);
+        } catch (RuntimeException e) {
+            throw new ReadFailedException(id, e);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public Map<K, B> readCurrentAttributes(@Nonnull final InstanceIdentifier<C> id,
+                                           @Nonnull final Collection<K> keys,
+                                           @Nonnull final ReadContext ctx) throws ReadFailedException {
+        if (!isBulkReadSupported()) {
+            return ListReader.super.readCurrentAttributes(id, keys, ctx);
+        }
+        try {
+            return getBulkCustomizer().readCurrentAttributes(id, keys, ctx);
+        } catch (RuntimeException e) {
+            throw new ReadFailedException(id, e);
+        }
+    }
+
+    private BulkListReaderCustomizer<C, K, B> getBulkCustomizer() {
+        return (BulkListReaderCustomizer<C, K, B>) customizer;
+    }
+
     @Override
     public List<K> getAllIds(@Nonnull final InstanceIdentifier<C> id, @Nonnull final ReadContext ctx)
             throws ReadFailedException {
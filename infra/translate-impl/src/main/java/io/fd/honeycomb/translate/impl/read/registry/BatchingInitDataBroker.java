@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.translate.impl.read.registry;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.util.concurrent.FluentFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.DataTreeChangeListener;
+import org.opendaylight.mdsal.binding.api.DataTreeIdentifier;
+import org.opendaylight.mdsal.binding.api.ReadTransaction;
+import org.opendaylight.mdsal.binding.api.ReadWriteTransaction;
+import org.opendaylight.mdsal.binding.api.TransactionChain;
+import org.opendaylight.mdsal.binding.api.TransactionChainListener;
+import org.opendaylight.mdsal.binding.api.WriteTransaction;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.yangtools.concepts.ListenerRegistration;
+import org.opendaylight.yangtools.util.concurrent.FluentFutures;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Data broker collecting initialized config of a single root. Write only transactions created by initializers are
+ * applied to a single batch transaction on commit, the batch itself is committed by {@link #commitBatch()} once the
+ * root is initialized.
+ *
+ * <p>Read transactions and other services are delegated, so batched data are not visible before the batch is
+ * committed. If the batch fails to commit, batched transactions are retried one by one, so a single failing write
+ * does not discard config initialized by other initializers of the root.
+ */
+@ThreadSafe
+final class BatchingInitDataBroker implements DataBroker {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchingInitDataBroker.class);
+
+    private final DataBroker delegate;
+    // guarded by this
+    private WriteTransaction batch;
+    private List<List<Consumer<WriteTransaction>>> batchedTransactions = new ArrayList<>();
+
+    BatchingInitDataBroker(@Nonnull final DataBroker delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public WriteTransaction newWriteOnlyTransaction() {
+        return new BatchedWriteTransaction();
+    }
+
+    @Override
+    public ReadTransaction newReadOnlyTransaction() {
+        return delegate.newReadOnlyTransaction();
+    }
+
+    @Override
+    public ReadWriteTransaction newReadWriteTransaction() {
+        return delegate.newReadWriteTransaction();
+    }
+
+    @Override
+    public TransactionChain createTransactionChain(@Nonnull final TransactionChainListener listener) {
+        return delegate.createTransactionChain(listener);
+    }
+
+    @Override
+    public <T extends DataObject, L extends DataTreeChangeListener<T>> ListenerRegistration<L>
+        registerDataTreeChangeListener(@Nonnull final DataTreeIdentifier<T> treeId, @Nonnull final L listener) {
+        return delegate.registerDataTreeChangeListener(treeId, listener);
+    }
+
+    /**
+     * Commits all data written by committed write transactions so far. If the batch fails, each batched transaction
+     * is committed separately. Failures of separate commits are only logged, same as failures of individual
+     * initializer writes without batching.
+     */
+    void commitBatch() {
+        final WriteTransaction toCommit;
+        final List<List<Consumer<WriteTransaction>>> transactions;
+        synchronized (this) {
+            toCommit = batch;
+            transactions = batchedTransactions;
+            batch = null;
+            batchedTransactions = new ArrayList<>();
+        }
+        if (toCommit == null) {
+            return;
+        }
+
+        try {
+            toCommit.commit().get();
+            LOG.debug("Init batch of {} transactions successfully committed", transactions.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn("Interrupted while committing init batch of {} transactions", transactions.size(), e);
+        } catch (ExecutionException e) {
+            LOG.warn("Init batch of {} transactions failed, committing transactions one by one", transactions.size(),
+                    e);
+            transactions.forEach(this::commitSeparately);
+        }
+    }
+
+    private void commitSeparately(final List<Consumer<WriteTransaction>> operations) {
+        final WriteTransaction tx = delegate.newWriteOnlyTransaction();
+        operations.forEach(operation -> operation.accept(tx));
+        try {
+            tx.commit().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn("Interrupted while committing init transaction {}", tx.getIdentifier(), e);
+        } catch (ExecutionException e) {
+            LOG.warn("Init transaction {} failed", tx.getIdentifier(), e);
+        }
+    }
+
+    private synchronized void apply(final List<Consumer<WriteTransaction>> operations) {
+        if (batch == null) {
+            batch = delegate.newWriteOnlyTransaction();
+        }
+        operations.forEach(operation -> operation.accept(batch));
+        batchedTransactions.add(operations);
+    }
+
+    private final class BatchedWriteTransaction implements WriteTransaction {
+
+        private final List<Consumer<WriteTransaction>> operations = new ArrayList<>();
+        private boolean finished;
+
+        @Override
+        public synchronized <T extends DataObject> void put(final LogicalDatastoreType store,
+                                                           final InstanceIdentifier<T> path, final T data) {
+            record(tx -> tx.put(store, path, data));
+        }
+
+        @Override
+        public synchronized <T extends DataObject> void put(final LogicalDatastoreType store,
+                                                           final InstanceIdentifier<T> path, final T data,
+                                                           final boolean createMissingParents) {
+            record(tx -> tx.put(store, path, data, createMissingParents));
+        }
+
+        @Override
+        public synchronized <T extends DataObject> void merge(final LogicalDatastoreType store,
+                                                             final InstanceIdentifier<T> path, final T data) {
+            record(tx -> tx.merge(store, path, data));
+        }
+
+        @Override
+        public synchronized <T extends DataObject> void merge(final LogicalDatastoreType store,
+                                                             final InstanceIdentifier<T> path, final T data,
+                                                             final boolean createMissingParents) {
+            record(tx -> tx.merge(store, path, data, createMissingParents));
+        }
+
+        @Override
+        public synchronized void delete(final LogicalDatastoreType store, final InstanceIdentifier<?> path) {
+            record(tx -> tx.delete(store, path));
+        }
+
+        @Override
+        public synchronized FluentFuture<? extends CommitInfo> commit() {
+            checkState(!finished, "Transaction %s already finished", this);
+            finished = true;
+            apply(operations);
+            return FluentFutures.immediateFluentFuture(CommitInfo.empty());
+        }
+
+        @Override
+        public synchronized boolean cancel() {
+            if (finished) {
+                return false;
+            }
+            finished = true;
+            operations.clear();
+            return true;
+        }
+
+        @Override
+        public Object getIdentifier() {
+            return this;
+        }
+
+        private void record(final Consumer<WriteTransaction> operation) {
+            checkState(!finished, "Transaction %s already finished", this);
+            operations.add(operation);
+        }
+    }
+}
@@ -33,8 +33,10 @@ import io.fd.honeycomb.translate.util.RWUtils;
 import io.fd.honeycomb.translate.util.read.AbstractGenericReader;
 import io.fd.honeycomb.translate.util.read.DelegatingReader;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 import org.opendaylight.mdsal.binding.api.DataBroker;
@@ -110,7 +112,7 @@ class CompositeReader<D extends DataObject, B extends Builder<D>>
     }
 
     @SuppressWarnings("unchecked")
-    private void readChildren(final InstanceIdentifier<D> id, @Nonnull final ReadContext ctx, final B builder)
+    void readChildren(final InstanceIdentifier<D> id, @Nonnull final ReadContext ctx, final B builder)
             throws ReadFailedException {
         LOG.debug("{}: Reading children: {}", this, childReaders.keySet());
         for (Reader child : childReaders.values()) {
@@ -151,9 +153,19 @@ class CompositeReader<D extends DataObject, B extends Builder<D>>
     static <D extends DataObject, B extends Builder<D>> Reader<D, B> createForReader(
             @Nonnull final Reader<D, B> reader,
             @Nonnull final ImmutableMap<Class<?>, Reader<?, ? extends Builder<?>>> childReaders) {
+        return createForReader(reader, childReaders, ParallelInitializer.SERIAL);
+    }
+
+    /**
+     * Wrap a Reader as a Composite Reader, initializing list entries using provided initializer.
+     */
+    static <D extends DataObject, B extends Builder<D>> Reader<D, B> createForReader(
+            @Nonnull final Reader<D, B> reader,
+            @Nonnull final ImmutableMap<Class<?>, Reader<?, ? extends Builder<?>>> childReaders,
+            @Nonnull final ParallelInitializer initializer) {
 
         return (reader instanceof ListReader)
-                ? new CompositeListReader<>((ListReader) reader, childReaders)
+                ? new CompositeListReader<>((ListReader) reader, childReaders, initializer)
                 : new CompositeReader<>(reader, childReaders);
     }
 
@@ -180,11 +192,14 @@ class CompositeReader<D extends DataObject, B extends Builder<D>>
             implements DelegatingListReader<D, K, B>, InitListReader<D, K, B> {
 
         private final ListReader<D, K, B> delegate;
+        private final ParallelInitializer initializer;
 
         private CompositeListReader(final ListReader<D, K, B> reader,
-                                    final ImmutableMap<Class<?>, Reader<? extends DataObject, ? extends Builder<?>>> childReaders) {
+                                    final ImmutableMap<Class<?>, Reader<? extends DataObject, ? extends Builder<?>>> childReaders,
+                                    final ParallelInitializer initializer) {
             super(reader, childReaders);
             this.delegate = reader;
+            this.initializer = initializer;
         }
 
         @Override
@@ -196,6 +211,10 @@ class CompositeReader<D extends DataObject, B extends Builder<D>>
         @Override
         public List<D> readList(@Nonnull final InstanceIdentifier<D> id, @Nonnull final ReadContext ctx)
                 throws ReadFailedException {
+            if (delegate.isBulkReadSupported()) {
+                return readListInBulk(id, ctx);
+            }
+
             LOG.trace("{}: Reading all list entries", this);
             final List<K> allIds = delegate.getAllIds(id, ctx);
             LOG.debug("{}: Reading list entries for: {}", this, allIds);
@@ -215,17 +234,66 @@ class CompositeReader<D extends DataObject, B extends Builder<D>>
             return allEntries;
         }
 
+        private List<D> readListInBulk(@Nonnull final InstanceIdentifier<D> id, @Nonnull final ReadContext ctx)
+                throws ReadFailedException {
+            LOG.trace("{}: Reading all list entries in bulk", this);
+            final Map<K, B> allEntryBuilders = readAllCurrentAttributes(id, ctx);
+            LOG.debug("{}: Read list entries for: {}", this, allEntryBuilders.keySet());
+
+            final ArrayList<D> allEntries = new ArrayList<>(allEntryBuilders.size());
+            for (Map.Entry<K, B> entry : allEntryBuilders.entrySet()) {
+                final InstanceIdentifier<D> keyedId =
+                        RWUtils.replaceLastInId(id, RWUtils.getCurrentIdItem(id, entry.getKey()));
+                final D built = entry.getValue().build();
+                if (isPresent(keyedId, built, ctx)) {
+                    allEntries.add(built);
+                }
+            }
+            return allEntries;
+        }
+
+        @Nonnull
+        @Override
+        public Map<K, B> readAllCurrentAttributes(@Nonnull final InstanceIdentifier<D> id,
+                                                  @Nonnull final ReadContext ctx) throws ReadFailedException {
+            return readChildrenForEach(id, delegate.readAllCurrentAttributes(id, ctx), ctx);
+        }
+
+        @Nonnull
+        @Override
+        public Map<K, B> readCurrentAttributes(@Nonnull final InstanceIdentifier<D> id,
+                                               @Nonnull final Collection<K> keys,
+                                               @Nonnull final ReadContext ctx) throws ReadFailedException {
+            return readChildrenForEach(id, delegate.readCurrentAttributes(id, keys, ctx), ctx);
+        }
+
+        private Map<K, B> readChildrenForEach(@Nonnull final InstanceIdentifier<D> id,
+                                              @Nonnull final Map<K, B> entryBuilders,
+                                              @Nonnull final ReadContext ctx) throws ReadFailedException {
+            for (Map.Entry<K, B> entry : entryBuilders.entrySet()) {
+                final InstanceIdentifier<D> keyedId =
+                        RWUtils.replaceLastInId(id, RWUtils.getCurrentIdItem(id, entry.getKey()));
+                readChildren(keyedId, ctx, entry.getValue());
+            }
+            return entryBuilders;
+        }
+
         @Override
         public void init(final DataBroker broker, final InstanceIdentifier<D> id, final ReadContext ctx)
                 throws InitFailedException {
+            final List<K> allIds;
             try {
-                final List<K> allIds = delegate.getAllIds(id, ctx);
-                for (K key : allIds) {
-                    super.init(broker, RWUtils.replaceLastInId(id, RWUtils.getCurrentIdItem(id, key)), ctx);
-                }
+                allIds = delegate.getAllIds(id, ctx);
             } catch (ReadFailedException e) {
                 throw new InitFailedException(id, e);
             }
+            // list entries are independent, initialize them concurrently if enabled
+            final List<ParallelInitializer.InitTask> entryInits = new ArrayList<>(allIds.size());
+            for (K key : allIds) {
+                final InstanceIdentifier<D> keyedId = RWUtils.replaceLastInId(id, RWUtils.getCurrentIdItem(id, key));
+                entryInits.add(() -> super.init(broker, keyedId, ctx));
+            }
+            initializer.initAll(entryInits);
         }
     }
 }
@@ -30,10 +30,14 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.read.Reader;
 import io.fd.honeycomb.translate.read.registry.ReaderRegistry;
 import io.fd.honeycomb.translate.util.RWUtils;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.opendaylight.mdsal.binding.api.DataBroker;
@@ -54,6 +58,9 @@ public final class CompositeReaderRegistry implements ReaderRegistry {
     private static final Logger LOG = LoggerFactory.getLogger(CompositeReaderRegistry.class);
 
     private final Map<Class<? extends DataObject>, Reader<? extends DataObject, ? extends Builder<?>>> rootReaders;
+    // root readers grouped by dependencies between them, each level depends only on the previous levels
+    private final List<List<Reader<? extends DataObject, ? extends Builder<?>>>> initLevels;
+    private final ParallelInitializer initializer;
 
     /**
      * Create new {@link CompositeReaderRegistry}.
@@ -61,7 +68,52 @@ public final class CompositeReaderRegistry implements ReaderRegistry {
      * @param rootReaders List of delegate readers
      */
     public CompositeReaderRegistry(@Nonnull final List<Reader<? extends DataObject, ? extends Builder<?>>> rootReaders) {
+        this(rootReaders, Collections.emptyMap(), ParallelInitializer.SERIAL);
+    }
+
+    /**
+     * Create new {@link CompositeReaderRegistry} initializing independent roots concurrently.
+     *
+     * @param rootReaders      List of delegate readers
+     * @param rootDependencies root types mapped to root types that have to be initialized before them
+     * @param initializer      executor of initialization tasks
+     */
+    CompositeReaderRegistry(@Nonnull final List<Reader<? extends DataObject, ? extends Builder<?>>> rootReaders,
+                            @Nonnull final Map<Class<? extends DataObject>, Set<Class<? extends DataObject>>>
+                                    rootDependencies,
+                            @Nonnull final ParallelInitializer initializer) {
         this.rootReaders = RWUtils.uniqueLinkedIndex(checkNotNull(rootReaders), RWUtils.MANAGER_CLASS_FUNCTION);
+        this.initLevels = toInitLevels(this.rootReaders, checkNotNull(rootDependencies));
+        this.initializer = checkNotNull(initializer, "initializer should not be null");
+    }
+
+    /**
+     * Splits root readers into levels, so that each root is placed after all the roots it depends on. Roots within
+     * a level keep the registry order. Roots depending on each other through their subtrees cannot be ordered,
+     * those are placed into separate levels in the registry order.
+     */
+    @VisibleForTesting
+    static List<List<Reader<? extends DataObject, ? extends Builder<?>>>> toInitLevels(
+            @Nonnull final Map<Class<? extends DataObject>, Reader<? extends DataObject, ? extends Builder<?>>> readers,
+            @Nonnull final Map<Class<? extends DataObject>, Set<Class<? extends DataObject>>> dependencies) {
+        final List<List<Reader<? extends DataObject, ? extends Builder<?>>>> levels = new ArrayList<>();
+        final List<Class<? extends DataObject>> remaining = new ArrayList<>(readers.keySet());
+        final Set<Class<? extends DataObject>> pending = new HashSet<>(remaining);
+        while (!remaining.isEmpty()) {
+            final List<Class<? extends DataObject>> level = remaining.stream()
+                    .filter(root -> dependencies.getOrDefault(root, Collections.emptySet()).stream()
+                            .noneMatch(pending::contains))
+                    .collect(Collectors.toList());
+            if (level.isEmpty()) {
+                LOG.warn("Unable to order initialization of dependent roots: {}, initializing one by one", remaining);
+                remaining.forEach(root -> levels.add(Collections.singletonList(readers.get(root))));
+                break;
+            }
+            levels.add(level.stream().map(readers::get).collect(Collectors.toList()));
+            remaining.removeAll(level);
+            pending.removeAll(level);
+        }
+        return levels;
     }
 
     @VisibleForTesting
@@ -69,15 +121,27 @@ public final class CompositeReaderRegistry implements ReaderRegistry {
         return rootReaders;
     }
 
+    @VisibleForTesting
+    List<List<Reader<? extends DataObject, ? extends Builder<?>>>> getInitLevels() {
+        return initLevels;
+    }
+
     @Override
     @Nonnull
     public Multimap<InstanceIdentifier<? extends DataObject>, ? extends DataObject> readAll(
         @Nonnull final ReadContext ctx) throws ReadFailedException {
 
+        final Multimap<InstanceIdentifier<? extends DataObject>, DataObject> objects = LinkedListMultimap.create();
+        readAll(ctx, objects::putAll);
+        return objects;
+    }
+
+    @Override
+    public void readAll(@Nonnull final ReadContext ctx, @Nonnull final RootDataConsumer consumer)
+            throws ReadFailedException {
         LOG.debug("Reading from all delegates: {}", this);
         LOG.trace("Reading from all delegates: {}", rootReaders.values());
 
-        final Multimap<InstanceIdentifier<? extends DataObject>, DataObject> objects = LinkedListMultimap.create();
         for (Reader<? extends DataObject, ? extends Builder<?>> rootReader : rootReaders.values()) {
             LOG.debug("Reading from delegate: {}", rootReader);
 
@@ -85,29 +149,73 @@ public final class CompositeReaderRegistry implements ReaderRegistry {
                 final List<? extends DataObject> listEntries =
                         ((ListReader) rootReader).readList(rootReader.getManagedDataObjectType(), ctx);
                 if (!listEntries.isEmpty()) {
-                    objects.putAll(rootReader.getManagedDataObjectType(), listEntries);
+                    consumer.accept(rootReader.getManagedDataObjectType(), listEntries);
                 }
             } else {
                 final Optional<? extends DataObject> read = rootReader.read(rootReader.getManagedDataObjectType(), ctx);
                 if (read.isPresent()) {
-                    objects.putAll(rootReader.getManagedDataObjectType(), Collections.singletonList(read.get()));
+                    consumer.accept(rootReader.getManagedDataObjectType(), Collections.singletonList(read.get()));
                 }
             }
         }
-
-        return objects;
     }
 
-
+    /**
+     * {@inheritDoc}
+     *
+     * <p>All roots share provided context, so roots are initialized one by one, in the order of their dependencies.
+     */
     @Override
     public void initAll(@Nonnull final DataBroker broker, @Nonnull final ReadContext ctx) throws InitFailedException {
-        for (Reader<? extends DataObject, ? extends Builder<?>> rootReader : rootReaders.values()) {
-            if (rootReader instanceof Initializer<?>) {
-                ((Initializer) rootReader).init(broker, rootReader.getManagedDataObjectType(), ctx);
+        for (List<Reader<? extends DataObject, ? extends Builder<?>>> level : initLevels) {
+            for (Reader<? extends DataObject, ? extends Builder<?>> rootReader : level) {
+                if (rootReader instanceof Initializer<?>) {
+                    initRoot(broker, (Initializer) rootReader, rootReader.getManagedDataObjectType(), ctx);
+                }
             }
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Roots are initialized level by level, in the order of their dependencies. Independent roots of a level are
+     * initialized concurrently if the registry was built with parallel initialization enabled, so the context factory
+     * may be invoked concurrently. Config initialized for a root is written to the broker in a single transaction,
+     * once the root is initialized.
+     */
+    @Override
+    public void initAll(@Nonnull final DataBroker broker,
+                        @Nonnull final Supplier<? extends ReadContext> contextFactory) throws InitFailedException {
+        for (List<Reader<? extends DataObject, ? extends Builder<?>>> level : initLevels) {
+            final List<ParallelInitializer.InitTask> rootInits = new ArrayList<>(level.size());
+            for (Reader<? extends DataObject, ? extends Builder<?>> rootReader : level) {
+                if (rootReader instanceof Initializer<?>) {
+                    rootInits.add(() -> {
+                        try (ReadContext ctx = contextFactory.get()) {
+                            initRoot(broker, (Initializer) rootReader, rootReader.getManagedDataObjectType(), ctx);
+                        }
+                    });
+                }
+            }
+            initializer.initAll(rootInits);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void initRoot(final DataBroker broker, final Initializer rootInitializer,
+                                 final InstanceIdentifier<? extends DataObject> rootId, final ReadContext ctx)
+            throws InitFailedException {
+        final BatchingInitDataBroker batch = new BatchingInitDataBroker(broker);
+        try {
+            LOG.debug("Initializing root: {}", rootId);
+            rootInitializer.init(batch, rootId, ctx);
+        } finally {
+            // config of partially initialized root is written as well, same as without batching
+            batch.commitBatch();
+        }
+    }
+
     @Nonnull
     @Override
     public Optional<? extends DataObject> read(@Nonnull final InstanceIdentifier<? extends DataObject> id,
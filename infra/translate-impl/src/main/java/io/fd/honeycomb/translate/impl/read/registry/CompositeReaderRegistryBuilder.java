@@ -32,8 +32,12 @@ import io.fd.honeycomb.translate.util.AbstractSubtreeManagerRegistryBuilderBuild
 import io.fd.honeycomb.translate.util.YangDAG;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.NotThreadSafe;
@@ -52,8 +56,30 @@ public final class CompositeReaderRegistryBuilder
 
     private static final Logger LOG = LoggerFactory.getLogger(CompositeReaderRegistryBuilder.class);
 
+    private final YangDAG yangDAG;
+    private final ParallelInitializer initializer;
+
     public CompositeReaderRegistryBuilder(@Nonnull final YangDAG yangDAG) {
         super(yangDAG);
+        this.yangDAG = yangDAG;
+        this.initializer = ParallelInitializer.SERIAL;
+    }
+
+    /**
+     * Create builder of registry initializing independent root readers and list entries concurrently.
+     * Customizers of initializing readers have to be thread safe.
+     *
+     * @param yangDAG         model dependency graph
+     * @param initExecutor    executor used for initialization tasks
+     * @param initParallelism maximum number of tasks initialized concurrently at each level, 1 disables parallel
+     *                        initialization
+     */
+    public CompositeReaderRegistryBuilder(@Nonnull final YangDAG yangDAG,
+                                          @Nonnull final Executor initExecutor,
+                                          final int initParallelism) {
+        super(yangDAG);
+        this.yangDAG = yangDAG;
+        this.initializer = new ParallelInitializer(initExecutor, initParallelism);
     }
 
     @Override
@@ -115,7 +141,28 @@ public final class CompositeReaderRegistryBuilder
         orderedRootReaders.sort(
             Comparator.comparingInt(reader -> readerOrder.indexOf(reader.getManagedDataObjectType())));
 
-        return new CompositeReaderRegistry(orderedRootReaders);
+        return new CompositeReaderRegistry(orderedRootReaders, getRootDependencies(), initializer);
+    }
+
+    /**
+     * Collects dependencies between roots. Root depends on another root if any node from its subtree depends
+     * on a node from the other subtree, directly or through nodes of other subtrees.
+     */
+    private Map<Class<? extends DataObject>, Set<Class<? extends DataObject>>> getRootDependencies() {
+        final Map<Class<? extends DataObject>, Set<Class<? extends DataObject>>> rootDependencies = new HashMap<>();
+        yangDAG.iterator().forEachRemaining(id -> {
+            final Class<? extends DataObject> root = getRootType(id);
+            yangDAG.getAncestors(id).stream()
+                    .map(CompositeReaderRegistryBuilder::getRootType)
+                    .filter(dependency -> !dependency.equals(root))
+                    .forEach(dependency ->
+                            rootDependencies.computeIfAbsent(root, r -> new HashSet<>()).add(dependency));
+        });
+        return rootDependencies;
+    }
+
+    private static Class<? extends DataObject> getRootType(final InstanceIdentifier<?> id) {
+        return id.getPathArguments().iterator().next().getType();
     }
 
     private Reader<? extends DataObject, ? extends Builder<?>> toCompositeReader(
@@ -138,7 +185,7 @@ public final class CompositeReaderRegistryBuilder
         } else {
             final Reader<?, ?> reader = Preconditions.checkNotNull(mappedReaders.get(instanceIdentifier),
                     "Missing reader for %s", instanceIdentifier);
-            return CompositeReader.createForReader(reader, childReadersMap);
+            return CompositeReader.createForReader(reader, childReadersMap, initializer);
         }
     }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.translate.impl.read.registry;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.Uninterruptibles;
+import io.fd.honeycomb.translate.read.InitFailedException;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs independent initialization tasks (of root readers or list entries) concurrently.
+ *
+ * <p>The calling thread takes part in executing the tasks, and so does any thread waiting for nested tasks. Nested
+ * parallel initialization therefore cannot exhaust the executor, in the worst case all tasks are executed by the
+ * calling thread. After the first failure, remaining tasks are skipped and the failure is rethrown.
+ */
+@ThreadSafe
+final class ParallelInitializer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelInitializer.class);
+
+    static final ParallelInitializer SERIAL = new ParallelInitializer(MoreExecutors.directExecutor(), 1);
+
+    private final Executor executor;
+    private final int parallelism;
+
+    ParallelInitializer(@Nonnull final Executor executor, final int parallelism) {
+        checkArgument(parallelism > 0, "Parallelism must be positive, but was %s", parallelism);
+        this.executor = checkNotNull(executor, "executor should not be null");
+        this.parallelism = parallelism;
+    }
+
+    void initAll(@Nonnull final List<InitTask> tasks) throws InitFailedException {
+        if (parallelism == 1 || tasks.size() <= 1) {
+            for (InitTask task : tasks) {
+                task.init();
+            }
+            return;
+        }
+
+        final Queue<InitTask> queue = new ConcurrentLinkedQueue<>(tasks);
+        final CountDownLatch finished = new CountDownLatch(tasks.size());
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Runnable worker = () -> runQueued(queue, finished, failure);
+
+        final int helpers = Math.min(parallelism, tasks.size()) - 1;
+        for (int i = 0; i < helpers; i++) {
+            try {
+                executor.execute(worker);
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Initialization executor saturated, continuing with {} helpers", i, e);
+                break;
+            }
+        }
+        worker.run();
+        Uninterruptibles.awaitUninterruptibly(finished);
+
+        final Throwable cause = failure.get();
+        if (cause != null) {
+            Throwables.throwIfInstanceOf(cause, InitFailedException.class);
+            Throwables.throwIfUnchecked(cause);
+            throw new IllegalStateException("Unexpected initialization failure", cause);
+        }
+    }
+
+    private static void runQueued(final Queue<InitTask> queue, final CountDownLatch finished,
+                                  final AtomicReference<Throwable> failure) {
+        InitTask task;
+        while ((task = queue.poll()) != null) {
+            try {
+                if (failure.get() == null) {
+                    task.init();
+                }
+            } catch (InitFailedException | RuntimeException | Error e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                finished.countDown();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface InitTask {
+        void init() throws InitFailedException;
+    }
+}
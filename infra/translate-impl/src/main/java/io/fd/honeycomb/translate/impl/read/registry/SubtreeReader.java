@@ -26,14 +26,21 @@ import io.fd.honeycomb.translate.read.Reader;
 import io.fd.honeycomb.translate.util.RWUtils;
 import io.fd.honeycomb.translate.util.ReflectionUtils;
 import io.fd.honeycomb.translate.util.read.DelegatingReader;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.yangtools.concepts.Builder;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 import org.opendaylight.yangtools.yang.binding.Identifiable;
@@ -52,9 +59,13 @@ class SubtreeReader<D extends DataObject, B extends Builder<D>> implements Deleg
 
     protected final Reader<D, B> delegate;
     private final Set<InstanceIdentifier<?>> handledChildTypes = new HashSet<>();
+    // Getters leading from managed type to each of handled child types
+    private final Map<InstanceIdentifier<?>, List<ChildAccessor>> accessorChains = new HashMap<>();
+    private final int managedTypeDepth;
 
     SubtreeReader(final Reader<D, B> delegate, Set<InstanceIdentifier<?>> handledTypes) {
         this.delegate = delegate;
+        this.managedTypeDepth = Iterables.size(delegate.getManagedDataObjectType().getPathArguments());
         for (InstanceIdentifier<?> handledType : handledTypes) {
             // Iid has to start with Reader's handled root type
             checkArgument(delegate.getManagedDataObjectType().getTargetType().equals(
@@ -63,8 +74,11 @@ class SubtreeReader<D extends DataObject, B extends Builder<D>> implements Deleg
                             + "Instance identifier was: %s", getManagedDataObjectType().getTargetType(), handledType);
             checkArgument(Iterables.size(handledType.getPathArguments()) > 1,
                     "Handled node from subtree identifier too short: %s", handledType);
-            handledChildTypes.add(InstanceIdentifier.create(Iterables.concat(
-                    getManagedDataObjectType().getPathArguments(), Iterables.skip(handledType.getPathArguments(), 1))));
+            final InstanceIdentifier<?> handledChildType = InstanceIdentifier.create(Iterables.concat(
+                    getManagedDataObjectType().getPathArguments(), Iterables.skip(handledType.getPathArguments(), 1)));
+            handledChildTypes.add(handledChildType);
+            accessorChains.put(handledChildType, createAccessorChain(handledChildType,
+                    getManagedDataObjectType().getTargetType(), managedTypeDepth));
         }
     }
 
@@ -91,7 +105,7 @@ class SubtreeReader<D extends DataObject, B extends Builder<D>> implements Deleg
             final Optional<? extends DataObject> current = delegate.read(currentId, ctx);
             // then perform post-reading filtering (return only requested sub-node)
             final Optional<? extends DataObject> readSubtree = current.isPresent()
-                ? filterSubtree(current.get(), id, getManagedDataObjectType().getTargetType())
+                ? filterSubtree(current.get(), id, wildcarded)
                 : current;
 
             LOG.debug("{}: Subtree: {} read successfully. Result: {}", this, id, readSubtree);
@@ -109,74 +123,111 @@ class SubtreeReader<D extends DataObject, B extends Builder<D>> implements Deleg
     }
 
     @Nonnull
-    private static Optional<? extends DataObject> filterSubtree(@Nonnull final DataObject parent,
-                                                                @Nonnull final InstanceIdentifier<? extends DataObject> absolutPath,
-                                                                @Nonnull final Class<?> managedType) {
-        final InstanceIdentifier.PathArgument nextId =
-                RWUtils.getNextId(absolutPath, InstanceIdentifier.create(parent.getClass()));
-
-        final Optional<? extends DataObject> nextParent = findNextParent(parent, nextId, managedType);
-
-        if (Iterables.getLast(absolutPath.getPathArguments()).equals(nextId)) {
-            return nextParent; // we found the dataObject identified by absolutePath
-        } else if (nextParent.isPresent()) {
-            return filterSubtree(nextParent.get(), absolutPath, nextId.getType());
-        } else {
-            return nextParent; // we can't go further, return Optional.absent()
+    private Optional<? extends DataObject> filterSubtree(@Nonnull final DataObject parent,
+                                                         @Nonnull final InstanceIdentifier<? extends DataObject> absolutPath,
+                                                         @Nonnull final InstanceIdentifier<?> wildcarded) {
+        final Iterator<InstanceIdentifier.PathArgument> nextIds =
+                Iterables.skip(absolutPath.getPathArguments(), managedTypeDepth).iterator();
+
+        DataObject current = parent;
+        for (ChildAccessor accessor : accessorChains.get(wildcarded)) {
+            current = accessor.get(current, nextIds.next());
+            if (current == null) {
+                return Optional.empty(); // we can't go further
+            }
         }
+        return Optional.of(current);
     }
 
-    private static Optional<? extends DataObject> findNextParent(@Nonnull final DataObject parent,
-                                                                 @Nonnull final InstanceIdentifier.PathArgument nextId,
-                                                                 @Nonnull final Class<?> managedType) {
-        Optional<Method> method = ReflectionUtils.findMethodReflex(managedType, "get",
-                Collections.emptyList(), nextId.getType());
+    private static List<ChildAccessor> createAccessorChain(@Nonnull final InstanceIdentifier<?> handledType,
+                                                           @Nonnull final Class<?> managedType,
+                                                           final int managedTypeDepth) {
+        final List<ChildAccessor> chain = new ArrayList<>();
+        Class<?> parentType = managedType;
+        for (InstanceIdentifier.PathArgument pathArgument
+                : Iterables.skip(handledType.getPathArguments(), managedTypeDepth)) {
+            chain.add(ChildAccessor.create(parentType, pathArgument.getType()));
+            parentType = pathArgument.getType();
+        }
+        return chain;
+    }
 
-        if (method.isPresent()) {
-            return Optional.ofNullable(filterSingle(parent, nextId, method.get()));
-        } else {
-            // List child nodes
-            method = ReflectionUtils.findMethodReflex(managedType,
-                    "get" + nextId.getType().getSimpleName(), Collections.emptyList(), List.class);
+    /**
+     * Getter of a child node, resolved once when the reader is created.
+     */
+    private static final class ChildAccessor {
 
-            if (method.isPresent()) {
-                return filterList(parent, nextId, method.get());
-            } else {
-                throw new IllegalStateException(
-                        "Unable to filter " + nextId + " from " + parent + " getters not found using reflexion");
-            }
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, DataObject.class);
+
+        // Null if no getter was found, which fails only once the child is actually requested
+        private final MethodHandle getter;
+        private final boolean list;
+
+        private ChildAccessor(final MethodHandle getter, final boolean list) {
+            this.getter = getter;
+            this.list = list;
         }
-    }
 
-    @SuppressWarnings("unchecked")
-    private static Optional<? extends DataObject> filterList(final DataObject parent,
-                                                             final InstanceIdentifier.PathArgument nextId,
-                                                             final Method method) {
-        final List<? extends DataObject> invoke = (List<? extends DataObject>) invoke(method, nextId, parent);
+        static ChildAccessor create(@Nonnull final Class<?> parentType, @Nonnull final Class<?> childType) {
+            Optional<Method> method = ReflectionUtils.findMethodReflex(parentType, "get",
+                    Collections.emptyList(), childType);
+            boolean list = false;
+            if (!method.isPresent()) {
+                // List child nodes
+                method = ReflectionUtils.findMethodReflex(parentType,
+                        "get" + childType.getSimpleName(), Collections.emptyList(), List.class);
+                list = true;
+            }
+
+            if (!method.isPresent()) {
+                return new ChildAccessor(null, list);
+            }
+            try {
+                return new ChildAccessor(MethodHandles.publicLookup().unreflect(method.get()).asType(GETTER_TYPE),
+                        list);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Unable to access getter " + method.get(), e);
+            }
+        }
 
-        checkArgument(nextId instanceof InstanceIdentifier.IdentifiableItem<?, ?>,
-                "Unable to perform wildcarded read for %s", nextId);
-        final Identifier key = ((InstanceIdentifier.IdentifiableItem) nextId).getKey();
+        @Nullable
+        DataObject get(@Nonnull final DataObject parent, @Nonnull final InstanceIdentifier.PathArgument nextId) {
+            if (getter == null) {
+                throw new IllegalStateException(
+                        "Unable to filter " + nextId + " from " + parent + " getters not found using reflexion");
+            }
 
-        final Method keyGetter = ReflectionUtils.findMethodReflex(nextId.getType(), "get",
-                        Collections.emptyList(), key.getClass()).get();
+            final Object child = invoke(parent, nextId);
+            return list
+                    ? filterList((List<?>) child, nextId)
+                    : nextId.getType().cast(child);
+        }
 
-        return Optional.ofNullable(invoke.stream()
-                .filter(item -> key.equals(invoke(keyGetter, nextId, item)))
-                .findFirst().orElse(null));
-    }
+        private static DataObject filterList(@Nullable final List<?> items,
+                                             @Nonnull final InstanceIdentifier.PathArgument nextId) {
+            checkArgument(nextId instanceof InstanceIdentifier.IdentifiableItem<?, ?>,
+                    "Unable to perform wildcarded read for %s", nextId);
+            if (items == null) {
+                return null;
+            }
 
-    private static DataObject filterSingle(final DataObject parent,
-                                           final InstanceIdentifier.PathArgument nextId, final Method method) {
-        return nextId.getType().cast(invoke(method, nextId, parent));
-    }
+            final Identifier<?> key = ((InstanceIdentifier.IdentifiableItem<?, ?>) nextId).getKey();
+            for (Object item : items) {
+                if (key.equals(((Identifiable<?>) item).key())) {
+                    return (DataObject) item;
+                }
+            }
+            return null;
+        }
 
-    private static Object invoke(final Method method,
-                                 final InstanceIdentifier.PathArgument nextId, final DataObject parent) {
-        try {
-            return method.invoke(parent);
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new IllegalArgumentException("Unable to get " + nextId + " from " + parent, e);
+        private Object invoke(final DataObject parent, final InstanceIdentifier.PathArgument nextId) {
+            try {
+                return (Object) getter.invokeExact(parent);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalArgumentException("Unable to get " + nextId + " from " + parent, e);
+            }
         }
     }
 
@@ -16,8 +16,26 @@
 
 package io.fd.honeycomb.translate.impl.read;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.spi.read.BulkListReaderCustomizer;
 import io.fd.honeycomb.translate.spi.read.ListReaderCustomizer;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
 import org.opendaylight.yangtools.concepts.Builder;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class GenericListReaderTest extends AbstractListReaderTest {
 
@@ -29,4 +47,50 @@ public class GenericListReaderTest extends AbstractListReaderTest {
     protected GenericListReader<TestingData, TestingData.TestingKey, Builder<TestingData>> initReader() {
         return new GenericListReader<>(DATA_OBJECT_ID, getCustomizer());
     }
+
+    @Test
+    public void testBulkReadNotSupported() {
+        assertFalse(getReader().isBulkReadSupported());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testReadListInBulk() throws Exception {
+        final BulkListReaderCustomizer<TestingData, TestingData.TestingKey, Builder<TestingData>> bulkCustomizer =
+                mock(BulkListReaderCustomizer.class);
+        final Builder<TestingData> builder2 = mock(Builder.class);
+        final TestingData data2 = mock(TestingData.class);
+        when(builder2.build()).thenReturn(data2);
+        when(bulkCustomizer.readAllCurrentAttributes(DATA_OBJECT_ID, ctx)).thenReturn(ImmutableMap.of(
+                new TestingData.TestingKey(), builder, new TestingData.TestingKey(), builder2));
+        when(bulkCustomizer.isPresent(any(InstanceIdentifier.class), any(TestingData.class), any(ReadContext.class)))
+                .thenReturn(true);
+        final GenericListReader<TestingData, TestingData.TestingKey, Builder<TestingData>> bulkReader =
+                new GenericListReader<>(DATA_OBJECT_ID, bulkCustomizer);
+
+        assertTrue(bulkReader.isBulkReadSupported());
+        final List<TestingData> read = bulkReader.readList(DATA_OBJECT_ID, ctx);
+
+        assertEquals(2, read.size());
+        assertEquals(data, read.get(0));
+        assertEquals(data2, read.get(1));
+        verify(bulkCustomizer).readAllCurrentAttributes(DATA_OBJECT_ID, ctx);
+        verify(bulkCustomizer, never()).getAllIds(any(InstanceIdentifier.class), any(ReadContext.class));
+        verify(bulkCustomizer, never())
+                .readCurrentAttributes(any(InstanceIdentifier.class), any(Builder.class), any(ReadContext.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testReadAllCurrentAttributesWithoutBulkSupport() throws Exception {
+        when(getCustomizer().isPresent(any(InstanceIdentifier.class), any(TestingData.class), any(ReadContext.class)))
+                .thenReturn(true);
+
+        final Map<TestingData.TestingKey, Builder<TestingData>> read =
+                getReader().readAllCurrentAttributes(DATA_OBJECT_ID, ctx);
+
+        assertEquals(2, read.size());
+        verify(getCustomizer()).getAllIds(DATA_OBJECT_ID, ctx);
+        verify(getCustomizer(), times(2)).readCurrentAttributes(any(InstanceIdentifier.class), eq(builder), eq(ctx));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.translate.impl.read.registry;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.fd.honeycomb.translate.util.DataObjects;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.WriteTransaction;
+import org.opendaylight.mdsal.common.api.CommitInfo;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.yangtools.util.concurrent.FluentFutures;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class BatchingInitDataBrokerTest {
+
+    @Mock
+    private DataBroker delegate;
+    @Mock
+    private WriteTransaction batchTx;
+    private BatchingInitDataBroker broker;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        broker = new BatchingInitDataBroker(delegate);
+    }
+
+    @Test
+    public void testBatchCommittedOnce() {
+        when(delegate.newWriteOnlyTransaction()).thenReturn(batchTx);
+        doReturn(FluentFutures.immediateFluentFuture(CommitInfo.empty())).when(batchTx).commit();
+        final DataObjects.DataObject1 data1 = mock(DataObjects.DataObject1.class);
+        final DataObjects.DataObject2 data2 = mock(DataObjects.DataObject2.class);
+
+        write(DataObjects.DataObject1.IID, data1);
+        write(DataObjects.DataObject2.IID, data2);
+        broker.commitBatch();
+
+        verify(batchTx).put(LogicalDatastoreType.CONFIGURATION, DataObjects.DataObject1.IID, data1);
+        verify(batchTx).put(LogicalDatastoreType.CONFIGURATION, DataObjects.DataObject2.IID, data2);
+        verify(batchTx).commit();
+        verify(delegate).newWriteOnlyTransaction();
+    }
+
+    @Test
+    public void testFailedBatchRetriedPerTransaction() {
+        final WriteTransaction tx1 = mock(WriteTransaction.class);
+        final WriteTransaction tx2 = mock(WriteTransaction.class);
+        when(delegate.newWriteOnlyTransaction()).thenReturn(batchTx, tx1, tx2);
+        doReturn(FluentFutures.immediateFailedFluentFuture(new IllegalStateException("batch failed")))
+                .when(batchTx).commit();
+        doReturn(FluentFutures.immediateFailedFluentFuture(new IllegalStateException("tx1 failed")))
+                .when(tx1).commit();
+        doReturn(FluentFutures.immediateFluentFuture(CommitInfo.empty())).when(tx2).commit();
+        final DataObjects.DataObject1 data1 = mock(DataObjects.DataObject1.class);
+        final DataObjects.DataObject2 data2 = mock(DataObjects.DataObject2.class);
+
+        write(DataObjects.DataObject1.IID, data1);
+        write(DataObjects.DataObject2.IID, data2);
+        broker.commitBatch();
+
+        verify(tx1).put(LogicalDatastoreType.CONFIGURATION, DataObjects.DataObject1.IID, data1);
+        verify(tx1, never()).put(any(), any(), any(DataObjects.DataObject2.class));
+        verify(tx1).commit();
+        verify(tx2).put(LogicalDatastoreType.CONFIGURATION, DataObjects.DataObject2.IID, data2);
+        verify(tx2).commit();
+    }
+
+    @Test
+    public void testEmptyBatchNotCommitted() {
+        broker.commitBatch();
+        verify(delegate, never()).newWriteOnlyTransaction();
+    }
+
+    private <T extends DataObject> void write(final InstanceIdentifier<T> id, final T data) {
+        final WriteTransaction tx = broker.newWriteOnlyTransaction();
+        tx.put(LogicalDatastoreType.CONFIGURATION, id, data);
+        tx.commit();
+    }
+}
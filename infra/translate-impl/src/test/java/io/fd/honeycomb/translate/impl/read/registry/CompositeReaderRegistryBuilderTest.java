@@ -22,6 +22,7 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import io.fd.honeycomb.translate.read.Reader;
 import io.fd.honeycomb.translate.read.registry.ReaderRegistry;
@@ -29,6 +30,7 @@ import io.fd.honeycomb.translate.util.DataObjects;
 import io.fd.honeycomb.translate.util.YangDAG;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.opendaylight.yangtools.concepts.Builder;
@@ -117,4 +119,36 @@ public class CompositeReaderRegistryBuilderTest {
         assertTrue(childReaders.get(DataObjects.DataObject4.DataObject41.class) instanceof CompositeReader);
         assertFalse(childReaders.get(DataObjects.DataObject4.DataObject42.class) instanceof CompositeReader);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testInitLevels() throws Exception {
+        final CompositeReaderRegistryBuilder compositeReaderRegistryBuilder =
+                new CompositeReaderRegistryBuilder(new YangDAG());
+        /*
+            Root 2 depends on 1, root 3 depends on 2 through its child 31, root 4 is independent
+
+            1, 4
+            2
+            3
+         */
+        compositeReaderRegistryBuilder.add(reader1);
+        compositeReaderRegistryBuilder.addAfter(reader2, reader1.getManagedDataObjectType());
+        compositeReaderRegistryBuilder.add(reader3);
+        compositeReaderRegistryBuilder.addAfter(reader31, reader2.getManagedDataObjectType());
+        compositeReaderRegistryBuilder.add(reader4);
+
+        final List<List<Reader<? extends DataObject, ? extends Builder<?>>>> initLevels =
+                ((CompositeReaderRegistry) compositeReaderRegistryBuilder.build()).getInitLevels();
+
+        assertEquals(3, initLevels.size());
+        assertEquals(ImmutableSet.of(DataObjects.DataObject1.class, DataObjects.DataObject4.class),
+                initLevels.get(0).stream().map(reader -> reader.getManagedDataObjectType().getTargetType())
+                        .collect(Collectors.toSet()));
+        assertEquals(DataObjects.DataObject2.class,
+                initLevels.get(1).get(0).getManagedDataObjectType().getTargetType());
+        assertEquals(1, initLevels.get(2).size());
+        assertTrue(initLevels.get(2).get(0) instanceof CompositeReader);
+        assertEquals(DataObjects.DataObject3.class,
+                initLevels.get(2).get(0).getManagedDataObjectType().getTargetType());
+    }
+}
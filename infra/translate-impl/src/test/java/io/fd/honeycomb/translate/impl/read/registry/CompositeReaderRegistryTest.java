@@ -16,29 +16,46 @@
 
 package io.fd.honeycomb.translate.impl.read.registry;
 
+import static io.fd.honeycomb.translate.util.DataObjects.DataObject1;
 import static io.fd.honeycomb.translate.util.DataObjects.DataObject3;
 import static io.fd.honeycomb.translate.util.DataObjects.DataObject3.DataObject31;
 import static io.fd.honeycomb.translate.util.DataObjects.DataObject4;
 import static io.fd.honeycomb.translate.util.DataObjects.DataObject4.DataObject41;
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import io.fd.honeycomb.translate.read.Initializer;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.WriteTransaction;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.yangtools.util.concurrent.FluentFutures;
 import org.opendaylight.yangtools.concepts.Builder;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
@@ -52,6 +69,7 @@ public class CompositeReaderRegistryTest {
     private Reader<DataObject3, Builder<DataObject3>> rootReader3;
     private Reader<DataObject41, Builder<DataObject41>> reader41;
     private Reader<DataObject4, Builder<DataObject4>> rootReader4;
+    private Reader<DataObject1, Builder<DataObject1>> reader1;
 
     @Before
     public void setUp() throws Exception {
@@ -80,6 +98,8 @@ public class CompositeReaderRegistryTest {
         doReturn(mockedReader4.getBuilder(InstanceIdentifier.create(DataObject4.class)))
                 .when(rootReader4).getBuilder(any(InstanceIdentifier.class));
 
+        reader1 = mockReader(DataObject1.class);
+
         reg = new CompositeReaderRegistry(Lists.newArrayList(rootReader3, rootReader4));
     }
 
@@ -95,6 +115,19 @@ public class CompositeReaderRegistryTest {
         inOrder.verify(reader41).read(any(InstanceIdentifier.class), any(ReadContext.class));
     }
 
+    @Test
+    public void testReadAllStreaming() throws Exception {
+        final CompositeReaderRegistry reg = new CompositeReaderRegistry(
+                Lists.newArrayList(mockReader(DataObject3.class), mockReader(DataObject4.class)));
+        final List<InstanceIdentifier<? extends DataObject>> consumed = new ArrayList<>();
+        reg.readAll(ctx, (id, data) -> {
+            assertEquals(1, data.size());
+            consumed.add(id);
+        });
+
+        assertEquals(Lists.newArrayList(DataObject3.IID, DataObject4.IID), consumed);
+    }
+
     @Test
     public void testReadSingleRoot() throws Exception {
         reg.read(DataObject3.IID, ctx);
@@ -109,6 +142,84 @@ public class CompositeReaderRegistryTest {
         verify(reader41, times(0)).read(any(InstanceIdentifier.class), any(ReadContext.class));
     }
 
+    @Test
+    public void testInitAllUsesContextPerRoot() throws Exception {
+        final Reader<DataObject3, Builder<DataObject3>> initReader3 = mockInitializingReader(DataObject3.class);
+        final Reader<DataObject4, Builder<DataObject4>> initReader4 = mockInitializingReader(DataObject4.class);
+        final CompositeReaderRegistry reg = new CompositeReaderRegistry(Lists.newArrayList(initReader3, initReader4));
+        final DataBroker broker = mock(DataBroker.class);
+        final ReadContext ctx3 = mock(ReadContext.class);
+        final ReadContext ctx4 = mock(ReadContext.class);
+        final Iterator<ReadContext> contexts = Arrays.asList(ctx3, ctx4).iterator();
+
+        reg.initAll(broker, contexts::next);
+
+        final InOrder inOrder = inOrder(initReader3, initReader4, ctx3, ctx4);
+        inOrder.verify((Initializer) initReader3).init(any(DataBroker.class), eq(DataObject3.IID), eq(ctx3));
+        inOrder.verify(ctx3).close();
+        inOrder.verify((Initializer) initReader4).init(any(DataBroker.class), eq(DataObject4.IID), eq(ctx4));
+        inOrder.verify(ctx4).close();
+    }
+
+    @Test
+    public void testInitLevels() throws Exception {
+        final Map<Class<? extends DataObject>, Reader<? extends DataObject, ? extends Builder<?>>> readers =
+                ImmutableMap.of(DataObject3.class, rootReader3, DataObject4.class, rootReader4,
+                        DataObject1.class, reader1);
+        final Map<Class<? extends DataObject>, Set<Class<? extends DataObject>>> dependencies =
+                ImmutableMap.of(DataObject3.class, Collections.singleton(DataObject4.class));
+
+        assertEquals(Arrays.asList(Arrays.asList(rootReader4, reader1), Collections.singletonList(rootReader3)),
+                CompositeReaderRegistry.toInitLevels(readers, dependencies));
+    }
+
+    @Test
+    public void testInitLevelsRootsDependingOnEachOther() throws Exception {
+        final Map<Class<? extends DataObject>, Reader<? extends DataObject, ? extends Builder<?>>> readers =
+                ImmutableMap.of(DataObject3.class, rootReader3, DataObject4.class, rootReader4,
+                        DataObject1.class, reader1);
+        final Map<Class<? extends DataObject>, Set<Class<? extends DataObject>>> dependencies =
+                ImmutableMap.of(DataObject3.class, Collections.singleton(DataObject4.class),
+                        DataObject4.class, Collections.singleton(DataObject3.class));
+
+        assertEquals(Arrays.asList(Collections.singletonList(reader1), Collections.singletonList(rootReader3),
+                Collections.singletonList(rootReader4)), CompositeReaderRegistry.toInitLevels(readers, dependencies));
+    }
+
+    @Test
+    public void testInitAllBatchesConfigPerRoot() throws Exception {
+        final Reader<DataObject3, Builder<DataObject3>> initReader3 = mockInitializingReader(DataObject3.class);
+        final DataObject3 data = mock(DataObject3.class);
+        doAnswer(invocation -> {
+            final DataBroker initBroker = invocation.getArgument(0);
+            for (int i = 0; i < 2; i++) {
+                final WriteTransaction initTx = initBroker.newWriteOnlyTransaction();
+                initTx.merge(LogicalDatastoreType.CONFIGURATION, DataObject3.IID, data);
+                initTx.commit();
+            }
+            return null;
+        }).when((Initializer) initReader3).init(any(DataBroker.class), any(InstanceIdentifier.class), any());
+        final DataBroker broker = mock(DataBroker.class);
+        final WriteTransaction tx = mock(WriteTransaction.class);
+        when(broker.newWriteOnlyTransaction()).thenReturn(tx);
+        when(tx.commit()).thenReturn(FluentFutures.immediateNullFluentFuture());
+
+        new CompositeReaderRegistry(Lists.newArrayList(initReader3)).initAll(broker, ctx);
+
+        verify(broker, times(1)).newWriteOnlyTransaction();
+        verify(tx, times(2)).merge(LogicalDatastoreType.CONFIGURATION, DataObject3.IID, data);
+        verify(tx, times(1)).commit();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <D extends DataObject, B extends Builder<D>> Reader<D, B> mockInitializingReader(
+            final Class<D> dataType) throws Exception {
+        final Reader r = mock(Reader.class, withSettings().extraInterfaces(Initializer.class));
+        final Object iid = dataType.getDeclaredField("IID").get(null);
+        when(r.getManagedDataObjectType()).thenReturn((InstanceIdentifier) iid);
+        return (Reader<D, B>) r;
+    }
+
     @SuppressWarnings("unchecked")
     static <D extends DataObject, B extends Builder<D>> Reader<D, B> mockReader(final Class<D> dataType)
             throws Exception {
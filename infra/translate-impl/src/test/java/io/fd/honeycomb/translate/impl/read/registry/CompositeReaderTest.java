@@ -21,6 +21,7 @@ import static io.fd.honeycomb.translate.util.DataObjects.DataObject4;
 import static io.fd.honeycomb.translate.util.DataObjects.DataObject4.DataObject41;
 import static io.fd.honeycomb.translate.util.DataObjects.DataObjectK;
 import static io.fd.honeycomb.translate.util.DataObjects.DataObjectKey;
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
@@ -106,6 +107,32 @@ public class CompositeReaderTest {
                 .readCurrentAttributes(any(InstanceIdentifier.class), any(Builder.class), any(ReadContext.class));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testListInBulk() throws Exception {
+        final Reader<DataObjectK.DataObjectK1, Builder<DataObjectK.DataObjectK1>> readerK1 =
+                mockReader(DataObjectK.DataObjectK1.class);
+        final ListReader<DataObjectK, DataObjectKey, Builder<DataObjectK>> readerK =
+                mockListReader(DataObjectK.class, Lists.newArrayList(new DataObjectKey(), new DataObjectKey()));
+        final Builder<DataObjectK> builder = readerK.getBuilder(DataObjectK.IID);
+        when(readerK.isBulkReadSupported()).thenReturn(true);
+        when(readerK.readAllCurrentAttributes(DataObjectK.IID, ctx))
+                .thenReturn(ImmutableMap.of(new DataObjectKey(), builder, new DataObjectKey(), builder));
+        when(readerK.isPresent(any(InstanceIdentifier.class), any(DataObjectK.class), any(ReadContext.class)))
+                .thenReturn(true);
+        final ListReader<DataObjectK, DataObjectKey, Builder<DataObjectK>>
+                compositeReaderK = (ListReader<DataObjectK, DataObjectKey, Builder<DataObjectK>>)
+                CompositeReader.createForReader(readerK, ImmutableMap.of(DataObject41.class, readerK1));
+
+        assertEquals(2, compositeReaderK.readList(DataObjectK.IID, ctx).size());
+
+        verify(readerK).readAllCurrentAttributes(DataObjectK.IID, ctx);
+        verify(readerK, times(0)).getAllIds(any(InstanceIdentifier.class), any(ReadContext.class));
+        verify(readerK, times(0))
+                .readCurrentAttributes(any(InstanceIdentifier.class), any(Builder.class), any(ReadContext.class));
+        verify(readerK1, times(2)).read(any(InstanceIdentifier.class), eq(ctx));
+    }
+
     @SuppressWarnings("unchecked")
     static <D extends DataObject & Identifiable<K>, K extends Identifier<D>, B extends Builder<D>> ListReader<D, K, B> mockListReader(
             final Class<D> dataType, List<K> keys)
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.translate.impl.read.registry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import io.fd.honeycomb.translate.read.InitFailedException;
+import io.fd.honeycomb.translate.util.DataObjects;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+
+public class ParallelInitializerTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test(timeout = 10000)
+    public void testTasksInitializedConcurrently() throws Exception {
+        final ParallelInitializer initializer = new ParallelInitializer(executor, 3);
+        // all 3 tasks have to run at the same time to pass the barrier
+        final CyclicBarrier barrier = new CyclicBarrier(3);
+        final AtomicInteger initialized = new AtomicInteger();
+        final ParallelInitializer.InitTask task = () -> {
+            try {
+                barrier.await(5, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            initialized.incrementAndGet();
+        };
+
+        initializer.initAll(Collections.nCopies(3, task));
+        assertEquals(3, initialized.get());
+    }
+
+    @Test(timeout = 10000)
+    public void testNestedInitializationDoesNotExhaustExecutor() throws Exception {
+        final ParallelInitializer initializer = new ParallelInitializer(executor, 4);
+        final AtomicInteger initialized = new AtomicInteger();
+        final List<ParallelInitializer.InitTask> nested = Collections.nCopies(4, initialized::incrementAndGet);
+        final List<ParallelInitializer.InitTask> roots = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            roots.add(() -> initializer.initAll(nested));
+        }
+
+        initializer.initAll(roots);
+        assertEquals(16, initialized.get());
+    }
+
+    @Test
+    public void testFailureSkipsRemainingTasks() throws Exception {
+        final ParallelInitializer initializer = new ParallelInitializer(MoreExecutors.directExecutor(), 2);
+        final InitFailedException failure =
+                new InitFailedException(DataObjects.DataObject1.IID, new IllegalStateException());
+        final AtomicInteger initialized = new AtomicInteger();
+        final List<ParallelInitializer.InitTask> tasks = new ArrayList<>();
+        tasks.add(() -> {
+            throw failure;
+        });
+        tasks.add(initialized::incrementAndGet);
+
+        try {
+            initializer.initAll(tasks);
+            fail("Exception expected");
+        } catch (InitFailedException e) {
+            assertSame(failure, e);
+        }
+        assertEquals(0, initialized.get());
+    }
+
+    @Test
+    public void testSerial() throws Exception {
+        final List<Integer> order = new ArrayList<>();
+        ParallelInitializer.SERIAL.initAll(Arrays.asList(() -> order.add(1), () -> order.add(2)));
+        assertEquals(Arrays.asList(1, 2), order);
+    }
+}
@@ -23,10 +23,12 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.Reader;
 import io.fd.honeycomb.translate.util.DataObjects;
+import java.util.List;
 import java.util.Optional;
 import org.junit.Before;
 import org.junit.Test;
@@ -36,6 +38,8 @@ import org.mockito.MockitoAnnotations;
 import org.opendaylight.yangtools.concepts.Builder;
 import org.opendaylight.yangtools.yang.binding.ChildOf;
 import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.Identifiable;
+import org.opendaylight.yangtools.yang.binding.Identifier;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class SubtreeReaderTest {
@@ -114,13 +118,57 @@ public class SubtreeReaderTest {
         assertEquals(mock, subtreeR.read(DataObject1.IID, ctx).get());
     }
 
+    @Test
+    public void testReadOnlySubtreeListEntry() throws Exception {
+        final Reader<DataObject1, Builder<DataObject1>> subtreeR =
+                SubtreeReader.createForReader(Sets.newHashSet(DataObject1.DataObject12.IID), delegateLocal);
+
+        final DataObject1 mock = mock(DataObject1.class);
+        final DataObject1.DataObject12 entry1 = mock(DataObject1.DataObject12.class);
+        doReturn(new DataObject1.DataObject12Key("1")).when(entry1).key();
+        final DataObject1.DataObject12 entry2 = mock(DataObject1.DataObject12.class);
+        doReturn(new DataObject1.DataObject12Key("2")).when(entry2).key();
+        doReturn(Lists.newArrayList(entry1, entry2)).when(mock).getDataObject12();
+        doReturn(Optional.ofNullable(mock)).when(delegateLocal).read(DataObject1.IID, ctx);
+
+        assertEquals(entry2, subtreeR.read(DataObject1.IID.child(DataObject1.DataObject12.class,
+                new DataObject1.DataObject12Key("2")), ctx).get());
+        assertFalse(subtreeR.read(DataObject1.IID.child(DataObject1.DataObject12.class,
+                new DataObject1.DataObject12Key("3")), ctx).isPresent());
+    }
+
     public abstract static class DataObject1 implements DataObject {
         public static InstanceIdentifier<DataObject1> IID = InstanceIdentifier.create(DataObject1.class);
 
         public abstract DataObject11 getDataObject11();
 
+        public abstract List<DataObject12> getDataObject12();
+
         public abstract static class DataObject11 implements DataObject, ChildOf<DataObject1> {
             public static InstanceIdentifier<DataObject11> IID = DataObject1.IID.child(DataObject11.class);
         }
+
+        public abstract static class DataObject12
+                implements DataObject, ChildOf<DataObject1>, Identifiable<DataObject12Key> {
+            public static InstanceIdentifier<DataObject12> IID = DataObject1.IID.child(DataObject12.class);
+        }
+
+        public static final class DataObject12Key implements Identifier<DataObject12> {
+            private final String name;
+
+            public DataObject12Key(final String name) {
+                this.name = name;
+            }
+
+            @Override
+            public boolean equals(final Object o) {
+                return o instanceof DataObject12Key && name.equals(((DataObject12Key) o).name);
+            }
+
+            @Override
+            public int hashCode() {
+                return name.hashCode();
+            }
+        }
     }
 }
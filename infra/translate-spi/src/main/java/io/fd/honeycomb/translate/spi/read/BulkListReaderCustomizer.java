@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.translate.spi.read;
+
+import com.google.common.annotations.Beta;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.concepts.Builder;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.Identifiable;
+import org.opendaylight.yangtools.yang.binding.Identifier;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * List customizer capable of reading all (or selected) list entries in a single call, instead of
+ * {@link #getAllIds(InstanceIdentifier, ReadContext)} followed by
+ * {@link #readCurrentAttributes(InstanceIdentifier, Builder, ReadContext)} per key.
+ *
+ * <p>Readers prefer bulk reads when reading the whole list. Reads of a single keyed entry still go through
+ * {@link #readCurrentAttributes(InstanceIdentifier, Builder, ReadContext)}.
+ *
+ * @param <O> Specific DataObject derived type (Identifiable), that is handled by this customizer
+ * @param <K> Specific Identifier for handled type (C)
+ * @param <B> Specific Builder for handled type (C)
+ */
+@Beta
+public interface BulkListReaderCustomizer<O extends DataObject & Identifiable<K>, K extends Identifier<O>, B extends Builder<O>>
+        extends ListReaderCustomizer<O, K, B> {
+
+    /**
+     * Read current attributes of all list entries.
+     *
+     * @param id  Wildcarded ID pointing to list node managed by enclosing reader
+     * @param ctx Read context
+     * @return builders filled with current attributes, mapped by list entry key. Iteration order of the map
+     * determines the order of read entries
+     * @throws ReadFailedException if read was unsuccessful
+     */
+    @Nonnull
+    Map<K, B> readAllCurrentAttributes(@Nonnull final InstanceIdentifier<O> id, @Nonnull final ReadContext ctx)
+            throws ReadFailedException;
+
+    /**
+     * Read current attributes of selected list entries. Keys without data are not present in the result.
+     *
+     * <p>Default implementation filters the result of {@link #readAllCurrentAttributes(InstanceIdentifier,
+     * ReadContext)}, customizers able to read a subset of entries cheaper should override it.
+     *
+     * @param id   Wildcarded ID pointing to list node managed by enclosing reader
+     * @param keys Keys of list entries to be read
+     * @param ctx  Read context
+     * @return builders filled with current attributes, mapped by list entry key in the order of provided keys
+     * @throws ReadFailedException if read was unsuccessful
+     */
+    @Nonnull
+    default Map<K, B> readCurrentAttributes(@Nonnull final InstanceIdentifier<O> id,
+                                            @Nonnull final Collection<K> keys,
+                                            @Nonnull final ReadContext ctx) throws ReadFailedException {
+        final Map<K, B> all = readAllCurrentAttributes(id, ctx);
+        final Map<K, B> selected = new LinkedHashMap<>(keys.size());
+        for (K key : keys) {
+            final B builder = all.get(key);
+            if (builder != null) {
+                selected.put(key, builder);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Return list with IDs of all list nodes. Default implementation takes the keys from
+     * {@link #readAllCurrentAttributes(InstanceIdentifier, ReadContext)}, customizers able to list the keys cheaper
+     * should override it.
+     */
+    @Nonnull
+    @Override
+    default List<K> getAllIds(@Nonnull final InstanceIdentifier<O> id, @Nonnull final ReadContext context)
+            throws ReadFailedException {
+        return new ArrayList<>(readAllCurrentAttributes(id, context).keySet());
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.translate.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import io.fd.honeycomb.translate.MappingContext;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.ReadWriteTransaction;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Mapping context coalescing modifications into batches, instead of committing each modification separately as
+ * {@link RealtimeMappingContext} does.
+ *
+ * <p>Modifications are collected in a single {@link TransactionMappingContext}, which indexes read and modified
+ * data, so that repeated lookups are served from memory. The batch is committed when it reaches its maximum size,
+ * when it exceeds its maximum age (checked on each access), on {@link #flush()} or on {@link #close()}.
+ *
+ * <p>Modifications become visible to other contexts only after the batch is committed. Similarly, modifications
+ * committed by other contexts might not be visible to this context before its current batch is committed.
+ */
+@Beta
+@ThreadSafe
+public final class BatchingMappingContext implements MappingContext {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchingMappingContext.class);
+
+    private final DataBroker contextBindingBrokerDependency;
+    @Nullable
+    private final MappingContextIndex sharedIndex;
+    private final int maxBatchSize;
+    private final long maxBatchAgeNanos;
+    private final Ticker ticker;
+
+    // guarded by this
+    private TransactionMappingContext batch;
+    private long batchStart;
+    private int pendingModifications;
+
+    /**
+     * @param contextBindingBrokerDependency context data broker
+     * @param maxBatchSize                   number of modifications triggering commit of the batch
+     * @param maxBatchAge                    maximum time a batch is kept open
+     * @param unit                           time unit of maxBatchAge
+     */
+    public BatchingMappingContext(@Nonnull final DataBroker contextBindingBrokerDependency,
+                                  final int maxBatchSize,
+                                  final long maxBatchAge,
+                                  @Nonnull final TimeUnit unit) {
+        this(contextBindingBrokerDependency, null, maxBatchSize, maxBatchAge, unit);
+    }
+
+    /**
+     * @param sharedIndex index of committed context data shared with other contexts, see
+     *                    {@link TransactionMappingContext#TransactionMappingContext(ReadWriteTransaction,
+     *                    MappingContextIndex)}
+     */
+    public BatchingMappingContext(@Nonnull final DataBroker contextBindingBrokerDependency,
+                                  @Nullable final MappingContextIndex sharedIndex,
+                                  final int maxBatchSize,
+                                  final long maxBatchAge,
+                                  @Nonnull final TimeUnit unit) {
+        this(contextBindingBrokerDependency, sharedIndex, maxBatchSize, maxBatchAge, unit, Ticker.systemTicker());
+    }
+
+    @VisibleForTesting
+    BatchingMappingContext(@Nonnull final DataBroker contextBindingBrokerDependency,
+                           @Nullable final MappingContextIndex sharedIndex,
+                           final int maxBatchSize,
+                           final long maxBatchAge,
+                           @Nonnull final TimeUnit unit,
+                           @Nonnull final Ticker ticker) {
+        checkArgument(maxBatchSize > 0, "Max batch size must be positive, but was %s", maxBatchSize);
+        checkArgument(maxBatchAge > 0, "Max batch age must be positive, but was %s", maxBatchAge);
+        this.contextBindingBrokerDependency =
+                checkNotNull(contextBindingBrokerDependency, "contextBindingBrokerDependency should not be null");
+        this.sharedIndex = sharedIndex;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchAgeNanos = unit.toNanos(maxBatchAge);
+        this.ticker = checkNotNull(ticker, "ticker should not be null");
+    }
+
+    @Override
+    public synchronized <T extends DataObject> Optional<T> read(@Nonnull final InstanceIdentifier<T> currentId) {
+        return currentBatch().read(currentId);
+    }
+
+    @Override
+    public synchronized void delete(final InstanceIdentifier<?> path) {
+        currentBatch().delete(path);
+        modified();
+    }
+
+    @Override
+    public synchronized <T extends DataObject> void merge(final InstanceIdentifier<T> path, final T data) {
+        currentBatch().merge(path, data);
+        modified();
+    }
+
+    @Override
+    public synchronized <T extends DataObject> void put(final InstanceIdentifier<T> path, final T data) {
+        currentBatch().put(path, data);
+        modified();
+    }
+
+    /**
+     * Commits current batch, making its modifications visible to other contexts.
+     *
+     * @throws IllegalStateException if commit failed. Modifications of the failed batch are lost
+     */
+    public synchronized void flush() {
+        if (batch == null) {
+            return;
+        }
+        final TransactionMappingContext toCommit = batch;
+        final int committed = pendingModifications;
+        batch = null;
+        pendingModifications = 0;
+        try {
+            toCommit.commit().get();
+            LOG.debug("Mapping context batch with {} modifications committed", committed);
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException("Unable to commit mapping context batch", e);
+        }
+    }
+
+    /**
+     * Commits current batch if it exceeds its maximum age. To be invoked periodically when the context is long lived,
+     * so that modifications of a batch are not kept open indefinitely in the absence of further access.
+     *
+     * @throws IllegalStateException if commit failed. Modifications of the failed batch are lost
+     */
+    public synchronized void flushIfExpired() {
+        if (batch != null && ticker.read() - batchStart >= maxBatchAgeNanos) {
+            flush();
+        }
+    }
+
+    @VisibleForTesting
+    synchronized int getPendingModifications() {
+        return pendingModifications;
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    private TransactionMappingContext currentBatch() {
+        flushIfExpired();
+        if (batch == null) {
+            batch = new TransactionMappingContext(contextBindingBrokerDependency.newReadWriteTransaction(),
+                    sharedIndex);
+            batchStart = ticker.read();
+        }
+        return batch;
+    }
+
+    private void modified() {
+        if (++pendingModifications >= maxBatchSize) {
+            flush();
+        }
+    }
+}
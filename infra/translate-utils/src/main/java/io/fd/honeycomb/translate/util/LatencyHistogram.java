@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.translate.util;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Histogram of operation latencies with fixed buckets, from 1 millisecond up to 10 seconds.
+ */
+@Beta
+@ThreadSafe
+public final class LatencyHistogram {
+
+    // upper bounds of buckets in milliseconds, last bucket holds everything above
+    private static final long[] BUCKET_BOUNDS_MILLIS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000};
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MILLIS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records single operation latency.
+     */
+    public void record(final long latency, @Nonnull final TimeUnit unit) {
+        final long nanos = unit.toNanos(latency);
+        final long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS_MILLIS.length && millis >= BUCKET_BOUNDS_MILLIS[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMax(@Nonnull final TimeUnit unit) {
+        return unit.convert(maxNanos.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getMean(@Nonnull final TimeUnit unit) {
+        final long recorded = count.sum();
+        return recorded == 0 ? 0 : unit.convert(totalNanos.sum() / recorded, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the upper bound of the bucket containing requested percentile of recorded latencies. Latencies above
+     * the last bucket are reported as the maximum recorded latency.
+     *
+     * @param percentile percentile in range (0, 100]
+     */
+    public long getPercentile(final double percentile, @Nonnull final TimeUnit unit) {
+        final long recorded = count.sum();
+        if (recorded == 0) {
+            return 0;
+        }
+        final long rank = (long) Math.ceil(recorded * percentile / 100);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+            cumulative += buckets[i].sum();
+            if (cumulative >= rank) {
+                return unit.convert(BUCKET_BOUNDS_MILLIS[i], TimeUnit.MILLISECONDS);
+            }
+        }
+        return getMax(unit);
+    }
+
+    /**
+     * @return number of recorded latencies per bucket, keyed by bucket description e.g. {@code <5ms}
+     */
+    @Nonnull
+    public Map<String, Long> getBuckets() {
+        final Map<String, Long> snapshot = new LinkedHashMap<>();
+        for (int i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+            snapshot.put("<" + BUCKET_BOUNDS_MILLIS[i] + "ms", buckets[i].sum());
+        }
+        snapshot.put(">=" + BUCKET_BOUNDS_MILLIS[BUCKET_BOUNDS_MILLIS.length - 1] + "ms",
+                buckets[BUCKET_BOUNDS_MILLIS.length].sum());
+        return snapshot;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("count", getCount())
+                .add("meanMs", getMean(TimeUnit.MILLISECONDS))
+                .add("p99Ms", getPercentile(99, TimeUnit.MILLISECONDS))
+                .add("maxMs", getMax(TimeUnit.MILLISECONDS))
+                .toString();
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.translate.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.mdsal.binding.api.ReadWriteTransaction;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * In-memory index of mapping context data, used to serve repeated lookups of the same node without reading from
+ * context datastore.
+ *
+ * <p>Index reflects modifications performed in the same context: put and delete store the new state of modified
+ * node, merge invalidates it. Cached ancestors and descendants of a modified node are invalidated, since their
+ * state can no longer be derived from the index. Descendants are tracked per ancestor, so invalidation does not
+ * scan the whole index.
+ *
+ * <p>Number of indexed nodes, including nodes known to be absent, is limited. Least recently used nodes are dropped
+ * first. Wildcarded identifiers are not indexed.
+ *
+ * <p>Single index can also be shared by all contexts on top of the same context datastore, see
+ * {@link TransactionMappingContext#TransactionMappingContext(ReadWriteTransaction, MappingContextIndex)}. Such index
+ * holds only committed data and is invalidated whenever a context commits its modifications.
+ */
+@Beta
+@ThreadSafe
+public final class MappingContextIndex {
+
+    public static final int DEFAULT_MAX_ENTRIES = 10000;
+
+    private final int maxEntries;
+    // access ordered, so that the least recently used entry comes first
+    private final Map<InstanceIdentifier<?>, Optional<? extends DataObject>> entries =
+            new LinkedHashMap<>(16, 0.75f, true);
+    // indexed nodes by each of their ancestors
+    private final Map<InstanceIdentifier<?>, Set<InstanceIdentifier<?>>> descendants = new HashMap<>();
+    // incremented on each modification, prevents caching of reads that started before the modification
+    private long version;
+
+    public MappingContextIndex() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param maxEntries maximum number of indexed nodes
+     */
+    public MappingContextIndex(final int maxEntries) {
+        checkArgument(maxEntries > 0, "Max entries must be positive, but was %s", maxEntries);
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @return cached state of the node, or null if the node is not indexed
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    synchronized <T extends DataObject> Optional<T> get(@Nonnull final InstanceIdentifier<T> id) {
+        return (Optional<T>) entries.get(id);
+    }
+
+    /**
+     * @return current version of the index, to be used with {@link #cacheIfUnmodified}
+     */
+    synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * Indexes node read from context datastore, unless the index was modified since the read started.
+     */
+    synchronized void cacheIfUnmodified(@Nonnull final InstanceIdentifier<?> id,
+                                        @Nonnull final Optional<? extends DataObject> data,
+                                        final long readVersion) {
+        if (version == readVersion) {
+            store(id, data);
+        }
+    }
+
+    synchronized void put(@Nonnull final InstanceIdentifier<?> id, @Nonnull final DataObject data) {
+        invalidateRelated(id);
+        store(id, Optional.of(data));
+    }
+
+    synchronized void merge(@Nonnull final InstanceIdentifier<?> id) {
+        invalidateRelated(id);
+    }
+
+    synchronized void delete(@Nonnull final InstanceIdentifier<?> id) {
+        invalidateRelated(id);
+        store(id, Optional.empty());
+    }
+
+    /**
+     * Invalidates indexed state of provided nodes, their ancestors and descendants.
+     */
+    synchronized void invalidate(@Nonnull final Collection<InstanceIdentifier<?>> ids) {
+        for (InstanceIdentifier<?> id : ids) {
+            invalidateRelated(id);
+        }
+    }
+
+    synchronized void clear() {
+        version++;
+        entries.clear();
+        descendants.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void store(final InstanceIdentifier<?> id, final Optional<? extends DataObject> data) {
+        if (id.isWildcarded()) {
+            return;
+        }
+        if (entries.put(id, data) == null) {
+            for (InstanceIdentifier<?> ancestor : ancestors(id)) {
+                descendants.computeIfAbsent(ancestor, key -> new HashSet<>()).add(id);
+            }
+        }
+        final Iterator<InstanceIdentifier<?>> leastRecentlyUsed = entries.keySet().iterator();
+        while (entries.size() > maxEntries) {
+            final InstanceIdentifier<?> evicted = leastRecentlyUsed.next();
+            leastRecentlyUsed.remove();
+            unregister(evicted);
+        }
+    }
+
+    private void remove(final InstanceIdentifier<?> id) {
+        if (entries.remove(id) != null) {
+            unregister(id);
+        }
+    }
+
+    private void unregister(final InstanceIdentifier<?> id) {
+        for (InstanceIdentifier<?> ancestor : ancestors(id)) {
+            final Set<InstanceIdentifier<?>> ofAncestor = descendants.get(ancestor);
+            if (ofAncestor != null && ofAncestor.remove(id) && ofAncestor.isEmpty()) {
+                descendants.remove(ancestor);
+            }
+        }
+    }
+
+    private void invalidateRelated(final InstanceIdentifier<?> id) {
+        version++;
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (id.isWildcarded()) {
+            // wildcarded modifications are not expected, there is no way to look up matching nodes other than a scan
+            new ArrayList<>(entries.keySet()).stream()
+                    .filter(indexed -> id.containsWildcarded(indexed) || indexed.containsWildcarded(id))
+                    .forEach(this::remove);
+            return;
+        }
+        remove(id);
+        for (InstanceIdentifier<?> ancestor : ancestors(id)) {
+            remove(ancestor);
+        }
+        final Set<InstanceIdentifier<?>> ofId = descendants.remove(id);
+        if (ofId != null) {
+            new ArrayList<>(ofId).forEach(this::remove);
+        }
+    }
+
+    /**
+     * @return identifiers of all ancestors of provided node, excluding the node itself
+     */
+    private static List<InstanceIdentifier<?>> ancestors(final InstanceIdentifier<?> id) {
+        final List<InstanceIdentifier.PathArgument> path = Lists.newArrayList(id.getPathArguments());
+        final List<InstanceIdentifier<?>> ancestors = new ArrayList<>(path.size());
+        for (int length = 1; length < path.size(); length++) {
+            ancestors.add(InstanceIdentifier.create(path.subList(0, length)));
+        }
+        return ancestors;
+    }
+}
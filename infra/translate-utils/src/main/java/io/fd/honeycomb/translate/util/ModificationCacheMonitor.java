@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fd.honeycomb.translate.util;
+
+import io.fd.honeycomb.translate.ModificationCacheStatistics;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Aggregates statistics reported by {@link io.fd.honeycomb.translate.ModificationCache}s, to be consumed using JMX.
+ * Use as statistics consumer of {@link io.fd.honeycomb.translate.ModificationCacheBudget}.
+ */
+@ThreadSafe
+public final class ModificationCacheMonitor implements Consumer<ModificationCacheStatistics>,
+        ModificationCacheMonitorMXBean {
+
+    public static final String OBJECT_NAME = "io.fd.honeycomb:type=ModificationCacheMonitor";
+
+    private final LongAdder transactions = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder spills = new LongAdder();
+    private final AtomicLong maxEntries = new AtomicLong();
+    private final AtomicLong maxWeight = new AtomicLong();
+    private volatile ModificationCacheStatistics largest;
+    private volatile ModificationCacheStatistics last;
+
+    @Override
+    public void accept(@Nonnull final ModificationCacheStatistics statistics) {
+        transactions.increment();
+        hits.add(statistics.getHits());
+        misses.add(statistics.getMisses());
+        puts.add(statistics.getPuts());
+        evictions.add(statistics.getEvictions());
+        spills.add(statistics.getSpills());
+        maxEntries.accumulateAndGet(statistics.getPeakEntries(), Math::max);
+        maxWeight.accumulateAndGet(statistics.getPeakWeight(), Math::max);
+        updateLargest(statistics);
+        last = statistics;
+    }
+
+    private synchronized void updateLargest(final ModificationCacheStatistics statistics) {
+        if (largest == null || statistics.getLargestEntryWeight() > largest.getLargestEntryWeight()) {
+            largest = statistics;
+        }
+    }
+
+    @Override
+    public long getTransactions() {
+        return transactions.sum();
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getPuts() {
+        return puts.sum();
+    }
+
+    @Override
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public long getSpills() {
+        return spills.sum();
+    }
+
+    @Override
+    public long getMaxEntries() {
+        return maxEntries.get();
+    }
+
+    @Override
+    public long getMaxWeight() {
+        return maxWeight.get();
+    }
+
+    @Override
+    public String getLargestEntry() {
+        final ModificationCacheStatistics statistics = largest;
+        if (statistics == null) {
+            return null;
+        }
+        return statistics.getLargestEntry() + "[weight=" + statistics.getLargestEntryWeight() + "]";
+    }
+
+    @Override
+    public String getLastStatistics() {
+        final ModificationCacheStatistics statistics = last;
+        return statistics == null ? null : statistics.toString();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fd.honeycomb.translate.util;
+
+/**
+ * JMX view of statistics aggregated over all closed {@link io.fd.honeycomb.translate.ModificationCache}s.
+ */
+public interface ModificationCacheMonitorMXBean {
+
+    long getTransactions();
+
+    long getHits();
+
+    long getMisses();
+
+    long getPuts();
+
+    long getEvictions();
+
+    long getSpills();
+
+    /**
+     * @return highest number of entries held by single cache
+     */
+    long getMaxEntries();
+
+    /**
+     * @return highest total weight held by single cache, 0 if caches are unbounded and entries are not weighed
+     */
+    long getMaxWeight();
+
+    /**
+     * @return key of the heaviest entry seen so far, together with its weight, null if caches are unbounded
+     */
+    String getLargestEntry();
+
+    /**
+     * @return statistics of the last closed cache
+     */
+    String getLastStatistics();
+}
@@ -17,9 +17,11 @@
 package io.fd.honeycomb.translate.util;
 
 import io.fd.honeycomb.translate.MappingContext;
+import java.util.Collections;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.ReadTransaction;
 import org.opendaylight.mdsal.binding.api.WriteTransaction;
@@ -27,16 +29,47 @@ import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
+/**
+ * Mapping context committing each modification on its own, so that it is visible to other contexts right away.
+ */
 public final class RealtimeMappingContext implements MappingContext {
 
     private DataBroker contextBindingBrokerDependency;
+    @Nullable
+    private final MappingContextIndex sharedIndex;
 
     public RealtimeMappingContext(final DataBroker contextBindingBrokerDependency) {
+        this(contextBindingBrokerDependency, null);
+    }
+
+    /**
+     * Creates mapping context using index of committed data shared by all contexts of the same context datastore.
+     * Lookups are served from the shared index, nodes modified by this context are invalidated in it once committed.
+     *
+     * @param sharedIndex index shared across contexts, null if lookups should not be indexed
+     */
+    public RealtimeMappingContext(final DataBroker contextBindingBrokerDependency,
+                                  @Nullable final MappingContextIndex sharedIndex) {
         this.contextBindingBrokerDependency = contextBindingBrokerDependency;
+        this.sharedIndex = sharedIndex;
     }
 
     @Override
     public <T extends DataObject> Optional<T> read(@Nonnull final InstanceIdentifier<T> currentId) {
+        if (sharedIndex == null) {
+            return readFromDatastore(currentId);
+        }
+        final Optional<T> indexed = sharedIndex.get(currentId);
+        if (indexed != null) {
+            return indexed;
+        }
+        final long readVersion = sharedIndex.getVersion();
+        final Optional<T> data = readFromDatastore(currentId);
+        sharedIndex.cacheIfUnmodified(currentId, data, readVersion);
+        return data;
+    }
+
+    private <T extends DataObject> Optional<T> readFromDatastore(final InstanceIdentifier<T> currentId) {
         try (ReadTransaction tx = contextBindingBrokerDependency.newReadOnlyTransaction()) {
             try {
                 return tx.read(LogicalDatastoreType.OPERATIONAL, currentId).get();
@@ -55,6 +88,7 @@ public final class RealtimeMappingContext implements MappingContext {
         } catch (InterruptedException | ExecutionException e) {
             throw new IllegalStateException("Unable to perform delete of " + path, e);
         }
+        committed(path);
     }
 
     @Override
@@ -66,6 +100,7 @@ public final class RealtimeMappingContext implements MappingContext {
         } catch (InterruptedException | ExecutionException e) {
             throw new IllegalStateException("Unable to perform merge of " + path, e);
         }
+        committed(path);
     }
 
     @Override
@@ -77,6 +112,13 @@ public final class RealtimeMappingContext implements MappingContext {
         } catch (InterruptedException | ExecutionException e) {
             throw new IllegalStateException("Unable to perform put of " + path, e);
         }
+        committed(path);
+    }
+
+    private void committed(final InstanceIdentifier<?> path) {
+        if (sharedIndex != null) {
+            sharedIndex.invalidate(Collections.singletonList(path));
+        }
     }
 
     @Override
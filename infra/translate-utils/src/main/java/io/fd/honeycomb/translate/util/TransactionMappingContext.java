@@ -17,33 +17,79 @@
 package io.fd.honeycomb.translate.util;
 
 import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import io.fd.honeycomb.translate.MappingContext;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.mdsal.binding.api.ReadWriteTransaction;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.yangtools.util.concurrent.FluentFutures;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 /**
  * Binding Transaction backed mapping context.
+ * Tracks whether any modification was performed, so that contexts used only for reading are not committed.
+ * Data read or modified in this context are indexed, so repeated lookups do not block on the transaction.
  */
 public class TransactionMappingContext implements MappingContext {
 
     private final ReadWriteTransaction readWriteTransaction;
+    private final MappingContextIndex index = new MappingContextIndex();
+    @Nullable
+    private final MappingContextIndex sharedIndex;
+    private final long sharedIndexVersion;
+    private final List<InstanceIdentifier<?>> modifiedPaths = new CopyOnWriteArrayList<>();
+    private volatile boolean dirty;
 
     // TODO HONEYCOMB-169 make async
 
     public TransactionMappingContext(final ReadWriteTransaction readWriteTransaction) {
+        this(readWriteTransaction, null);
+    }
+
+    /**
+     * Creates mapping context using index of committed data shared by all contexts of the same context datastore.
+     * Until this context modifies any data, lookups are served from the shared index and data read from the
+     * transaction are added to it. Nodes modified by this context are invalidated in the shared index once
+     * the commit succeeds.
+     *
+     * @param sharedIndex index shared across transactions, null if lookups should be indexed only in this context
+     */
+    public TransactionMappingContext(final ReadWriteTransaction readWriteTransaction,
+                                     @Nullable final MappingContextIndex sharedIndex) {
         this.readWriteTransaction = readWriteTransaction;
+        this.sharedIndex = sharedIndex;
+        // data read by this transaction must not be shared if other context committed in the meantime
+        this.sharedIndexVersion = sharedIndex == null ? 0 : sharedIndex.getVersion();
     }
 
     @Override
     public <T extends DataObject> Optional<T> read(@Nonnull final InstanceIdentifier<T> currentId) {
+        final Optional<T> indexed = index.get(currentId);
+        if (indexed != null) {
+            return indexed;
+        }
+        final boolean useSharedIndex = sharedIndex != null && !dirty;
+        if (useSharedIndex) {
+            final Optional<T> shared = sharedIndex.get(currentId);
+            if (shared != null) {
+                return shared;
+            }
+        }
+        final long readVersion = index.getVersion();
         try {
-            return readWriteTransaction.read(LogicalDatastoreType.OPERATIONAL, currentId).get();
+            final Optional<T> data = readWriteTransaction.read(LogicalDatastoreType.OPERATIONAL, currentId).get();
+            index.cacheIfUnmodified(currentId, data, readVersion);
+            if (useSharedIndex) {
+                sharedIndex.cacheIfUnmodified(currentId, data, sharedIndexVersion);
+            }
+            return data;
         } catch (InterruptedException | ExecutionException ex) {
             throw new IllegalStateException("Unable to perform read", ex);
         }
@@ -51,25 +97,62 @@ public class TransactionMappingContext implements MappingContext {
 
     @Override
     public void delete(final InstanceIdentifier<?> path) {
+        modified(path);
         readWriteTransaction.delete(LogicalDatastoreType.OPERATIONAL, path);
+        index.delete(path);
     }
 
     @Override
     public <T extends DataObject> void merge(final InstanceIdentifier<T> path, T data) {
+        modified(path);
         readWriteTransaction.merge(LogicalDatastoreType.OPERATIONAL, path, data, true);
+        index.merge(path);
     }
 
     @Override
     public <T extends DataObject> void put(final InstanceIdentifier<T> path, T data) {
+        modified(path);
         readWriteTransaction.put(LogicalDatastoreType.OPERATIONAL, path, data, true);
+        index.put(path, data);
     }
 
+    private void modified(final InstanceIdentifier<?> path) {
+        dirty = true;
+        if (sharedIndex != null) {
+            modifiedPaths.add(path);
+        }
+    }
+
+    /**
+     * @return true if any modification was performed in this context
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Commit modifications performed in this context. If there are none, the underlying transaction is cancelled
+     * instead, so that no commit is issued to context datastore.
+     */
     public FluentFuture<? extends CommitInfo> commit() {
-        return readWriteTransaction.commit();
+        if (!dirty) {
+            readWriteTransaction.cancel();
+            return FluentFutures.immediateFluentFuture(CommitInfo.empty());
+        }
+        final FluentFuture<? extends CommitInfo> commit = readWriteTransaction.commit();
+        if (sharedIndex == null) {
+            return commit;
+        }
+        // invalidated before the commit is reported as done, lookups issued after the commit do not see stale data
+        return commit.transform(info -> {
+            sharedIndex.invalidate(modifiedPaths);
+            return info;
+        }, MoreExecutors.directExecutor());
     }
 
     @Override
     public void close() {
+        index.clear();
         readWriteTransaction.cancel();
     }
 }
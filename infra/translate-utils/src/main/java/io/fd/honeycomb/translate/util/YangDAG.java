@@ -16,7 +16,11 @@
 
 package io.fd.honeycomb.translate.util;
 
+import java.util.ArrayDeque;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Queue;
+import java.util.Set;
 import org.jgrapht.experimental.dag.DirectedAcyclicGraph;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
@@ -64,6 +68,28 @@ public final class YangDAG {
         return dag.iterator();
     }
 
+    /**
+     * Lists all vertices the provided vertex depends on, directly or transitively.
+     *
+     * @param vertex vertex already present in the graph
+     * @return vertices from which the provided vertex can be reached
+     * @throws IllegalArgumentException if the vertex is not present in the graph
+     */
+    public Set<InstanceIdentifier<?>> getAncestors(final InstanceIdentifier<?> vertex) {
+        final Set<InstanceIdentifier<?>> ancestors = new HashSet<>();
+        final Queue<InstanceIdentifier<?>> toVisit = new ArrayDeque<>();
+        toVisit.add(vertex);
+        while (!toVisit.isEmpty()) {
+            for (Edge edge : dag.incomingEdgesOf(toVisit.remove())) {
+                final InstanceIdentifier<?> source = dag.getEdgeSource(edge);
+                if (ancestors.add(source)) {
+                    toVisit.add(source);
+                }
+            }
+        }
+        return ancestors;
+    }
+
     private static final class Edge {
     }
 }
@@ -20,7 +20,9 @@ import io.fd.honeycomb.translate.read.ListReader;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.read.Reader;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import javax.annotation.Nonnull;
 import org.opendaylight.yangtools.concepts.Builder;
@@ -95,6 +97,26 @@ public interface DelegatingReader<D extends DataObject, B extends Builder<D>> ex
             return getDelegate().readList(id, ctx);
         }
 
+        @Override
+        default boolean isBulkReadSupported() {
+            return getDelegate().isBulkReadSupported();
+        }
+
+        @Nonnull
+        @Override
+        default Map<K, B> readAllCurrentAttributes(@Nonnull final InstanceIdentifier<D> id,
+                                                   @Nonnull final ReadContext ctx) throws ReadFailedException {
+            return getDelegate().readAllCurrentAttributes(id, ctx);
+        }
+
+        @Nonnull
+        @Override
+        default Map<K, B> readCurrentAttributes(@Nonnull final InstanceIdentifier<D> id,
+                                                @Nonnull final Collection<K> keys,
+                                                @Nonnull final ReadContext ctx) throws ReadFailedException {
+            return getDelegate().readCurrentAttributes(id, keys, ctx);
+        }
+
         @Override
         default void merge(@Nonnull final Builder<? extends DataObject> builder,
                            @Nonnull final List<D> readData) {
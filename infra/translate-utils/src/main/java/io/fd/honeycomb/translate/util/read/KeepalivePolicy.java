@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.translate.util.read;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.Beta;
+import com.google.common.base.MoreObjects;
+import io.fd.honeycomb.translate.read.ReadContext;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Scheduling and failure detection policy of {@link KeepaliveReaderWrapper}.
+ *
+ * <p>Keepalive starts with the minimal interval. Each healthy keepalive multiplies the interval by backoff multiplier,
+ * up to the maximal interval. A slow keepalive (exceeding latency threshold) resets the interval back to minimum.
+ * After configured number of consecutive slow keepalives, failure listener is notified.
+ */
+@Beta
+public final class KeepalivePolicy {
+
+    private final long minIntervalNanos;
+    private final long maxIntervalNanos;
+    private final double backoffMultiplier;
+    private final long latencyThresholdNanos;
+    private final int slowProbesThreshold;
+    private final KeepaliveProbe probe;
+
+    private KeepalivePolicy(final KeepalivePolicyBuilder builder) {
+        this.minIntervalNanos = builder.minIntervalNanos;
+        this.maxIntervalNanos = builder.maxIntervalNanos;
+        this.backoffMultiplier = builder.backoffMultiplier;
+        this.latencyThresholdNanos = builder.latencyThresholdNanos;
+        this.slowProbesThreshold = builder.slowProbesThreshold;
+        this.probe = builder.probe;
+    }
+
+    /**
+     * @return policy invoking full read of wrapped reader at fixed interval, without latency threshold
+     */
+    @Nonnull
+    public static KeepalivePolicy fixed(final long interval, @Nonnull final TimeUnit unit) {
+        return new KeepalivePolicyBuilder().withInterval(interval, interval, unit).build();
+    }
+
+    long getMinIntervalNanos() {
+        return minIntervalNanos;
+    }
+
+    long getMaxIntervalNanos() {
+        return maxIntervalNanos;
+    }
+
+    double getBackoffMultiplier() {
+        return backoffMultiplier;
+    }
+
+    /**
+     * @return latency threshold in nanoseconds, 0 if disabled
+     */
+    long getLatencyThresholdNanos() {
+        return latencyThresholdNanos;
+    }
+
+    int getSlowProbesThreshold() {
+        return slowProbesThreshold;
+    }
+
+    /**
+     * @return probe to be used instead of full read of wrapped reader
+     */
+    Optional<KeepaliveProbe> getProbe() {
+        return Optional.ofNullable(probe);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("minIntervalNanos", minIntervalNanos)
+                .add("maxIntervalNanos", maxIntervalNanos)
+                .add("backoffMultiplier", backoffMultiplier)
+                .add("latencyThresholdNanos", latencyThresholdNanos)
+                .add("slowProbesThreshold", slowProbesThreshold)
+                .add("probe", probe)
+                .toString();
+    }
+
+    /**
+     * Cheap keepalive check, used instead of full read of the subtree handled by wrapped reader. E.g. a single
+     * request to the device, that does not return any data.
+     */
+    @FunctionalInterface
+    public interface KeepaliveProbe {
+
+        /**
+         * @param ctx read context, not backed by any mapping context
+         * @throws Exception if the probe failed. Exceptions of type configured in {@link KeepaliveReaderWrapper}
+         *                   notify its failure listener
+         */
+        void probe(@Nonnull ReadContext ctx) throws Exception;
+    }
+
+    public static final class KeepalivePolicyBuilder {
+
+        private long minIntervalNanos = TimeUnit.SECONDS.toNanos(30);
+        private long maxIntervalNanos = minIntervalNanos;
+        private double backoffMultiplier = 2.0;
+        private long latencyThresholdNanos;
+        private int slowProbesThreshold = 1;
+        private KeepaliveProbe probe;
+
+        /**
+         * @param minInterval interval used after start and after any slow keepalive
+         * @param maxInterval upper bound of interval backing off after healthy keepalives
+         */
+        public KeepalivePolicyBuilder withInterval(final long minInterval, final long maxInterval,
+                                                   @Nonnull final TimeUnit unit) {
+            checkArgument(minInterval > 0, "Min interval must be positive, but was %s", minInterval);
+            checkArgument(maxInterval >= minInterval, "Max interval %s cannot be lower than min interval %s",
+                    maxInterval, minInterval);
+            this.minIntervalNanos = unit.toNanos(minInterval);
+            this.maxIntervalNanos = unit.toNanos(maxInterval);
+            return this;
+        }
+
+        public KeepalivePolicyBuilder withBackoffMultiplier(final double backoffMultiplier) {
+            checkArgument(backoffMultiplier >= 1, "Backoff multiplier cannot be lower than 1, but was %s",
+                    backoffMultiplier);
+            this.backoffMultiplier = backoffMultiplier;
+            return this;
+        }
+
+        /**
+         * @param latencyThreshold    latency after which keepalive is considered slow
+         * @param slowProbesThreshold number of consecutive slow keepalives notifying failure listener
+         */
+        public KeepalivePolicyBuilder withLatencyThreshold(final long latencyThreshold, @Nonnull final TimeUnit unit,
+                                                           final int slowProbesThreshold) {
+            checkArgument(latencyThreshold > 0, "Latency threshold must be positive, but was %s", latencyThreshold);
+            checkArgument(slowProbesThreshold > 0, "Slow probes threshold must be positive, but was %s",
+                    slowProbesThreshold);
+            this.latencyThresholdNanos = unit.toNanos(latencyThreshold);
+            this.slowProbesThreshold = slowProbesThreshold;
+            return this;
+        }
+
+        public KeepalivePolicyBuilder withProbe(@Nullable final KeepaliveProbe probe) {
+            this.probe = probe;
+            return this;
+        }
+
+        public KeepalivePolicy build() {
+            return new KeepalivePolicy(this);
+        }
+    }
+}
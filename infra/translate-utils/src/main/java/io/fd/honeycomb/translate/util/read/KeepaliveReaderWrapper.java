@@ -16,11 +16,12 @@
 
 package io.fd.honeycomb.translate.util.read;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
-import io.fd.honeycomb.translate.MappingContext;
-import io.fd.honeycomb.translate.ModificationCache;
-import io.fd.honeycomb.translate.read.ReadContext;
+import com.google.common.base.Ticker;
 import io.fd.honeycomb.translate.read.Reader;
+import io.fd.honeycomb.translate.util.LatencyHistogram;
+import io.fd.honeycomb.translate.util.read.KeepalivePolicy.KeepaliveProbe;
 import java.io.Closeable;
 import java.util.Optional;
 import java.util.concurrent.ScheduledExecutorService;
@@ -28,15 +29,19 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import javax.annotation.concurrent.GuardedBy;
 import org.opendaylight.yangtools.concepts.Builder;
 import org.opendaylight.yangtools.yang.binding.DataObject;
-import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Reader wrapper that periodically invokes a read to determine whether reads are still fully functional.
  * In case a specific error occurs, Keep-alive failure listener gets notified.
+ *
+ * <p>Keepalive is scheduled according to {@link KeepalivePolicy}: interval backs off while keepalives are healthy,
+ * a cheap probe can be used instead of a full read, and keepalives exceeding latency threshold notify the listener
+ * before any read fails. Latencies of all keepalives are recorded in a {@link LatencyHistogram}.
  */
 public final class KeepaliveReaderWrapper<D extends DataObject, B extends Builder<D>>
         implements DelegatingReader<D, B>,Runnable, Closeable {
@@ -48,7 +53,19 @@ public final class KeepaliveReaderWrapper<D extends DataObject, B extends Builde
     private final Reader<D, B> delegate;
     private final Class<? extends Exception> exceptionType;
     private final KeepaliveFailureListener failureListener;
-    private final ScheduledFuture<?> scheduledFuture;
+    private final ScheduledExecutorService executor;
+    private final KeepalivePolicy policy;
+    private final Ticker ticker;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    // accessed only by keepalive executions, which do not overlap
+    private long currentIntervalNanos;
+    private int consecutiveSlowProbes;
+
+    @GuardedBy("this")
+    private ScheduledFuture<?> scheduledFuture;
+    @GuardedBy("this")
+    private boolean closed;
 
     /**
      * Create new Keepalive wrapper.
@@ -64,21 +81,64 @@ public final class KeepaliveReaderWrapper<D extends DataObject, B extends Builde
                                   @Nonnull final Class<? extends Exception> exception,
                                   @Nonnegative final int delayInSeconds,
                                   @Nonnull final KeepaliveFailureListener failureListener) {
+        this(delegate, executor, exception, checkedFixedPolicy(delayInSeconds), failureListener);
+    }
+
+    /**
+     * Create new Keepalive wrapper scheduled according to provided policy.
+     *
+     * @param delegate underlying reader performing actual reads
+     * @param executor scheduled executor service to schedule keepalive calls
+     * @param exception type of exception used to differentiate keepalive exception from other exceptions
+     * @param policy keepalive scheduling and latency threshold policy
+     * @param failureListener listener to be called whenever a keepalive failure is detected
+     */
+    public KeepaliveReaderWrapper(@Nonnull final Reader<D, B> delegate,
+                                  @Nonnull final ScheduledExecutorService executor,
+                                  @Nonnull final Class<? extends Exception> exception,
+                                  @Nonnull final KeepalivePolicy policy,
+                                  @Nonnull final KeepaliveFailureListener failureListener) {
+        this(delegate, executor, exception, policy, failureListener, Ticker.systemTicker());
+    }
+
+    @VisibleForTesting
+    KeepaliveReaderWrapper(@Nonnull final Reader<D, B> delegate,
+                           @Nonnull final ScheduledExecutorService executor,
+                           @Nonnull final Class<? extends Exception> exception,
+                           @Nonnull final KeepalivePolicy policy,
+                           @Nonnull final KeepaliveFailureListener failureListener,
+                           @Nonnull final Ticker ticker) {
         this.delegate = delegate;
         this.exceptionType = exception;
         this.failureListener = failureListener;
+        this.executor = executor;
+        this.policy = Preconditions.checkNotNull(policy, "policy should not be null");
+        this.ticker = ticker;
+        this.currentIntervalNanos = policy.getMinIntervalNanos();
+        LOG.debug("Starting keep-alive execution on top of: {} with policy: {}", delegate, policy);
+        schedule(currentIntervalNanos);
+    }
+
+    private static KeepalivePolicy checkedFixedPolicy(final int delayInSeconds) {
         Preconditions.checkArgument(delayInSeconds > 0, "Delay cannot be < 0");
-        LOG.debug("Starting keep-alive execution on top of: {} with delay of: {} seconds", delegate, delayInSeconds);
-        scheduledFuture = executor.scheduleWithFixedDelay(this, delayInSeconds, delayInSeconds, TimeUnit.SECONDS);
+        return KeepalivePolicy.fixed(delayInSeconds, TimeUnit.SECONDS);
     }
 
     @Override
     public void run() {
         LOG.trace("Invoking keepalive");
+        final long start = ticker.read();
         try {
-            final Optional<? extends DataObject> read = read(delegate.getManagedDataObjectType(), CTX);
-            LOG.debug("Keepalive executed successfully with data: {}", read);
+            final Optional<KeepaliveProbe> probe = policy.getProbe();
+            if (probe.isPresent()) {
+                probe.get().probe(CTX);
+                LOG.debug("Keepalive probe executed successfully");
+            } else {
+                final Optional<? extends DataObject> read = read(delegate.getManagedDataObjectType(), CTX);
+                LOG.debug("Keepalive executed successfully with data: {}", read);
+            }
         } catch (Exception e) {
+            latencies.record(ticker.read() - start, TimeUnit.NANOSECONDS);
             if (exceptionType.isAssignableFrom(e.getClass())) {
                 LOG.warn("Keepalive failed. Notifying listener", e);
                 failureListener.onKeepaliveFailure();
@@ -86,14 +146,57 @@ public final class KeepaliveReaderWrapper<D extends DataObject, B extends Builde
             LOG.warn("Keepalive failed unexpectedly", e);
             throw new IllegalArgumentException("Unexpected failure during keep-alive execution", e);
         }
+
+        final long latencyNanos = ticker.read() - start;
+        latencies.record(latencyNanos, TimeUnit.NANOSECONDS);
+        onKeepaliveSucceeded(latencyNanos);
+        schedule(currentIntervalNanos);
+    }
+
+    private void onKeepaliveSucceeded(final long latencyNanos) {
+        final long threshold = policy.getLatencyThresholdNanos();
+        if (threshold > 0 && latencyNanos > threshold) {
+            // slow device, check more often
+            currentIntervalNanos = policy.getMinIntervalNanos();
+            if (++consecutiveSlowProbes >= policy.getSlowProbesThreshold()) {
+                LOG.warn("Keepalive exceeded latency threshold of {}ms {} times in a row, latency: {}ms. "
+                                + "Notifying listener", TimeUnit.NANOSECONDS.toMillis(threshold),
+                        consecutiveSlowProbes, TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+                consecutiveSlowProbes = 0;
+                failureListener.onKeepaliveFailure();
+            }
+        } else {
+            consecutiveSlowProbes = 0;
+            currentIntervalNanos = Math.min(policy.getMaxIntervalNanos(),
+                    (long) (currentIntervalNanos * policy.getBackoffMultiplier()));
+        }
+    }
+
+    private synchronized void schedule(final long delayNanos) {
+        if (!closed) {
+            scheduledFuture = executor.schedule(this, delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * @return latencies of executed keepalives
+     */
+    @Nonnull
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    @VisibleForTesting
+    long getCurrentInterval(@Nonnull final TimeUnit unit) {
+        return unit.convert(currentIntervalNanos, TimeUnit.NANOSECONDS);
     }
 
     @Override
-    public void close() {
+    public synchronized void close() {
+        closed = true;
         // Do not interrupt, it's not our executor
         scheduledFuture.cancel(false);
     }
-
     @Override
     public Reader<D, B> getDelegate() {
         return delegate;
@@ -106,45 +209,4 @@ public final class KeepaliveReaderWrapper<D extends DataObject, B extends Builde
 
         void onKeepaliveFailure();
     }
-
-    private static final class NoopMappingContext implements MappingContext {
-        @Override
-        public <T extends DataObject> Optional<T> read(@Nonnull final InstanceIdentifier<T> currentId) {
-            return Optional.empty();
-        }
-
-        @Override
-        public void delete(final InstanceIdentifier<?> path) {}
-
-        @Override
-        public <T extends DataObject> void merge(final InstanceIdentifier<T> path, final T data) {}
-
-        @Override
-        public <T extends DataObject> void put(final InstanceIdentifier<T> path, final T data) {}
-
-        @Override
-        public void close() {}
-    }
-
-    private static class NoopReadContext implements ReadContext {
-
-        private final ModificationCache modificationCache = new ModificationCache();
-
-        @Nonnull
-        @Override
-        public ModificationCache getModificationCache() {
-            return modificationCache;
-        }
-
-        @Nonnull
-        @Override
-        public MappingContext getMappingContext() {
-            return new NoopMappingContext();
-        }
-
-        @Override
-        public void close() {
-
-        }
-    }
 }
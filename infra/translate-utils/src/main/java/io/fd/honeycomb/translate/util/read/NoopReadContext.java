@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fd.honeycomb.translate.util.read;
+
+import io.fd.honeycomb.translate.MappingContext;
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Read context for reads invoked outside of read transactions. Provides no mapping context data.
+ */
+class NoopReadContext implements ReadContext {
+
+    private final ModificationCache modificationCache = new ModificationCache();
+
+    @Nonnull
+    @Override
+    public ModificationCache getModificationCache() {
+        return modificationCache;
+    }
+
+    @Nonnull
+    @Override
+    public MappingContext getMappingContext() {
+        return new NoopMappingContext();
+    }
+
+    @Override
+    public void close() {
+        modificationCache.close();
+    }
+
+    private static final class NoopMappingContext implements MappingContext {
+        @Override
+        public <T extends DataObject> Optional<T> read(@Nonnull final InstanceIdentifier<T> currentId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void delete(final InstanceIdentifier<?> path) {}
+
+        @Override
+        public <T extends DataObject> void merge(final InstanceIdentifier<T> path, final T data) {}
+
+        @Override
+        public <T extends DataObject> void put(final InstanceIdentifier<T> path, final T data) {}
+
+        @Override
+        public void close() {}
+    }
+}
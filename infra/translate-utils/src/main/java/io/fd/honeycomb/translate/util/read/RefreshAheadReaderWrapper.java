@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fd.honeycomb.translate.util.read;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
+import io.fd.honeycomb.translate.read.ListReader;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.honeycomb.translate.read.Reader;
+import java.io.Closeable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import org.opendaylight.yangtools.concepts.Builder;
+import org.opendaylight.yangtools.yang.binding.Augmentation;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.Identifiable;
+import org.opendaylight.yangtools.yang.binding.Identifier;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reader wrapper that periodically reads data of its delegate into a snapshot. Reads of managed node are served from
+ * the snapshot, unless it is older than configured staleness bound, in which case the delegate is invoked directly.
+ *
+ * <p>Suitable for expensive operational data polled frequently, e.g. statistics counters. Only the data of managed
+ * node are kept in the snapshot, children are read by their own readers.
+ *
+ * <p>Nodes under a keyed list are supported by providing reader of that list. Each refresh reads current keys of the
+ * list and keeps a separate snapshot entry for every concrete keyed node. Reads of keys unknown to the last refresh
+ * are delegated. List readers themselves cannot be wrapped, wrap readers of their children instead.
+ */
+@Beta
+public final class RefreshAheadReaderWrapper<D extends DataObject, B extends Builder<D>>
+        implements DelegatingReader<D, B>, Runnable, Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RefreshAheadReaderWrapper.class);
+
+    private final Reader<D, B> delegate;
+    @Nullable
+    private final ListReader<?, ?, ?> keysReader;
+    private final Supplier<? extends ReadContext> contextFactory;
+    private final long maxStalenessNanos;
+    private final Ticker ticker;
+    private final ScheduledFuture<?> scheduledFuture;
+    private volatile Snapshot<D> snapshot;
+    // resolved on first use, builder type is not known before
+    private volatile BuilderFiller filler;
+
+    /**
+     * Create new refresh-ahead wrapper, refreshing data using context without mapping context data.
+     *
+     * @param delegate      underlying reader performing actual reads
+     * @param executor      scheduled executor service to schedule refreshes
+     * @param refreshPeriod time between two refreshes
+     * @param maxStaleness  maximal age of snapshot served instead of reading from delegate
+     * @param unit          time unit of refreshPeriod and maxStaleness
+     */
+    public RefreshAheadReaderWrapper(@Nonnull final Reader<D, B> delegate,
+                                     @Nonnull final ScheduledExecutorService executor,
+                                     final long refreshPeriod, final long maxStaleness,
+                                     @Nonnull final TimeUnit unit) {
+        this(delegate, null, executor, refreshPeriod, maxStaleness, unit, NoopReadContext::new);
+    }
+
+    /**
+     * Create new refresh-ahead wrapper of a reader of nodes under keyed list, refreshing data using context without
+     * mapping context data.
+     *
+     * @param keysReader reader of the keyed list, provides keys of nodes to be refreshed
+     */
+    public RefreshAheadReaderWrapper(@Nonnull final Reader<D, B> delegate,
+                                     @Nonnull final ListReader<?, ?, ?> keysReader,
+                                     @Nonnull final ScheduledExecutorService executor,
+                                     final long refreshPeriod, final long maxStaleness,
+                                     @Nonnull final TimeUnit unit) {
+        this(delegate, checkNotNull(keysReader, "keysReader should not be null"), executor, refreshPeriod,
+                maxStaleness, unit, NoopReadContext::new);
+    }
+
+    /**
+     * Create new refresh-ahead wrapper.
+     *
+     * @param keysReader     reader of the keyed list, null if managed node is not under keyed list
+     * @param contextFactory provides context for each refresh, context is closed after the refresh
+     */
+    public RefreshAheadReaderWrapper(@Nonnull final Reader<D, B> delegate,
+                                     @Nullable final ListReader<?, ?, ?> keysReader,
+                                     @Nonnull final ScheduledExecutorService executor,
+                                     final long refreshPeriod, final long maxStaleness,
+                                     @Nonnull final TimeUnit unit,
+                                     @Nonnull final Supplier<? extends ReadContext> contextFactory) {
+        this(delegate, keysReader, executor, refreshPeriod, maxStaleness, unit, contextFactory,
+                Ticker.systemTicker());
+    }
+
+    @VisibleForTesting
+    RefreshAheadReaderWrapper(@Nonnull final Reader<D, B> delegate,
+                              @Nullable final ListReader<?, ?, ?> keysReader,
+                              @Nonnull final ScheduledExecutorService executor,
+                              final long refreshPeriod, final long maxStaleness,
+                              @Nonnull final TimeUnit unit,
+                              @Nonnull final Supplier<? extends ReadContext> contextFactory,
+                              @Nonnull final Ticker ticker) {
+        checkArgument(refreshPeriod > 0, "Refresh period must be positive, but was %s", refreshPeriod);
+        checkArgument(maxStaleness >= refreshPeriod,
+                "Max staleness %s cannot be shorter than refresh period %s", maxStaleness, refreshPeriod);
+        this.delegate = checkNotNull(delegate, "delegate should not be null");
+        checkArgument(!(delegate instanceof ListReader), "List reader %s cannot be wrapped", delegate);
+        checkKeysReader(delegate.getManagedDataObjectType(), keysReader);
+        this.keysReader = keysReader;
+        this.contextFactory = checkNotNull(contextFactory, "contextFactory should not be null");
+        this.maxStalenessNanos = unit.toNanos(maxStaleness);
+        this.ticker = ticker;
+        LOG.debug("Starting refresh-ahead of: {} with period of: {} {}", delegate, refreshPeriod, unit);
+        scheduledFuture = executor.scheduleWithFixedDelay(this, 0, refreshPeriod, unit);
+    }
+
+    private static void checkKeysReader(final InstanceIdentifier<?> managedId,
+                                        @Nullable final ListReader<?, ?, ?> keysReader) {
+        final long keyedLists = Iterables.size(Iterables.filter(managedId.getPathArguments(),
+                arg -> Identifiable.class.isAssignableFrom(arg.getType())));
+        if (keysReader == null) {
+            checkArgument(keyedLists == 0, "Keys reader is required to refresh nodes under keyed list: %s",
+                    managedId);
+        } else {
+            checkArgument(keyedLists == 1, "Only nodes under a single keyed list can be refreshed, but was: %s",
+                    managedId);
+            checkArgument(keysReader.getManagedDataObjectType().contains(managedId),
+                    "Keys reader %s does not manage parent list of: %s", keysReader, managedId);
+        }
+    }
+
+    @Override
+    public void run() {
+        LOG.trace("Refreshing snapshot of {}", delegate);
+        final long timestamp = ticker.read();
+        try (ReadContext ctx = contextFactory.get()) {
+            final ImmutableMap.Builder<InstanceIdentifier<?>, Optional<D>> data = ImmutableMap.builder();
+            for (InstanceIdentifier<D> id : getConcreteIds(ctx)) {
+                @SuppressWarnings("unchecked")
+                final Optional<D> read = (Optional<D>) delegate.read(id, ctx);
+                data.put(id, read);
+            }
+            final Snapshot<D> previous = snapshot;
+            final Snapshot<D> current =
+                    new Snapshot<>(previous == null ? 1 : previous.version + 1, timestamp, data.build());
+            snapshot = current;
+            LOG.debug("Snapshot of {} refreshed: {}", delegate, current.data);
+        } catch (ReadFailedException | RuntimeException e) {
+            // keep previous snapshot, reads fall back to delegate once it gets stale
+            LOG.warn("Unable to refresh snapshot of {}", delegate, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<InstanceIdentifier<D>> getConcreteIds(final ReadContext ctx) throws ReadFailedException {
+        final InstanceIdentifier<D> managedId = getManagedDataObjectType();
+        if (keysReader == null) {
+            return Collections.singletonList(managedId);
+        }
+
+        final InstanceIdentifier listId = keysReader.getManagedDataObjectType();
+        final int listDepth = Iterables.size(listId.getPathArguments());
+        final Iterable<InstanceIdentifier.PathArgument> listParentPath =
+                Iterables.limit(listId.getPathArguments(), listDepth - 1);
+        final List<InstanceIdentifier.PathArgument> childPath =
+                ImmutableList.copyOf(Iterables.skip(managedId.getPathArguments(), listDepth));
+
+        final List<? extends Identifier> keys = ((ListReader) keysReader).getAllIds(listId, ctx);
+        final List<InstanceIdentifier<D>> ids = new ArrayList<>(keys.size());
+        for (Identifier key : keys) {
+            ids.add((InstanceIdentifier<D>) InstanceIdentifier.create(Iterables.concat(listParentPath,
+                    Collections.singleton(InstanceIdentifier.IdentifiableItem.of(listId.getTargetType(), key)),
+                    childPath)));
+        }
+        return ids;
+    }
+
+    @Nonnull
+    @Override
+    public Optional<? extends DataObject> read(@Nonnull final InstanceIdentifier<? extends DataObject> id,
+                                               @Nonnull final ReadContext ctx) throws ReadFailedException {
+        final Optional<D> data = readSnapshot(id);
+        if (data != null) {
+            return data;
+        }
+        return delegate.read(id, ctx);
+    }
+
+    @Override
+    public void readCurrentAttributes(@Nonnull final InstanceIdentifier<D> id, @Nonnull final B builder,
+                                      @Nonnull final ReadContext ctx) throws ReadFailedException {
+        final Optional<D> data = readSnapshot(id);
+        if (data != null) {
+            // no data means nothing to be filled in, isPresent check will report it as missing
+            if (data.isPresent()) {
+                getFiller(builder).fill(data.get(), builder);
+            }
+            return;
+        }
+        delegate.readCurrentAttributes(id, builder, ctx);
+    }
+
+    /**
+     * @return version of current snapshot, 0 if no snapshot was taken yet
+     */
+    public long getSnapshotVersion() {
+        final Snapshot<D> current = snapshot;
+        return current == null ? 0 : current.version;
+    }
+
+    @Override
+    public void close() {
+        // Do not interrupt, it's not our executor
+        scheduledFuture.cancel(false);
+    }
+
+    @Override
+    public Reader<D, B> getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * @return data of concrete node from fresh snapshot, or null if the read has to be delegated
+     */
+    @Nullable
+    private Optional<D> readSnapshot(final InstanceIdentifier<? extends DataObject> id) {
+        final Snapshot<D> current = snapshot;
+        if (current == null) {
+            return null;
+        }
+        final Optional<D> data = current.data.get(id);
+        if (data == null) {
+            return null;
+        }
+        if (ticker.read() - current.timestamp > maxStalenessNanos) {
+            LOG.debug("Snapshot version {} of {} is stale, reading from delegate", current.version, delegate);
+            return null;
+        }
+        LOG.trace("Serving read of {} from snapshot version {}", id, current.version);
+        return data;
+    }
+
+    private BuilderFiller getFiller(final B builder) {
+        BuilderFiller current = filler;
+        if (current == null) {
+            current = new BuilderFiller(getManagedDataObjectType().getTargetType(), builder.getClass());
+            filler = current;
+        }
+        return current;
+    }
+
+    @Immutable
+    private static final class Snapshot<D> {
+        private final long version;
+        private final long timestamp;
+        private final ImmutableMap<InstanceIdentifier<?>, Optional<D>> data;
+
+        private Snapshot(final long version, final long timestamp,
+                         final ImmutableMap<InstanceIdentifier<?>, Optional<D>> data) {
+            this.version = version;
+            this.timestamp = timestamp;
+            this.data = data;
+        }
+    }
+
+    /**
+     * Copies values of data object into builder, using builder setters with matching getters of data object.
+     * Each setter is bound to its getter into a single method handle once, when the filler is created.
+     * Augmentations are not copied, they are read by their own readers.
+     */
+    private static final class BuilderFiller {
+
+        private static final MethodType FILL_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+        private final List<MethodHandle> copiers = new ArrayList<>();
+
+        private BuilderFiller(final Class<?> dataType, final Class<?> builderType) {
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            for (Method setter : builderType.getMethods()) {
+                if (Modifier.isStatic(setter.getModifiers()) || setter.getParameterCount() != 1) {
+                    continue;
+                }
+                final Optional<Method> getter = getterFor(dataType, setter);
+                if (getter.isPresent()) {
+                    try {
+                        final Class<?> valueType = setter.getParameterTypes()[0];
+                        final MethodHandle getterHandle = lookup.unreflect(getter.get())
+                                .asType(MethodType.methodType(valueType, dataType));
+                        copiers.add(MethodHandles.filterArguments(lookup.unreflect(setter), 1, getterHandle)
+                                .asType(FILL_TYPE));
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalArgumentException("Unable to access " + setter + " of " + builderType, e);
+                    }
+                }
+            }
+            LOG.debug("Builder {} filled using {} setters", builderType, copiers.size());
+        }
+
+        private static Optional<Method> getterFor(final Class<?> dataType, final Method setter) {
+            final String name = setter.getName();
+            final List<String> getterNames = new ArrayList<>();
+            if (name.equals("withKey")) {
+                getterNames.add("key");
+            } else if (name.startsWith("set")) {
+                getterNames.add("get" + name.substring(3));
+                getterNames.add("is" + name.substring(3));
+            }
+            for (String getterName : getterNames) {
+                try {
+                    final Method getter = dataType.getMethod(getterName);
+                    if (setter.getParameterTypes()[0].isAssignableFrom(getter.getReturnType())
+                            && !Augmentation.class.isAssignableFrom(getter.getReturnType())) {
+                        return Optional.of(getter);
+                    }
+                } catch (NoSuchMethodException e) {
+                    // try next getter name
+                }
+            }
+            return Optional.empty();
+        }
+
+        private void fill(final Object data, final Object builder) {
+            try {
+                for (MethodHandle copier : copiers) {
+                    copier.invokeExact(builder, data);
+                }
+            } catch (Throwable t) {
+                Throwables.throwIfUnchecked(t);
+                throw new IllegalStateException("Unable to fill " + builder + " from snapshot " + data, t);
+            }
+        }
+    }
+}
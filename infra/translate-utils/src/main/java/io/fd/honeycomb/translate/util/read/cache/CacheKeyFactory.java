@@ -31,6 +31,17 @@ public interface CacheKeyFactory<U> {
     @Nonnull
     String createKey(@Nonnull final InstanceIdentifier<?> actualContextIdentifier, @Nullable final U dumpParams);
 
+    /**
+     * Construct key used for cache lookups accordingly to provided {@code InstanceIdentifier<?>} and dumpParams.
+     * Returned key has to implement equals and hashCode, by default {@link #createKey(InstanceIdentifier, Object)}
+     * is used.
+     */
+    @Nonnull
+    default Object createCacheKey(@Nonnull final InstanceIdentifier<?> actualContextIdentifier,
+                                  @Nullable final U dumpParams) {
+        return createKey(actualContextIdentifier, dumpParams);
+    }
+
     /**
      * Returns type of data, for which is this factory creating keys
      */
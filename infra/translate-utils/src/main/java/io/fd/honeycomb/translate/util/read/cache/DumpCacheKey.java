@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.translate.util.read.cache;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.StringJoiner;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier.IdentifiableItem;
+
+/**
+ * Cache key composed of cached data type, keys of additional scope path arguments, dump parameters and type of
+ * actual context. Unlike string keys, dump parameters are compared using equals and no strings are built for lookups.
+ */
+@Immutable
+public final class DumpCacheKey {
+
+    private static final IdentifiableItem<?, ?>[] NO_SCOPE = new IdentifiableItem<?, ?>[0];
+    private static final String KEY_PARTS_SEPARATOR = "|";
+
+    private final Class<?> type;
+    private final IdentifiableItem<?, ?>[] scope;
+    private final Object params;
+    private final Class<?> targetType;
+    private final int hash;
+
+    DumpCacheKey(@Nonnull final Class<?> type, @Nullable final IdentifiableItem<?, ?>[] scope,
+                 @Nullable final Object params, @Nonnull final Class<?> targetType) {
+        this.type = type;
+        this.scope = scope == null ? NO_SCOPE : scope;
+        this.params = params;
+        this.targetType = targetType;
+        this.hash = computeHash();
+    }
+
+    private int computeHash() {
+        int result = type.hashCode();
+        result = 31 * result + Arrays.hashCode(scope);
+        result = 31 * result + Objects.hashCode(params);
+        return 31 * result + targetType.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DumpCacheKey that = (DumpCacheKey) o;
+        return hash == that.hash
+                && type.equals(that.type)
+                && targetType.equals(that.targetType)
+                && Arrays.equals(scope, that.scope)
+                && Objects.equals(params, that.params);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Returns key in form : type | additional keys | params | actual context.
+     */
+    @Override
+    public String toString() {
+        final StringJoiner joiner = new StringJoiner(KEY_PARTS_SEPARATOR);
+        joiner.add(type.getTypeName());
+        if (scope.length > 0) {
+            final StringJoiner scopeJoiner = new StringJoiner(KEY_PARTS_SEPARATOR);
+            for (IdentifiableItem<?, ?> item : scope) {
+                scopeJoiner.add(String.format("%s[%s]", item.getType().getTypeName(), item.getKey()));
+            }
+            joiner.add(scopeJoiner.toString());
+        }
+        joiner.add(params == null ? TypeAwareIdentifierCacheKeyFactory.NO_PARAMS_KEY : String.valueOf(params.hashCode()));
+        joiner.add(targetType.toString());
+        return joiner.toString();
+    }
+}
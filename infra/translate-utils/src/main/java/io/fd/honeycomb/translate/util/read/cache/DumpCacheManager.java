@@ -23,8 +23,14 @@ import static java.util.Objects.nonNull;
 import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.util.read.cache.noop.NoopDumpPostProcessingFunction;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.yang.binding.DataObject;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,12 +50,20 @@ public final class DumpCacheManager<T, U> {
     private final EntityDumpPostProcessingFunction<T> postProcessor;
     private final CacheKeyFactory<U> cacheKeyFactory;
     private final Class<?> acceptOnly;
+    private final SharedDumpCache sharedCache;
+    private final long sharedCacheTtlNanos;
+    private final Set<Class<? extends DataObject>> invalidatingTypes;
+    private final DumpCacheStatistics statistics = new DumpCacheStatistics();
+    private final InFlightDumps inFlight = new InFlightDumps(statistics);
 
     private DumpCacheManager(DumpCacheManagerBuilder<T, U> builder) {
         this.dumpExecutor = builder.dumpExecutor;
         this.postProcessor = builder.postProcessingFunction;
         this.cacheKeyFactory = builder.cacheKeyFactory;
         this.acceptOnly = builder.acceptOnly;
+        this.sharedCache = builder.sharedCache;
+        this.sharedCacheTtlNanos = builder.sharedCacheTtlNanos;
+        this.invalidatingTypes = builder.invalidatingTypes;
     }
 
     /**
@@ -81,7 +95,7 @@ public final class DumpCacheManager<T, U> {
                                @Nonnull final ModificationCache cache, final U dumpParams)
             throws ReadFailedException {
 
-        final String entityKey = this.cacheKeyFactory.createKey(identifier, dumpParams);
+        final Object entityKey = this.cacheKeyFactory.createCacheKey(identifier, dumpParams);
         // this key binding to every log has its logic ,because every customizer have its own cache manager and if
         // there is need for debugging/fixing some complex call with a lot of data,you can get lost in those logs
         LOG.debug("Loading dump for KEY[{}]", entityKey);
@@ -89,9 +103,8 @@ public final class DumpCacheManager<T, U> {
         T dump = (T) cache.get(entityKey);
 
         if (dump == null) {
-            LOG.debug("Dump for KEY[{}] not present in cache,invoking dump executor", entityKey);
-            // binds and execute dump to be thread-save
-            dump = postProcessor.apply(dumpExecutor.executeDump(identifier, dumpParams));
+            // concurrent transactions missing the same key share single dump
+            dump = inFlight.load(entityKey, () -> loadDump(identifier, dumpParams, entityKey));
             // no need to check dump, if no data were dumped , DTO with empty list is returned
             // no need to check if post processor is active,if it wasn't set,default no-op will be used
             LOG.debug("Caching dump for KEY[{}]", entityKey);
@@ -105,16 +118,48 @@ public final class DumpCacheManager<T, U> {
                     acceptOnly, dump.getClass());
 
             LOG.debug("Cached instance of dump was found for KEY[{}]", entityKey);
+            statistics.recordHit();
             return Optional.of(dump);
         }
     }
 
+    /**
+     * Returns statistics of this manager. Hits count dumps found in transaction cache, misses count invocations of
+     * dump executor and coalesced count concurrent misses that waited for dump in progress. Lookups served by shared
+     * cache are counted in {@link SharedDumpCache#getStatistics()}.
+     */
+    @Nonnull
+    public DumpCacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    private T loadDump(final InstanceIdentifier<?> identifier, final U dumpParams, final Object entityKey)
+            throws ReadFailedException {
+        if (sharedCache != null) {
+            LOG.debug("Dump for KEY[{}] not present in cache,loading it from shared cache", entityKey);
+            return sharedCache.get(entityKey, sharedCacheTtlNanos, invalidatingTypes,
+                    () -> executeDump(identifier, dumpParams, entityKey));
+        }
+        return executeDump(identifier, dumpParams, entityKey);
+    }
+
+    private T executeDump(final InstanceIdentifier<?> identifier, final U dumpParams, final Object entityKey)
+            throws ReadFailedException {
+        LOG.debug("Dump for KEY[{}] not present in cache,invoking dump executor", entityKey);
+        statistics.recordMiss();
+        // binds and execute dump to be thread-save
+        return postProcessor.apply(dumpExecutor.executeDump(identifier, dumpParams));
+    }
+
     public static final class DumpCacheManagerBuilder<T, U> {
 
         private EntityDumpExecutor<T, U> dumpExecutor;
         private EntityDumpPostProcessingFunction<T> postProcessingFunction;
         private CacheKeyFactory cacheKeyFactory;
         private Class<?> acceptOnly;
+        private SharedDumpCache sharedCache;
+        private long sharedCacheTtlNanos;
+        private Set<Class<? extends DataObject>> invalidatingTypes = Collections.emptySet();
 
         public DumpCacheManagerBuilder() {
             // for cases when user does not set specific post-processor
@@ -149,10 +194,37 @@ public final class DumpCacheManager<T, U> {
             return this;
         }
 
+        /**
+         * Keep dumps in provided cache shared across transactions, instead of dumping them in each transaction.
+         *
+         * @param sharedCache cache shared across transactions
+         * @param ttl         time for which dumps of this manager's executor can be served from the shared cache
+         * @param unit        unit of ttl
+         */
+        public DumpCacheManagerBuilder<T, U> withSharedCache(@Nonnull final SharedDumpCache sharedCache,
+                                                             final long ttl, @Nonnull final TimeUnit unit) {
+            this.sharedCache = sharedCache;
+            this.sharedCacheTtlNanos = unit.toNanos(ttl);
+            return this;
+        }
+
+        /**
+         * Config data types whose modification invalidates dumps kept in the shared cache. If not set, any config
+         * commit invalidates them.
+         */
+        @SafeVarargs
+        public final DumpCacheManagerBuilder<T, U> invalidatedBy(
+                @Nonnull final Class<? extends DataObject>... invalidatingTypes) {
+            this.invalidatingTypes = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(invalidatingTypes)));
+            return this;
+        }
+
         public DumpCacheManager<T, U> build() {
             checkNotNull(dumpExecutor, "Dump executor cannot be null");
             checkNotNull(postProcessingFunction,
                     "Dump post-processor cannot be null cannot be null, default implementation is used when not set explicitly");
+            checkState(sharedCache == null || sharedCacheTtlNanos > 0,
+                    "Shared cache time to live must be positive, but was %s ns", sharedCacheTtlNanos);
 
             if (acceptOnly != null) {
                 cacheKeyFactory = new TypeAwareIdentifierCacheKeyFactory(acceptOnly);
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.translate.util.read.cache;
+
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces concurrent loads of the same dump. Only the first caller invokes the dump, others wait for its result.
+ */
+@ThreadSafe
+final class InFlightDumps {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InFlightDumps.class);
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final DumpCacheStatistics statistics;
+
+    InFlightDumps(@Nonnull final DumpCacheStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Invokes provided loader, unless load of the same key is already in progress. In that case waits for its result.
+     *
+     * @throws ReadFailedException if load failed, either in this or in the coalesced call
+     */
+    @SuppressWarnings("unchecked")
+    <T> T load(@Nonnull final Object key, @Nonnull final DumpSupplier<T> loader) throws ReadFailedException {
+        final CompletableFuture<Object> pending = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = inFlight.putIfAbsent(key, pending);
+        if (existing != null) {
+            LOG.debug("Dump for KEY[{}] already in progress, waiting for its result", key);
+            statistics.recordCoalesced();
+            return (T) await(key, existing);
+        }
+
+        try {
+            final T dump = loader.get();
+            pending.complete(dump);
+            return dump;
+        } catch (Throwable t) {
+            // also errors, otherwise coalesced callers would wait forever
+            pending.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, pending);
+        }
+    }
+
+    private static Object await(final Object key, final CompletableFuture<Object> future)
+            throws ReadFailedException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for dump of KEY[" + key + "]", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof ReadFailedException) {
+                throw (ReadFailedException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("Dump of KEY[" + key + "] failed", cause);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.translate.util.read.cache;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.Beta;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dump cache shared across transactions. Unlike {@link io.fd.honeycomb.translate.ModificationCache}, which lives only
+ * as long as a single read/write transaction, entries stored here survive until their time to live expires, they are
+ * evicted as least recently used, or they are invalidated by a config commit.
+ *
+ * <p>Concurrent loads of the same key are coalesced, only the first caller invokes the dump, the others wait for its
+ * result.
+ */
+@Beta
+@ThreadSafe
+public final class SharedDumpCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedDumpCache.class);
+
+    private final Map<Object, Entry> entries;
+    private final DumpCacheStatistics statistics = new DumpCacheStatistics();
+    private final InFlightDumps inFlight = new InFlightDumps(statistics);
+    private final Ticker ticker;
+    // incremented on each invalidation, dumps started before invalidation are not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * @param maxSize maximum number of cached dumps, least recently used dumps are evicted first
+     */
+    public SharedDumpCache(final int maxSize) {
+        this(maxSize, Ticker.systemTicker());
+    }
+
+    @VisibleForTesting
+    SharedDumpCache(final int maxSize, @Nonnull final Ticker ticker) {
+        checkArgument(maxSize > 0, "Max size must be positive, but was %s", maxSize);
+        this.ticker = checkNotNull(ticker, "ticker should not be null");
+        this.entries = new LinkedHashMap<Object, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Object, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns cached dump for provided key, or loads it using provided supplier.
+     *
+     * @param key               cache key, unique for dumped data
+     * @param ttlNanos          time to live of loaded dump in nanoseconds
+     * @param invalidatingTypes config data types whose modification invalidates loaded dump. If empty, any config
+     *                          commit invalidates it
+     * @param loader            supplier of the dump
+     * @throws ReadFailedException if loading of the dump failed
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(@Nonnull final Object key, final long ttlNanos,
+                     @Nonnull final Set<Class<? extends DataObject>> invalidatingTypes,
+                     @Nonnull final DumpSupplier<T> loader) throws ReadFailedException {
+        final T cached = (T) getIfPresent(key);
+        if (cached != null) {
+            LOG.debug("Shared dump for KEY[{}] found", key);
+            statistics.recordHit();
+            return cached;
+        }
+
+        return inFlight.load(key, () -> {
+            // dump might have been loaded while checking for in-flight dumps
+            final T loaded = (T) getIfPresent(key);
+            if (loaded != null) {
+                statistics.recordHit();
+                return loaded;
+            }
+            statistics.recordMiss();
+            final long loadGeneration = generation.get();
+            final T dump = loader.get();
+            put(key, dump, ttlNanos, invalidatingTypes, loadGeneration);
+            return dump;
+        });
+    }
+
+    /**
+     * Invalidates dumps depending on any type present in provided identifiers.
+     *
+     * @param modified identifiers of modified config data
+     */
+    public void invalidate(@Nonnull final Collection<InstanceIdentifier<?>> modified) {
+        if (modified.isEmpty()) {
+            return;
+        }
+        final Set<Class<?>> modifiedTypes = new HashSet<>();
+        for (InstanceIdentifier<?> id : modified) {
+            id.getPathArguments().forEach(pathArgument -> modifiedTypes.add(pathArgument.getType()));
+        }
+        generation.incrementAndGet();
+        synchronized (entries) {
+            final Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().isInvalidatedBy(modifiedTypes)) {
+                    iterator.remove();
+                }
+            }
+        }
+        LOG.debug("Shared dump cache invalidated by {}", modifiedTypes);
+    }
+
+    /**
+     * Removes all cached dumps.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * @return statistics of lookups in this cache
+     */
+    @Nonnull
+    public DumpCacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    @VisibleForTesting
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private Object getIfPresent(final Object key) {
+        synchronized (entries) {
+            final Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (ticker.read() - entry.expiresAt >= 0) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+    }
+
+    private void put(final Object key, final Object value, final long ttlNanos,
+                     final Set<Class<? extends DataObject>> invalidatingTypes, final long loadGeneration) {
+        synchronized (entries) {
+            // dump might already be outdated if config was committed while dumping
+            if (generation.get() == loadGeneration) {
+                entries.put(key, new Entry(value, ticker.read() + ttlNanos, invalidatingTypes));
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final long expiresAt;
+        private final Set<Class<? extends DataObject>> invalidatingTypes;
+
+        private Entry(final Object value, final long expiresAt,
+                      final Set<Class<? extends DataObject>> invalidatingTypes) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.invalidatingTypes = invalidatingTypes;
+        }
+
+        private boolean isInvalidatedBy(final Set<Class<?>> modifiedTypes) {
+            if (invalidatingTypes.isEmpty()) {
+                return true;
+            }
+            for (Class<? extends DataObject> type : invalidatingTypes) {
+                if (modifiedTypes.contains(type)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -24,7 +24,6 @@ import com.google.common.annotations.VisibleForTesting;
 import java.util.Collections;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opendaylight.yangtools.yang.binding.DataObject;
@@ -36,7 +35,6 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
  */
 public final class TypeAwareIdentifierCacheKeyFactory<U> implements CacheKeyFactory<U> {
 
-    private static final String KEY_PARTS_SEPARATOR = "|";
     @VisibleForTesting
     protected static final String NO_PARAMS_KEY = "NO_PARAMS";
 
@@ -65,10 +63,6 @@ public final class TypeAwareIdentifierCacheKeyFactory<U> implements CacheKeyFact
                 .collect(Collectors.toSet());
     }
 
-    private static String bindKeyString(IdentifiableItem identifiableItem) {
-        return String.format("%s[%s]", identifiableItem.getType().getTypeName(), identifiableItem.getKey());
-    }
-
     private static Class<? extends DataObject> verifyNotNull(final Class<? extends DataObject> type) {
         return checkNotNull(type, "Cannot use null as key");
     }
@@ -81,65 +75,55 @@ public final class TypeAwareIdentifierCacheKeyFactory<U> implements CacheKeyFact
         return type;
     }
 
+    @Nonnull
     @Override
     public String createKey(@Nonnull final InstanceIdentifier<?> actualContextIdentifier, @Nullable final U dumpParams) {
+        return createCacheKey(actualContextIdentifier, dumpParams).toString();
+    }
+
+    @Nonnull
+    @Override
+    public DumpCacheKey createCacheKey(@Nonnull final InstanceIdentifier<?> actualContextIdentifier,
+                                       @Nullable final U dumpParams) {
 
         checkNotNull(actualContextIdentifier, "Cannot construct key for null InstanceIdentifier");
 
         // easiest case when only simple key is needed
         if (additionalKeyTypes.isEmpty()) {
-            return String
-                    .join(KEY_PARTS_SEPARATOR, type.getTypeName(), params(dumpParams),
-                        actualContextIdentifier.getTargetType().toString());
+            return new DumpCacheKey(type, null, dumpParams, actualContextIdentifier.getTargetType());
         }
 
-        checkArgument(isUniqueKeyConstructable(actualContextIdentifier),
+        final IdentifiableItem<?, ?>[] additionalKeys = additionalKeys(actualContextIdentifier);
+        checkArgument(additionalKeys != null,
                 "Unable to construct unique key, required key types : %s, provided paths : %s", additionalKeyTypes,
                 actualContextIdentifier.getPathArguments());
 
-        // joins unique key in form : type | additional keys | actual context
-        return String
-                .join(KEY_PARTS_SEPARATOR, type.getTypeName(), additionalKeys(actualContextIdentifier),
-                    params(dumpParams), actualContextIdentifier.getTargetType().toString());
-    }
-
-    private String params(final U dumpParams) {
-        if (dumpParams == null) {
-            return NO_PARAMS_KEY;
-        } else {
-            return String.valueOf(dumpParams.hashCode());
-        }
+        // unique key in form : type | additional keys | actual context
+        return new DumpCacheKey(type, additionalKeys, dumpParams, actualContextIdentifier.getTargetType());
     }
 
+    @Nonnull
     @Override
     public Class<?> getCachedDataType() {
         return type;
     }
 
     /**
-     * Verifies that all requested key parts have keys
+     * Collects keys of additional scope path arguments, in order of the path.
+     *
+     * @return keys of additional scope, or null if some of requested key parts is missing
      */
-    private boolean isUniqueKeyConstructable(final InstanceIdentifier<?> actualContextIdentifier) {
-        return StreamSupport.stream(actualContextIdentifier.getPathArguments().spliterator(), false)
-                .filter(this::isAdditionalScope)
-                .filter(this::isIdentifiable)
-                .count() == additionalKeyTypes.size();
-    }
-
-    private boolean isAdditionalScope(final InstanceIdentifier.PathArgument pathArgument) {
-        return additionalKeyTypes.contains(pathArgument.getType());
-    }
-
-    private boolean isIdentifiable(final InstanceIdentifier.PathArgument pathArgument) {
-        return pathArgument instanceof IdentifiableItem;
-    }
-
-    private String additionalKeys(final InstanceIdentifier<?> actualContextIdentifier) {
-        return StreamSupport.stream(actualContextIdentifier.getPathArguments().spliterator(), false)
-                .filter(this::isAdditionalScope)
-                .filter(this::isIdentifiable)
-                .map(IdentifiableItem.class::cast)
-                .map(TypeAwareIdentifierCacheKeyFactory::bindKeyString)
-                .collect(Collectors.joining(KEY_PARTS_SEPARATOR));
+    private IdentifiableItem<?, ?>[] additionalKeys(final InstanceIdentifier<?> actualContextIdentifier) {
+        final IdentifiableItem<?, ?>[] keys = new IdentifiableItem<?, ?>[additionalKeyTypes.size()];
+        int found = 0;
+        for (InstanceIdentifier.PathArgument pathArgument : actualContextIdentifier.getPathArguments()) {
+            if (pathArgument instanceof IdentifiableItem && additionalKeyTypes.contains(pathArgument.getType())) {
+                if (found == keys.length) {
+                    return null;
+                }
+                keys[found++] = (IdentifiableItem<?, ?>) pathArgument;
+            }
+        }
+        return found == keys.length ? keys : null;
     }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Ticker;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.ReadWriteTransaction;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.mdsal.common.api.TransactionCommitFailedException;
+import org.opendaylight.yangtools.util.concurrent.FluentFutures;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class BatchingMappingContextTest {
+
+    @Mock
+    private DataBroker broker;
+    @Mock
+    private ReadWriteTransaction tx;
+    @Mock
+    private DataObject data;
+    private InstanceIdentifier<DataObject> id = InstanceIdentifier.create(DataObject.class);
+    private long now;
+    private BatchingMappingContext ctx;
+
+    @Before
+    public void setUp() throws Exception {
+        MockitoAnnotations.initMocks(this);
+        when(broker.newReadWriteTransaction()).thenReturn(tx);
+        when(tx.commit()).thenReturn(FluentFutures.immediateNullFluentFuture());
+        ctx = new BatchingMappingContext(broker, null, 3, 1, TimeUnit.SECONDS, new Ticker() {
+            @Override
+            public long read() {
+                return now;
+            }
+        });
+    }
+
+    @Test
+    public void testModificationsCoalesced() throws Exception {
+        ctx.put(id, data);
+        ctx.merge(id, data);
+        assertEquals(2, ctx.getPendingModifications());
+        verify(tx, never()).commit();
+
+        ctx.flush();
+        verify(broker, times(1)).newReadWriteTransaction();
+        verify(tx).put(LogicalDatastoreType.OPERATIONAL, id, data, true);
+        verify(tx).merge(LogicalDatastoreType.OPERATIONAL, id, data, true);
+        verify(tx, times(1)).commit();
+        assertEquals(0, ctx.getPendingModifications());
+    }
+
+    @Test
+    public void testBatchSizeReached() throws Exception {
+        ctx.put(id, data);
+        ctx.put(id, data);
+        ctx.delete(id);
+        verify(tx, times(1)).commit();
+        assertEquals(0, ctx.getPendingModifications());
+    }
+
+    @Test
+    public void testBatchAgeExceeded() throws Exception {
+        ctx.put(id, data);
+        now = TimeUnit.SECONDS.toNanos(1);
+        ctx.put(id, data);
+        verify(tx, times(1)).commit();
+        verify(broker, times(2)).newReadWriteTransaction();
+        assertEquals(1, ctx.getPendingModifications());
+    }
+
+    @Test
+    public void testFlushIfExpired() throws Exception {
+        ctx.put(id, data);
+        ctx.flushIfExpired();
+        verify(tx, never()).commit();
+
+        now = TimeUnit.SECONDS.toNanos(1);
+        ctx.flushIfExpired();
+        verify(tx, times(1)).commit();
+        assertEquals(0, ctx.getPendingModifications());
+    }
+
+    @Test
+    public void testReadIndexed() throws Exception {
+        when(tx.read(LogicalDatastoreType.OPERATIONAL, id))
+                .thenReturn(FluentFutures.immediateFluentFuture(Optional.of(data)));
+        assertSame(data, ctx.read(id).get());
+        assertSame(data, ctx.read(id).get());
+        verify(tx, times(1)).read(LogicalDatastoreType.OPERATIONAL, id);
+
+        // read only batch is cancelled instead of committed
+        ctx.close();
+        verify(tx, never()).commit();
+        verify(tx).cancel();
+    }
+
+    @Test
+    public void testReadsPendingModification() throws Exception {
+        ctx.put(id, data);
+        assertSame(data, ctx.read(id).get());
+        verify(tx, never()).read(LogicalDatastoreType.OPERATIONAL, id);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFlushFailure() throws Exception {
+        when(tx.commit()).thenReturn(FluentFutures.immediateFailedFluentFuture(
+                new TransactionCommitFailedException("test fail")));
+        ctx.put(id, data);
+        ctx.flush();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.translate.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testEmpty() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMean(TimeUnit.MILLISECONDS));
+        assertEquals(0, histogram.getPercentile(99, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testRecord() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 98; i++) {
+            histogram.record(3, TimeUnit.MILLISECONDS);
+        }
+        histogram.record(150, TimeUnit.MILLISECONDS);
+        histogram.record(20, TimeUnit.SECONDS);
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(20, histogram.getMax(TimeUnit.SECONDS));
+        assertEquals(5, histogram.getPercentile(50, TimeUnit.MILLISECONDS));
+        assertEquals(200, histogram.getPercentile(99, TimeUnit.MILLISECONDS));
+        assertEquals(20000, histogram.getPercentile(100, TimeUnit.MILLISECONDS));
+        assertEquals(Long.valueOf(98), histogram.getBuckets().get("<5ms"));
+        assertEquals(Long.valueOf(1), histogram.getBuckets().get(">=10000ms"));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+
+import java.util.Collections;
+import java.util.Optional;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+
+public class MappingContextIndexTest {
+
+    @Test
+    public void testLeastRecentlyUsedEvicted() {
+        final MappingContextIndex index = new MappingContextIndex(2);
+        index.put(DataObjects.DataObject1.IID, mock(DataObject.class));
+        index.put(DataObjects.DataObject2.IID, mock(DataObject.class));
+        index.get(DataObjects.DataObject1.IID);
+        index.delete(DataObjects.DataObject3.IID);
+
+        assertEquals(2, index.size());
+        assertNotNull(index.get(DataObjects.DataObject1.IID));
+        assertNull(index.get(DataObjects.DataObject2.IID));
+        assertFalse(index.get(DataObjects.DataObject3.IID).isPresent());
+    }
+
+    @Test
+    public void testInvalidateRelated() {
+        final MappingContextIndex index = new MappingContextIndex();
+        index.cacheIfUnmodified(DataObjects.DataObject4.IID, Optional.of(mock(DataObject.class)), index.getVersion());
+        index.cacheIfUnmodified(DataObjects.DataObject4.DataObject41.IID, Optional.empty(), index.getVersion());
+        index.cacheIfUnmodified(DataObjects.DataObject4.DataObject41.DataObject411.IID, Optional.empty(),
+                index.getVersion());
+        index.cacheIfUnmodified(DataObjects.DataObject4.DataObject42.IID, Optional.empty(), index.getVersion());
+
+        index.invalidate(Collections.singletonList(DataObjects.DataObject4.DataObject41.IID));
+        assertNull(index.get(DataObjects.DataObject4.IID));
+        assertNull(index.get(DataObjects.DataObject4.DataObject41.IID));
+        assertNull(index.get(DataObjects.DataObject4.DataObject41.DataObject411.IID));
+        assertNotNull(index.get(DataObjects.DataObject4.DataObject42.IID));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void testReadBeforeModificationNotCached() {
+        final MappingContextIndex index = new MappingContextIndex();
+        final long readVersion = index.getVersion();
+        index.merge(DataObjects.DataObject1.IID);
+
+        index.cacheIfUnmodified(DataObjects.DataObject1.IID, Optional.empty(), readVersion);
+        assertNull(index.get(DataObjects.DataObject1.IID));
+    }
+
+    @Test
+    public void testWildcardedNotIndexed() {
+        final MappingContextIndex index = new MappingContextIndex();
+        index.cacheIfUnmodified(DataObjects.DataObject1ChildK.IID, Optional.empty(), index.getVersion());
+        assertEquals(0, index.size());
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.ModificationCacheBudget;
+import java.util.Arrays;
+import org.junit.Test;
+
+public class ModificationCacheMonitorTest {
+
+    @Test
+    public void testAggregation() {
+        final ModificationCacheMonitor monitor = new ModificationCacheMonitor();
+        // entries are weighed only by bounded caches
+        final ModificationCacheBudget budget = new ModificationCacheBudget.ModificationCacheBudgetBuilder()
+                .withMaxEntries(100)
+                .withStatisticsConsumer(monitor)
+                .build();
+        assertNull(monitor.getLargestEntry());
+
+        final ModificationCache first = new ModificationCache(budget);
+        first.put("small", "value");
+        first.get("small");
+        first.close();
+
+        final ModificationCache second = new ModificationCache(budget);
+        second.put("large", Arrays.asList(1, 2, 3));
+        second.put("small", "value");
+        second.get("missing");
+        second.close();
+
+        assertEquals(2, monitor.getTransactions());
+        assertEquals(3, monitor.getPuts());
+        assertEquals(1, monitor.getHits());
+        assertEquals(1, monitor.getMisses());
+        assertEquals(2, monitor.getMaxEntries());
+        assertEquals(4, monitor.getMaxWeight());
+        assertEquals("large[weight=3]", monitor.getLargestEntry());
+    }
+}
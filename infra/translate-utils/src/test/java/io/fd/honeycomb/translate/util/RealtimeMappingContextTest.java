@@ -18,6 +18,7 @@ package io.fd.honeycomb.translate.util;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -113,4 +114,21 @@ public class RealtimeMappingContextTest {
         when(writeTx.commit()).thenReturn(FluentFutures.immediateFailedFluentFuture(ex));
         ctx.delete(id);
     }
+
+    @Test
+    public void testReadSharedIndex() {
+        when(readTx.read(LogicalDatastoreType.OPERATIONAL, id))
+                .thenReturn(FluentFutures.immediateFluentFuture(Optional.of(data)));
+        final MappingContextIndex sharedIndex = new MappingContextIndex();
+        ctx = new RealtimeMappingContext(broker, sharedIndex);
+
+        assertSame(data, ctx.read(id).get());
+        assertSame(data, ctx.read(id).get());
+        verify(readTx, times(1)).read(LogicalDatastoreType.OPERATIONAL, id);
+
+        // committed modification is visible to the next lookup
+        ctx.delete(id);
+        ctx.read(id);
+        verify(readTx, times(2)).read(LogicalDatastoreType.OPERATIONAL, id);
+    }
 }
\ No newline at end of file
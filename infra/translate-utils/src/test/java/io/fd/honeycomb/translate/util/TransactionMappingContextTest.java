@@ -18,6 +18,10 @@ package io.fd.honeycomb.translate.util;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -60,11 +64,95 @@ public class TransactionMappingContextTest {
         assertSame(ctx.read(id).get(), data);
         verify(writeTx).read(LogicalDatastoreType.OPERATIONAL, id);
 
-        when(writeTx.read(LogicalDatastoreType.OPERATIONAL, id))
+        when(writeTx.read(LogicalDatastoreType.OPERATIONAL, DataObjects.DataObject1.IID))
                 .thenReturn(FluentFutures.immediateFluentFuture(Optional.empty()));
+        assertFalse(ctx.read(DataObjects.DataObject1.IID).isPresent());
+    }
+
+    @Test
+    public void testReadIndexed() throws Exception {
+        final FluentFuture<Optional<DataObject>> futureData = FluentFutures.immediateFluentFuture(Optional.of((data)));
+        when(writeTx.read(LogicalDatastoreType.OPERATIONAL, id)).thenReturn(futureData);
+
+        assertSame(ctx.read(id).get(), data);
+        assertSame(ctx.read(id).get(), data);
+        verify(writeTx, times(1)).read(LogicalDatastoreType.OPERATIONAL, id);
+    }
+
+    @Test
+    public void testReadAfterPutAndDelete() throws Exception {
+        ctx.put(id, data);
+        assertSame(ctx.read(id).get(), data);
+        ctx.delete(id);
         assertFalse(ctx.read(id).isPresent());
+        verify(writeTx, never()).read(LogicalDatastoreType.OPERATIONAL, id);
+    }
+
+    @Test
+    public void testModificationInvalidatesRelatedNodes() throws Exception {
+        final DataObjects.DataObject4 parent = mock(DataObjects.DataObject4.class);
+        final DataObjects.DataObject4.DataObject41 child = mock(DataObjects.DataObject4.DataObject41.class);
+        when(writeTx.read(LogicalDatastoreType.OPERATIONAL, DataObjects.DataObject4.IID))
+                .thenReturn(FluentFutures.immediateFluentFuture(Optional.of(parent)));
+        when(writeTx.read(LogicalDatastoreType.OPERATIONAL, DataObjects.DataObject4.DataObject41.IID))
+                .thenReturn(FluentFutures.immediateFluentFuture(Optional.of(child)));
+        ctx.read(DataObjects.DataObject4.IID);
+        ctx.read(DataObjects.DataObject4.DataObject41.IID);
+
+        // merge result is not known, node and its ancestors have to be read again
+        ctx.merge(DataObjects.DataObject4.DataObject41.IID, child);
+        ctx.read(DataObjects.DataObject4.IID);
+        ctx.read(DataObjects.DataObject4.DataObject41.IID);
+        verify(writeTx, times(2)).read(LogicalDatastoreType.OPERATIONAL, DataObjects.DataObject4.IID);
+        verify(writeTx, times(2)).read(LogicalDatastoreType.OPERATIONAL, DataObjects.DataObject4.DataObject41.IID);
+
+        // deleted parent invalidates its children
+        ctx.delete(DataObjects.DataObject4.IID);
+        ctx.read(DataObjects.DataObject4.DataObject41.IID);
+        verify(writeTx, times(3)).read(LogicalDatastoreType.OPERATIONAL, DataObjects.DataObject4.DataObject41.IID);
     }
 
+    @Test
+    public void testReadSharedIndex() throws Exception {
+        when(writeTx.read(LogicalDatastoreType.OPERATIONAL, id))
+                .thenReturn(FluentFutures.immediateFluentFuture(Optional.of(data)));
+        final MappingContextIndex sharedIndex = new MappingContextIndex();
+
+        assertSame(data, new TransactionMappingContext(writeTx, sharedIndex).read(id).get());
+        assertSame(data, new TransactionMappingContext(writeTx, sharedIndex).read(id).get());
+        verify(writeTx, times(1)).read(LogicalDatastoreType.OPERATIONAL, id);
+    }
+
+    @Test
+    public void testSharedIndexInvalidatedOnCommit() throws Exception {
+        when(writeTx.read(LogicalDatastoreType.OPERATIONAL, id))
+                .thenReturn(FluentFutures.immediateFluentFuture(Optional.of(data)));
+        final MappingContextIndex sharedIndex = new MappingContextIndex();
+        new TransactionMappingContext(writeTx, sharedIndex).read(id);
+
+        final TransactionMappingContext writingCtx = new TransactionMappingContext(writeTx, sharedIndex);
+        writingCtx.delete(id);
+        // modified, but not committed yet
+        assertSame(data, new TransactionMappingContext(writeTx, sharedIndex).read(id).get());
+        verify(writeTx, times(1)).read(LogicalDatastoreType.OPERATIONAL, id);
+
+        writingCtx.commit().get();
+        new TransactionMappingContext(writeTx, sharedIndex).read(id);
+        verify(writeTx, times(2)).read(LogicalDatastoreType.OPERATIONAL, id);
+    }
+
+    @Test
+    public void testModifiedContextBypassesSharedIndex() throws Exception {
+        when(writeTx.read(LogicalDatastoreType.OPERATIONAL, id))
+                .thenReturn(FluentFutures.immediateFluentFuture(Optional.of(data)));
+        final MappingContextIndex sharedIndex = new MappingContextIndex();
+        new TransactionMappingContext(writeTx, sharedIndex).read(id);
+
+        final TransactionMappingContext writingCtx = new TransactionMappingContext(writeTx, sharedIndex);
+        writingCtx.merge(DataObjects.DataObject1.IID, mock(DataObjects.DataObject1.class));
+        writingCtx.read(id);
+        verify(writeTx, times(2)).read(LogicalDatastoreType.OPERATIONAL, id);
+    }
 
     @Test(expected = IllegalStateException.class)
     public void testReadFailure() throws Exception {
@@ -92,6 +180,27 @@ public class TransactionMappingContextTest {
         verify(writeTx).delete(LogicalDatastoreType.OPERATIONAL, id);
     }
 
+    @Test
+    public void testCommitDirty() throws Exception {
+        ctx.put(id, data);
+        assertTrue(ctx.isDirty());
+        ctx.commit().get();
+        verify(writeTx).commit();
+        verify(writeTx, never()).cancel();
+    }
+
+    @Test
+    public void testCommitClean() throws Exception {
+        final FluentFuture<Optional<DataObject>> futureData = FluentFutures.immediateFluentFuture(Optional.of((data)));
+        when(writeTx.read(LogicalDatastoreType.OPERATIONAL, id)).thenReturn(futureData);
+        ctx.read(id);
+
+        assertFalse(ctx.isDirty());
+        ctx.commit().get();
+        verify(writeTx, never()).commit();
+        verify(writeTx).cancel();
+    }
+
     @Test
     public void testClose() throws Exception {
         ctx.close();
@@ -20,6 +20,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import com.google.common.collect.ImmutableSet;
 import java.util.Iterator;
 import org.jgrapht.experimental.dag.DirectedAcyclicGraph;
 import org.junit.Before;
@@ -30,6 +31,7 @@ public class YangDAGTest {
 
     private static final InstanceIdentifier<DataObjects.DataObject1> VERTEX_A = DataObjects.DataObject1.IID;
     private static final InstanceIdentifier<DataObjects.DataObject2> VERTEX_B = DataObjects.DataObject2.IID;
+    private static final InstanceIdentifier<DataObjects.DataObject3> VERTEX_C = DataObjects.DataObject3.IID;
 
     private YangDAG dag;
 
@@ -67,4 +69,16 @@ public class YangDAGTest {
             assertTrue(e.getCause() instanceof DirectedAcyclicGraph.CycleFoundException);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetAncestors() {
+        dag.addVertex(VERTEX_A);
+        dag.addVertex(VERTEX_B);
+        dag.addVertex(VERTEX_C);
+        dag.addEdge(VERTEX_A, VERTEX_B);
+        dag.addEdge(VERTEX_B, VERTEX_C);
+        assertEquals(ImmutableSet.of(VERTEX_A, VERTEX_B), dag.getAncestors(VERTEX_C));
+        assertEquals(ImmutableSet.of(VERTEX_A), dag.getAncestors(VERTEX_B));
+        assertTrue(dag.getAncestors(VERTEX_A).isEmpty());
+    }
+}
@@ -16,19 +16,32 @@
 
 package io.fd.honeycomb.translate.util.read;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.base.Ticker;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.Reader;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -94,6 +107,107 @@ public class KeepaliveReaderWrapperTest {
         assertFalse(listener.getTriggerFuture().isDone());
     }
 
+    @Test
+    public void testIntervalBackoff() throws Exception {
+        final ScheduledExecutorService scheduler = mockScheduler();
+        doReturn(Optional.empty()).when(delegate).read(eq(iid), any(ReadContext.class));
+        final KeepalivePolicy policy = new KeepalivePolicy.KeepalivePolicyBuilder()
+                .withInterval(1, 8, TimeUnit.SECONDS)
+                .withBackoffMultiplier(2)
+                .build();
+        final KeepaliveReaderWrapper<DataObject, Builder<DataObject>> keepaliveWrapper =
+                new KeepaliveReaderWrapper<>(delegate, scheduler, TestingException.class, policy,
+                        new CapturingFailListener());
+        verify(scheduler).schedule(keepaliveWrapper, TimeUnit.SECONDS.toNanos(1), TimeUnit.NANOSECONDS);
+
+        keepaliveWrapper.run();
+        assertEquals(2, keepaliveWrapper.getCurrentInterval(TimeUnit.SECONDS));
+        keepaliveWrapper.run();
+        keepaliveWrapper.run();
+        keepaliveWrapper.run();
+        assertEquals(8, keepaliveWrapper.getCurrentInterval(TimeUnit.SECONDS));
+        verify(scheduler, times(2)).schedule(keepaliveWrapper, TimeUnit.SECONDS.toNanos(8), TimeUnit.NANOSECONDS);
+        assertEquals(4, keepaliveWrapper.getLatencies().getCount());
+    }
+
+    @Test
+    public void testLatencyThreshold() throws Exception {
+        final ScheduledExecutorService scheduler = mockScheduler();
+        final AtomicLong now = new AtomicLong();
+        // each read takes 200ms
+        doAnswer(invocation -> {
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+            return Optional.empty();
+        }).when(delegate).read(eq(iid), any(ReadContext.class));
+        final KeepalivePolicy policy = new KeepalivePolicy.KeepalivePolicyBuilder()
+                .withInterval(1, 8, TimeUnit.SECONDS)
+                .withLatencyThreshold(100, TimeUnit.MILLISECONDS, 2)
+                .build();
+        final CapturingFailListener listener = new CapturingFailListener();
+        final KeepaliveReaderWrapper<DataObject, Builder<DataObject>> keepaliveWrapper =
+                new KeepaliveReaderWrapper<>(delegate, scheduler, TestingException.class, policy, listener,
+                        new Ticker() {
+                            @Override
+                            public long read() {
+                                return now.get();
+                            }
+                        });
+
+        keepaliveWrapper.run();
+        assertFalse(listener.getTriggerFuture().isDone());
+        assertEquals(1, keepaliveWrapper.getCurrentInterval(TimeUnit.SECONDS));
+        keepaliveWrapper.run();
+        assertTrue(listener.getTriggerFuture().isDone());
+        assertEquals(200, keepaliveWrapper.getLatencies().getMax(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testProbe() throws Exception {
+        final ScheduledExecutorService scheduler = mockScheduler();
+        final KeepalivePolicy.KeepaliveProbe probe = mock(KeepalivePolicy.KeepaliveProbe.class);
+        final KeepalivePolicy policy = new KeepalivePolicy.KeepalivePolicyBuilder()
+                .withInterval(1, 1, TimeUnit.SECONDS)
+                .withProbe(probe)
+                .build();
+        final KeepaliveReaderWrapper<DataObject, Builder<DataObject>> keepaliveWrapper =
+                new KeepaliveReaderWrapper<>(delegate, scheduler, TestingException.class, policy,
+                        new CapturingFailListener());
+
+        keepaliveWrapper.run();
+        verify(probe).probe(any(ReadContext.class));
+        verify(delegate, never()).read(any(InstanceIdentifier.class), any(ReadContext.class));
+    }
+
+    @Test
+    public void testFailedProbeNotRescheduled() throws Exception {
+        final ScheduledExecutorService scheduler = mockScheduler();
+        final CapturingFailListener listener = new CapturingFailListener();
+        final KeepalivePolicy policy = new KeepalivePolicy.KeepalivePolicyBuilder()
+                .withInterval(1, 1, TimeUnit.SECONDS)
+                .withProbe(ctx -> {
+                    throw new TestingException();
+                })
+                .build();
+        final KeepaliveReaderWrapper<DataObject, Builder<DataObject>> keepaliveWrapper =
+                new KeepaliveReaderWrapper<>(delegate, scheduler, TestingException.class, policy, listener);
+
+        try {
+            keepaliveWrapper.run();
+            fail("Exception expected");
+        } catch (IllegalArgumentException e) {
+            assertTrue(listener.getTriggerFuture().isDone());
+        }
+        // only initial schedule
+        verify(scheduler, times(1)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    private static ScheduledExecutorService mockScheduler() {
+        final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        doReturn(mock(ScheduledFuture.class)).when(scheduler).schedule(any(Runnable.class), anyLong(),
+                any(TimeUnit.class));
+        return scheduler;
+    }
+
     private static final class TestingException extends RuntimeException {}
 
     private static class CapturingFailListener implements KeepaliveReaderWrapper.KeepaliveFailureListener {
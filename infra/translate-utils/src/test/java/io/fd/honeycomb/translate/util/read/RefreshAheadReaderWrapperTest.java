@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.translate.util.read;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Ticker;
+import io.fd.honeycomb.translate.read.ListReader;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.honeycomb.translate.read.Reader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.yangtools.concepts.Builder;
+import org.opendaylight.yangtools.yang.binding.DataContainer;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.Identifiable;
+import org.opendaylight.yangtools.yang.binding.Identifier;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class RefreshAheadReaderWrapperTest {
+
+    private static final InstanceIdentifier<DataObj> ID = InstanceIdentifier.create(DataObj.class);
+    @SuppressWarnings("unchecked")
+    private static final InstanceIdentifier<ListObj> LIST_ID = (InstanceIdentifier<ListObj>) InstanceIdentifier
+            .create(Collections.singletonList(InstanceIdentifier.Item.of(ListObj.class)));
+
+    @Mock
+    private Reader<DataObj, DataObjBuilder> delegate;
+    @Mock
+    private ListReader<ListObj, ListKey, Builder<ListObj>> keysReader;
+    @Mock
+    private ScheduledExecutorService executor;
+    @Mock
+    private ScheduledFuture<?> scheduledFuture;
+    @Mock
+    private ReadContext ctx;
+    @Mock
+    private ReadContext refreshCtx;
+
+    private long time;
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return time;
+        }
+    };
+    private RefreshAheadReaderWrapper<DataObj, DataObjBuilder> wrapper;
+
+    @Before
+    public void setUp() throws Exception {
+        MockitoAnnotations.initMocks(this);
+        when(delegate.getManagedDataObjectType()).thenReturn(ID);
+        doReturn(scheduledFuture).when(executor)
+                .scheduleWithFixedDelay(any(Runnable.class), anyLong(), anyLong(), any(TimeUnit.class));
+        wrapper = new RefreshAheadReaderWrapper<>(delegate, null, executor, 1, 5, TimeUnit.SECONDS, () -> refreshCtx,
+                ticker);
+        verify(executor).scheduleWithFixedDelay(wrapper, 0, 1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testReadFromSnapshot() throws Exception {
+        doReturn(Optional.of(new DataObjImpl("refreshed"))).when(delegate).read(ID, refreshCtx);
+        wrapper.run();
+        assertEquals(1, wrapper.getSnapshotVersion());
+        verify(refreshCtx).close();
+
+        final DataObjBuilder builder = new DataObjBuilder();
+        wrapper.readCurrentAttributes(ID, builder, ctx);
+        assertEquals("refreshed", builder.name);
+        assertEquals("refreshed", ((DataObj) wrapper.read(ID, ctx).get()).getName());
+        verify(delegate, never()).readCurrentAttributes(eq(ID), any(DataObjBuilder.class), eq(ctx));
+        verify(delegate, never()).read(ID, ctx);
+    }
+
+    @Test
+    public void testStaleSnapshot() throws Exception {
+        doReturn(Optional.of(new DataObjImpl("refreshed"))).when(delegate).read(ID, refreshCtx);
+        wrapper.run();
+
+        time += TimeUnit.SECONDS.toNanos(5) + 1;
+        final DataObjBuilder builder = new DataObjBuilder();
+        wrapper.readCurrentAttributes(ID, builder, ctx);
+        verify(delegate).readCurrentAttributes(ID, builder, ctx);
+    }
+
+    @Test
+    public void testFailedRefreshKeepsSnapshot() throws Exception {
+        doReturn(Optional.of(new DataObjImpl("refreshed"))).when(delegate).read(ID, refreshCtx);
+        wrapper.run();
+        when(delegate.read(ID, refreshCtx)).thenThrow(new ReadFailedException(ID));
+        wrapper.run();
+
+        assertEquals(1, wrapper.getSnapshotVersion());
+        assertEquals("refreshed", ((DataObj) wrapper.read(ID, ctx).get()).getName());
+        verify(refreshCtx, times(2)).close();
+    }
+
+    @Test
+    public void testNoSnapshot() throws Exception {
+        final DataObjBuilder builder = new DataObjBuilder();
+        wrapper.readCurrentAttributes(ID, builder, ctx);
+        verify(delegate).readCurrentAttributes(ID, builder, ctx);
+    }
+
+    @Test
+    public void testEmptySnapshot() throws Exception {
+        doReturn(Optional.empty()).when(delegate).read(ID, refreshCtx);
+        wrapper.run();
+
+        final DataObjBuilder builder = new DataObjBuilder();
+        wrapper.readCurrentAttributes(ID, builder, ctx);
+        assertEquals(null, builder.name);
+        assertFalse(wrapper.read(ID, ctx).isPresent());
+        verify(delegate, never()).readCurrentAttributes(ID, builder, ctx);
+    }
+
+    @Test
+    public void testKeyedReadFromSnapshot() throws Exception {
+        final InstanceIdentifier<DataObj> childId = childId(null);
+        final InstanceIdentifier<DataObj> firstId = childId(new ListKey("first"));
+        final InstanceIdentifier<DataObj> secondId = childId(new ListKey("second"));
+        final InstanceIdentifier<DataObj> unknownId = childId(new ListKey("unknown"));
+        when(delegate.getManagedDataObjectType()).thenReturn(childId);
+        when(keysReader.getManagedDataObjectType()).thenReturn(LIST_ID);
+        when(keysReader.getAllIds(LIST_ID, refreshCtx)).thenReturn(Arrays.asList(new ListKey("first"),
+                new ListKey("second")));
+        doReturn(Optional.of(new DataObjImpl("first"))).when(delegate).read(firstId, refreshCtx);
+        doReturn(Optional.of(new DataObjImpl("second"))).when(delegate).read(secondId, refreshCtx);
+
+        final RefreshAheadReaderWrapper<DataObj, DataObjBuilder> keyedWrapper = new RefreshAheadReaderWrapper<>(
+                delegate, keysReader, executor, 1, 5, TimeUnit.SECONDS, () -> refreshCtx, ticker);
+        keyedWrapper.run();
+        assertEquals(1, keyedWrapper.getSnapshotVersion());
+
+        final DataObjBuilder secondBuilder = new DataObjBuilder();
+        keyedWrapper.readCurrentAttributes(secondId, secondBuilder, ctx);
+        assertEquals("second", secondBuilder.name);
+        assertEquals("first", ((DataObj) keyedWrapper.read(firstId, ctx).get()).getName());
+        verify(delegate, never()).readCurrentAttributes(any(), any(DataObjBuilder.class), eq(ctx));
+        verify(delegate, never()).read(any(), eq(ctx));
+
+        // key not known to the last refresh
+        final DataObjBuilder unknownBuilder = new DataObjBuilder();
+        keyedWrapper.readCurrentAttributes(unknownId, unknownBuilder, ctx);
+        verify(delegate).readCurrentAttributes(unknownId, unknownBuilder, ctx);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testKeyedWithoutKeysReader() {
+        when(delegate.getManagedDataObjectType()).thenReturn(childId(null));
+        new RefreshAheadReaderWrapper<>(delegate, executor, 1, 5, TimeUnit.SECONDS);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static InstanceIdentifier<DataObj> childId(final ListKey key) {
+        final InstanceIdentifier.PathArgument listItem = key == null
+                ? InstanceIdentifier.Item.of(ListObj.class)
+                : InstanceIdentifier.IdentifiableItem.of(ListObj.class, key);
+        return (InstanceIdentifier<DataObj>) InstanceIdentifier.create(
+                Arrays.asList(listItem, InstanceIdentifier.Item.of(DataObj.class)));
+    }
+
+    @Test
+    public void testClose() {
+        wrapper.close();
+        verify(scheduledFuture).cancel(false);
+    }
+
+    public interface DataObj extends DataObject {
+        String getName();
+    }
+
+    private static final class DataObjImpl implements DataObj {
+        private final String name;
+
+        private DataObjImpl(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Class<? extends DataContainer> getImplementedInterface() {
+            return DataObj.class;
+        }
+    }
+
+    public interface ListObj extends DataObject, Identifiable<ListKey> {
+    }
+
+    public static final class ListKey implements Identifier<ListObj> {
+        private final String name;
+
+        private ListKey(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof ListKey && name.equals(((ListKey) other).name);
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+    }
+
+    public static final class DataObjBuilder implements Builder<DataObj> {
+        private String name;
+
+        public DataObjBuilder setName(final String name) {
+            this.name = name;
+            return this;
+        }
+
+        @Override
+        public DataObj build() {
+            return new DataObjImpl(name);
+        }
+    }
+}
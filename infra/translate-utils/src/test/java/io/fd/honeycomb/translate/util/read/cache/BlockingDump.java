@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.translate.util.read.cache;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dump blocking until released, used to test coalescing of concurrent dumps. All waits are bounded, so that a broken
+ * coalescing fails the test instead of hanging it.
+ */
+final class BlockingDump<T> implements DumpSupplier<T> {
+
+    private static final long TIMEOUT_MS = 5000;
+    private static final long POLL_MS = 10;
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch released = new CountDownLatch(1);
+    private final DumpSupplier<T> delegate;
+
+    BlockingDump(final DumpSupplier<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public T get() throws ReadFailedException {
+        started.countDown();
+        try {
+            assertTrue("Dump was not released in time", released.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for release of dump", e);
+        }
+        return delegate.get();
+    }
+
+    void awaitStarted() throws InterruptedException {
+        assertTrue("Dump was not started in time", started.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+    }
+
+    void release() {
+        released.countDown();
+    }
+
+    /**
+     * Waits until given number of lookups waits for a dump in progress. Statistics provide no notification, so they
+     * are polled until the timeout.
+     */
+    static void awaitCoalesced(final DumpCacheStatistics statistics, final long expected)
+            throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MS);
+        while (statistics.getCoalesced() < expected) {
+            if (System.nanoTime() - deadline > 0) {
+                fail("Expected " + expected + " coalesced lookups, but was " + statistics.getCoalesced());
+            }
+            Thread.sleep(POLL_MS);
+        }
+    }
+}
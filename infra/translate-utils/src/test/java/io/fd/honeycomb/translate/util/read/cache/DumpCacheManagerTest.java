@@ -18,15 +18,25 @@ package io.fd.honeycomb.translate.util.read.cache;
 
 import static io.fd.honeycomb.translate.util.read.cache.EntityDumpExecutor.NO_PARAMS;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -80,7 +90,7 @@ public class DumpCacheManagerTest {
     @Test
     public void testCaching() throws ReadFailedException {
         final IpDetailsReplyDump stage1Data = new IpDetailsReplyDump();
-        final String key = cacheKeyFactory.createKey(identifier, NO_PARAMS);
+        final Object key = cacheKeyFactory.createCacheKey(identifier, NO_PARAMS);
 
 
         // executor cant return null data
@@ -168,6 +178,102 @@ public class DumpCacheManagerTest {
         assertEquals(2, dump2.get().intValue());
     }
 
+    @Test
+    public void testSharedCache() throws ReadFailedException {
+        final SharedDumpCache sharedCache = new SharedDumpCache(10);
+        final DumpCacheManager<IpDetailsReplyDump, Void> manager =
+            new DumpCacheManager.DumpCacheManagerBuilder<IpDetailsReplyDump, Void>()
+                .withExecutor(executor)
+                .acceptOnly(IpDetailsReplyDump.class)
+                .withSharedCache(sharedCache, 1, TimeUnit.MINUTES)
+                .invalidatedBy(DataObj.class)
+                .build();
+        final IpDetailsReplyDump dump = new IpDetailsReplyDump();
+        when(executor.executeDump(identifier, NO_PARAMS)).thenReturn(dump);
+
+        // dump in one transaction is reused in the next one
+        assertSame(dump, manager.getDump(identifier, cache).get());
+        assertSame(dump, manager.getDump(identifier, new ModificationCache()).get());
+        verify(executor).executeDump(identifier, NO_PARAMS);
+
+        // until config of related type is changed
+        sharedCache.invalidate(Collections.singleton(identifier));
+        manager.getDump(identifier, new ModificationCache());
+        verify(executor, times(2)).executeDump(identifier, NO_PARAMS);
+    }
+
+    @Test
+    public void testStatistics() throws ReadFailedException {
+        when(executor.executeDump(identifier, NO_PARAMS)).thenReturn(new IpDetailsReplyDump());
+
+        managerPositive.getDump(identifier, cache);
+        managerPositive.getDump(identifier, cache);
+        managerPositive.getDump(identifier, new ModificationCache());
+
+        final DumpCacheStatistics statistics = managerPositive.getStatistics();
+        assertEquals(1, statistics.getHits());
+        assertEquals(2, statistics.getMisses());
+        assertEquals(0, statistics.getCoalesced());
+    }
+
+    @Test(timeout = 10000)
+    public void testConcurrentMissesCoalesced() throws Exception {
+        final IpDetailsReplyDump dump = new IpDetailsReplyDump();
+        final BlockingDump<IpDetailsReplyDump> blockingDump = new BlockingDump<>(() -> dump);
+        when(executor.executeDump(identifier, NO_PARAMS)).thenAnswer(invocation -> blockingDump.get());
+
+        final ExecutorService readers = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Optional<IpDetailsReplyDump>> first =
+                readers.submit(() -> managerPositive.getDump(identifier, new ModificationCache()));
+            blockingDump.awaitStarted();
+            final Future<Optional<IpDetailsReplyDump>> second =
+                readers.submit(() -> managerPositive.getDump(identifier, new ModificationCache()));
+            BlockingDump.awaitCoalesced(managerPositive.getStatistics(), 1);
+            blockingDump.release();
+
+            assertSame(dump, first.get().get());
+            assertSame(dump, second.get().get());
+            verify(executor).executeDump(identifier, NO_PARAMS);
+            assertEquals(1, managerPositive.getStatistics().getMisses());
+        } finally {
+            readers.shutdownNow();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testCoalescedMissFailsOnError() throws Exception {
+        final BlockingDump<IpDetailsReplyDump> blockingDump = new BlockingDump<>(() -> {
+            throw new AssertionError("dump failed");
+        });
+        when(executor.executeDump(identifier, NO_PARAMS)).thenAnswer(invocation -> blockingDump.get());
+
+        final ExecutorService readers = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Optional<IpDetailsReplyDump>> first =
+                readers.submit(() -> managerPositive.getDump(identifier, new ModificationCache()));
+            blockingDump.awaitStarted();
+            final Future<Optional<IpDetailsReplyDump>> second =
+                readers.submit(() -> managerPositive.getDump(identifier, new ModificationCache()));
+            BlockingDump.awaitCoalesced(managerPositive.getStatistics(), 1);
+            blockingDump.release();
+
+            assertFailedWithError(first);
+            assertFailedWithError(second);
+        } finally {
+            readers.shutdownNow();
+        }
+    }
+
+    private static void assertFailedWithError(final Future<?> future) throws Exception {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("Dump should have failed");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof AssertionError);
+        }
+    }
+
     private EntityDumpPostProcessingFunction<IpDetailsReplyDump> createPostProcessor() {
         return ipDetailsReplyDump -> {
             IpDetailsReplyDump modified = new IpDetailsReplyDump();
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.translate.util.read.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.google.common.base.Ticker;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class SharedDumpCacheTest {
+
+    private static final long TTL = TimeUnit.SECONDS.toNanos(10);
+    private static final Set<Class<? extends DataObject>> NO_TYPES = Collections.emptySet();
+
+    private final AtomicInteger dumps = new AtomicInteger();
+    private long time;
+    private SharedDumpCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new SharedDumpCache(2, new Ticker() {
+            @Override
+            public long read() {
+                return time;
+            }
+        });
+    }
+
+    @Test
+    public void testExpiration() throws ReadFailedException {
+        assertEquals(1, load("key"));
+        time += TTL - 1;
+        assertEquals(1, load("key"));
+        time += 1;
+        assertEquals(2, load("key"));
+        assertEquals(1, cache.getStatistics().getHits());
+        assertEquals(2, cache.getStatistics().getMisses());
+    }
+
+    @Test
+    public void testLruEviction() throws ReadFailedException {
+        load("key1");
+        load("key2");
+        // touch key1, key2 becomes least recently used
+        load("key1");
+        load("key3");
+        assertEquals(2, cache.size());
+        assertEquals(1, load("key1"));
+        assertEquals(4, load("key2"));
+    }
+
+    @Test
+    public void testInvalidation() throws ReadFailedException {
+        cache.get("related", TTL, Collections.singleton(DataObj1.class), dumps::incrementAndGet);
+        cache.get("unrelated", TTL, Collections.singleton(DataObj2.class), dumps::incrementAndGet);
+
+        cache.invalidate(Collections.singleton(InstanceIdentifier.create(DataObj1.class)));
+        assertEquals(1, cache.size());
+        assertEquals(2, (int) cache.get("unrelated", TTL, NO_TYPES, dumps::incrementAndGet));
+    }
+
+    @Test
+    public void testInvalidationDuringDump() throws ReadFailedException {
+        cache.get("key", TTL, NO_TYPES, () -> {
+            cache.invalidateAll();
+            return dumps.incrementAndGet();
+        });
+        assertEquals(0, cache.size());
+    }
+
+    @Test(timeout = 10000)
+    public void testConcurrentLoadsCoalesced() throws Exception {
+        final BlockingDump<Integer> dump = new BlockingDump<>(dumps::incrementAndGet);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Integer> first = executor.submit(() -> cache.get("key", TTL, NO_TYPES, dump));
+            dump.awaitStarted();
+            final Future<Integer> second = executor.submit(() -> load("key"));
+            BlockingDump.awaitCoalesced(cache.getStatistics(), 1);
+            dump.release();
+
+            assertSame(first.get(), second.get());
+            assertEquals(1, dumps.get());
+            assertEquals(1, cache.getStatistics().getMisses());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int load(final String key) throws ReadFailedException {
+        return cache.get(key, TTL, NO_TYPES, dumps::incrementAndGet);
+    }
+
+    private interface DataObj1 extends DataObject {
+    }
+
+    private interface DataObj2 extends DataObject {
+    }
+}
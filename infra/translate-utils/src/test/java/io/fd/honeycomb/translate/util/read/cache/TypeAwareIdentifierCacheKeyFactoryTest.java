@@ -18,7 +18,9 @@ package io.fd.honeycomb.translate.util.read.cache;
 
 import static io.fd.honeycomb.translate.util.read.cache.EntityDumpExecutor.NO_PARAMS;
 import static io.fd.honeycomb.translate.util.read.cache.TypeAwareIdentifierCacheKeyFactory.NO_PARAMS_KEY;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import com.google.common.collect.ImmutableSet;
@@ -122,6 +124,30 @@ public class TypeAwareIdentifierCacheKeyFactoryTest {
         verifySimpleKey(key);
     }
 
+    @Test
+    public void createCacheKeyEquality() {
+        final InstanceIdentifier<DataObjectChild> sameIdentifier = InstanceIdentifier.create(SuperDataObject.class)
+                .child(DataObjectParent.class, parentKey).child(DataObjectChild.class, childKey);
+        final InstanceIdentifier<DataObjectChild> otherParentIdentifier = InstanceIdentifier
+                .create(SuperDataObject.class).child(DataObjectParent.class, new DataObjectParentKey())
+                .child(DataObjectChild.class, childKey);
+
+        final DumpCacheKey key = complexIntegerKeyFactory.createCacheKey(identifierBothKeyed, 123);
+        assertEquals(key, complexIntegerKeyFactory.createCacheKey(sameIdentifier, 123));
+        assertEquals(key.hashCode(), complexIntegerKeyFactory.createCacheKey(sameIdentifier, 123).hashCode());
+        assertNotEquals(key, complexIntegerKeyFactory.createCacheKey(identifierBothKeyed, 124));
+        assertNotEquals(key, complexIntegerKeyFactory.createCacheKey(otherParentIdentifier, 123));
+        assertEquals(complexIntegerKeyFactory.createKey(identifierBothKeyed, 123), key.toString());
+    }
+
+    @Test
+    public void createCacheKeyParamsWithSameHash() {
+        final TypeAwareIdentifierCacheKeyFactory<String> factory = new TypeAwareIdentifierCacheKeyFactory<>(String.class);
+        // "Aa" and "BB" have the same hash code
+        assertNotEquals(factory.createCacheKey(identifierBothKeyed, "Aa"),
+                factory.createCacheKey(identifierBothKeyed, "BB"));
+    }
+
     private void verifyComplexKey(final String key, final String params) {
         assertTrue(key.contains(String.class.getTypeName()));
         assertTrue(key.contains(DataObjectParent.class.getTypeName()));
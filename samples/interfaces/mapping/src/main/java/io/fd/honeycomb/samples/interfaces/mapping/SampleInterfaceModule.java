@@ -20,8 +20,10 @@ import com.google.inject.AbstractModule;
 import com.google.inject.Singleton;
 import com.google.inject.multibindings.Multibinder;
 import io.fd.honeycomb.notification.ManagedNotificationProducer;
+import io.fd.honeycomb.notification.NotificationCoalescingRule;
 import io.fd.honeycomb.samples.interfaces.mapping.cfgattrs.InterfacesPluginConfiguration;
 import io.fd.honeycomb.samples.interfaces.mapping.config.InterfacesWriterFactory;
+import io.fd.honeycomb.samples.interfaces.mapping.notification.InterfaceUpCoalescingRule;
 import io.fd.honeycomb.samples.interfaces.mapping.notification.InterfaceUpNotificationProducer;
 import io.fd.honeycomb.samples.interfaces.mapping.oper.InterfacesReaderFactory;
 import io.fd.honeycomb.translate.read.ReaderFactory;
@@ -47,5 +49,7 @@ public final class SampleInterfaceModule extends AbstractModule {
         Multibinder.newSetBinder(binder(), ReaderFactory.class).addBinding().to(InterfacesReaderFactory.class);
         Multibinder.newSetBinder(binder(), ManagedNotificationProducer.class).addBinding()
                 .to(InterfaceUpNotificationProducer.class);
+        Multibinder.newSetBinder(binder(), NotificationCoalescingRule.class).addBinding()
+                .to(InterfaceUpCoalescingRule.class);
     }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.honeycomb.samples.interfaces.mapping.notification;
+
+import io.fd.honeycomb.notification.NotificationCoalescingRule;
+import javax.annotation.Nonnull;
+import org.opendaylight.yang.gen.v1.io.fd.honeycomb.samples.interfaces.rev160810.InterfaceUp;
+
+/**
+ * Coalescing rule for interface-up notifications. When an interface is flapping, subscribers receive only the latest
+ * notification per interface within the coalescing window configured in honeycomb.json
+ */
+public class InterfaceUpCoalescingRule implements NotificationCoalescingRule<InterfaceUp> {
+
+    @Nonnull
+    @Override
+    public Class<InterfaceUp> getNotificationType() {
+        return InterfaceUp.class;
+    }
+
+    @Nonnull
+    @Override
+    public Object getKey(@Nonnull final InterfaceUp notification) {
+        // Interface id is the key leaf of interface-up notification
+        return notification.getInterfaceId();
+    }
+}
@@ -16,24 +16,38 @@
 
 package io.fd.honeycomb.samples.interfaces.mapping.oper;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import io.fd.honeycomb.samples.interfaces.mapping.LowerLayerAccess;
 import io.fd.honeycomb.translate.impl.read.GenericListReader;
 import io.fd.honeycomb.translate.impl.read.GenericReader;
 import io.fd.honeycomb.translate.read.ReaderFactory;
 import io.fd.honeycomb.translate.read.registry.ModifiableReaderRegistryBuilder;
+import io.fd.honeycomb.translate.util.read.RefreshAheadReaderWrapper;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.io.fd.honeycomb.samples.interfaces.rev160810.InterfacesState;
 import org.opendaylight.yang.gen.v1.io.fd.honeycomb.samples.interfaces.rev160810.InterfacesStateBuilder;
 import org.opendaylight.yang.gen.v1.io.fd.honeycomb.samples.interfaces.rev160810._interface.state.Counters;
 import org.opendaylight.yang.gen.v1.io.fd.honeycomb.samples.interfaces.rev160810.interfaces.state.Interface;
+import org.opendaylight.yang.gen.v1.io.fd.honeycomb.samples.interfaces.rev160810.interfaces.state.InterfaceBuilder;
+import org.opendaylight.yang.gen.v1.io.fd.honeycomb.samples.interfaces.rev160810.interfaces.state.InterfaceKey;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class InterfacesReaderFactory implements ReaderFactory {
 
+    private static final long COUNTERS_REFRESH_PERIOD_SECONDS = 1;
+    private static final long COUNTERS_MAX_STALENESS_SECONDS = 5;
+
     @Nonnull
     private final LowerLayerAccess access;
 
+    // Background refreshes of counters, daemon thread does not prevent Honeycomb from shutting down
+    private final ScheduledExecutorService countersRefreshExecutor = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("sample-counters-refresh-%d").setDaemon(true).build());
+
     @Inject
     public InterfacesReaderFactory(@Nonnull final LowerLayerAccess access) {
         this.access = access;
@@ -54,7 +68,9 @@ public class InterfacesReaderFactory implements ReaderFactory {
 
         // Next child node is Interface (list)
         final InstanceIdentifier<Interface> ifcListId = root.child(Interface.class);
-        registry.add(new GenericListReader<>(ifcListId, new InterfaceReaderCustomizer(access)));
+        final GenericListReader<Interface, InterfaceKey, InterfaceBuilder> ifcReader =
+                new GenericListReader<>(ifcListId, new InterfaceReaderCustomizer(access));
+        registry.add(ifcReader);
 
         // Next child is a container Counters
         final InstanceIdentifier<Counters> countersId = ifcListId.child(Counters.class);
@@ -63,6 +79,12 @@ public class InterfacesReaderFactory implements ReaderFactory {
         // In this case, we are ensuring that Counters are read after Interface is read
         // "add" could be used instead, leaving the ordering to "nature"
         // Same applies for writers
-        registry.addAfter(new GenericReader<>(countersId, new CountersReaderCustomizer(access)), ifcListId);
+        // Counters are statistics polled frequently and reading them from lower layer can be expensive
+        // RefreshAheadReaderWrapper reads counters of all interfaces periodically in the background and serves reads
+        // from that snapshot, until it gets stale. Interface list reader provides the keys of interfaces to refresh
+        registry.addAfter(new RefreshAheadReaderWrapper<>(
+                new GenericReader<>(countersId, new CountersReaderCustomizer(access)), ifcReader,
+                countersRefreshExecutor, COUNTERS_REFRESH_PERIOD_SECONDS, COUNTERS_MAX_STALENESS_SECONDS,
+                TimeUnit.SECONDS), ifcListId);
     }
 }